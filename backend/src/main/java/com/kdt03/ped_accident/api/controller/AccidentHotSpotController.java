@@ -2,6 +2,7 @@ package com.kdt03.ped_accident.api.controller;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.kdt03.ped_accident.api.dto.response.AccidentDto;
 import com.kdt03.ped_accident.domain.accidentHotSpot.service.AccidentHotSpotService;
+import com.kdt03.ped_accident.global.columnar.ColumnarCodec;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,7 +25,8 @@ public class AccidentHotSpotController {
     @GetMapping
     public ResponseEntity<?> getAccidents(
             @RequestParam(name = "bounds") String bounds,
-            @RequestParam(name = "limit", defaultValue = "1000") int limit
+            @RequestParam(name = "limit", defaultValue = "1000") int limit,
+            @RequestParam(name = "zoom", required = false) Integer zoom
     ) {
         // bounds = "south,west,north,east"
         String[] parts = bounds.split(",");
@@ -43,10 +46,36 @@ public class AccidentHotSpotController {
             return ResponseEntity.badRequest().body(new ErrorBody("Bounds order must be south<=north and west<=east"));
         }
 
+        if (zoom != null) {
+            return ResponseEntity.ok(service.getAccidentLayer(zoom, south, west, north, east, limit));
+        }
+
         List<AccidentDto> out = service.getAccidentsByBounds(south, west, north, east, limit);
         return ResponseEntity.ok(out);
     }
 
+    // Accept: application/x-ped-columnar 이면 같은 목록을 열 지향 바이너리로 반환합니다. (ColumnarCodec)
+    @GetMapping(produces = ColumnarCodec.MEDIA_TYPE_VALUE)
+    public ResponseEntity<?> getAccidentsColumnar(
+            @RequestParam(name = "bounds") String bounds,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit
+    ) {
+        String[] parts = bounds.split(",");
+        Double south = parts.length == 4 ? parseDouble(parts[0]) : null;
+        Double west  = parts.length == 4 ? parseDouble(parts[1]) : null;
+        Double north = parts.length == 4 ? parseDouble(parts[2]) : null;
+        Double east  = parts.length == 4 ? parseDouble(parts[3]) : null;
+
+        if (south == null || west == null || north == null || east == null || south > north || west > east) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(new ErrorBody("Invalid bounds"));
+        }
+
+        List<AccidentDto> out = service.getAccidentsByBounds(south, west, north, east, limit);
+        return ResponseEntity.ok()
+                .contentType(ColumnarCodec.MEDIA_TYPE)
+                .body(ColumnarCodec.encodeAccidents(out));
+    }
+
     private Double parseDouble(String s) {
         try { return Double.parseDouble(s.trim()); }
         catch (Exception e) { return null; }
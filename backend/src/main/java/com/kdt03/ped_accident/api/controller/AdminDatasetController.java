@@ -0,0 +1,86 @@
+package com.kdt03.ped_accident.api.controller;
+
+import java.io.IOException;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kdt03.ped_accident.api.dto.response.ApiResponse;
+import com.kdt03.ped_accident.domain.cwaccmap.service.CwAccMapRebuildService;
+import com.kdt03.ped_accident.domain.cwsigmap.service.CwSigMapRebuildService;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+import com.kdt03.ped_accident.global.ingest.IngestReport;
+import com.kdt03.ped_accident.global.ingest.IngestService;
+import com.kdt03.ped_accident.global.ingest.IngestTable;
+import com.kdt03.ped_accident.global.spatial.SpatialJoinReport;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기준 데이터셋을 외부(적재 스크립트 등)에서 다시 넣은 뒤, 파생 데이터를 갱신하도록 알리는 관리자 API입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/datasets")
+public class AdminDatasetController {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final CwSigMapRebuildService cwSigMapRebuildService;
+    private final CwAccMapRebuildService cwAccMapRebuildService;
+    private final IngestService ingestService;
+
+    // 예: POST /api/admin/datasets/CROSSWALK_SIGNAL_MAP/changed
+    @PostMapping("/{dataset}/changed")
+    public ResponseEntity<ApiResponse<Void>> datasetChanged(@PathVariable Dataset dataset) {
+        eventPublisher.publishEvent(new DatasetChangedEvent(dataset));
+        return ResponseEntity.ok(ApiResponse.success(dataset.getTable() + " 변경 반영 완료", null));
+    }
+
+    // crosswalk_signal_map을 메모리 인덱스 좌표로 다시 만듭니다. (반경 cwsigmap.radius-m)
+    @PostMapping("/CROSSWALK_SIGNAL_MAP/rebuild")
+    public ResponseEntity<ApiResponse<SpatialJoinReport>> rebuildCrosswalkSignalMap() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("crosswalk_signal_map 재생성 완료", cwSigMapRebuildService.rebuild()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    // cw_acc_map을 메모리 인덱스 좌표로 다시 만듭니다. 예: POST /api/admin/datasets/CW_ACC_MAP/rebuild?radiusM=300
+    @PostMapping("/CW_ACC_MAP/rebuild")
+    public ResponseEntity<ApiResponse<SpatialJoinReport>> rebuildCwAccMap(
+            @RequestParam(name = "radiusM", required = false) Double radiusM) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("cw_acc_map 재생성 완료", cwAccMapRebuildService.rebuild(radiusM)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    // ingest.dir의 CSV를 서버 안에서 적재합니다. 증분 적재면 변경 내역이 이 서버의 캐시에 바로 전달됩니다.
+    // 예: POST /api/admin/datasets/CROSSWALKS/ingest?mode=incremental
+    @PostMapping("/{table}/ingest")
+    public ResponseEntity<ApiResponse<IngestReport>> ingest(
+            @PathVariable IngestTable table,
+            @RequestParam(name = "mode", defaultValue = "full") String mode) {
+        try {
+            IngestReport report = "incremental".equalsIgnoreCase(mode)
+                    ? ingestService.ingestIncremental(table, ingestService.defaultFile(table))
+                    : ingestService.ingest(table, ingestService.defaultFile(table));
+            return ResponseEntity.ok(ApiResponse.success(table.getTable() + " 적재 완료", report));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
@@ -2,14 +2,21 @@ package com.kdt03.ped_accident.api.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.kdt03.ped_accident.api.dto.response.CrosswalkDto;
+import com.kdt03.ped_accident.api.dto.response.CrosswalkNeighborsDto;
 import com.kdt03.ped_accident.domain.crosswalk.service.CrosswalkService;
+import com.kdt03.ped_accident.domain.cwaccmap.service.CwAccMapService;
+import com.kdt03.ped_accident.global.columnar.ColumnarCodec;
+import com.kdt03.ped_accident.global.score.FacilityFlags;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,13 +25,21 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api")
 public class CrosswalkController {
 
+    private static final int MAX_PRIORITY_N = 1000;
+    private static final int MAX_NEIGHBOR_IDS = 500;
+
     private final CrosswalkService crosswalkService;
+    private final CwAccMapService cwAccMapService;
 
     // 예: /api/crosswalks?bounds=37.1,126.7,37.6,127.2&limit=5000
+    // zoom을 주면 낮은 줌에서는 클러스터로 집계해 반환합니다. (MapLayerResponse)
+    // stream=true 이면 목록을 만들지 않고 행 단위로 응답에 씁니다. (limit 상한 map.stream.max-limit)
     @GetMapping("/crosswalks")
     public ResponseEntity<?> getCrosswalks(
             @RequestParam(name = "bounds") String bounds,
-            @RequestParam(name = "limit", defaultValue = "5000") int limit
+            @RequestParam(name = "limit", defaultValue = "5000") int limit,
+            @RequestParam(name = "zoom", required = false) Integer zoom,
+            @RequestParam(name = "stream", defaultValue = "false") boolean stream
     ) {
         double[] b = parseBounds(bounds);
         if (b == null) {
@@ -35,10 +50,103 @@ public class CrosswalkController {
             return ResponseEntity.badRequest().body(new ErrorRes("Invalid bounds"));
         }
 
+        if (zoom != null) {
+            return ResponseEntity.ok(crosswalkService.getCrosswalkLayer(zoom, south, west, north, east, limit));
+        }
+
+        if (stream) {
+            StreamingResponseBody body = out -> crosswalkService.streamCrosswalks(south, west, north, east, limit, out);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
         List<CrosswalkDto> out = crosswalkService.getCrosswalks(south, west, north, east, limit);
         return ResponseEntity.ok(out);
     }
 
+    // Accept: application/x-ped-columnar 이면 같은 목록을 열 지향 바이너리로 반환합니다. (ColumnarCodec)
+    @GetMapping(value = "/crosswalks", produces = ColumnarCodec.MEDIA_TYPE_VALUE)
+    public ResponseEntity<?> getCrosswalksColumnar(
+            @RequestParam(name = "bounds") String bounds,
+            @RequestParam(name = "limit", defaultValue = "5000") int limit
+    ) {
+        double[] b = parseBounds(bounds);
+        if (b == null || b[0] > b[2] || b[1] > b[3]) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(new ErrorRes("Invalid bounds"));
+        }
+
+        List<CrosswalkDto> out = crosswalkService.getCrosswalks(b[0], b[1], b[2], b[3], limit);
+        return ResponseEntity.ok()
+                .contentType(ColumnarCodec.MEDIA_TYPE)
+                .body(ColumnarCodec.encodeCrosswalks(out));
+    }
+
+    // 안전지수가 낮은 순. 예: /api/crosswalks/safety?bounds=...&missing=signal,bump&maxScore=40&limit=500
+    // missing: 모두 없는 시설만 (signal, button, sound, highland, bump, braille, spotlight)
+    @GetMapping("/crosswalks/safety")
+    public ResponseEntity<?> getLeastSafeCrosswalks(
+            @RequestParam(name = "bounds") String bounds,
+            @RequestParam(name = "missing", required = false) String missing,
+            @RequestParam(name = "maxScore", required = false) Double maxScore,
+            @RequestParam(name = "limit", defaultValue = "500") int limit
+    ) {
+        double[] b = parseBounds(bounds);
+        if (b == null || b[0] > b[2] || b[1] > b[3]) {
+            return ResponseEntity.badRequest().body(new ErrorRes("Invalid bounds"));
+        }
+        int missingMask;
+        try {
+            missingMask = FacilityFlags.parseMask(missing);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorRes(e.getMessage()));
+        }
+
+        List<CrosswalkDto> out = crosswalkService.getLeastSafeCrosswalks(b[0], b[1], b[2], b[3], missingMask, maxScore, limit);
+        if (out == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorRes("Crosswalk index is not ready"));
+        }
+        return ResponseEntity.ok(out);
+    }
+
+    // 행정구역 안 신호 설치 우선순위 상위 n개. 예: /api/crosswalks/priority?region=11680&n=100
+    // region: 행정구역 코드 접두어 (시도 2자리, 시군구 5자리 등)
+    @GetMapping("/crosswalks/priority")
+    public ResponseEntity<?> getTopPriority(
+            @RequestParam(name = "region") String region,
+            @RequestParam(name = "n", defaultValue = "100") int n
+    ) {
+        if (!region.matches("\\d{2,10}")) {
+            return ResponseEntity.badRequest().body(new ErrorRes("Invalid region"));
+        }
+        if (n < 1 || n > MAX_PRIORITY_N) {
+            return ResponseEntity.badRequest().body(new ErrorRes("n must be between 1 and " + MAX_PRIORITY_N));
+        }
+
+        List<CrosswalkDto> out = crosswalkService.getTopPriority(region, n);
+        if (out == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorRes("Crosswalk index is not ready"));
+        }
+        return ResponseEntity.ok(out);
+    }
+
+    // 여러 횡단보도의 주변 사고 다발 지점(거리순)을 한 번에 반환합니다. (최대 MAX_NEIGHBOR_IDS개, 요청 순서 유지)
+    // 예: /api/crosswalks/neighbors?ids=CW1,CW2&max=50
+    @GetMapping("/crosswalks/neighbors")
+    public ResponseEntity<?> getNeighbors(
+            @RequestParam(name = "ids") List<String> ids,
+            @RequestParam(name = "max", defaultValue = "100") int max
+    ) {
+        List<String> trimmed = ids.stream().map(String::trim).filter(s -> !s.isEmpty()).toList();
+        if (trimmed.isEmpty() || trimmed.size() > MAX_NEIGHBOR_IDS || max < 1) {
+            return ResponseEntity.badRequest().body(new ErrorRes("ids must contain 1 to " + MAX_NEIGHBOR_IDS + " crosswalks"));
+        }
+
+        List<CrosswalkNeighborsDto> out = cwAccMapService.getNeighbors(trimmed, max);
+        if (out == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorRes("Crosswalk index is not ready"));
+        }
+        return ResponseEntity.ok(out);
+    }
+
     private double[] parseBounds(String s) {
         try {
             String[] parts = s.split(",");
@@ -1,11 +1,16 @@
 package com.kdt03.ped_accident.api.controller;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.kdt03.ped_accident.domain.kpi.engine.DistrictKpis;
+import com.kdt03.ped_accident.domain.kpi.engine.KpiSnapshot;
 import com.kdt03.ped_accident.domain.kpi.service.KPIService;
 
 import lombok.RequiredArgsConstructor;
@@ -16,8 +21,33 @@ import lombok.RequiredArgsConstructor;
 public class KPIController {
   private final KPIService kpiService;
 
+  // 스냅샷이 있으면 미리 직렬화된 본문과 ETag를 반환합니다. (If-None-Match가 같으면 304)
   @GetMapping
-  public ResponseEntity<JsonNode> getKpi() {
-      return ResponseEntity.ok(kpiService.getKpiSummary());
+  public ResponseEntity<?> getKpi() {
+      KpiSnapshot snapshot = kpiService.getSnapshot();
+      if (snapshot == null) {
+          return ResponseEntity.ok(kpiService.getKpiSummary());
+      }
+      return ResponseEntity.ok()
+              .contentType(MediaType.APPLICATION_JSON)
+              .cacheControl(CacheControl.noCache())
+              .eTag(snapshot.etag())
+              .body(snapshot.json());
   }
+
+  // 행정구역별 KPI. level=sido(시도) | sigungu(시군구, 기본)
+  @GetMapping("/districts")
+  public ResponseEntity<?> getDistrictKpi(@RequestParam(defaultValue = "sigungu") String level) {
+      if (!level.equals("sido") && !level.equals("sigungu")) {
+          return ResponseEntity.badRequest().body(new ErrorRes("level은 sido 또는 sigungu여야 합니다."));
+      }
+      DistrictKpis kpis = kpiService.getDistrictKpis();
+      if (kpis == null) {
+          return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                  .body(new ErrorRes("KPI 인덱스를 준비 중입니다."));
+      }
+      return ResponseEntity.ok(level.equals("sido") ? kpis.sido() : kpis.sigungu());
+  }
+
+  record ErrorRes(String error) {}
 }
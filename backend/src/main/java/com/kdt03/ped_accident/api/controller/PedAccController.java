@@ -1,5 +1,7 @@
 package com.kdt03.ped_accident.api.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,6 +18,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/pedacc")
 public class PedAccController {
 
+    private static final int MAX_REGIONS = 20;
+
     private final AccidentService accidentService;
 
     @GetMapping("/summary")
@@ -33,6 +37,20 @@ public class PedAccController {
         return ResponseEntity.ok(summary);
     }
 
+    // 예: /api/pedacc/summaries?regions=11,11110,26
+    // 여러 지역의 요약을 한 번에 반환합니다. (최대 MAX_REGIONS개, 요청 순서 유지)
+    @GetMapping("/summaries")
+    public ResponseEntity<List<AccidentSummaryDto>> getSummaries(@RequestParam List<String> regions) {
+        List<String> trimmed = regions.stream().map(String::trim).toList();
+
+        if (trimmed.isEmpty() || trimmed.size() > MAX_REGIONS
+                || !trimmed.stream().allMatch(this::isValidRegion)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(accidentService.getSummaries(trimmed));
+    }
+
     private boolean isValidRegion(String region) {
         // 2자리(시도), 5자리(시군구), 10자리(상세) 허용
         return region.matches("^\\d{2}$") 
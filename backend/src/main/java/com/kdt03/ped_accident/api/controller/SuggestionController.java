@@ -25,8 +25,11 @@ import com.kdt03.ped_accident.api.dto.response.ApiResponse;
 import com.kdt03.ped_accident.domain.suggestion.dto.AddCommentRequest;
 import com.kdt03.ped_accident.domain.suggestion.dto.CommentResponse;
 import com.kdt03.ped_accident.domain.suggestion.dto.CreateSuggestionRequest;
+import com.kdt03.ped_accident.domain.suggestion.dto.CursorPage;
 import com.kdt03.ped_accident.domain.suggestion.dto.PagedItems;
 import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionDetailResponse;
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionListItem;
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionSort;
 import com.kdt03.ped_accident.domain.suggestion.dto.UpdateSuggestionStatusRequest;
 import com.kdt03.ped_accident.domain.suggestion.entity.Suggestion;
 import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionStatus;
@@ -47,25 +50,44 @@ public class SuggestionController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Suggestion>> getSuggestions(
+    public ResponseEntity<Page<SuggestionListItem>> getSuggestions(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(required = false) SuggestionStatus status,
             @RequestParam(required = false) SuggestionType type,
             @RequestParam(required = false) String region,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            Authentication authentication) {
 
-        Page<Suggestion> suggestions = suggestionService.findAll(pageable, status, type, region, search);
+        Page<SuggestionListItem> suggestions = suggestionService.findAll(pageable, status, type, region, search,
+                currentUserId(authentication));
         return ResponseEntity.ok(suggestions);
     }
 
+    /**
+     * 커서 기반 목록입니다. 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor로 요청합니다.
+     * 전체 개수가 필요한 화면은 위의 Page 응답을 씁니다. 검색어는 지원하지 않습니다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getSuggestionsByCursor(
+            @RequestParam(defaultValue = "LATEST") SuggestionSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) SuggestionStatus status,
+            @RequestParam(required = false) SuggestionType type,
+            @RequestParam(required = false) String region,
+            Authentication authentication) {
+        try {
+            CursorPage<SuggestionListItem> page = suggestionService.findPage(sort, cursor, size, status, type, region,
+                    currentUserId(authentication));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getSuggestion(@PathVariable Long id, Authentication authentication) {
-        Long userId = null;
-        if (authentication != null && authentication.isAuthenticated() 
-                && authentication.getPrincipal() instanceof CustomUserPrincipal) {
-            CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
-            userId = principal.getUser().getId();
-        }
+        Long userId = currentUserId(authentication);
 
         SuggestionDetailResponse suggestion = suggestionService.findByIdWithLikeStatus(id, userId);
         if (suggestion == null) {
@@ -321,4 +343,13 @@ public class SuggestionController {
                     .body(ApiResponse.error("status 값이 올바르지 않습니다"));
         }
     }
+
+    // 비로그인(익명) 요청이면 null
+    private static Long currentUserId(Authentication authentication) {
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return principal.getUser().getId();
+        }
+        return null;
+    }
 }
@@ -0,0 +1,64 @@
+package com.kdt03.ped_accident.api.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kdt03.ped_accident.domain.tile.service.TileLayer;
+import com.kdt03.ped_accident.domain.tile.service.VectorTileService;
+import com.kdt03.ped_accident.domain.tile.service.VectorTileService.EncodedTile;
+import com.kdt03.ped_accident.global.spatial.WebMercatorTile;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tiles")
+public class TileController {
+
+    private static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private final VectorTileService vectorTileService;
+
+    // 예: /api/tiles/crosswalks/15/27935/12701.mvt  (layer = crosswalks | signals | hotspots)
+    // ETag가 있으므로 If-None-Match 요청에는 304로 응답합니다.
+    @GetMapping("/{layer}/{z}/{x}/{y}.mvt")
+    public ResponseEntity<?> getTile(
+            @PathVariable String layer,
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y
+    ) {
+        TileLayer tileLayer = TileLayer.fromPath(layer);
+        if (tileLayer == null) {
+            return ResponseEntity.badRequest().body(new ErrorRes("Unknown layer"));
+        }
+
+        WebMercatorTile tile;
+        try {
+            tile = new WebMercatorTile(z, x, y);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorRes("Invalid tile"));
+        }
+
+        EncodedTile encoded = vectorTileService.getTile(tileLayer, tile);
+        if (encoded == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorRes("Index not ready"));
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MVT)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .eTag(encoded.etag())
+                .body(encoded.body());
+    }
+
+    record ErrorRes(String error) {}
+}
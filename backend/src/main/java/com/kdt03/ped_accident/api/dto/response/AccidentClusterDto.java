@@ -0,0 +1,23 @@
+package com.kdt03.ped_accident.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccidentClusterDto {
+    private double lat;
+    private double lon;
+    private int count;
+
+    private long accidentCount;
+    private long casualtyCount;
+    private long fatalityCount;
+    private long seriousInjuryCount;
+    private long minorInjuryCount;
+    private long reportedInjuryCount;
+}
@@ -0,0 +1,18 @@
+package com.kdt03.ped_accident.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrosswalkClusterDto {
+    private double lat;
+    private double lon;
+    private int count;
+    private long signalCount;
+    private long noSignalCount;
+}
@@ -28,4 +28,11 @@ public class CrosswalkDto {
     private Integer hasSpotlight;
 
     private String signalSource;
+
+    // 서버에서 계산한 위험지수(0~100). 메모리 인덱스로 조회할 때만 채워집니다.
+    private Double riskScore;
+    // 서버에서 계산한 안전지수(0~100). 메모리 인덱스로 조회할 때만 채워집니다.
+    private Double safetyScore;
+    // 신호 설치 우선순위 점수. /api/crosswalks/priority 응답에서만 채워집니다.
+    private Double priorityScore;
 }
\ No newline at end of file
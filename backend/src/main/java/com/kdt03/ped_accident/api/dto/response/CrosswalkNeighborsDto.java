@@ -0,0 +1,34 @@
+package com.kdt03.ped_accident.api.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 횡단보도 하나와 cw_acc_map으로 연결된 사고 다발 지점 목록(거리 오름차순)입니다.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CrosswalkNeighborsDto {
+
+    private String cw_uid;
+    private Double riskScore;
+    private List<Neighbor> hotspots;
+
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Neighbor {
+        private Double distance;
+        private AccidentDto hotspot;
+    }
+}
@@ -0,0 +1,22 @@
+package com.kdt03.ped_accident.api.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * zoom 파라미터를 준 지도 레이어 조회 응답입니다.
+ * clustered가 true이면 items는 클러스터 목록, false이면 개별 지점 목록입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MapLayerResponse {
+    private int zoom;
+    private boolean clustered;
+    private List<?> items;
+}
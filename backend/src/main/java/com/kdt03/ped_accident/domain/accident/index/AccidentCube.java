@@ -0,0 +1,203 @@
+package com.kdt03.ped_accident.domain.accident.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import com.kdt03.ped_accident.api.dto.response.AccidentSummaryDto.MonthlyAccident;
+import com.kdt03.ped_accident.api.dto.response.AccidentSummaryDto.YearlyAccident;
+import com.kdt03.ped_accident.domain.accident.repository.AccidentCubeRow;
+
+/**
+ * accidents 테이블을 미리 집계해 둔 불변 메모리 큐브입니다.
+ * <p>
+ * 지역 단위({@link RegionType})마다 {@code [지역 ordinal][연][월][지표]} 순서의 primitive long 배열 하나를 두므로,
+ * 어떤 지역의 연도별·월별 요약도 O(연 수 × 12)로 계산됩니다.
+ * 원본 행이 하나도 없는 (연, 월)은 기존 집계와 같게 결과에서 제외합니다.
+ */
+public final class AccidentCube {
+
+    static final int METRIC_ACCIDENT = 0;
+    static final int METRIC_CASUALTY = 1;
+    static final int METRIC_FATALITY = 2;
+    static final int METRIC_SERIOUS = 3;
+    static final int METRIC_MINOR = 4;
+    static final int METRIC_REPORTED = 5;
+    private static final int METRICS = 6;
+
+    private static final int MONTHS = 12;
+
+    private final int minYear;
+    private final int years;
+    /** RegionType ordinal 순서. UNKNOWN 자리는 null입니다. */
+    private final Level[] levels;
+    private final long sourceRows;
+
+    private AccidentCube(int minYear, int years, Level[] levels, long sourceRows) {
+        this.minYear = minYear;
+        this.years = years;
+        this.levels = levels;
+        this.sourceRows = sourceRows;
+    }
+
+    public static AccidentCube from(List<AccidentCubeRow> rows) {
+        int minYear = Integer.MAX_VALUE, maxYear = Integer.MIN_VALUE;
+        for (AccidentCubeRow r : rows) {
+            if (!valid(r)) continue;
+            minYear = Math.min(minYear, r.getYear());
+            maxYear = Math.max(maxYear, r.getYear());
+        }
+        if (minYear > maxYear) {
+            minYear = maxYear = 0;
+        }
+        int years = maxYear - minYear + 1;
+
+        Level[] levels = new Level[RegionType.values().length];
+        levels[RegionType.NATION.ordinal()] = Level.build(rows, r -> "", minYear, years);
+        levels[RegionType.SIDO_PREFIX2.ordinal()] = Level.build(rows, r -> prefix(r.getSidoCode(), 2), minYear, years);
+        levels[RegionType.DISTRICT5.ordinal()] = Level.build(rows, r -> prefix(r.getSigunguCode(), 5), minYear, years);
+        levels[RegionType.SIGUNGU10.ordinal()] = Level.build(rows, AccidentCubeRow::getSigunguCode, minYear, years);
+
+        long sourceRows = 0;
+        for (AccidentCubeRow r : rows) {
+            if (valid(r)) sourceRows += nz(r.getRowCount());
+        }
+        return new AccidentCube(minYear, years, levels, sourceRows);
+    }
+
+    /** 큐브에 반영된 원본 accidents 행 수 */
+    public long sourceRows() {
+        return sourceRows;
+    }
+
+    /**
+     * 지역의 연도별 합계입니다. 없는 지역이면 빈 목록입니다.
+     *
+     * @param key NATION이면 무시되고, 나머지는 region 문자열 그대로입니다.
+     */
+    public List<YearlyAccident> yearly(RegionType type, String key) {
+        List<YearlyAccident> out = new ArrayList<>();
+        Level level = level(type);
+        int r = level == null ? -1 : level.find(type == RegionType.NATION ? "" : key);
+        if (r < 0) return out;
+
+        long[] sum = new long[METRICS];
+        for (int y = 0; y < years; y++) {
+            Arrays.fill(sum, 0);
+            boolean present = false;
+            for (int m = 0; m < MONTHS; m++) {
+                int cell = (r * years + y) * MONTHS + m;
+                if (level.rows[cell] == 0) continue;
+                present = true;
+                for (int k = 0; k < METRICS; k++) {
+                    sum[k] += level.sums[cell * METRICS + k];
+                }
+            }
+            if (!present) continue;
+            out.add(YearlyAccident.builder()
+                    .year(minYear + y)
+                    .accidentCount(sum[METRIC_ACCIDENT])
+                    .casualtyCount(sum[METRIC_CASUALTY])
+                    .fatalityCount(sum[METRIC_FATALITY])
+                    .seriousInjuryCount(sum[METRIC_SERIOUS])
+                    .minorInjuryCount(sum[METRIC_MINOR])
+                    .reportedInjuryCount(sum[METRIC_REPORTED])
+                    .build());
+        }
+        return out;
+    }
+
+    /**
+     * 지역의 (연, 월)별 합계입니다. 없는 지역이면 빈 목록입니다.
+     */
+    public List<MonthlyAccident> monthly(RegionType type, String key) {
+        List<MonthlyAccident> out = new ArrayList<>();
+        Level level = level(type);
+        int r = level == null ? -1 : level.find(type == RegionType.NATION ? "" : key);
+        if (r < 0) return out;
+
+        for (int y = 0; y < years; y++) {
+            for (int m = 0; m < MONTHS; m++) {
+                int cell = (r * years + y) * MONTHS + m;
+                if (level.rows[cell] == 0) continue;
+                int base = cell * METRICS;
+                out.add(MonthlyAccident.builder()
+                        .year(minYear + y)
+                        .month(m + 1)
+                        .accidentCount(level.sums[base + METRIC_ACCIDENT])
+                        .casualtyCount(level.sums[base + METRIC_CASUALTY])
+                        .fatalityCount(level.sums[base + METRIC_FATALITY])
+                        .seriousInjuryCount(level.sums[base + METRIC_SERIOUS])
+                        .minorInjuryCount(level.sums[base + METRIC_MINOR])
+                        .reportedInjuryCount(level.sums[base + METRIC_REPORTED])
+                        .build());
+            }
+        }
+        return out;
+    }
+
+    private Level level(RegionType type) {
+        return type == null ? null : levels[type.ordinal()];
+    }
+
+    /**
+     * 한 지역 단위의 집계입니다. 지역 키는 정렬되어 있고, 배열 위치가 지역 ordinal입니다.
+     */
+    private static final class Level {
+        final String[] keys;
+        /** [지역][연][월] 원본 행 수 */
+        final int[] rows;
+        /** [지역][연][월][지표] 합계 */
+        final long[] sums;
+
+        private Level(String[] keys, int years) {
+            this.keys = keys;
+            this.rows = new int[keys.length * years * MONTHS];
+            this.sums = new long[rows.length * METRICS];
+        }
+
+        static Level build(List<AccidentCubeRow> src, Function<AccidentCubeRow, String> keyOf, int minYear, int years) {
+            TreeSet<String> distinct = new TreeSet<>();
+            for (AccidentCubeRow r : src) {
+                String key = valid(r) ? keyOf.apply(r) : null;
+                if (key != null) distinct.add(key);
+            }
+
+            Level level = new Level(distinct.toArray(new String[0]), years);
+            for (AccidentCubeRow r : src) {
+                String key = valid(r) ? keyOf.apply(r) : null;
+                if (key == null) continue;
+                int cell = (level.find(key) * years + (r.getYear() - minYear)) * MONTHS + (r.getMonth() - 1);
+                level.rows[cell] += (int) nz(r.getRowCount());
+
+                int base = cell * METRICS;
+                level.sums[base + METRIC_ACCIDENT] += nz(r.getAccidentCount());
+                level.sums[base + METRIC_CASUALTY] += nz(r.getCasualtyCount());
+                level.sums[base + METRIC_FATALITY] += nz(r.getFatalityCount());
+                level.sums[base + METRIC_SERIOUS] += nz(r.getSeriousInjuryCount());
+                level.sums[base + METRIC_MINOR] += nz(r.getMinorInjuryCount());
+                level.sums[base + METRIC_REPORTED] += nz(r.getReportedInjuryCount());
+            }
+            return level;
+        }
+
+        int find(String key) {
+            return key == null ? -1 : Math.max(-1, Arrays.binarySearch(keys, key));
+        }
+    }
+
+    /** 연·월이 정상 범위인 행만 큐브에 반영합니다. */
+    private static boolean valid(AccidentCubeRow r) {
+        return r.getYear() != null && r.getMonth() != null && r.getMonth() >= 1 && r.getMonth() <= MONTHS;
+    }
+
+    private static String prefix(String code, int length) {
+        return code == null || code.length() < length ? null : code.substring(0, length);
+    }
+
+    private static long nz(Long v) {
+        return v == null ? 0 : v;
+    }
+}
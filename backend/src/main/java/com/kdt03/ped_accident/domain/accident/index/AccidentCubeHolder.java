@@ -0,0 +1,61 @@
+package com.kdt03.ped_accident.domain.accident.index;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.accident.repository.AccidentRepository;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 유효한 {@link AccidentCube} 스냅샷을 보관합니다.
+ * <p>
+ * 기동 시 한 번 적재하고, accidents 테이블을 다시 넣은 뒤
+ * {@code POST /api/admin/datasets/ACCIDENTS/changed}가 호출되면 새 큐브로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccidentCubeHolder {
+
+    private final AccidentRepository accidentRepository;
+
+    private final AtomicReference<AccidentCube> current = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("사고 통계 큐브 적재 실패, DB 조회로 대체합니다.", e);
+        }
+    }
+
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.dataset() == Dataset.ACCIDENTS) {
+            reload();
+        }
+    }
+
+    public AccidentCube reload() {
+        long started = System.nanoTime();
+        AccidentCube cube = AccidentCube.from(accidentRepository.findCubeRows());
+        current.set(cube);
+        log.info("사고 통계 큐브 적재 완료: {}건, {}ms", cube.sourceRows(), (System.nanoTime() - started) / 1_000_000);
+        return cube;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 적재되지 않았으면 null입니다.
+     */
+    public AccidentCube get() {
+        return current.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.kdt03.ped_accident.domain.accident.index;
+
+/**
+ * 사고 통계 조회 지역 단위입니다. region 파라미터의 자릿수로 결정됩니다.
+ */
+public enum RegionType {
+    /** region 없음: 전국 */
+    NATION,
+    /** 2자리: 시도 코드 앞 2자리 */
+    SIDO_PREFIX2,
+    /** 5자리: 시군구 코드 앞 5자리 */
+    DISTRICT5,
+    /** 10자리: 시군구 코드 전체 */
+    SIGUNGU10,
+    UNKNOWN;
+
+    public static RegionType of(String region) {
+        if (region == null || region.isEmpty()) {
+            return NATION;
+        }
+        if (region.matches("^\\d{2}$")) {
+            return SIDO_PREFIX2;
+        }
+        if (region.matches("^\\d{5}$")) {
+            return DISTRICT5;
+        }
+        if (region.matches("^\\d{10}$")) {
+            return SIGUNGU10;
+        }
+        return UNKNOWN;
+    }
+}
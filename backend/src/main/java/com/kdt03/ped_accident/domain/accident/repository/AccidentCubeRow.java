@@ -0,0 +1,19 @@
+package com.kdt03.ped_accident.domain.accident.repository;
+
+/**
+ * 사고 큐브 적재용 (시도, 시군구, 연, 월) 단위 합계 행입니다.
+ */
+public interface AccidentCubeRow {
+    String getSidoCode();
+    String getSigunguCode();
+    Integer getYear();
+    Integer getMonth();
+
+    Long getRowCount();
+    Long getAccidentCount();
+    Long getCasualtyCount();
+    Long getFatalityCount();
+    Long getSeriousInjuryCount();
+    Long getMinorInjuryCount();
+    Long getReportedInjuryCount();
+}
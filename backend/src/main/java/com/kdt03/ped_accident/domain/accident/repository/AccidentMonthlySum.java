@@ -0,0 +1,8 @@
+package com.kdt03.ped_accident.domain.accident.repository;
+
+/**
+ * 연·월별 사고 합계 (GROUP BY year, month)
+ */
+public interface AccidentMonthlySum extends AccidentYearlySum {
+    Integer getMonth();
+}
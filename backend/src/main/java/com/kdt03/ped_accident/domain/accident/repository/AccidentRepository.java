@@ -38,4 +38,109 @@ public interface AccidentRepository extends JpaRepository<Accident, Long>{
 
 	// 시군구(10자리) 정확히 일치 조회
 	List<Accident> findBySigunguCode(String sigunguCode);
+
+	// ---- DB 집계 (엔티티를 만들지 않고 합계만 조회) ----
+	// 코드 조건은 인덱스를 탈 수 있도록 SUBSTRING 대신 [gte, lt) 범위로 줍니다.
+	// 시군구 10자리 정확히 일치도 [code, code + 1) 범위로 표현할 수 있습니다.
+
+	String SUM_COLUMNS = "SUM(a.accidentCount) AS accidentCount, SUM(a.casualtyCount) AS casualtyCount, "
+	        + "SUM(a.fatalityCount) AS fatalityCount, SUM(a.seriousInjuryCount) AS seriousInjuryCount, "
+	        + "SUM(a.minorInjuryCount) AS minorInjuryCount, SUM(a.reportedInjuryCount) AS reportedInjuryCount ";
+
+	// 전국 연도별
+	@Query("SELECT a.year AS year, " + SUM_COLUMNS
+	        + "FROM Accident a GROUP BY a.year")
+	List<AccidentYearlySum> sumYearly();
+
+	// 전국 연·월별
+	@Query("SELECT a.year AS year, a.month AS month, " + SUM_COLUMNS
+	        + "FROM Accident a GROUP BY a.year, a.month")
+	List<AccidentMonthlySum> sumMonthly();
+
+	// 시도(2자리) 연도별
+	@Query("SELECT a.year AS year, " + SUM_COLUMNS
+	        + "FROM Accident a WHERE a.sidoCode >= :gte AND a.sidoCode < :lt GROUP BY a.year")
+	List<AccidentYearlySum> sumYearlyBySidoCodeRange(@Param("gte") String gte, @Param("lt") String lt);
+
+	// 시도(2자리) 연·월별
+	@Query("SELECT a.year AS year, a.month AS month, " + SUM_COLUMNS
+	        + "FROM Accident a WHERE a.sidoCode >= :gte AND a.sidoCode < :lt GROUP BY a.year, a.month")
+	List<AccidentMonthlySum> sumMonthlyBySidoCodeRange(@Param("gte") String gte, @Param("lt") String lt);
+
+	// 시군구(5자리 / 10자리) 연도별
+	@Query("SELECT a.year AS year, " + SUM_COLUMNS
+	        + "FROM Accident a WHERE a.sigunguCode >= :gte AND a.sigunguCode < :lt GROUP BY a.year")
+	List<AccidentYearlySum> sumYearlyBySigunguCodeRange(@Param("gte") String gte, @Param("lt") String lt);
+
+	// 시군구(5자리 / 10자리) 연·월별
+	@Query("SELECT a.year AS year, a.month AS month, " + SUM_COLUMNS
+	        + "FROM Accident a WHERE a.sigunguCode >= :gte AND a.sigunguCode < :lt GROUP BY a.year, a.month")
+	List<AccidentMonthlySum> sumMonthlyBySigunguCodeRange(@Param("gte") String gte, @Param("lt") String lt);
+
+	/**
+	 * 사고 큐브 적재용 조회입니다. 엔티티를 만들지 않도록 DB에서 (시도, 시군구, 연, 월) 단위로 미리 합산합니다.
+	 */
+	@Query(value = """
+	        SELECT
+	          a.sido_code AS sidoCode,
+	          a.sigungu_code AS sigunguCode,
+	          a.year AS year,
+	          a.month AS month,
+	          COUNT(*) AS rowCount,
+	          CAST(COALESCE(SUM(a.accident_count), 0) AS SIGNED) AS accidentCount,
+	          CAST(COALESCE(SUM(a.casualty_count), 0) AS SIGNED) AS casualtyCount,
+	          CAST(COALESCE(SUM(a.fatality_count), 0) AS SIGNED) AS fatalityCount,
+	          CAST(COALESCE(SUM(a.serious_injury_count), 0) AS SIGNED) AS seriousInjuryCount,
+	          CAST(COALESCE(SUM(a.minor_injury_count), 0) AS SIGNED) AS minorInjuryCount,
+	          CAST(COALESCE(SUM(a.reported_injury_count), 0) AS SIGNED) AS reportedInjuryCount
+	        FROM accidents a
+	        GROUP BY a.sido_code, a.sigungu_code, a.year, a.month
+	        """, nativeQuery = true)
+	List<AccidentCubeRow> findCubeRows();
+
+	/**
+	 * {@link #findCubeRows()}를 시도 코드 [gte, lt) 범위로 좁힌 조회입니다.
+	 */
+	@Query(value = """
+	        SELECT
+	          a.sido_code AS sidoCode,
+	          a.sigungu_code AS sigunguCode,
+	          a.year AS year,
+	          a.month AS month,
+	          COUNT(*) AS rowCount,
+	          CAST(COALESCE(SUM(a.accident_count), 0) AS SIGNED) AS accidentCount,
+	          CAST(COALESCE(SUM(a.casualty_count), 0) AS SIGNED) AS casualtyCount,
+	          CAST(COALESCE(SUM(a.fatality_count), 0) AS SIGNED) AS fatalityCount,
+	          CAST(COALESCE(SUM(a.serious_injury_count), 0) AS SIGNED) AS seriousInjuryCount,
+	          CAST(COALESCE(SUM(a.minor_injury_count), 0) AS SIGNED) AS minorInjuryCount,
+	          CAST(COALESCE(SUM(a.reported_injury_count), 0) AS SIGNED) AS reportedInjuryCount
+	        FROM accidents a
+	        WHERE a.sido_code >= :gte
+	          AND a.sido_code <  :lt
+	        GROUP BY a.sido_code, a.sigungu_code, a.year, a.month
+	        """, nativeQuery = true)
+	List<AccidentCubeRow> findCubeRowsBySidoCodeRange(@Param("gte") String gte, @Param("lt") String lt);
+
+	/**
+	 * {@link #findCubeRows()}를 시군구 코드 [gte, lt) 범위로 좁힌 조회입니다.
+	 */
+	@Query(value = """
+	        SELECT
+	          a.sido_code AS sidoCode,
+	          a.sigungu_code AS sigunguCode,
+	          a.year AS year,
+	          a.month AS month,
+	          COUNT(*) AS rowCount,
+	          CAST(COALESCE(SUM(a.accident_count), 0) AS SIGNED) AS accidentCount,
+	          CAST(COALESCE(SUM(a.casualty_count), 0) AS SIGNED) AS casualtyCount,
+	          CAST(COALESCE(SUM(a.fatality_count), 0) AS SIGNED) AS fatalityCount,
+	          CAST(COALESCE(SUM(a.serious_injury_count), 0) AS SIGNED) AS seriousInjuryCount,
+	          CAST(COALESCE(SUM(a.minor_injury_count), 0) AS SIGNED) AS minorInjuryCount,
+	          CAST(COALESCE(SUM(a.reported_injury_count), 0) AS SIGNED) AS reportedInjuryCount
+	        FROM accidents a
+	        WHERE a.sigungu_code >= :gte
+	          AND a.sigungu_code <  :lt
+	        GROUP BY a.sido_code, a.sigungu_code, a.year, a.month
+	        """, nativeQuery = true)
+	List<AccidentCubeRow> findCubeRowsBySigunguCodeRange(@Param("gte") String gte, @Param("lt") String lt);
 }
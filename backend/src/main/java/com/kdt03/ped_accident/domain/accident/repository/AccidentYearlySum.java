@@ -0,0 +1,15 @@
+package com.kdt03.ped_accident.domain.accident.repository;
+
+/**
+ * 연도별 사고 합계 (GROUP BY year)
+ */
+public interface AccidentYearlySum {
+    Integer getYear();
+
+    Long getAccidentCount();
+    Long getCasualtyCount();
+    Long getFatalityCount();
+    Long getSeriousInjuryCount();
+    Long getMinorInjuryCount();
+    Long getReportedInjuryCount();
+}
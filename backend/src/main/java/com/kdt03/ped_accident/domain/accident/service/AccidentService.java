@@ -5,14 +5,23 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.springframework.stereotype.Service;
 
 import com.kdt03.ped_accident.api.dto.response.AccidentSummaryDto;
 import com.kdt03.ped_accident.api.dto.response.AccidentSummaryDto.MonthlyAccident;
 import com.kdt03.ped_accident.api.dto.response.AccidentSummaryDto.YearlyAccident;
-import com.kdt03.ped_accident.domain.accident.entity.Accident;
+import com.kdt03.ped_accident.domain.accident.index.AccidentCube;
+import com.kdt03.ped_accident.domain.accident.index.AccidentCubeHolder;
+import com.kdt03.ped_accident.domain.accident.index.RegionType;
+import com.kdt03.ped_accident.domain.accident.repository.AccidentCubeRow;
+import com.kdt03.ped_accident.domain.accident.repository.AccidentMonthlySum;
 import com.kdt03.ped_accident.domain.accident.repository.AccidentRepository;
+import com.kdt03.ped_accident.domain.accident.repository.AccidentYearlySum;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,129 +30,182 @@ import lombok.RequiredArgsConstructor;
 public class AccidentService {
 
     private final AccidentRepository accidentRepository;
+    private final AccidentCubeHolder accidentCubeHolder;
 
     public AccidentSummaryDto getSummary(String region) {
-        List<Accident> accidents = fetchAccidents(region);
-        String regionType = determineRegionType(region);
+        RegionType regionType = RegionType.of(region);
+
+        List<YearlyAccident> yearly;
+        List<MonthlyAccident> monthly;
+
+        // 미리 집계된 큐브가 있으면 accidents 행을 읽지 않습니다.
+        AccidentCube cube = accidentCubeHolder.get();
+        if (cube != null) {
+            yearly = cube.yearly(regionType, region);
+            monthly = cube.monthly(regionType, region);
+        } else {
+            yearly = aggregateYearly(fetchYearly(regionType, region));
+            monthly = aggregateMonthly(fetchMonthly(regionType, region));
+        }
+
+        return toSummary(region, regionType, yearly, monthly);
+    }
+
+    /**
+     * 여러 지역의 요약을 한 번에 계산합니다. 결과는 요청 순서와 같습니다. (중복 지역은 한 번만 반환)
+     * <p>
+     * 큐브가 있으면 큐브에서 바로 답합니다. 없으면 다른 요청 지역에 포함되지 않는 지역(루트)마다
+     * (시군구, 연, 월) 합계를 한 번만 조회해 작은 큐브를 만들고, 그 안에 포함된 지역은 같은 결과에서 계산합니다.
+     * 예) 11, 11110, 1111010100 을 함께 요청하면 11 범위만 조회합니다.
+     * 루트 조회는 가상 스레드에서 동시에 실행합니다.
+     */
+    public List<AccidentSummaryDto> getSummaries(List<String> regions) {
+        List<String> distinct = regions.stream().distinct().toList();
+
+        AccidentCube cube = accidentCubeHolder.get();
+        if (cube != null) {
+            return distinct.stream()
+                    .map(region -> summarize(cube, region))
+                    .toList();
+        }
+
+        List<String> roots = distinct.stream()
+                .filter(region -> distinct.stream().noneMatch(other -> contains(other, region)))
+                .toList();
+
+        Map<String, AccidentCube> cubeByRoot = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<String, Future<AccidentCube>> futures = new HashMap<>();
+            for (String root : roots) {
+                futures.put(root, executor.submit(() -> AccidentCube.from(fetchCubeRows(root))));
+            }
+            for (Map.Entry<String, Future<AccidentCube>> e : futures.entrySet()) {
+                cubeByRoot.put(e.getKey(), e.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("지역별 요약 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        }
+
+        List<AccidentSummaryDto> out = new ArrayList<>(distinct.size());
+        for (String region : distinct) {
+            String root = roots.stream().filter(r -> r.equals(region) || contains(r, region)).findFirst().orElseThrow();
+            out.add(summarize(cubeByRoot.get(root), region));
+        }
+        return out;
+    }
 
-        List<YearlyAccident> yearly = aggregateYearly(accidents);
-        List<MonthlyAccident> monthly = aggregateMonthly(accidents);
+    private AccidentSummaryDto summarize(AccidentCube cube, String region) {
+        RegionType regionType = RegionType.of(region);
+        return toSummary(region, regionType, cube.yearly(regionType, region), cube.monthly(regionType, region));
+    }
 
+    private AccidentSummaryDto toSummary(String region, RegionType regionType,
+                                         List<YearlyAccident> yearly, List<MonthlyAccident> monthly) {
         return AccidentSummaryDto.builder()
                 .region(region == null || region.isEmpty() ? null : region)
-                .regionType(regionType)
+                .regionType(regionType.name())
                 .yearly(yearly)
                 .monthly(monthly)
                 .build();
     }
 
-    private List<Accident> fetchAccidents(String region) {
-        if (region == null || region.isEmpty()) {
-            return accidentRepository.findAll();
-        }
+    /** outer 지역이 inner 지역을 포함하는지 (자기 자신은 제외). 지역 코드는 상위 코드로 시작합니다. */
+    private boolean contains(String outer, String inner) {
+        return outer.length() < inner.length() && inner.startsWith(outer);
+    }
 
-        if (region.matches("^\\d{2}$")) {
-            // 시도(2자리)
-            int prefix = Integer.parseInt(region);
-            String gte = String.valueOf(prefix * 100_000_000L);
-            String lt = String.valueOf((prefix + 1) * 100_000_000L);
-            return accidentRepository.findBySidoCodeRange(gte, lt);
-        }
+    private List<AccidentCubeRow> fetchCubeRows(String region) {
+        return switch (RegionType.of(region)) {
+            case NATION -> accidentRepository.findCubeRows();
+            case SIDO_PREFIX2 -> accidentRepository.findCubeRowsBySidoCodeRange(sidoGte(region), sidoLt(region));
+            case DISTRICT5, SIGUNGU10 -> accidentRepository.findCubeRowsBySigunguCodeRange(sigunguGte(region), sigunguLt(region));
+            default -> new ArrayList<>();
+        };
+    }
 
-        if (region.matches("^\\d{5}$")) {
-            // 시군구(5자리)
-            long d5 = Long.parseLong(region);
-            String gte = String.valueOf(d5 * 100_000L);
-            String lt = String.valueOf((d5 + 1) * 100_000L);
-            return accidentRepository.findBySigunguCodeRange(gte, lt);
-        }
+    // ---- DB 집계 (큐브가 아직 없을 때) ----
+    // 집계는 DB에서 GROUP BY로 하고, 여기서는 수백 행 이하의 결과를 DTO로 옮기기만 합니다.
 
-        if (region.matches("^\\d{10}$")) {
-            // 시군구(10자리) 정확히 일치
-            return accidentRepository.findBySigunguCode(region);
-        }
+    private List<AccidentYearlySum> fetchYearly(RegionType type, String region) {
+        return switch (type) {
+            case NATION -> accidentRepository.sumYearly();
+            case SIDO_PREFIX2 -> accidentRepository.sumYearlyBySidoCodeRange(sidoGte(region), sidoLt(region));
+            case DISTRICT5, SIGUNGU10 -> accidentRepository.sumYearlyBySigunguCodeRange(sigunguGte(region), sigunguLt(region));
+            default -> new ArrayList<>();
+        };
+    }
 
-        return new ArrayList<>();
+    private List<AccidentMonthlySum> fetchMonthly(RegionType type, String region) {
+        return switch (type) {
+            case NATION -> accidentRepository.sumMonthly();
+            case SIDO_PREFIX2 -> accidentRepository.sumMonthlyBySidoCodeRange(sidoGte(region), sidoLt(region));
+            case DISTRICT5, SIGUNGU10 -> accidentRepository.sumMonthlyBySigunguCodeRange(sigunguGte(region), sigunguLt(region));
+            default -> new ArrayList<>();
+        };
     }
 
-    private String determineRegionType(String region) {
-        if (region == null || region.isEmpty()) {
-            return "NATION";
-        }
-        if (region.matches("^\\d{2}$")) {
-            return "SIDO_PREFIX2";
-        }
-        if (region.matches("^\\d{5}$")) {
-            return "DISTRICT5";
-        }
-        if (region.matches("^\\d{10}$")) {
-            return "SIGUNGU10";
-        }
-        return "UNKNOWN";
-    }
-
-    private List<YearlyAccident> aggregateYearly(List<Accident> accidents) {
-        Map<Integer, YearlyAccident> byYear = new HashMap<>();
-
-        for (Accident a : accidents) {
-            int year = a.getYear();
-            YearlyAccident cur = byYear.computeIfAbsent(year, y -> YearlyAccident.builder()
-                    .year(y)
-                    .accidentCount(0L)
-                    .casualtyCount(0L)
-                    .fatalityCount(0L)
-                    .seriousInjuryCount(0L)
-                    .minorInjuryCount(0L)
-                    .reportedInjuryCount(0L)
-                    .build());
+    // 시도(2자리): 시도 코드(10자리) 범위
+    private String sidoGte(String region) {
+        return String.valueOf(Integer.parseInt(region) * 100_000_000L);
+    }
 
-            cur.setAccidentCount(cur.getAccidentCount() + nullToZero(a.getAccidentCount()));
-            cur.setCasualtyCount(cur.getCasualtyCount() + nullToZero(a.getCasualtyCount()));
-            cur.setFatalityCount(cur.getFatalityCount() + nullToZero(a.getFatalityCount()));
-            cur.setSeriousInjuryCount(cur.getSeriousInjuryCount() + nullToZero(a.getSeriousInjuryCount()));
-            cur.setMinorInjuryCount(cur.getMinorInjuryCount() + nullToZero(a.getMinorInjuryCount()));
-            cur.setReportedInjuryCount(cur.getReportedInjuryCount() + nullToZero(a.getReportedInjuryCount()));
-        }
+    private String sidoLt(String region) {
+        return String.valueOf((Integer.parseInt(region) + 1) * 100_000_000L);
+    }
 
-        List<YearlyAccident> result = new ArrayList<>(byYear.values());
-        result.sort(Comparator.comparingInt(YearlyAccident::getYear));
-        return result;
+    // 시군구(5자리 / 10자리): 시군구 코드(10자리) 범위. 10자리는 [code, code + 1)이므로 정확히 일치와 같습니다.
+    private String sigunguGte(String region) {
+        return String.valueOf(Long.parseLong(region) * scale(region));
     }
 
-    private List<MonthlyAccident> aggregateMonthly(List<Accident> accidents) {
-        Map<Integer, MonthlyAccident> byMonth = new HashMap<>();
+    private String sigunguLt(String region) {
+        return String.valueOf((Long.parseLong(region) + 1) * scale(region));
+    }
 
-        for (Accident a : accidents) {
-            int year = a.getYear();
-            int month = a.getMonth();
-            int key = year * 100 + month;
+    private long scale(String region) {
+        return region.length() == 5 ? 100_000L : 1L;
+    }
 
-            MonthlyAccident cur = byMonth.computeIfAbsent(key, k -> MonthlyAccident.builder()
-                    .year(year)
-                    .month(month)
-                    .accidentCount(0L)
-                    .casualtyCount(0L)
-                    .fatalityCount(0L)
-                    .seriousInjuryCount(0L)
-                    .minorInjuryCount(0L)
-                    .reportedInjuryCount(0L)
+    private List<YearlyAccident> aggregateYearly(List<AccidentYearlySum> rows) {
+        List<YearlyAccident> result = new ArrayList<>(rows.size());
+        for (AccidentYearlySum r : rows) {
+            result.add(YearlyAccident.builder()
+                    .year(r.getYear())
+                    .accidentCount(nullToZero(r.getAccidentCount()))
+                    .casualtyCount(nullToZero(r.getCasualtyCount()))
+                    .fatalityCount(nullToZero(r.getFatalityCount()))
+                    .seriousInjuryCount(nullToZero(r.getSeriousInjuryCount()))
+                    .minorInjuryCount(nullToZero(r.getMinorInjuryCount()))
+                    .reportedInjuryCount(nullToZero(r.getReportedInjuryCount()))
                     .build());
-
-            cur.setAccidentCount(cur.getAccidentCount() + nullToZero(a.getAccidentCount()));
-            cur.setCasualtyCount(cur.getCasualtyCount() + nullToZero(a.getCasualtyCount()));
-            cur.setFatalityCount(cur.getFatalityCount() + nullToZero(a.getFatalityCount()));
-            cur.setSeriousInjuryCount(cur.getSeriousInjuryCount() + nullToZero(a.getSeriousInjuryCount()));
-            cur.setMinorInjuryCount(cur.getMinorInjuryCount() + nullToZero(a.getMinorInjuryCount()));
-            cur.setReportedInjuryCount(cur.getReportedInjuryCount() + nullToZero(a.getReportedInjuryCount()));
         }
+        result.sort(Comparator.comparingInt(YearlyAccident::getYear));
+        return result;
+    }
 
-        List<MonthlyAccident> result = new ArrayList<>(byMonth.values());
+    private List<MonthlyAccident> aggregateMonthly(List<AccidentMonthlySum> rows) {
+        List<MonthlyAccident> result = new ArrayList<>(rows.size());
+        for (AccidentMonthlySum r : rows) {
+            result.add(MonthlyAccident.builder()
+                    .year(r.getYear())
+                    .month(r.getMonth())
+                    .accidentCount(nullToZero(r.getAccidentCount()))
+                    .casualtyCount(nullToZero(r.getCasualtyCount()))
+                    .fatalityCount(nullToZero(r.getFatalityCount()))
+                    .seriousInjuryCount(nullToZero(r.getSeriousInjuryCount()))
+                    .minorInjuryCount(nullToZero(r.getMinorInjuryCount()))
+                    .reportedInjuryCount(nullToZero(r.getReportedInjuryCount()))
+                    .build());
+        }
         result.sort(Comparator.comparingInt(MonthlyAccident::getYear)
                 .thenComparingInt(MonthlyAccident::getMonth));
         return result;
     }
 
-    private long nullToZero(Integer value) {
-        return value == null ? 0L : value.longValue();
+    private long nullToZero(Long value) {
+        return value == null ? 0L : value;
     }
 }
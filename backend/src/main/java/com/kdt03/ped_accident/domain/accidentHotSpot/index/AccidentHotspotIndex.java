@@ -0,0 +1,193 @@
+package com.kdt03.ped_accident.domain.accidentHotSpot.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import com.kdt03.ped_accident.api.dto.response.AccidentClusterDto;
+import com.kdt03.ped_accident.api.dto.response.AccidentDto;
+import com.kdt03.ped_accident.domain.accidentHotSpot.entity.AccidentHotspot;
+import com.kdt03.ped_accident.global.score.CrosswalkScoring;
+import com.kdt03.ped_accident.global.spatial.ClusterPyramid;
+import com.kdt03.ped_accident.global.spatial.ClusterPyramid.Cluster;
+import com.kdt03.ped_accident.global.spatial.GridIndex;
+
+/**
+ * 사고 다발 지점(accident_hotspots)의 불변 메모리 스냅샷입니다.
+ * 배열 인덱스(ordinal)가 지점 번호이며, 좌표는 {@link GridIndex}로, 낮은 줌 집계는 {@link ClusterPyramid}로 색인합니다.
+ */
+public final class AccidentHotspotIndex {
+
+    /** 스냅샷마다 증가하는 버전. 캐시 키와 ETag에 사용합니다. */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /** 격자 셀 크기(도). 약 5km. 지점 수가 적어 횡단보도보다 크게 잡습니다. */
+    static final double CELL_DEG = 0.05;
+
+    static final int METRIC_ACCIDENT = 0;
+    static final int METRIC_CASUALTY = 1;
+    static final int METRIC_FATALITY = 2;
+    static final int METRIC_SERIOUS = 3;
+    static final int METRIC_MINOR = 4;
+    static final int METRIC_REPORTED = 5;
+
+    private final long[] accidentId;
+    private final String[] districtCode;
+    private final int[] year;
+    /** metrics[METRIC_xxx][i] */
+    private final int[][] metrics;
+
+    private final long version = VERSIONS.incrementAndGet();
+    private final Map<Long, Integer> ordinalById;
+    private final GridIndex grid;
+    private final ClusterPyramid clusters;
+
+    private AccidentHotspotIndex(long[] accidentId, String[] districtCode, int[] year, int[][] metrics,
+                                 GridIndex grid, ClusterPyramid clusters) {
+        this.accidentId = accidentId;
+        this.districtCode = districtCode;
+        this.year = year;
+        this.metrics = metrics;
+        this.ordinalById = new HashMap<>(accidentId.length * 2);
+        for (int i = 0; i < accidentId.length; i++) {
+            ordinalById.put(accidentId[i], i);
+        }
+        this.grid = grid;
+        this.clusters = clusters;
+    }
+
+    public static AccidentHotspotIndex from(List<AccidentHotspot> rows, int clusterMinZoom, int clusterMaxZoom) {
+        int n = rows.size();
+        long[] accidentId = new long[n];
+        String[] districtCode = new String[n];
+        int[] year = new int[n];
+        int[][] metrics = new int[6][n];
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            AccidentHotspot a = rows.get(i);
+            accidentId[i] = a.getAccidentId();
+            districtCode[i] = a.getDistrictCode();
+            year[i] = a.getYear() == null ? 0 : a.getYear();
+
+            metrics[METRIC_ACCIDENT][i] = nz(a.getAccidentCount());
+            metrics[METRIC_CASUALTY][i] = nz(a.getCasualtyCount());
+            metrics[METRIC_FATALITY][i] = nz(a.getFatalityCount());
+            metrics[METRIC_SERIOUS][i] = nz(a.getSeriousInjuryCount());
+            metrics[METRIC_MINOR][i] = nz(a.getMinorInjuryCount());
+            metrics[METRIC_REPORTED][i] = nz(a.getReportedInjuryCount());
+
+            lat[i] = a.getAccidentLat() == null ? Double.NaN : a.getAccidentLat();
+            lon[i] = a.getAccidentLon() == null ? Double.NaN : a.getAccidentLon();
+        }
+
+        return new AccidentHotspotIndex(accidentId, districtCode, year, metrics,
+                GridIndex.build(lat, lon, CELL_DEG),
+                ClusterPyramid.build(lat, lon, metrics, clusterMinZoom, clusterMaxZoom));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return accidentId.length;
+    }
+
+    public int[] query(double south, double west, double north, double east, int limit) {
+        return grid.query(south, west, north, east, limit);
+    }
+
+    public boolean forEachInBounds(double south, double west, double north, double east, IntPredicate visitor) {
+        return grid.forEach(south, west, north, east, visitor);
+    }
+
+    public long accidentId(int i) {
+        return accidentId[i];
+    }
+
+    /** accident_id의 번호. 없으면 -1입니다. */
+    public int ordinal(long id) {
+        Integer i = ordinalById.get(id);
+        return i == null ? -1 : i;
+    }
+
+    /** 거리 미적용 사고 심각도 원점수 ({@link CrosswalkScoring#severity}) */
+    public double severity(int i) {
+        return CrosswalkScoring.severity(metrics[METRIC_FATALITY][i], metrics[METRIC_SERIOUS][i],
+                metrics[METRIC_MINOR][i], metrics[METRIC_ACCIDENT][i], metrics[METRIC_REPORTED][i]);
+    }
+
+    public double lat(int i) {
+        return grid.lat(i);
+    }
+
+    public double lon(int i) {
+        return grid.lon(i);
+    }
+
+    /**
+     * 벡터 타일 피처 속성입니다. 키 이름은 {@link AccidentDto}의 JSON 필드명과 같습니다.
+     */
+    public Map<String, Object> featureAttributes(int i) {
+        Map<String, Object> attrs = new LinkedHashMap<>();
+        attrs.put("accidentId", accidentId[i]);
+        attrs.put("districtCode", districtCode[i]);
+        attrs.put("year", year[i]);
+        attrs.put("accidentCount", metrics[METRIC_ACCIDENT][i]);
+        attrs.put("casualtyCount", metrics[METRIC_CASUALTY][i]);
+        attrs.put("fatalityCount", metrics[METRIC_FATALITY][i]);
+        attrs.put("seriousInjuryCount", metrics[METRIC_SERIOUS][i]);
+        attrs.put("minorInjuryCount", metrics[METRIC_MINOR][i]);
+        attrs.put("reportedInjuryCount", metrics[METRIC_REPORTED][i]);
+        return attrs;
+    }
+
+    public boolean isClusteredAt(int zoom) {
+        return zoom <= clusters.maxZoom();
+    }
+
+    public List<AccidentClusterDto> queryClusters(int zoom, double south, double west, double north, double east, int limit) {
+        List<Cluster> found = clusters.query(zoom, south, west, north, east, limit);
+        List<AccidentClusterDto> out = new ArrayList<>(found.size());
+        for (Cluster c : found) {
+            out.add(AccidentClusterDto.builder()
+                    .lat(c.lat())
+                    .lon(c.lon())
+                    .count(c.count())
+                    .accidentCount(c.metric(METRIC_ACCIDENT))
+                    .casualtyCount(c.metric(METRIC_CASUALTY))
+                    .fatalityCount(c.metric(METRIC_FATALITY))
+                    .seriousInjuryCount(c.metric(METRIC_SERIOUS))
+                    .minorInjuryCount(c.metric(METRIC_MINOR))
+                    .reportedInjuryCount(c.metric(METRIC_REPORTED))
+                    .build());
+        }
+        return out;
+    }
+
+    public AccidentDto toDto(int i) {
+        return AccidentDto.builder()
+                .accidentId(accidentId[i])
+                .districtCode(districtCode[i])
+                .year(year[i])
+                .casualtyCount(metrics[METRIC_CASUALTY][i])
+                .fatalityCount(metrics[METRIC_FATALITY][i])
+                .seriousInjuryCount(metrics[METRIC_SERIOUS][i])
+                .minorInjuryCount(metrics[METRIC_MINOR][i])
+                .accidentCount(metrics[METRIC_ACCIDENT][i])
+                .reportedInjuryCount(metrics[METRIC_REPORTED][i])
+                .accidentLon(grid.lon(i))
+                .accidentLat(grid.lat(i))
+                .build();
+    }
+
+    private static int nz(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
@@ -0,0 +1,74 @@
+package com.kdt03.ped_accident.domain.accidentHotSpot.index;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.repository.AccidentHotspotRepository;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 유효한 {@link AccidentHotspotIndex} 스냅샷을 보관합니다.
+ * 기동 시 한 번 적재하며, {@link #reload()} 시 새 스냅샷으로 참조를 원자적으로 교체합니다.
+ * accident_hotspots가 다시 적재되면 새 스냅샷으로 바꾸며, 타일은 인덱스 version으로 무효화됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccidentHotspotIndexHolder {
+
+    private final AccidentHotspotRepository repository;
+
+    @Value("${map.cluster.min-zoom:5}")
+    private int clusterMinZoom;
+
+    @Value("${map.cluster.max-zoom:14}")
+    private int clusterMaxZoom;
+
+    private final AtomicReference<AccidentHotspotIndex> current = new AtomicReference<>();
+
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("사고 다발 지점 인덱스 적재 실패, DB 조회로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 인접 목록·위험지수({@link com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskHolder}, @Order(50))가
+     * 이 인덱스를 기준으로 다시 계산되므로 그보다 먼저 실행됩니다.
+     */
+    @Order(10)
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.dataset() == Dataset.ACCIDENT_HOTSPOTS) {
+            reload();
+        }
+    }
+
+    public AccidentHotspotIndex reload() {
+        long started = System.nanoTime();
+        AccidentHotspotIndex index = AccidentHotspotIndex.from(repository.findAll(), clusterMinZoom, clusterMaxZoom);
+        current.set(index);
+        log.info("사고 다발 지점 인덱스 적재 완료: {}건, {}ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 적재되지 않았으면 null입니다.
+     */
+    public AccidentHotspotIndex get() {
+        return current.get();
+    }
+}
@@ -1,5 +1,6 @@
 package com.kdt03.ped_accident.domain.accidentHotSpot.service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.domain.PageRequest;
@@ -7,7 +8,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.kdt03.ped_accident.api.dto.response.AccidentDto;
+import com.kdt03.ped_accident.api.dto.response.MapLayerResponse;
 import com.kdt03.ped_accident.domain.accidentHotSpot.entity.AccidentHotspot;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndexHolder;
 import com.kdt03.ped_accident.domain.accidentHotSpot.repository.AccidentHotspotRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -17,9 +21,43 @@ import lombok.RequiredArgsConstructor;
 public class AccidentHotSpotService {
 
     private final AccidentHotspotRepository repository;
+    private final AccidentHotspotIndexHolder indexHolder;
+
+    /**
+     * 줌에 따라 클러스터 또는 개별 지점을 반환합니다.
+     * 메모리 인덱스가 아직 없으면 개별 지점을 반환합니다.
+     */
+    public MapLayerResponse getAccidentLayer(int zoom, double south, double west, double north, double east, int limit) {
+        AccidentHotspotIndex index = indexHolder.get();
+        if (index != null && index.isClusteredAt(zoom)) {
+            int safeLimit = Math.max(1, Math.min(limit, 5000));
+            return MapLayerResponse.builder()
+                    .zoom(zoom)
+                    .clustered(true)
+                    .items(index.queryClusters(zoom, south, west, north, east, safeLimit))
+                    .build();
+        }
+        return MapLayerResponse.builder()
+                .zoom(zoom)
+                .clustered(false)
+                .items(getAccidentsByBounds(south, west, north, east, limit))
+                .build();
+    }
 
     public List<AccidentDto> getAccidentsByBounds(double south, double west, double north, double east, int limit) {
-        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, 5000)));
+        int safeLimit = Math.max(1, Math.min(limit, 5000));
+
+        AccidentHotspotIndex index = indexHolder.get();
+        if (index != null) {
+            int[] hits = index.query(south, west, north, east, safeLimit);
+            List<AccidentDto> out = new ArrayList<>(hits.length);
+            for (int i : hits) {
+                out.add(index.toDto(i));
+            }
+            return out;
+        }
+
+        Pageable pageable = PageRequest.of(0, safeLimit);
 
         return repository.findByBounds(south, west, north, east, pageable)
                 .stream()
@@ -0,0 +1,304 @@
+package com.kdt03.ped_accident.domain.crosswalk.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import com.kdt03.ped_accident.api.dto.response.CrosswalkClusterDto;
+import com.kdt03.ped_accident.api.dto.response.CrosswalkDto;
+import com.kdt03.ped_accident.domain.crosswalk.repository.CrosswalkProjection;
+import com.kdt03.ped_accident.global.spatial.ClusterPyramid;
+import com.kdt03.ped_accident.global.spatial.ClusterPyramid.Cluster;
+import com.kdt03.ped_accident.global.score.FacilityFlags;
+import com.kdt03.ped_accident.global.score.SafetyScoreTable;
+import com.kdt03.ped_accident.global.spatial.GridIndex;
+
+/**
+ * 전국 횡단보도의 불변 메모리 스냅샷입니다.
+ * <p>
+ * 컬럼별 primitive 배열(열 지향)로 보관하고, 좌표는 {@link GridIndex}로 색인합니다.
+ * 배열 인덱스(ordinal)가 곧 횡단보도 번호이며, 스냅샷은 한 번 만들어진 뒤 수정되지 않습니다.
+ * 낮은 줌에서 쓰는 클러스터 집계({@link ClusterPyramid})도 함께 만들어 둡니다.
+ */
+public final class CrosswalkIndex {
+
+    /** 스냅샷마다 증가하는 버전. 캐시 키와 ETag에 사용합니다. */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /** 격자 셀 크기(도). 약 1km */
+    static final double CELL_DEG = 0.01;
+
+    /** 클러스터 지표 순서 */
+    private static final int METRIC_SIGNAL = 0;
+
+    private final String[] cwUid;
+    private final String[] address;
+
+    /** 시설 설치 여부와 신호 출처 ({@link FacilityFlags} 비트 배치) */
+    private final short[] facilities;
+
+    /** 행정구역 코드 사전(정렬)과 횡단보도별 사전 번호(-1 = 없음) */
+    private final String[] districtCodes;
+    private final int[] districtOrdinal;
+    /** 행정구역별 횡단보도 목록 (CSR). 사전 번호 d의 횡단보도는 districtItems[districtStart[d] .. districtStart[d+1]) */
+    private final int[] districtStart;
+    private final int[] districtItems;
+
+    private final long version = VERSIONS.incrementAndGet();
+    private final Map<String, Integer> ordinalByUid;
+    private final GridIndex grid;
+    private final ClusterPyramid clusters;
+
+    private CrosswalkIndex(String[] cwUid, String[] address,
+                           short[] facilities,
+                           String[] districtCodes, int[] districtOrdinal,
+                           GridIndex grid, ClusterPyramid clusters) {
+        this.cwUid = cwUid;
+        this.address = address;
+        this.facilities = facilities;
+        this.districtCodes = districtCodes;
+        this.districtOrdinal = districtOrdinal;
+
+        // 코드가 정렬되어 있으므로 같은 접두어의 구역들은 districtItems에서도 이어진 구간이 됩니다.
+        int districts = districtCodes.length;
+        this.districtStart = new int[districts + 1];
+        for (int d : districtOrdinal) {
+            if (d >= 0) districtStart[d + 1]++;
+        }
+        for (int d = 0; d < districts; d++) {
+            districtStart[d + 1] += districtStart[d];
+        }
+        int[] cursor = Arrays.copyOf(districtStart, districts);
+        this.districtItems = new int[districtStart[districts]];
+        for (int i = 0; i < districtOrdinal.length; i++) {
+            int d = districtOrdinal[i];
+            if (d >= 0) districtItems[cursor[d]++] = i;
+        }
+        this.ordinalByUid = new HashMap<>(cwUid.length * 2);
+        for (int i = 0; i < cwUid.length; i++) {
+            ordinalByUid.put(cwUid[i], i);
+        }
+        this.grid = grid;
+        this.clusters = clusters;
+    }
+
+    /**
+     * @param rows            전체 횡단보도
+     * @param clusterMinZoom  클러스터를 집계할 가장 낮은 줌
+     * @param clusterMaxZoom  클러스터를 집계할 가장 높은 줌. 이보다 높은 줌에서는 개별 지점을 반환합니다.
+     */
+    public static CrosswalkIndex from(List<CrosswalkProjection> rows, int clusterMinZoom, int clusterMaxZoom) {
+        int n = rows.size();
+        String[] cwUid = new String[n];
+        String[] address = new String[n];
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        short[] facilities = new short[n];
+        String[] district = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            CrosswalkProjection r = rows.get(i);
+            cwUid[i] = r.getCwUid();
+            address[i] = r.getAddress();
+            lat[i] = r.getCrosswalkLat() == null ? Double.NaN : r.getCrosswalkLat();
+            lon[i] = r.getCrosswalkLon() == null ? Double.NaN : r.getCrosswalkLon();
+
+            facilities[i] = FacilityFlags.pack(signalSourceOf(r.getHasSignal(), r.getSignalSource()),
+                    r.getHasPedButton(), r.getHasPedSound(), r.getIsHighland(),
+                    r.getHasBump(), r.getHasBrailleBlock(), r.getHasSpotlight());
+            district[i] = r.getDistrictCode();
+        }
+
+        String[] districtCodes = Arrays.stream(district).filter(Objects::nonNull).distinct().sorted().toArray(String[]::new);
+        int[] districtOrdinal = new int[n];
+        for (int i = 0; i < n; i++) {
+            districtOrdinal[i] = district[i] == null ? -1 : Arrays.binarySearch(districtCodes, district[i]);
+        }
+
+        int[][] metrics = new int[1][n];
+        for (int i = 0; i < n; i++) {
+            metrics[METRIC_SIGNAL][i] = FacilityFlags.has(facilities[i], FacilityFlags.SIGNAL) ? 1 : 0;
+        }
+
+        return new CrosswalkIndex(cwUid, address, facilities,
+                districtCodes, districtOrdinal,
+                GridIndex.build(lat, lon, CELL_DEG),
+                ClusterPyramid.build(lat, lon, metrics, clusterMinZoom, clusterMaxZoom));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return cwUid.length;
+    }
+
+    /**
+     * 경계 안의 횡단보도 번호를 최대 {@code limit}개까지 반환합니다.
+     */
+    public int[] query(double south, double west, double north, double east, int limit) {
+        return grid.query(south, west, north, east, limit);
+    }
+
+    /**
+     * 경계 안의 횡단보도 번호를 순회합니다. visitor가 false를 반환하면 중단합니다.
+     */
+    public boolean forEachInBounds(double south, double west, double north, double east, IntPredicate visitor) {
+        return grid.forEach(south, west, north, east, visitor);
+    }
+
+    /** cw_uid의 번호. 없으면 -1입니다. */
+    public int ordinal(String uid) {
+        Integer i = ordinalByUid.get(uid);
+        return i == null ? -1 : i;
+    }
+
+    public String cwUid(int i) {
+        return cwUid[i];
+    }
+
+    /**
+     * 두 인덱스의 번호 → cw_uid 대응이 같은지 여부입니다.
+     * 같으면 다른 인덱스의 번호로 만든 배열(인접 목록, 위험지수 등)을 그대로 옮겨 쓸 수 있습니다.
+     */
+    public boolean hasSameOrdinals(CrosswalkIndex other) {
+        return other != null && (other == this || Arrays.equals(cwUid, other.cwUid));
+    }
+
+    /** 서로 다른 행정구역 코드 수 */
+    public int districtCount() {
+        return districtCodes.length;
+    }
+
+    /** 사전 번호 d의 행정구역 코드 (코드순) */
+    public String districtCode(int d) {
+        return districtCodes[d];
+    }
+
+    /**
+     * 행정구역 코드가 {@code prefix}로 시작하는 횡단보도 번호들을 반환합니다. (시도 2자리, 시군구 5자리 등)
+     * 전국을 훑지 않고 코드 사전의 이분 탐색 두 번으로 구간을 찾습니다.
+     */
+    public int[] inRegion(String prefix) {
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        return Arrays.copyOfRange(districtItems, districtStart[from], districtStart[to]);
+    }
+
+    /** 횡단보도 i의 행정구역 사전 번호. 코드가 없으면 -1입니다. */
+    public int districtOrdinal(int i) {
+        return districtOrdinal[i];
+    }
+
+    public boolean hasSignal(int i) {
+        return FacilityFlags.has(facilities[i], FacilityFlags.SIGNAL);
+    }
+
+    public boolean isDirectSignal(int i) {
+        return FacilityFlags.isDirectSignal(facilities[i]);
+    }
+
+    public boolean isMappedSignal(int i) {
+        return FacilityFlags.isMappedSignal(facilities[i]);
+    }
+
+    /**
+     * 설치된 시설의 비트마스크입니다. null인 시설은 미설치로 봅니다.
+     * 안전지수는 {@link SafetyScoreTable#index}로 조회합니다.
+     */
+    public int facilityMask(int i) {
+        return FacilityFlags.installed(facilities[i]);
+    }
+
+    public double lat(int i) {
+        return grid.lat(i);
+    }
+
+    public double lon(int i) {
+        return grid.lon(i);
+    }
+
+    /**
+     * 벡터 타일 피처 속성입니다. 키 이름은 {@link CrosswalkDto}의 JSON 필드명과 같습니다.
+     */
+    public Map<String, Object> featureAttributes(int i) {
+        Map<String, Object> attrs = new LinkedHashMap<>();
+        attrs.put("cw_uid", cwUid[i]);
+        attrs.put("address", address[i]);
+        short f = facilities[i];
+        attrs.put("hasSignal", FacilityFlags.has(f, FacilityFlags.SIGNAL));
+        attrs.put("signalSource", FacilityFlags.signalSource(f));
+        attrs.put("isHighland", FacilityFlags.get(f, FacilityFlags.HIGHLAND));
+        attrs.put("hasPedButton", FacilityFlags.get(f, FacilityFlags.BUTTON));
+        attrs.put("hasPedSound", FacilityFlags.get(f, FacilityFlags.SOUND));
+        attrs.put("hasBump", FacilityFlags.get(f, FacilityFlags.BUMP));
+        attrs.put("hasBrailleBlock", FacilityFlags.get(f, FacilityFlags.BRAILLE));
+        attrs.put("hasSpotlight", spotlight(f));
+        return attrs;
+    }
+
+    /**
+     * 해당 줌에서 개별 지점 대신 클러스터를 반환해야 하는지 여부입니다.
+     */
+    public boolean isClusteredAt(int zoom) {
+        return zoom <= clusters.maxZoom();
+    }
+
+    public List<CrosswalkClusterDto> queryClusters(int zoom, double south, double west, double north, double east, int limit) {
+        List<Cluster> found = clusters.query(zoom, south, west, north, east, limit);
+        List<CrosswalkClusterDto> out = new ArrayList<>(found.size());
+        for (Cluster c : found) {
+            long signal = c.metric(METRIC_SIGNAL);
+            out.add(CrosswalkClusterDto.builder()
+                    .lat(c.lat())
+                    .lon(c.lon())
+                    .count(c.count())
+                    .signalCount(signal)
+                    .noSignalCount(c.count() - signal)
+                    .build());
+        }
+        return out;
+    }
+
+    public CrosswalkDto toDto(int i) {
+        short f = facilities[i];
+        return CrosswalkDto.builder()
+                .cw_uid(cwUid[i])
+                .crosswalk_lat(grid.lat(i))
+                .crosswalk_lon(grid.lon(i))
+                .address(address[i])
+                .hasSignal(FacilityFlags.has(f, FacilityFlags.SIGNAL))
+                .isHighland(FacilityFlags.get(f, FacilityFlags.HIGHLAND))
+                .hasPedButton(FacilityFlags.get(f, FacilityFlags.BUTTON))
+                .hasPedSound(FacilityFlags.get(f, FacilityFlags.SOUND))
+                .hasBump(FacilityFlags.get(f, FacilityFlags.BUMP))
+                .hasBrailleBlock(FacilityFlags.get(f, FacilityFlags.BRAILLE))
+                .hasSpotlight(spotlight(f))
+                .signalSource(FacilityFlags.signalSource(f))
+                .build();
+    }
+
+    private int lowerBound(String code) {
+        int idx = Arrays.binarySearch(districtCodes, code);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    /** 원본 컬럼이 Integer라 DTO에는 0/1로 돌려줍니다. */
+    private static Integer spotlight(short f) {
+        Boolean v = FacilityFlags.get(f, FacilityFlags.SPOTLIGHT);
+        return v == null ? null : v ? 1 : 0;
+    }
+
+    /** signal_source 컬럼이 비어 있으면 has_signal로 매핑 여부를 판단합니다. */
+    private static String signalSourceOf(Long hasSignal, String source) {
+        if ("direct".equals(source) || "mapped".equals(source)) return source;
+        return hasSignal != null && hasSignal > 0 ? "mapped" : "none";
+    }
+}
@@ -0,0 +1,62 @@
+package com.kdt03.ped_accident.domain.crosswalk.index;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.crosswalk.repository.CrosswalkRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 유효한 {@link CrosswalkIndex} 스냅샷을 보관합니다.
+ * <p>
+ * 애플리케이션 기동 시 crosswalks 테이블에서 한 번 적재하며, {@link #reload()} 호출 시
+ * 새 스냅샷을 만든 뒤 참조만 원자적으로 교체합니다. 조회 중인 요청은 이전 스냅샷을 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrosswalkIndexHolder {
+
+    private final CrosswalkRepository crosswalkRepository;
+
+    @Value("${map.cluster.min-zoom:5}")
+    private int clusterMinZoom;
+
+    @Value("${map.cluster.max-zoom:14}")
+    private int clusterMaxZoom;
+
+    private final AtomicReference<CrosswalkIndex> current = new AtomicReference<>();
+
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // 인덱스 적재에 실패해도 DB 조회로 서비스는 계속 가능합니다.
+            log.warn("횡단보도 인덱스 적재 실패, DB 조회로 대체합니다.", e);
+        }
+    }
+
+    public CrosswalkIndex reload() {
+        long started = System.nanoTime();
+        CrosswalkIndex index = CrosswalkIndex.from(crosswalkRepository.findAllForIndex(), clusterMinZoom, clusterMaxZoom);
+        current.set(index);
+        log.info("횡단보도 인덱스 적재 완료: {}건, {}ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 적재되지 않았으면 null입니다.
+     */
+    public CrosswalkIndex get() {
+        return current.get();
+    }
+}
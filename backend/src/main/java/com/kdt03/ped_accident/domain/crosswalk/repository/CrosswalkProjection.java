@@ -15,4 +15,7 @@ public interface CrosswalkProjection {
 
     Long getHasSignal();     // 0/1
     String getSignalSource();
+
+    /** findAllForIndex에서만 채워집니다. */
+    String getDistrictCode();
 }
@@ -23,18 +23,8 @@ public interface CrosswalkRepository extends JpaRepository<Crosswalk, String> {
 	          c.has_braille_block AS hasBrailleBlock,
 	          c.has_spotlight AS hasSpotlight,
 
-	          CASE
-	            WHEN c.has_ped_signal = 1 THEN 1
-	            WHEN EXISTS (SELECT 1 FROM crosswalk_signal_map s WHERE s.cw_uid = c.cw_uid) THEN 1
-	            ELSE 0
-	          END AS hasSignal,
-
-	          CASE
-	            WHEN c.has_ped_signal = 1 THEN 'direct'
-	            WHEN EXISTS (SELECT 1 FROM crosswalk_signal_map s WHERE s.cw_uid = c.cw_uid) THEN 'mapped'
-	            ELSE 'none'
-	          END AS signalSource
-
+	          CAST(c.has_signal AS SIGNED) AS hasSignal,
+	          c.signal_source AS signalSource
 	        FROM crosswalks c
 	        WHERE c.crosswalk_lat BETWEEN :south AND :north
 	          AND c.crosswalk_lon BETWEEN :west AND :east
@@ -47,4 +37,28 @@ public interface CrosswalkRepository extends JpaRepository<Crosswalk, String> {
 	            @Param("east") double east,
 	            @Param("limit") int limit
 	    );
-}
\ No newline at end of file
+
+	/**
+	 * 메모리 인덱스 적재용 전체 횡단보도 조회입니다. 컬럼 구성은 {@link #findInBounds}에 district_code를 더한 것입니다.
+	 */
+	@Query(value = """
+	        SELECT
+	          c.cw_uid AS cwUid,
+	          c.crosswalk_lat AS crosswalkLat,
+	          c.crosswalk_lon AS crosswalkLon,
+	          c.address AS address,
+	          c.is_highland AS isHighland,
+	          c.has_ped_button AS hasPedButton,
+	          c.has_ped_sound AS hasPedSound,
+	          c.has_bump AS hasBump,
+	          c.has_braille_block AS hasBrailleBlock,
+	          c.has_spotlight AS hasSpotlight,
+
+	          CAST(c.has_signal AS SIGNED) AS hasSignal,
+	          c.signal_source AS signalSource,
+	          c.district_code AS districtCode
+	        FROM crosswalks c
+	        ORDER BY c.cw_uid
+	        """, nativeQuery = true)
+	List<CrosswalkProjection> findAllForIndex();
+}
@@ -0,0 +1,70 @@
+package com.kdt03.ped_accident.domain.crosswalk.repository;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * crosswalks 테이블의 신호 커버리지 파생 컬럼(has_signal, signal_source)을 관리합니다.
+ * <p>
+ * 두 컬럼은 엔티티에 매핑하지 않으며(스키마 검증 대상 아님), 이 리포지토리만 갱신합니다.
+ * 컬럼과 범위 조회 인덱스는 db/migration/V1__crosswalk_signal_coverage.sql로 만들며, 여기서는 확인만 합니다.
+ */
+@Repository
+public class CrosswalkSignalCoverageRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public boolean hasCoverageColumns() {
+        Number n = (Number) em.createNativeQuery("""
+                SELECT COUNT(*)
+                FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = 'crosswalks'
+                  AND COLUMN_NAME IN ('has_signal', 'signal_source')
+                """).getSingleResult();
+        return n.intValue() == 2;
+    }
+
+    public boolean hasBoundsIndex() {
+        Number n = (Number) em.createNativeQuery("""
+                SELECT COUNT(*)
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = 'crosswalks'
+                  AND INDEX_NAME = 'idx_crosswalks_lat_lon'
+                """).getSingleResult();
+        return n.intValue() > 0;
+    }
+
+    /**
+     * has_ped_signal과 crosswalk_signal_map으로부터 파생 컬럼을 다시 계산합니다.
+     * 값이 바뀌는 행만 갱신합니다. UPDATE … JOIN 대신 상관 EXISTS로 써서 H2 테스트에서도 같은 문장을 씁니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int refreshCoverage() {
+        return em.createNativeQuery("""
+                UPDATE crosswalks c
+                SET has_signal = CASE
+                      WHEN c.has_ped_signal = 1
+                        OR EXISTS (SELECT 1 FROM crosswalk_signal_map m WHERE m.cw_uid = c.cw_uid) THEN 1
+                      ELSE 0
+                    END,
+                    signal_source = CASE
+                      WHEN c.has_ped_signal = 1 THEN 'direct'
+                      WHEN EXISTS (SELECT 1 FROM crosswalk_signal_map m WHERE m.cw_uid = c.cw_uid) THEN 'mapped'
+                      ELSE 'none'
+                    END
+                WHERE c.signal_source <> CASE
+                      WHEN c.has_ped_signal = 1 THEN 'direct'
+                      WHEN EXISTS (SELECT 1 FROM crosswalk_signal_map m WHERE m.cw_uid = c.cw_uid) THEN 'mapped'
+                      ELSE 'none'
+                    END
+                """).executeUpdate();
+    }
+}
@@ -0,0 +1,59 @@
+package com.kdt03.ped_accident.domain.crosswalk.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 범위 조회 결과를 목록으로 만들지 않고 한 행씩 넘겨주는 JDBC 조회입니다.
+ * <p>
+ * 전진 전용(TYPE_FORWARD_ONLY, CONCUR_READ_ONLY) 커서에 fetch size를 {@link Integer#MIN_VALUE}로 주면
+ * MySQL 드라이버가 결과 전체를 메모리에 올리지 않고 행 단위로 스트리밍합니다.
+ * 컬럼 구성은 {@link CrosswalkRepository#findInBounds}와 같습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrosswalkStreamRepository {
+
+    private static final String BOUNDS_QUERY = """
+            SELECT
+              c.cw_uid, c.crosswalk_lat, c.crosswalk_lon, c.address,
+              c.is_highland, c.has_ped_button, c.has_ped_sound, c.has_bump,
+              c.has_braille_block, c.has_spotlight,
+              c.has_signal, c.signal_source
+            FROM crosswalks c
+            WHERE c.crosswalk_lat BETWEEN ? AND ?
+              AND c.crosswalk_lon BETWEEN ? AND ?
+            LIMIT ?
+            """;
+
+    /** MySQL Connector/J의 행 단위 스트리밍 모드 */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 경계 안의 횡단보도를 최대 {@code limit}행까지 한 행씩 {@code handler}에 넘깁니다.
+     * handler 안에서는 ResultSet의 현재 행만 읽어야 합니다.
+     */
+    public void streamInBounds(double south, double west, double north, double east, int limit,
+                               RowCallbackHandler handler) {
+        jdbcTemplate.query((Connection con) -> {
+            PreparedStatement ps = con.prepareStatement(BOUNDS_QUERY,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setDouble(1, south);
+            ps.setDouble(2, north);
+            ps.setDouble(3, west);
+            ps.setDouble(4, east);
+            ps.setInt(5, limit);
+            return ps;
+        }, handler);
+    }
+}
@@ -0,0 +1,121 @@
+package com.kdt03.ped_accident.domain.crosswalk.risk;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.cwaccmap.index.CwAccGraph;
+import com.kdt03.ped_accident.domain.cwaccmap.index.CwAccGraphHolder;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangeSet;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 유효한 {@link CrosswalkRiskScores}를 보관합니다.
+ * <p>
+ * cw_acc_map 인접 목록({@link CwAccGraphHolder})을 다시 적재한 뒤 DB 조회 없이 계산합니다.
+ * 횡단보도·사고 다발 지점 인덱스 적재 이후에 계산하고, crosswalks / crosswalk_signal_map / cw_acc_map /
+ * accident_hotspots가 바뀌면 다시 계산해 참조만 원자적으로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrosswalkRiskHolder {
+
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+    private final AccidentHotspotIndexHolder hotspotIndexHolder;
+    private final CwAccGraphHolder cwAccGraphHolder;
+
+    private final AtomicReference<CrosswalkRiskScores> current = new AtomicReference<>();
+
+    /** 횡단보도·사고 다발 지점 인덱스 적재(@Order(10)) 이후에 실행됩니다. */
+    @Order(15)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reloadQuietly();
+    }
+
+    /**
+     * 횡단보도·사고 다발 지점 인덱스를 다시 적재하는 리스너(@Order(0), @Order(10)) 이후,
+     * KPI 갱신(@Order(100)) 이전에 실행됩니다.
+     * <p>
+     * 증분 적재로 횡단보도 속성만 바뀌었으면({@link DatasetChangeSet#affectsLocations()}가 false)
+     * cw_acc_map과 위험지수가 그대로이므로 새 인덱스에 옮겨 붙이기만 합니다.
+     */
+    @Order(50)
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        Dataset dataset = event.dataset();
+        if (dataset == Dataset.CROSSWALKS && event.changes() != null && !event.changes().affectsLocations()
+                && rebind()) {
+            return;
+        }
+        if (dataset == Dataset.CROSSWALKS || dataset == Dataset.CROSSWALK_SIGNAL_MAP || dataset == Dataset.CW_ACC_MAP
+                || dataset == Dataset.ACCIDENT_HOTSPOTS) {
+            reloadQuietly();
+        }
+    }
+
+    /**
+     * cw_acc_map을 다시 읽어 위험지수를 계산합니다. 인덱스가 준비되지 않았으면 기존 값을 그대로 두고 반환합니다.
+     */
+    public synchronized CrosswalkRiskScores reload() {
+        CwAccGraph graph = cwAccGraphHolder.reload();
+        if (graph == null || !graph.isFor(crosswalkIndexHolder.get(), hotspotIndexHolder.get())) {
+            return current.get();
+        }
+
+        long started = System.nanoTime();
+        CrosswalkRiskScores scores = CrosswalkRiskScores.compute(graph);
+        current.set(scores);
+        log.info("횡단보도 위험지수 계산 완료: {}건, {}ms", scores.size(), (System.nanoTime() - started) / 1_000_000);
+        return scores;
+    }
+
+    /**
+     * 기존 인접 목록과 위험지수를 현재 횡단보도 인덱스에 옮겨 붙입니다. 옮길 수 없으면 false입니다.
+     */
+    private synchronized boolean rebind() {
+        CrosswalkRiskScores scores = current.get();
+        CwAccGraph graph = scores == null ? null : cwAccGraphHolder.rebind();
+        CrosswalkRiskScores rebound = graph == null ? null : scores.rebind(graph);
+        if (rebound == null) {
+            return false;
+        }
+        current.set(rebound);
+        log.info("횡단보도 위치 변경 없음: 위험지수를 새 인덱스에 옮겨 붙였습니다. ({}건)", rebound.size());
+        return true;
+    }
+
+    /**
+     * 현재 값을 반환합니다. 아직 계산되지 않았으면 null입니다.
+     */
+    public CrosswalkRiskScores get() {
+        return current.get();
+    }
+
+    /**
+     * 주어진 횡단보도 인덱스로 계산된 값만 반환합니다. 재계산 전이라 번호가 맞지 않으면 null입니다.
+     */
+    public CrosswalkRiskScores get(CrosswalkIndex index) {
+        CrosswalkRiskScores scores = current.get();
+        return scores != null && scores.isFor(index) ? scores : null;
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("횡단보도 위험지수 계산 실패, 이전 값을 유지합니다.", e);
+        }
+    }
+}
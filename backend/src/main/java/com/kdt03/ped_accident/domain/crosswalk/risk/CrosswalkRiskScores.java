@@ -0,0 +1,92 @@
+package com.kdt03.ped_accident.domain.crosswalk.risk;
+
+import java.util.stream.IntStream;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.cwaccmap.index.CwAccGraph;
+import com.kdt03.ped_accident.global.score.CrosswalkScoring;
+
+/**
+ * 횡단보도 번호별 위험지수의 불변 스냅샷입니다.
+ * <p>
+ * 번호는 계산에 쓴 {@link CrosswalkIndex}의 번호이므로, 인덱스가 다시 적재되면 {@link #isFor}로
+ * 같은 인덱스인지 확인한 뒤에 써야 합니다.
+ */
+public final class CrosswalkRiskScores {
+
+    /** 병렬 계산 시 한 배치가 맡는 최소 횡단보도 수 */
+    private static final int MIN_BATCH = 8_192;
+
+    private final CrosswalkIndex crosswalks;
+    private final AccidentHotspotIndex hotspots;
+    private final double[] risk;
+
+    private CrosswalkRiskScores(CrosswalkIndex crosswalks, AccidentHotspotIndex hotspots, double[] risk) {
+        this.crosswalks = crosswalks;
+        this.hotspots = hotspots;
+        this.risk = risk;
+    }
+
+    /**
+     * 횡단보도-사고 인접 목록으로 위험지수를 계산합니다.
+     * <p>
+     * 횡단보도 번호 구간을 배치로 나눠 병렬로 계산합니다. 배치끼리 쓰는 칸이 겹치지 않으므로 동기화가 필요 없습니다.
+     */
+    public static CrosswalkRiskScores compute(CwAccGraph graph) {
+        CrosswalkIndex crosswalks = graph.crosswalks();
+        AccidentHotspotIndex hotspots = graph.hotspots();
+        int n = crosswalks.size();
+
+        double[] risk = new double[n];
+        int batches = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, n / MIN_BATCH));
+        IntStream.range(0, batches).parallel().forEach(b -> {
+            int from = (int) ((long) n * b / batches);
+            int to = (int) ((long) n * (b + 1) / batches);
+            for (int i = from; i < to; i++) {
+                double sumWeighted = 0, sumWeight = 0;
+                for (int k = graph.begin(i), end = graph.end(i); k < end; k++) {
+                    double w = CrosswalkScoring.distanceWeight(graph.distance(k));
+                    if (w <= 0) break;
+                    sumWeighted += hotspots.severity(graph.hotspot(k)) * w;
+                    sumWeight += w;
+                }
+                risk[i] = CrosswalkScoring.riskIndex(sumWeighted, sumWeight);
+            }
+        });
+
+        return new CrosswalkRiskScores(crosswalks, hotspots, risk);
+    }
+
+    /** 이 점수가 주어진 횡단보도 인덱스로 계산되었는지 여부 */
+    public boolean isFor(CrosswalkIndex index) {
+        return crosswalks == index;
+    }
+
+    /**
+     * 같은 점수를 {@code graph}의 인덱스에 붙여 반환합니다. 위험지수는 인접 목록과 사고 다발 지점만으로
+     * 정해지므로, 같은 인접 목록을 옮겨 붙인({@link CwAccGraph#rebind}) 그래프면 다시 계산할 필요가 없습니다.
+     * 이 점수를 만든 인덱스와 번호 대응이 다르거나 사고 다발 지점 인덱스가 다르면 null입니다.
+     */
+    public CrosswalkRiskScores rebind(CwAccGraph graph) {
+        if (graph.hotspots() != hotspots || !crosswalks.hasSameOrdinals(graph.crosswalks())) return null;
+        return new CrosswalkRiskScores(graph.crosswalks(), hotspots, risk);
+    }
+
+    public CrosswalkIndex crosswalks() {
+        return crosswalks;
+    }
+
+    public AccidentHotspotIndex hotspots() {
+        return hotspots;
+    }
+
+    public int size() {
+        return risk.length;
+    }
+
+    /** 횡단보도 i의 위험지수 (0 ~ 100) */
+    public double risk(int i) {
+        return risk[i];
+    }
+}
@@ -1,11 +1,32 @@
 package com.kdt03.ped_accident.domain.crosswalk.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.kdt03.ped_accident.api.dto.response.CrosswalkDto;
+import com.kdt03.ped_accident.api.dto.response.MapLayerResponse;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
 import com.kdt03.ped_accident.domain.crosswalk.repository.CrosswalkRepository;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskHolder;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskScores;
+import com.kdt03.ped_accident.domain.crosswalk.repository.CrosswalkStreamRepository;
+import com.kdt03.ped_accident.global.score.CrosswalkScoring;
+import com.kdt03.ped_accident.global.score.FacilityFlags;
+import com.kdt03.ped_accident.global.score.SafetyScoreTable;
+import com.kdt03.ped_accident.global.score.TopN;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,11 +35,51 @@ import lombok.RequiredArgsConstructor;
 public class CrosswalkService {
 
     private final CrosswalkRepository crosswalkRepository;
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+    private final CrosswalkRiskHolder crosswalkRiskHolder;
+    private final SafetyScoreTable safetyScoreTable;
+    private final CrosswalkStreamRepository crosswalkStreamRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 스트리밍 응답의 최대 행 수. 행 단위로 쓰므로 일반 조회(5000)보다 크게 둘 수 있습니다. */
+    @Value("${map.stream.max-limit:100000}")
+    private int streamMaxLimit;
+
+    /**
+     * 줌에 따라 클러스터 또는 개별 지점을 반환합니다.
+     * 메모리 인덱스가 아직 없으면 개별 지점을 반환합니다.
+     */
+    public MapLayerResponse getCrosswalkLayer(int zoom, double south, double west, double north, double east, int limit) {
+        CrosswalkIndex index = crosswalkIndexHolder.get();
+        if (index != null && index.isClusteredAt(zoom)) {
+            int safeLimit = Math.max(1, Math.min(limit, 5000));
+            return MapLayerResponse.builder()
+                    .zoom(zoom)
+                    .clustered(true)
+                    .items(index.queryClusters(zoom, south, west, north, east, safeLimit))
+                    .build();
+        }
+        return MapLayerResponse.builder()
+                .zoom(zoom)
+                .clustered(false)
+                .items(getCrosswalks(south, west, north, east, limit))
+                .build();
+    }
 
     public List<CrosswalkDto> getCrosswalks(double south, double west, double north, double east, int limit) {
         int safeLimit = Math.max(1, Math.min(limit, 5000));
-        
-        
+
+        // 메모리 인덱스가 준비되어 있으면 DB를 거치지 않습니다.
+        CrosswalkIndex index = crosswalkIndexHolder.get();
+        if (index != null) {
+            int[] hits = index.query(south, west, north, east, safeLimit);
+            CrosswalkRiskScores risk = crosswalkRiskHolder.get(index);
+            List<CrosswalkDto> out = new ArrayList<>(hits.length);
+            for (int i : hits) {
+                out.add(toDto(index, risk, safetyScoreTable, i));
+            }
+            return out;
+        }
 
         return crosswalkRepository.findInBounds(south, west, north, east, safeLimit)
                 .stream()
@@ -43,4 +104,186 @@ public class CrosswalkService {
                 		})
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * {@link #getCrosswalks}와 같은 JSON 배열을 목록을 만들지 않고 {@code out}에 바로 씁니다.
+     * 메모리 인덱스가 있으면 인덱스를 순회하고, 없으면 전진 전용 JDBC 커서로 한 행씩 읽습니다.
+     * 요청당 메모리 사용량이 {@code limit}과 무관하게 일정합니다.
+     */
+    public void streamCrosswalks(double south, double west, double north, double east, int limit,
+                                 OutputStream out) throws IOException {
+        int safeLimit = Math.max(1, Math.min(limit, streamMaxLimit));
+
+        try (JsonGenerator g = objectMapper.createGenerator(out)) {
+            g.writeStartArray();
+
+            CrosswalkIndex index = crosswalkIndexHolder.get();
+            if (index != null) {
+                CrosswalkRiskScores risk = crosswalkRiskHolder.get(index);
+                int[] written = {0};
+                index.forEachInBounds(south, west, north, east, i -> {
+                    try {
+                        g.writeObject(toDto(index, risk, safetyScoreTable, i));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return ++written[0] < safeLimit;
+                });
+            } else {
+                crosswalkStreamRepository.streamInBounds(south, west, north, east, safeLimit,
+                        rs -> writeRow(g, rs));
+            }
+
+            g.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 경계 안에서 안전지수가 낮은 순으로 횡단보도를 반환합니다. 메모리 인덱스가 아직 없으면 null입니다.
+     * <p>
+     * 시설은 비트마스크로, 안전지수는 조회표로 판정하므로 후보마다 배열 접근 몇 번이면 되고,
+     * 정렬도 점수 순위 단위 계수 정렬({@link SafetyScoreTable#sortAscending})입니다.
+     *
+     * @param missingMask 이 시설들이 모두 없는 횡단보도만 ({@link FacilityFlags} 비트)
+     * @param maxScore    안전지수 상한(포함). null이면 제한 없음
+     */
+    public List<CrosswalkDto> getLeastSafeCrosswalks(double south, double west, double north, double east,
+                                                     int missingMask, Double maxScore, int limit) {
+        CrosswalkIndex index = crosswalkIndexHolder.get();
+        if (index == null) {
+            return null;
+        }
+        int safeLimit = Math.max(1, Math.min(limit, 5000));
+        double max = maxScore == null ? Double.POSITIVE_INFINITY : maxScore;
+
+        int[][] buf = {new int[1024]};
+        int[] count = {0};
+        index.forEachInBounds(south, west, north, east, i -> {
+            int mask = index.facilityMask(i);
+            if ((mask & missingMask) != 0 || safetyScoreTable.index(mask) > max) return true;
+            if (count[0] == buf[0].length) {
+                buf[0] = Arrays.copyOf(buf[0], count[0] * 2);
+            }
+            buf[0][count[0]++] = i;
+            return true;
+        });
+
+        int[] sorted = safetyScoreTable.sortAscending(Arrays.copyOf(buf[0], count[0]), index::facilityMask);
+        CrosswalkRiskScores risk = crosswalkRiskHolder.get(index);
+        List<CrosswalkDto> out = new ArrayList<>(Math.min(sorted.length, safeLimit));
+        for (int k = 0; k < sorted.length && k < safeLimit; k++) {
+            out.add(toDto(index, risk, safetyScoreTable, sorted[k]));
+        }
+        return out;
+    }
+
+    /**
+     * 행정구역 안에서 신호 설치 우선순위 점수가 높은 횡단보도 n개를 점수 내림차순으로 반환합니다.
+     * 메모리 인덱스나 위험지수가 아직 없으면 null입니다.
+     * <p>
+     * 후보는 행정구역 코드 인덱스({@link CrosswalkIndex#inRegion})로 찾고, 크기 n의 최소 힙({@link TopN})으로 고릅니다.
+     *
+     * @param region 행정구역 코드 접두어 (시도 2자리, 시군구 5자리 등)
+     */
+    public List<CrosswalkDto> getTopPriority(String region, int n) {
+        CrosswalkIndex index = crosswalkIndexHolder.get();
+        if (index == null) {
+            return null;
+        }
+        CrosswalkRiskScores risk = crosswalkRiskHolder.get(index);
+        if (risk == null) {
+            return null;
+        }
+
+        TopN top = new TopN(n);
+        for (int i : index.inRegion(region)) {
+            top.offer(i, priority(index, risk, i));
+        }
+
+        int[] picked = top.drainDescending();
+        List<CrosswalkDto> out = new ArrayList<>(picked.length);
+        for (int i : picked) {
+            CrosswalkDto dto = toDto(index, risk, safetyScoreTable, i);
+            dto.setPriorityScore(priority(index, risk, i));
+            out.add(dto);
+        }
+        return out;
+    }
+
+    private double priority(CrosswalkIndex index, CrosswalkRiskScores risk, int i) {
+        return CrosswalkScoring.priority(risk.risk(i), safetyScoreTable.index(index.facilityMask(i)));
+    }
+
+    /** 안전지수를 담고, 위험지수가 같은 인덱스로 계산되어 있으면 함께 담습니다. */
+    private static CrosswalkDto toDto(CrosswalkIndex index, CrosswalkRiskScores risk, SafetyScoreTable safety, int i) {
+        CrosswalkDto dto = index.toDto(i);
+        dto.setSafetyScore(safety.index(index.facilityMask(i)));
+        if (risk != null) {
+            dto.setRiskScore(risk.risk(i));
+        }
+        return dto;
+    }
+
+    /**
+     * 필드 이름과 순서는 {@link CrosswalkDto}의 JSON 직렬화 결과와 같습니다.
+     * 안전지수는 인덱스 경로와 같이 행의 시설 컬럼으로 설치 비트마스크를 만들어 조회표에서 읽습니다.
+     * 위험지수·우선순위는 인접 목록이 메모리에 있어야 하므로 null입니다.
+     */
+    private void writeRow(JsonGenerator g, ResultSet rs) throws SQLException {
+        boolean hasSignal = rs.getInt("has_signal") > 0;
+        String signalSource = rs.getString("signal_source");
+        Boolean highland = readBoolean(rs, "is_highland");
+        Boolean button = readBoolean(rs, "has_ped_button");
+        Boolean sound = readBoolean(rs, "has_ped_sound");
+        Boolean bump = readBoolean(rs, "has_bump");
+        Boolean braille = readBoolean(rs, "has_braille_block");
+        int spotlightValue = rs.getInt("has_spotlight");
+        Integer spotlight = rs.wasNull() ? null : spotlightValue;
+
+        String source = "direct".equals(signalSource) || "mapped".equals(signalSource) ? signalSource
+                : hasSignal ? "mapped" : "none";
+        short flags = FacilityFlags.pack(source, button, sound, highland, bump, braille, spotlight);
+
+        try {
+            g.writeStartObject();
+            g.writeStringField("cw_uid", rs.getString("cw_uid"));
+            writeDouble(g, "crosswalk_lat", rs, "crosswalk_lat");
+            writeDouble(g, "crosswalk_lon", rs, "crosswalk_lon");
+            g.writeStringField("address", rs.getString("address"));
+            g.writeBooleanField("hasSignal", hasSignal);
+            writeBoolean(g, "isHighland", highland);
+            writeBoolean(g, "hasPedButton", button);
+            writeBoolean(g, "hasPedSound", sound);
+            writeBoolean(g, "hasBump", bump);
+            writeBoolean(g, "hasBrailleBlock", braille);
+            if (spotlight == null) g.writeNullField("hasSpotlight");
+            else g.writeNumberField("hasSpotlight", spotlight);
+            g.writeStringField("signalSource", signalSource);
+            g.writeNullField("riskScore");
+            g.writeNumberField("safetyScore", safetyScoreTable.index(FacilityFlags.installed(flags)));
+            g.writeNullField("priorityScore");
+            g.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeDouble(JsonGenerator g, String field, ResultSet rs, String column)
+            throws SQLException, IOException {
+        double v = rs.getDouble(column);
+        if (rs.wasNull()) g.writeNullField(field);
+        else g.writeNumberField(field, v);
+    }
+
+    private static Boolean readBoolean(ResultSet rs, String column) throws SQLException {
+        boolean v = rs.getBoolean(column);
+        return rs.wasNull() ? null : v;
+    }
+
+    private static void writeBoolean(JsonGenerator g, String field, Boolean v) throws IOException {
+        if (v == null) g.writeNullField(field);
+        else g.writeBooleanField(field, v);
+    }
+}
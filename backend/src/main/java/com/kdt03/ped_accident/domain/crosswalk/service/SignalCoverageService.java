@@ -0,0 +1,76 @@
+package com.kdt03.ped_accident.domain.crosswalk.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.repository.CrosswalkSignalCoverageRepository;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 횡단보도별 신호 커버리지(has_signal, signal_source)를 미리 계산해 두는 서비스입니다.
+ * <p>
+ * 범위 조회 쿼리가 행마다 crosswalk_signal_map을 EXISTS로 두 번 탐색하지 않도록,
+ * 기동 시와 crosswalks / crosswalk_signal_map 변경 시에 한 번만 계산해 컬럼에 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SignalCoverageService {
+
+    private final CrosswalkSignalCoverageRepository coverageRepository;
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+
+    /**
+     * 횡단보도 조회(범위 조회, 인덱스 적재, 스트리밍)는 모두 파생 컬럼을 읽으므로, 컬럼이 없으면 기동하지 않습니다.
+     *
+     * @throws IllegalStateException db/migration/V1__crosswalk_signal_coverage.sql이 적용되지 않았으면
+     */
+    @PostConstruct
+    void requireSchema() {
+        if (!coverageRepository.hasCoverageColumns()) {
+            throw new IllegalStateException("crosswalks.has_signal / signal_source 컬럼이 없습니다. "
+                    + "db/migration/V1__crosswalk_signal_coverage.sql을 적용한 뒤 다시 시작하세요.");
+        }
+    }
+
+    /** 인덱스 적재({@link CrosswalkIndexHolder})보다 먼저 실행되어야 합니다. */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!coverageRepository.hasBoundsIndex()) {
+            log.warn("crosswalks (crosswalk_lat, crosswalk_lon) 인덱스가 없어 범위 조회가 느립니다. "
+                    + "db/migration/V1__crosswalk_signal_coverage.sql을 확인하세요.");
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("신호 커버리지 갱신 실패", e);
+        }
+    }
+
+    /** 횡단보도 인덱스를 다시 적재하므로, 인덱스를 쓰는 다른 리스너보다 먼저 실행되어야 합니다. */
+    @Order(0)
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.dataset() != Dataset.CROSSWALKS && event.dataset() != Dataset.CROSSWALK_SIGNAL_MAP) {
+            return;
+        }
+        refresh();
+        crosswalkIndexHolder.reload();
+    }
+
+    public int refresh() {
+        long started = System.nanoTime();
+        int updated = coverageRepository.refreshCoverage();
+        log.info("신호 커버리지 갱신: {}건 변경, {}ms", updated, (System.nanoTime() - started) / 1_000_000);
+        return updated;
+    }
+}
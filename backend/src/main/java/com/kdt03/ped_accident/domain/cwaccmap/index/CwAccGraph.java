@@ -0,0 +1,124 @@
+package com.kdt03.ped_accident.domain.cwaccmap.index;
+
+import java.util.Arrays;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+
+/**
+ * cw_acc_map(횡단보도 ↔ 사고 다발 지점) 관계의 불변 CSR 인접 목록입니다.
+ * <p>
+ * 횡단보도 번호 i의 이웃은 {@code [start[i], start[i+1])} 구간이며, 구간 안에서는 거리 오름차순입니다.
+ * 번호는 만들 때 쓴 {@link CrosswalkIndex}/{@link AccidentHotspotIndex}의 번호이므로,
+ * 인덱스가 다시 적재되면 {@link #isFor}로 확인한 뒤에 써야 합니다.
+ */
+public final class CwAccGraph {
+
+    private final CrosswalkIndex crosswalks;
+    private final AccidentHotspotIndex hotspots;
+    private final int[] start;
+    private final int[] hotspot;
+    private final float[] distance;
+
+    private CwAccGraph(CrosswalkIndex crosswalks, AccidentHotspotIndex hotspots,
+                       int[] start, int[] hotspot, float[] distance) {
+        this.crosswalks = crosswalks;
+        this.hotspots = hotspots;
+        this.start = start;
+        this.hotspot = hotspot;
+        this.distance = distance;
+    }
+
+    /**
+     * (횡단보도 번호, 사고 다발 지점 번호, 거리) 쌍으로 만듭니다. 쌍의 순서는 상관없습니다.
+     *
+     * @param pairCount 유효한 쌍 개수 (배열 앞쪽부터)
+     */
+    public static CwAccGraph from(CrosswalkIndex crosswalks, AccidentHotspotIndex hotspots,
+                                  int[] pairCw, int[] pairHs, float[] pairDistance, int pairCount) {
+        int n = crosswalks.size();
+
+        int[] start = new int[n + 1];
+        for (int p = 0; p < pairCount; p++) {
+            start[pairCw[p] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+
+        int[] cursor = Arrays.copyOf(start, n);
+        int[] hotspot = new int[pairCount];
+        float[] distance = new float[pairCount];
+        for (int p = 0; p < pairCount; p++) {
+            int k = cursor[pairCw[p]]++;
+            hotspot[k] = pairHs[p];
+            distance[k] = pairDistance[p];
+        }
+
+        // 이웃 수가 적으므로 구간마다 삽입 정렬로 거리순을 맞춥니다.
+        for (int i = 0; i < n; i++) {
+            for (int k = start[i] + 1; k < start[i + 1]; k++) {
+                float d = distance[k];
+                int h = hotspot[k];
+                int j = k - 1;
+                while (j >= start[i] && distance[j] > d) {
+                    distance[j + 1] = distance[j];
+                    hotspot[j + 1] = hotspot[j];
+                    j--;
+                }
+                distance[j + 1] = d;
+                hotspot[j + 1] = h;
+            }
+        }
+
+        return new CwAccGraph(crosswalks, hotspots, start, hotspot, distance);
+    }
+
+    /** 이 인접 목록이 주어진 인덱스들로 만들어졌는지 여부 */
+    public boolean isFor(CrosswalkIndex crosswalkIndex, AccidentHotspotIndex hotspotIndex) {
+        return crosswalks == crosswalkIndex && hotspots == hotspotIndex;
+    }
+
+    /**
+     * 같은 배열을 새 횡단보도 인덱스에 붙인 인접 목록을 반환합니다. 번호 대응이 다르면 null입니다.
+     * 횡단보도의 위치는 그대로이고 속성만 바뀌어 인덱스를 다시 적재했을 때 cw_acc_map을 다시 읽지 않으려고 씁니다.
+     */
+    public CwAccGraph rebind(CrosswalkIndex crosswalkIndex) {
+        if (crosswalkIndex == crosswalks) return this;
+        if (!crosswalks.hasSameOrdinals(crosswalkIndex)) return null;
+        return new CwAccGraph(crosswalkIndex, hotspots, start, hotspot, distance);
+    }
+
+    public CrosswalkIndex crosswalks() {
+        return crosswalks;
+    }
+
+    public AccidentHotspotIndex hotspots() {
+        return hotspots;
+    }
+
+    /** 전체 쌍 개수 */
+    public int edgeCount() {
+        return hotspot.length;
+    }
+
+    /** 횡단보도 i의 이웃 구간 시작 (포함) */
+    public int begin(int i) {
+        return start[i];
+    }
+
+    /** 횡단보도 i의 이웃 구간 끝 (제외) */
+    public int end(int i) {
+        return start[i + 1];
+    }
+
+    /** 구간 위치 k의 사고 다발 지점 번호 */
+    public int hotspot(int k) {
+        return hotspot[k];
+    }
+
+    /** 구간 위치 k의 거리(m) */
+    public float distance(int k) {
+        return distance[k];
+    }
+}
@@ -0,0 +1,107 @@
+package com.kdt03.ped_accident.domain.cwaccmap.index;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.cwaccmap.repository.CwAccMapStreamRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 유효한 {@link CwAccGraph}를 보관합니다.
+ * <p>
+ * cw_acc_map을 한 번 스트리밍해 primitive 배열로 모은 뒤 CSR로 만들고, 참조만 원자적으로 교체합니다.
+ * 적재 시점은 위험지수 계산({@link com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskHolder})이 정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CwAccGraphHolder {
+
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+    private final AccidentHotspotIndexHolder hotspotIndexHolder;
+    private final CwAccMapStreamRepository cwAccMapStreamRepository;
+
+    private final AtomicReference<CwAccGraph> current = new AtomicReference<>();
+
+    /**
+     * cw_acc_map을 다시 읽습니다. 인덱스가 준비되지 않았으면 기존 값을 그대로 두고 반환합니다.
+     */
+    public synchronized CwAccGraph reload() {
+        CrosswalkIndex crosswalks = crosswalkIndexHolder.get();
+        AccidentHotspotIndex hotspots = hotspotIndexHolder.get();
+        if (crosswalks == null || hotspots == null) {
+            return current.get();
+        }
+
+        long started = System.nanoTime();
+        PairBuffer pairs = new PairBuffer();
+        cwAccMapStreamRepository.streamAll(rs -> {
+            int c = crosswalks.ordinal(rs.getString(1));
+            int h = hotspots.ordinal(rs.getLong(2));
+            if (c >= 0 && h >= 0) {
+                pairs.add(c, h, rs.getFloat(3));
+            }
+        });
+
+        CwAccGraph graph = CwAccGraph.from(crosswalks, hotspots, pairs.cw, pairs.hs, pairs.distance, pairs.size);
+        current.set(graph);
+        log.info("횡단보도-사고 인접 목록 적재 완료: {}건, {}ms", graph.edgeCount(), (System.nanoTime() - started) / 1_000_000);
+        return graph;
+    }
+
+    /**
+     * cw_acc_map을 다시 읽지 않고 기존 인접 목록을 현재 횡단보도 인덱스에 옮겨 붙입니다.
+     * 옮길 수 없으면(번호 대응이 다르거나 사고 다발 지점 인덱스가 바뀜) null을 반환하며, 이때는 {@link #reload()}해야 합니다.
+     */
+    public synchronized CwAccGraph rebind() {
+        CwAccGraph graph = current.get();
+        if (graph == null || graph.hotspots() != hotspotIndexHolder.get()) {
+            return null;
+        }
+        CwAccGraph rebound = graph.rebind(crosswalkIndexHolder.get());
+        if (rebound != null) {
+            current.set(rebound);
+        }
+        return rebound;
+    }
+
+    /**
+     * 현재 횡단보도·사고 다발 지점 인덱스로 만든 인접 목록을 반환합니다. 없거나 인덱스가 바뀌었으면 null입니다.
+     */
+    public CwAccGraph get() {
+        CwAccGraph graph = current.get();
+        if (graph == null || !graph.isFor(crosswalkIndexHolder.get(), hotspotIndexHolder.get())) {
+            return null;
+        }
+        return graph;
+    }
+
+    /** 스트리밍 중 쌍을 담는 가변 primitive 배열 */
+    private static final class PairBuffer {
+        int[] cw = new int[1 << 16];
+        int[] hs = new int[1 << 16];
+        float[] distance = new float[1 << 16];
+        int size;
+
+        void add(int c, int h, float d) {
+            if (size == cw.length) {
+                int grown = size * 2;
+                cw = Arrays.copyOf(cw, grown);
+                hs = Arrays.copyOf(hs, grown);
+                distance = Arrays.copyOf(distance, grown);
+            }
+            cw[size] = c;
+            hs[size] = h;
+            distance[size] = d;
+            size++;
+        }
+    }
+}
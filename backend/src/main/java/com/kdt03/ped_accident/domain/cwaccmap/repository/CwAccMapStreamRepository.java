@@ -0,0 +1,36 @@
+package com.kdt03.ped_accident.domain.cwaccmap.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * cw_acc_map 전체를 엔티티 없이 한 행씩 읽습니다.
+ * 매핑은 수십만 행 이상이므로 MySQL 행 단위 스트리밍(fetch size = {@link Integer#MIN_VALUE})을 씁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CwAccMapStreamRepository {
+
+    private static final String ALL_QUERY = "SELECT cw_uid, accident_id, distance FROM cw_acc_map";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 매핑 행을 handler에 넘깁니다. 컬럼 순서: cw_uid, accident_id, distance
+     */
+    public void streamAll(RowCallbackHandler handler) {
+        jdbcTemplate.query((Connection con) -> {
+            PreparedStatement ps = con.prepareStatement(ALL_QUERY,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, handler);
+    }
+}
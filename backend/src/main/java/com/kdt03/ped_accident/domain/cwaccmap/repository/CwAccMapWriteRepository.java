@@ -0,0 +1,32 @@
+package com.kdt03.ped_accident.domain.cwaccmap.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * cw_acc_map을 통째로 다시 쓸 때 쓰는 JDBC 배치 리포지토리입니다.
+ * 호출자가 트랜잭션을 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CwAccMapWriteRepository {
+
+    private static final String INSERT = "INSERT INTO cw_acc_map (cw_uid, accident_id, distance) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int deleteAll() {
+        return jdbcTemplate.update("DELETE FROM cw_acc_map");
+    }
+
+    /**
+     * @param rows (cw_uid, accident_id, distance)
+     */
+    public void insertBatch(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+}
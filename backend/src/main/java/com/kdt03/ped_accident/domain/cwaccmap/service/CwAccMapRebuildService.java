@@ -0,0 +1,126 @@
+package com.kdt03.ped_accident.domain.cwaccmap.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.cwaccmap.repository.CwAccMapWriteRepository;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+import com.kdt03.ped_accident.global.spatial.SpatialJoin;
+import com.kdt03.ped_accident.global.spatial.SpatialJoinReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * cw_acc_map을 서버에서 다시 만듭니다. (기존 spatial_map_crosswalks_accidents.ipynb와 같은 규칙)
+ * <p>
+ * 횡단보도마다 반경 안의 모든 사고 다발 지점을 거리(m)와 함께 기록합니다. 반경은 cwaccmap.radius-m(기본 500m)이며
+ * 요청마다 바꿔 300m / 1km 등을 시험할 수 있습니다. 위험지수는 500m 밖의 쌍에 가중치 0을 주므로
+ * 반경을 넓혀도 점수는 바뀌지 않고 쌍만 늘어납니다.
+ * <p>
+ * {@link SpatialJoin}의 결과를 한 트랜잭션 안에서 기존 행 삭제 후 JDBC 배치로 흘려 쓰고,
+ * 끝나면 {@link Dataset#CW_ACC_MAP} 변경 이벤트로 인접 목록과 위험지수를 다시 계산하게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CwAccMapRebuildService {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    /** 실수로 전국 쌍이 폭증하지 않도록 하는 반경 상한(m) */
+    public static final double MAX_RADIUS_M = 2_000;
+
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+    private final AccidentHotspotIndexHolder hotspotIndexHolder;
+    private final CwAccMapWriteRepository writeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cwaccmap.radius-m:500}")
+    private double defaultRadiusM;
+
+    @Value("${cwaccmap.parallelism:0}")
+    private int parallelism;
+
+    /**
+     * 재생성합니다. 인덱스가 준비되지 않았으면 {@link IllegalStateException}을 던집니다.
+     *
+     * @param radiusM 반경(m). null이면 cwaccmap.radius-m
+     */
+    public synchronized SpatialJoinReport rebuild(Double radiusM) {
+        double radius = radiusM == null ? defaultRadiusM : radiusM;
+        if (radius <= 0 || radius > MAX_RADIUS_M) {
+            throw new IllegalArgumentException("반경은 0m 초과 " + (int) MAX_RADIUS_M + "m 이하여야 합니다.");
+        }
+
+        CrosswalkIndex crosswalks = crosswalkIndexHolder.get();
+        AccidentHotspotIndex hotspots = hotspotIndexHolder.get();
+        if (crosswalks == null || hotspots == null) {
+            throw new IllegalStateException("횡단보도 또는 사고 다발 지점 인덱스가 아직 준비되지 않았습니다.");
+        }
+
+        int n = crosswalks.size();
+        double[] cwLat = new double[n], cwLon = new double[n];
+        for (int i = 0; i < n; i++) {
+            cwLat[i] = crosswalks.lat(i);
+            cwLon[i] = crosswalks.lon(i);
+        }
+        int m = hotspots.size();
+        double[] accLat = new double[m], accLon = new double[m];
+        for (int j = 0; j < m; j++) {
+            accLat[j] = hotspots.lat(j);
+            accLon[j] = hotspots.lon(j);
+        }
+
+        long started = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        try {
+            Long pairs = transactionTemplate.execute(status -> {
+                writeRepository.deleteAll();
+                List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+                try {
+                    long found = SpatialJoin.run(cwLat, cwLon, accLat, accLon, null, radius, pool, chunk -> {
+                        for (int k = 0; k < chunk.size(); k++) {
+                            batch.add(new Object[]{
+                                    crosswalks.cwUid(chunk.left()[k]),
+                                    hotspots.accidentId(chunk.right()[k]),
+                                    Math.round(chunk.distanceM()[k] * 1000.0) / 1000.0});
+                            if (batch.size() == BATCH_SIZE) {
+                                writeRepository.insertBatch(batch);
+                                batch.clear();
+                            }
+                        }
+                    });
+                    if (!batch.isEmpty()) {
+                        writeRepository.insertBatch(batch);
+                    }
+                    return found;
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException("cw_acc_map 공간 조인 실패", e);
+                }
+            });
+
+            SpatialJoinReport report = SpatialJoinReport.of("cw_acc_map", radius, n, m,
+                    pairs == null ? 0 : pairs, System.nanoTime() - started);
+            log.info("cw_acc_map 재생성: {}", report);
+            eventPublisher.publishEvent(new DatasetChangedEvent(Dataset.CW_ACC_MAP));
+            return report;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
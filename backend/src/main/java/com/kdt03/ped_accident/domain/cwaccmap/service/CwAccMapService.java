@@ -0,0 +1,63 @@
+package com.kdt03.ped_accident.domain.cwaccmap.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.kdt03.ped_accident.api.dto.response.CrosswalkNeighborsDto;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskHolder;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskScores;
+import com.kdt03.ped_accident.domain.cwaccmap.index.CwAccGraph;
+import com.kdt03.ped_accident.domain.cwaccmap.index.CwAccGraphHolder;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CwAccMapService {
+
+    private final CwAccGraphHolder cwAccGraphHolder;
+    private final CrosswalkRiskHolder crosswalkRiskHolder;
+
+    /**
+     * 여러 횡단보도의 주변 사고 다발 지점을 한 번에 반환합니다. 요청 순서를 유지하며, 모르는 ID는 빈 목록입니다.
+     * 인접 목록이 아직 없으면 null입니다.
+     * <p>
+     * 메모리 인접 목록({@link CwAccGraph})의 구간만 읽으므로 횡단보도 수와 무관하게 DB 조회가 없습니다.
+     *
+     * @param maxPerCrosswalk 횡단보도별 최대 이웃 수 (가까운 순)
+     */
+    public List<CrosswalkNeighborsDto> getNeighbors(List<String> cwUids, int maxPerCrosswalk) {
+        CwAccGraph graph = cwAccGraphHolder.get();
+        if (graph == null) {
+            return null;
+        }
+        CrosswalkIndex crosswalks = graph.crosswalks();
+        AccidentHotspotIndex hotspots = graph.hotspots();
+        CrosswalkRiskScores risk = crosswalkRiskHolder.get(crosswalks);
+
+        List<CrosswalkNeighborsDto> out = new ArrayList<>(cwUids.size());
+        for (String cwUid : cwUids) {
+            int i = crosswalks.ordinal(cwUid);
+            List<CrosswalkNeighborsDto.Neighbor> neighbors = new ArrayList<>();
+            if (i >= 0) {
+                int end = Math.min(graph.end(i), graph.begin(i) + maxPerCrosswalk);
+                for (int k = graph.begin(i); k < end; k++) {
+                    neighbors.add(CrosswalkNeighborsDto.Neighbor.builder()
+                            .distance((double) graph.distance(k))
+                            .hotspot(hotspots.toDto(graph.hotspot(k)))
+                            .build());
+                }
+            }
+            out.add(CrosswalkNeighborsDto.builder()
+                    .cw_uid(cwUid)
+                    .riskScore(i >= 0 && risk != null ? risk.risk(i) : null)
+                    .hotspots(neighbors)
+                    .build());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,33 @@
+package com.kdt03.ped_accident.domain.cwsigmap.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * crosswalk_signal_map을 통째로 다시 쓸 때 쓰는 JDBC 배치 리포지토리입니다.
+ * 호출자가 트랜잭션을 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CwSigMapWriteRepository {
+
+    private static final String INSERT =
+            "INSERT INTO crosswalk_signal_map (cw_uid, sg_uid, distance_m, confidence) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int deleteAll() {
+        return jdbcTemplate.update("DELETE FROM crosswalk_signal_map");
+    }
+
+    /**
+     * @param rows (cw_uid, sg_uid, distance_m, confidence)
+     */
+    public void insertBatch(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+}
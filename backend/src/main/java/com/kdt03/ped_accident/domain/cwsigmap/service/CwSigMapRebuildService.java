@@ -0,0 +1,140 @@
+package com.kdt03.ped_accident.domain.cwsigmap.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.cwsigmap.repository.CwSigMapWriteRepository;
+import com.kdt03.ped_accident.domain.signal.index.TrafficSignalIndex;
+import com.kdt03.ped_accident.domain.signal.index.TrafficSignalIndexHolder;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+import com.kdt03.ped_accident.global.spatial.SpatialJoin;
+import com.kdt03.ped_accident.global.spatial.SpatialJoinReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * crosswalk_signal_map을 서버에서 다시 만듭니다. (기존 cw_sg_map.ipynb와 같은 규칙)
+ * <ul>
+ *   <li>보행자 신호(signal_type '02')만 대상</li>
+ *   <li>횡단보도에서 반경 cwsigmap.radius-m(기본 30m) 안의 모든 신호</li>
+ *   <li>confidence = 1 - distance_m / 반경 (0~1)</li>
+ * </ul>
+ * 메모리의 횡단보도·신호 인덱스 좌표로 {@link SpatialJoin}을 돌리고, 결과를 한 트랜잭션 안에서
+ * 기존 행 삭제 후 JDBC 배치로 씁니다. 끝나면 {@link Dataset#CROSSWALK_SIGNAL_MAP} 변경 이벤트를 보내
+ * 신호 커버리지 컬럼과 인덱스를 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CwSigMapRebuildService {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    /** confidence 컬럼이 DECIMAL(6,6)이라 1.0은 담을 수 없습니다. */
+    private static final double MAX_CONFIDENCE = 0.999999;
+
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+    private final TrafficSignalIndexHolder trafficSignalIndexHolder;
+    private final CwSigMapWriteRepository writeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cwsigmap.radius-m:30}")
+    private double radiusM;
+
+    @Value("${cwsigmap.signal-type:02}")
+    private String signalType;
+
+    /**
+     * 재생성합니다. 인덱스가 준비되지 않았으면 {@link IllegalStateException}을 던집니다.
+     */
+    public synchronized SpatialJoinReport rebuild() {
+        CrosswalkIndex crosswalks = crosswalkIndexHolder.get();
+        TrafficSignalIndex signals = trafficSignalIndexHolder.get();
+        if (crosswalks == null || signals == null) {
+            throw new IllegalStateException("횡단보도 또는 신호 인덱스가 아직 준비되지 않았습니다.");
+        }
+
+        int n = crosswalks.size();
+        double[] cwLat = new double[n], cwLon = new double[n];
+        for (int i = 0; i < n; i++) {
+            cwLat[i] = crosswalks.lat(i);
+            cwLon[i] = crosswalks.lon(i);
+        }
+        int m = signals.size();
+        double[] sgLat = new double[m], sgLon = new double[m];
+        boolean[] target = new boolean[m];
+        int pedestrian = 0;
+        for (int j = 0; j < m; j++) {
+            sgLat[j] = signals.lat(j);
+            sgLon[j] = signals.lon(j);
+            target[j] = isTargetType(signals.signalType(j));
+            if (target[j]) pedestrian++;
+        }
+
+        long started = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            Long pairs = transactionTemplate.execute(status -> {
+                writeRepository.deleteAll();
+                List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+                try {
+                    long found = SpatialJoin.run(cwLat, cwLon, sgLat, sgLon, j -> target[j],
+                            radiusM, pool, chunk -> {
+                                for (int k = 0; k < chunk.size(); k++) {
+                                    double d = chunk.distanceM()[k];
+                                    batch.add(new Object[]{
+                                            crosswalks.cwUid(chunk.left()[k]),
+                                            signals.sgUid(chunk.right()[k]),
+                                            Math.round(d * 1000) / 1000.0,
+                                            confidence(d)});
+                                    if (batch.size() == BATCH_SIZE) {
+                                        writeRepository.insertBatch(batch);
+                                        batch.clear();
+                                    }
+                                }
+                            });
+                    if (!batch.isEmpty()) {
+                        writeRepository.insertBatch(batch);
+                    }
+                    return found;
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException("crosswalk_signal_map 공간 조인 실패", e);
+                }
+            });
+
+            SpatialJoinReport report = SpatialJoinReport.of("crosswalk_signal_map", radiusM, n, pedestrian,
+                    pairs == null ? 0 : pairs, System.nanoTime() - started);
+            log.info("crosswalk_signal_map 재생성: {}", report);
+            eventPublisher.publishEvent(new DatasetChangedEvent(Dataset.CROSSWALK_SIGNAL_MAP));
+            return report;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private double confidence(double distanceM) {
+        double c = Math.max(0, 1 - distanceM / radiusM);
+        return Math.min(MAX_CONFIDENCE, Math.round(c * 1_000_000) / 1_000_000.0);
+    }
+
+    /** CSV에서 "2"처럼 앞자리 0이 빠진 값도 같은 종류로 봅니다. */
+    private boolean isTargetType(String type) {
+        if (type == null) return false;
+        String t = type.trim();
+        while (t.length() < signalType.length()) t = "0" + t;
+        return t.equals(signalType);
+    }
+}
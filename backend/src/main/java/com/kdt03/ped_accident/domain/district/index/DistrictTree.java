@@ -0,0 +1,148 @@
+package com.kdt03.ped_accident.domain.district.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kdt03.ped_accident.api.dto.response.CityDto;
+import com.kdt03.ped_accident.api.dto.response.ProvinceDto;
+import com.kdt03.ped_accident.domain.district.entity.DistrictWithLatLon;
+
+/**
+ * 법정동(district_with_lat_lon)으로 만든 불변 시도 → 시군구 → 읍면동 트리입니다.
+ * <p>
+ * 각 노드의 중심 좌표는 하위 법정동 중심 좌표의 평균이며, 기존 {@code DistrictService}의 계산과 같습니다.
+ * 대시보드 응답 목록({@link ProvinceDto}, {@link CityDto})도 생성 시점에 미리 만들어 두므로
+ * 조회는 맵 조회 한 번으로 끝납니다.
+ */
+public final class DistrictTree {
+
+    public record Province(String name, String code, double lat, double lon, List<City> cities) {
+    }
+
+    public record City(String name, String code, double lat, double lon, List<Dong> dongs) {
+    }
+
+    /** @param name 시군구 이후의 법정동 이름 (예: "청운동", "진접읍 내각리") */
+    public record Dong(String name, String code, double lat, double lon) {
+    }
+
+    private final List<Province> provinces;
+    private final Map<String, Province> provinceByName;
+
+    private final List<ProvinceDto> provinceDtos;
+    private final Map<String, List<CityDto>> cityDtosByProvince;
+
+    private DistrictTree(List<Province> provinces) {
+        this.provinces = provinces;
+
+        Map<String, Province> byName = new HashMap<>();
+        List<ProvinceDto> provinceDtos = new ArrayList<>(provinces.size());
+        Map<String, List<CityDto>> cityDtos = new HashMap<>();
+        for (Province p : provinces) {
+            byName.put(p.name(), p);
+            provinceDtos.add(ProvinceDto.builder().province(p.name()).lat(p.lat()).lon(p.lon()).build());
+            cityDtos.put(p.name(), p.cities().stream()
+                    .map(c -> CityDto.builder()
+                            .city(c.name())
+                            .lat(c.lat())
+                            .lon(c.lon())
+                            .key(p.name() + "|" + c.name())
+                            .build())
+                    .toList());
+        }
+        this.provinceByName = Map.copyOf(byName);
+        this.provinceDtos = List.copyOf(provinceDtos);
+        this.cityDtosByProvince = Map.copyOf(cityDtos);
+    }
+
+    public static DistrictTree from(List<DistrictWithLatLon> rows) {
+        Map<String, Node> provinces = new LinkedHashMap<>();
+
+        for (DistrictWithLatLon d : rows) {
+            if (d.getBjdNm() == null) continue;
+            String[] tokens = d.getBjdNm().trim().split("\\s+");
+            Double lat = d.getCenterLati();
+            Double lon = d.getCenterLong();
+            if (tokens[0].isEmpty() || lat == null || lon == null) continue;
+
+            Node province = provinces.computeIfAbsent(tokens[0], k -> new Node());
+            province.add(d.getBjdCd(), 2, lat, lon);
+            if (tokens.length < 2) continue;
+
+            Node city = province.child(tokens[1]);
+            city.add(d.getBjdCd(), 5, lat, lon);
+            if (tokens.length < 3) continue;
+
+            Node dong = city.child(String.join(" ", List.of(tokens).subList(2, tokens.length)));
+            dong.add(d.getBjdCd(), 10, lat, lon);
+        }
+
+        List<Province> out = new ArrayList<>(provinces.size());
+        provinces.forEach((provinceName, p) -> {
+            List<City> cities = new ArrayList<>(p.children.size());
+            p.children.forEach((cityName, c) -> {
+                List<Dong> dongs = new ArrayList<>(c.children.size());
+                c.children.forEach((dongName, n) -> dongs.add(new Dong(dongName, n.code, n.avgLat(), n.avgLon())));
+                dongs.sort(Comparator.comparing(Dong::name));
+                cities.add(new City(cityName, c.code, c.avgLat(), c.avgLon(), List.copyOf(dongs)));
+            });
+            cities.sort(Comparator.comparing(City::name));
+            out.add(new Province(provinceName, p.code, p.avgLat(), p.avgLon(), List.copyOf(cities)));
+        });
+        out.sort(Comparator.comparing(Province::name));
+        return new DistrictTree(List.copyOf(out));
+    }
+
+    public List<Province> provinces() {
+        return provinces;
+    }
+
+    /** 이름으로 시도를 찾습니다. 없으면 null입니다. */
+    public Province province(String name) {
+        return provinceByName.get(name);
+    }
+
+    /** 시도 목록 응답 (이름순, 불변) */
+    public List<ProvinceDto> provinceDtos() {
+        return provinceDtos;
+    }
+
+    /** 시도의 시군구 목록 응답 (이름순, 불변). 없는 시도면 빈 목록입니다. */
+    public List<CityDto> cityDtos(String province) {
+        return cityDtosByProvince.getOrDefault(province, List.of());
+    }
+
+    /** 빌드 중에만 쓰는 가변 노드 */
+    private static final class Node {
+        final Map<String, Node> children = new LinkedHashMap<>();
+        String code;
+        double sumLat;
+        double sumLon;
+        int count;
+
+        Node child(String name) {
+            return children.computeIfAbsent(name, k -> new Node());
+        }
+
+        void add(String bjdCd, int codeLength, double lat, double lon) {
+            if (code == null && bjdCd != null && bjdCd.length() >= codeLength) {
+                code = bjdCd.substring(0, codeLength);
+            }
+            sumLat += lat;
+            sumLon += lon;
+            count++;
+        }
+
+        double avgLat() {
+            return count > 0 ? sumLat / count : 0;
+        }
+
+        double avgLon() {
+            return count > 0 ? sumLon / count : 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.kdt03.ped_accident.domain.district.index;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.district.repository.DistrictWithLatLonRepository;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 유효한 {@link DistrictTree}를 보관합니다.
+ * <p>
+ * 기동 시 한 번 만들고, district_with_lat_lon을 다시 넣은 뒤
+ * {@code POST /api/admin/datasets/DISTRICT_WITH_LAT_LON/changed}가 호출되면 새 트리로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistrictTreeHolder {
+
+    private final DistrictWithLatLonRepository districtWithLatLonRepository;
+
+    private final AtomicReference<DistrictTree> current = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("행정구역 트리 적재 실패, DB 조회로 대체합니다.", e);
+        }
+    }
+
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.dataset() == Dataset.DISTRICT_WITH_LAT_LON) {
+            reload();
+        }
+    }
+
+    public DistrictTree reload() {
+        long started = System.nanoTime();
+        DistrictTree tree = DistrictTree.from(districtWithLatLonRepository.findAllDistricts());
+        current.set(tree);
+        log.info("행정구역 트리 적재 완료: 시도 {}곳, {}ms", tree.provinces().size(), (System.nanoTime() - started) / 1_000_000);
+        return tree;
+    }
+
+    /**
+     * 현재 트리를 반환합니다. 아직 적재되지 않았으면 null입니다.
+     */
+    public DistrictTree get() {
+        return current.get();
+    }
+}
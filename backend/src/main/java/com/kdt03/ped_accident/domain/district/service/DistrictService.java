@@ -11,6 +11,8 @@ import com.kdt03.ped_accident.api.dto.response.CityDto;
 import com.kdt03.ped_accident.api.dto.response.ProvinceDto;
 import com.kdt03.ped_accident.domain.accident.repository.AccidentRepository;
 import com.kdt03.ped_accident.domain.district.entity.DistrictWithLatLon;
+import com.kdt03.ped_accident.domain.district.index.DistrictTree;
+import com.kdt03.ped_accident.domain.district.index.DistrictTreeHolder;
 import com.kdt03.ped_accident.domain.district.repository.DistrictCityDto;
 import com.kdt03.ped_accident.domain.district.repository.DistrictRepository;
 import com.kdt03.ped_accident.domain.district.repository.DistrictWithLatLonRepository;
@@ -25,8 +27,15 @@ public class DistrictService {
     private final DistrictWithLatLonRepository districtWithLatLonRepository;
     private final AccidentRepository accidentRepository; 
     private final DistrictRepository districtRepository;
+    private final DistrictTreeHolder districtTreeHolder;
     
     public List<CityDto> getCitiesByProvince(String province) {
+        // 미리 만들어 둔 트리가 있으면 DB를 거치지 않습니다.
+        DistrictTree tree = districtTreeHolder.get();
+        if (tree != null) {
+            return tree.cityDtos(province);
+        }
+
         List<DistrictWithLatLon> districts = districtWithLatLonRepository.findByProvincePrefix(province + " ");
         
         Map<String, CityAccumulator> cityMap = new HashMap<>();
@@ -64,6 +73,11 @@ public class DistrictService {
     }
 
     public List<ProvinceDto> getProvinces() {
+        DistrictTree tree = districtTreeHolder.get();
+        if (tree != null) {
+            return tree.provinceDtos();
+        }
+
         List<DistrictWithLatLon> districts = districtWithLatLonRepository.findAllDistricts();
         
         Map<String, CityAccumulator> provinceMap = new HashMap<>();
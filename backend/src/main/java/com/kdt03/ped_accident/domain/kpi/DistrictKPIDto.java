@@ -0,0 +1,24 @@
+package com.kdt03.ped_accident.domain.kpi;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 행정구역(시도 2자리 / 시군구 5자리 코드) 단위 KPI입니다. 각 값의 의미는 {@link KPISummaryDto}와 같습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistrictKPIDto {
+	private String districtCode;
+	private int totalCrosswalks;
+	private int crosswalksWithSignals;
+	private int directSignals;
+	private int mappedSignals;
+	private double signalInstallationRate;
+	private double riskIndex;
+	private double safetyIndex;
+}
@@ -0,0 +1,16 @@
+package com.kdt03.ped_accident.domain.kpi.engine;
+
+import java.util.List;
+
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskScores;
+import com.kdt03.ped_accident.domain.kpi.DistrictKPIDto;
+
+/**
+ * 행정구역별 KPI 계산 결과입니다. 두 목록 모두 코드순입니다.
+ *
+ * @param source  계산에 쓴 위험지수. 이 참조가 바뀌면(위험지수 재계산) 결과도 다시 계산합니다.
+ * @param sido    시도(코드 앞 2자리) 단위
+ * @param sigungu 시군구(코드 앞 5자리) 단위
+ */
+public record DistrictKpis(CrosswalkRiskScores source, List<DistrictKPIDto> sido, List<DistrictKPIDto> sigungu) {
+}
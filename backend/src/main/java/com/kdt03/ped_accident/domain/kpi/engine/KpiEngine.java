@@ -0,0 +1,232 @@
+package com.kdt03.ped_accident.domain.kpi.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskHolder;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskScores;
+import com.kdt03.ped_accident.domain.kpi.DistrictKPIDto;
+import com.kdt03.ped_accident.domain.kpi.KPISummaryDto;
+import com.kdt03.ped_accident.global.score.CrosswalkScoring;
+import com.kdt03.ped_accident.global.score.SafetyScoreTable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메모리의 횡단보도·사고 다발 지점 스냅샷과 cw_acc_map으로 전국 KPI를 계산합니다.
+ * <ul>
+ *   <li>신호 설치율: 신호가 있는(직접 + 매핑) 횡단보도 비율(%)</li>
+ *   <li>위험지수: 횡단보도별 위험지수의 평균. 반경 500m 안 사고가 없으면 0</li>
+ *   <li>안전지수: 횡단보도별 안전지수의 평균</li>
+ * </ul>
+ * 횡단보도별 점수 계산식은 {@link CrosswalkScoring}을 따르며, 위험지수는 {@link CrosswalkRiskHolder}가
+ * 미리 계산해 둔 값을, 안전지수는 {@link SafetyScoreTable} 조회표를 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KpiEngine {
+
+    /** 병렬 집계 시 한 작업이 맡는 최소 횡단보도 수 */
+    private static final int MIN_CHUNK = 8_192;
+
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+    private final AccidentHotspotIndexHolder hotspotIndexHolder;
+    private final CrosswalkRiskHolder crosswalkRiskHolder;
+    private final SafetyScoreTable safetyScoreTable;
+
+    private final AtomicReference<DistrictKpis> districtKpis = new AtomicReference<>();
+
+    /**
+     * KPI를 계산합니다. 메모리 인덱스가 아직 준비되지 않았으면 null입니다.
+     */
+    public KPISummaryDto compute() {
+        CrosswalkIndex crosswalks = crosswalkIndexHolder.get();
+        AccidentHotspotIndex hotspots = hotspotIndexHolder.get();
+        if (crosswalks == null || hotspots == null) {
+            return null;
+        }
+
+        CrosswalkRiskScores risk = riskScores(crosswalks);
+        if (risk == null) {
+            return null;
+        }
+
+        int n = crosswalks.size();
+
+        int withSignals = 0, direct = 0, mapped = 0;
+        double riskSum = 0, safetySum = 0;
+        for (int i = 0; i < n; i++) {
+            if (crosswalks.isDirectSignal(i)) direct++;
+            else if (crosswalks.isMappedSignal(i)) mapped++;
+            if (crosswalks.hasSignal(i)) withSignals++;
+
+            riskSum += risk.risk(i);
+            safetySum += safetyScoreTable.index(crosswalks.facilityMask(i));
+        }
+
+        return new KPISummaryDto(
+                n,
+                withSignals,
+                direct,
+                mapped,
+                n == 0 ? 0 : CrosswalkScoring.round2(withSignals * 100.0 / n),
+                n == 0 ? 0 : CrosswalkScoring.round2(riskSum / n),
+                n == 0 ? 0 : CrosswalkScoring.round2(safetySum / n));
+    }
+
+    /**
+     * 시도·시군구별 KPI를 반환합니다. 메모리 인덱스가 아직 준비되지 않았으면 null입니다.
+     * <p>
+     * 횡단보도 배열을 구간으로 나눠 병렬로 한 번 훑으며, 구간마다 시군구 번호로 인덱싱한 primitive 배열에
+     * 누적한 뒤 마지막에 합칩니다. 시도는 시군구 결과를 코드 앞 2자리로 묶어 만듭니다.
+     * 결과는 위험지수({@link CrosswalkRiskScores})가 바뀔 때까지 재사용합니다.
+     */
+    public DistrictKpis computeByDistrict() {
+        CrosswalkIndex crosswalks = crosswalkIndexHolder.get();
+        AccidentHotspotIndex hotspots = hotspotIndexHolder.get();
+        if (crosswalks == null || hotspots == null) {
+            return null;
+        }
+
+        CrosswalkRiskScores scores = riskScores(crosswalks);
+        if (scores == null) {
+            return null;
+        }
+        DistrictKpis cached = districtKpis.get();
+        if (cached != null && cached.source() == scores) {
+            return cached;
+        }
+
+        // 인덱스의 행정구역 코드 사전 번호 → 시군구(앞 5자리) 번호
+        int districts = crosswalks.districtCount();
+        String[] prefixes = new String[districts];
+        for (int d = 0; d < districts; d++) {
+            String code = crosswalks.districtCode(d);
+            prefixes[d] = code.substring(0, Math.min(5, code.length()));
+        }
+        String[] sigunguCodes = Arrays.stream(prefixes).distinct().sorted().toArray(String[]::new);
+        int[] sigunguOf = new int[districts];
+        for (int d = 0; d < districts; d++) {
+            sigunguOf[d] = Arrays.binarySearch(sigunguCodes, prefixes[d]);
+        }
+
+        int n = crosswalks.size();
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, n / MIN_CHUNK));
+        Accumulator total = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> Accumulator.scan(crosswalks, scores, safetyScoreTable, sigunguOf, sigunguCodes.length,
+                        (int) ((long) n * c / chunks), (int) ((long) n * (c + 1) / chunks)))
+                .reduce(Accumulator::merge)
+                .orElseGet(() -> new Accumulator(sigunguCodes.length));
+
+        List<DistrictKPIDto> sigungu = total.toDtos(sigunguCodes);
+        List<DistrictKPIDto> sido = rollUpSido(total, sigunguCodes);
+
+        DistrictKpis next = new DistrictKpis(scores, sido, sigungu);
+        districtKpis.set(next);
+        return next;
+    }
+
+    /**
+     * 현재 횡단보도 인덱스로 계산된 위험지수를 반환합니다. 아직 없으면 한 번 계산합니다.
+     */
+    private CrosswalkRiskScores riskScores(CrosswalkIndex crosswalks) {
+        CrosswalkRiskScores scores = crosswalkRiskHolder.get(crosswalks);
+        if (scores == null) {
+            scores = crosswalkRiskHolder.reload();
+        }
+        return scores != null && scores.isFor(crosswalks) ? scores : null;
+    }
+
+    private static List<DistrictKPIDto> rollUpSido(Accumulator bySigungu, String[] sigunguCodes) {
+        String[] sidoCodes = Arrays.stream(sigunguCodes)
+                .map(code -> code.substring(0, Math.min(2, code.length())))
+                .distinct().sorted().toArray(String[]::new);
+        Accumulator bySido = new Accumulator(sidoCodes.length);
+        for (int s = 0; s < sigunguCodes.length; s++) {
+            String code = sigunguCodes[s];
+            bySido.add(Arrays.binarySearch(sidoCodes, code.substring(0, Math.min(2, code.length()))), bySigungu, s);
+        }
+        return bySido.toDtos(sidoCodes);
+    }
+
+    /**
+     * 구역 번호별 합계입니다. 한 구간을 한 스레드가 채우므로 동기화가 필요 없습니다.
+     */
+    private static final class Accumulator {
+        final int[] total;
+        final int[] withSignals;
+        final int[] direct;
+        final int[] mapped;
+        final double[] riskSum;
+        final double[] safetySum;
+
+        Accumulator(int size) {
+            total = new int[size];
+            withSignals = new int[size];
+            direct = new int[size];
+            mapped = new int[size];
+            riskSum = new double[size];
+            safetySum = new double[size];
+        }
+
+        static Accumulator scan(CrosswalkIndex crosswalks, CrosswalkRiskScores risk, SafetyScoreTable safety, int[] regionOf, int regions, int from, int to) {
+            Accumulator acc = new Accumulator(regions);
+            for (int i = from; i < to; i++) {
+                int d = crosswalks.districtOrdinal(i);
+                if (d < 0) continue;
+                int r = regionOf[d];
+
+                acc.total[r]++;
+                if (crosswalks.isDirectSignal(i)) acc.direct[r]++;
+                else if (crosswalks.isMappedSignal(i)) acc.mapped[r]++;
+                if (crosswalks.hasSignal(i)) acc.withSignals[r]++;
+                acc.riskSum[r] += risk.risk(i);
+                acc.safetySum[r] += safety.index(crosswalks.facilityMask(i));
+            }
+            return acc;
+        }
+
+        Accumulator merge(Accumulator other) {
+            for (int r = 0; r < total.length; r++) {
+                add(r, other, r);
+            }
+            return this;
+        }
+
+        void add(int r, Accumulator other, int o) {
+            total[r] += other.total[o];
+            withSignals[r] += other.withSignals[o];
+            direct[r] += other.direct[o];
+            mapped[r] += other.mapped[o];
+            riskSum[r] += other.riskSum[o];
+            safetySum[r] += other.safetySum[o];
+        }
+
+        List<DistrictKPIDto> toDtos(String[] codes) {
+            List<DistrictKPIDto> out = new ArrayList<>(codes.length);
+            for (int r = 0; r < codes.length; r++) {
+                int n = total[r];
+                if (n == 0) continue;
+                out.add(new DistrictKPIDto(
+                        codes[r],
+                        n,
+                        withSignals[r],
+                        direct[r],
+                        mapped[r],
+                        CrosswalkScoring.round2(withSignals[r] * 100.0 / n),
+                        CrosswalkScoring.round2(riskSum[r] / n),
+                        CrosswalkScoring.round2(safetySum[r] / n)));
+            }
+            return out;
+        }
+    }
+}
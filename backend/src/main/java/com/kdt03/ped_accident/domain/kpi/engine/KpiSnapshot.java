@@ -0,0 +1,16 @@
+package com.kdt03.ped_accident.domain.kpi.engine;
+
+import java.time.Instant;
+
+import com.kdt03.ped_accident.domain.kpi.KPISummaryDto;
+
+/**
+ * 한 시점에 계산된 KPI 결과입니다. 응답 본문은 미리 직렬화해 두고 그대로 내보냅니다.
+ *
+ * @param summary    계산 결과
+ * @param json       summary를 직렬화한 응답 본문
+ * @param etag       본문 내용으로 만든 ETag (내용이 같으면 재계산해도 같습니다)
+ * @param computedAt 계산 시각
+ */
+public record KpiSnapshot(KPISummaryDto summary, byte[] json, String etag, Instant computedAt) {
+}
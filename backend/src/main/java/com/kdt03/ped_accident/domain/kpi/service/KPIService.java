@@ -1,19 +1,111 @@
 package com.kdt03.ped_accident.domain.kpi.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskHolder;
+import com.kdt03.ped_accident.domain.kpi.KPISummaryDto;
+import com.kdt03.ped_accident.domain.kpi.engine.DistrictKpis;
+import com.kdt03.ped_accident.domain.kpi.engine.KpiEngine;
+import com.kdt03.ped_accident.domain.kpi.engine.KpiSnapshot;
 import com.kdt03.ped_accident.domain.kpi.repository.KPIRepository;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * KPI 스냅샷을 보관합니다.
+ * <p>
+ * {@link KpiEngine}으로 계산한 결과를 직렬화된 바이트와 ETag로 묶어 두고, 일정 주기(kpi.snapshot.refresh-ms)와
+ * 데이터셋 변경 시 새로 계산해 참조만 원자적으로 교체합니다. 요청은 계산이나 JSON 파싱 없이 바이트를 그대로 받습니다.
+ * 스냅샷이 아직 없으면 기존처럼 v_kpi_summary_fast 뷰를 읽습니다.
+ * 횡단보도 위험지수({@link CrosswalkRiskHolder})는 데이터셋 변경 때 따로 다시 계산되므로 주기 갱신은 KPI만 계산합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KPIService {
 
     private final KPIRepository repository;
     private final ObjectMapper objectMapper;
+    private final KpiEngine kpiEngine;
+
+    private final AtomicReference<KpiSnapshot> snapshot = new AtomicReference<>();
+
+    /** 횡단보도·사고 다발 지점 인덱스 적재(@Order(10)) 이후에 실행됩니다. */
+    @Order(20)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        refreshQuietly();
+    }
+
+    @Scheduled(fixedDelayString = "${kpi.snapshot.refresh-ms:600000}",
+               initialDelayString = "${kpi.snapshot.refresh-ms:600000}")
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    /** 인덱스를 다시 적재하는 리스너들보다 뒤에 실행되도록 순서를 늦춥니다. */
+    @Order(100)
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        refreshQuietly();
+    }
+
+    /**
+     * KPI를 다시 계산해 스냅샷을 교체합니다. 인덱스가 준비되지 않았으면 기존 스냅샷을 그대로 둡니다.
+     */
+    public synchronized KpiSnapshot refresh() {
+        long started = System.nanoTime();
+        KPISummaryDto summary = kpiEngine.compute();
+        if (summary == null) {
+            return snapshot.get();
+        }
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(summary);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("KPI 직렬화 실패", e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        KpiSnapshot next = new KpiSnapshot(summary, json, "\"kpi-" + Long.toHexString(crc.getValue()) + "\"", Instant.now());
+        snapshot.set(next);
+
+        log.info("KPI 스냅샷 갱신: ETag {}, {}B, {}ms", next.etag(), json.length, (System.nanoTime() - started) / 1_000_000);
+        if (log.isDebugEnabled()) {
+            log.debug("KPI 스냅샷 내용: {}", new String(json, StandardCharsets.UTF_8));
+        }
+        return next;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 계산되지 않았으면 null입니다.
+     */
+    public KpiSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 시도·시군구별 KPI를 반환합니다. 인덱스가 준비되지 않았으면 null입니다.
+     * 위험지수가 그대로면 이전 결과를 재사용합니다.
+     */
+    public DistrictKpis getDistrictKpis() {
+        return kpiEngine.computeByDistrict();
+    }
 
     public JsonNode getKpiSummary() {
         try {
@@ -23,4 +115,12 @@ public class KPIService {
             throw new IllegalStateException("KPI JSON 파싱 실패", e);
         }
     }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("KPI 스냅샷 계산 실패, 이전 스냅샷을 유지합니다.", e);
+        }
+    }
 }
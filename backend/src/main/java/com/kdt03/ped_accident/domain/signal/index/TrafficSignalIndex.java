@@ -0,0 +1,128 @@
+package com.kdt03.ped_accident.domain.signal.index;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import com.kdt03.ped_accident.domain.signal.repository.TrafficSignalPointProjection;
+import com.kdt03.ped_accident.global.spatial.ClusterPyramid;
+import com.kdt03.ped_accident.global.spatial.ClusterPyramid.Cluster;
+import com.kdt03.ped_accident.global.spatial.GridIndex;
+
+/**
+ * 신호등(signals)의 불변 메모리 스냅샷입니다.
+ * 배열 인덱스(ordinal)가 신호등 번호이며, 좌표는 {@link GridIndex}로 색인합니다.
+ */
+public final class TrafficSignalIndex {
+
+    /** 스냅샷마다 증가하는 버전. 캐시 키와 ETag에 사용합니다. */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /** 격자 셀 크기(도). 약 1km */
+    static final double CELL_DEG = 0.01;
+
+    private static final byte NULL = -1;
+
+    private final String[] sgUid;
+    private final String[] signalType;
+    private final byte[] hasPedButton;
+    private final byte[] hasTimeShow;
+    private final byte[] hasSoundSignal;
+
+    private final long version = VERSIONS.incrementAndGet();
+    private final GridIndex grid;
+    private final ClusterPyramid clusters;
+
+    private TrafficSignalIndex(String[] sgUid, String[] signalType, byte[] hasPedButton, byte[] hasTimeShow,
+                               byte[] hasSoundSignal, GridIndex grid, ClusterPyramid clusters) {
+        this.sgUid = sgUid;
+        this.signalType = signalType;
+        this.hasPedButton = hasPedButton;
+        this.hasTimeShow = hasTimeShow;
+        this.hasSoundSignal = hasSoundSignal;
+        this.grid = grid;
+        this.clusters = clusters;
+    }
+
+    public static TrafficSignalIndex from(List<TrafficSignalPointProjection> rows, int clusterMinZoom, int clusterMaxZoom) {
+        int n = rows.size();
+        String[] sgUid = new String[n];
+        String[] signalType = new String[n];
+        byte[] hasPedButton = new byte[n];
+        byte[] hasTimeShow = new byte[n];
+        byte[] hasSoundSignal = new byte[n];
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            TrafficSignalPointProjection r = rows.get(i);
+            sgUid[i] = r.getSgUid();
+            signalType[i] = r.getSignalType();
+            hasPedButton[i] = pack(r.getHasPedButton());
+            hasTimeShow[i] = pack(r.getHasTimeShow());
+            hasSoundSignal[i] = pack(r.getHasSoundSignal());
+            lat[i] = r.getSignalLat() == null ? Double.NaN : r.getSignalLat();
+            lon[i] = r.getSignalLon() == null ? Double.NaN : r.getSignalLon();
+        }
+
+        return new TrafficSignalIndex(sgUid, signalType, hasPedButton, hasTimeShow, hasSoundSignal,
+                GridIndex.build(lat, lon, CELL_DEG),
+                ClusterPyramid.build(lat, lon, new int[0][], clusterMinZoom, clusterMaxZoom));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return sgUid.length;
+    }
+
+    public boolean forEachInBounds(double south, double west, double north, double east, IntPredicate visitor) {
+        return grid.forEach(south, west, north, east, visitor);
+    }
+
+    public double lat(int i) {
+        return grid.lat(i);
+    }
+
+    public double lon(int i) {
+        return grid.lon(i);
+    }
+
+    public String signalType(int i) {
+        return signalType[i];
+    }
+
+    public String sgUid(int i) {
+        return sgUid[i];
+    }
+
+    public boolean isClusteredAt(int zoom) {
+        return zoom <= clusters.maxZoom();
+    }
+
+    public List<Cluster> queryClusters(int zoom, double south, double west, double north, double east, int limit) {
+        return clusters.query(zoom, south, west, north, east, limit);
+    }
+
+    public Map<String, Object> featureAttributes(int i) {
+        Map<String, Object> attrs = new LinkedHashMap<>();
+        attrs.put("sgUid", sgUid[i]);
+        attrs.put("signalType", signalType[i]);
+        attrs.put("hasPedButton", unpack(hasPedButton[i]));
+        attrs.put("hasTimeShow", unpack(hasTimeShow[i]));
+        attrs.put("hasSoundSignal", unpack(hasSoundSignal[i]));
+        return attrs;
+    }
+
+    private static byte pack(Boolean v) {
+        return v == null ? NULL : (byte) (v ? 1 : 0);
+    }
+
+    private static Boolean unpack(byte v) {
+        return v == NULL ? null : v == 1;
+    }
+}
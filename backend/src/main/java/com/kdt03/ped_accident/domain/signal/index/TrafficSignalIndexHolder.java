@@ -0,0 +1,66 @@
+package com.kdt03.ped_accident.domain.signal.index;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.signal.repository.TrafficSignalRepository;
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 유효한 {@link TrafficSignalIndex} 스냅샷을 보관합니다.
+ * 기동 시 한 번 적재하며, signals가 바뀌거나 {@link #reload()} 시 새 스냅샷으로 참조를 원자적으로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrafficSignalIndexHolder {
+
+    private final TrafficSignalRepository repository;
+
+    @Value("${map.cluster.min-zoom:5}")
+    private int clusterMinZoom;
+
+    @Value("${map.cluster.max-zoom:14}")
+    private int clusterMaxZoom;
+
+    private final AtomicReference<TrafficSignalIndex> current = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("신호등 인덱스 적재 실패", e);
+        }
+    }
+
+    @EventListener
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.dataset() == Dataset.SIGNALS) {
+            reload();
+        }
+    }
+
+    public TrafficSignalIndex reload() {
+        long started = System.nanoTime();
+        TrafficSignalIndex index = TrafficSignalIndex.from(repository.findAllForIndex(), clusterMinZoom, clusterMaxZoom);
+        current.set(index);
+        log.info("신호등 인덱스 적재 완료: {}건, {}ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 적재되지 않았으면 null입니다.
+     */
+    public TrafficSignalIndex get() {
+        return current.get();
+    }
+}
@@ -0,0 +1,12 @@
+package com.kdt03.ped_accident.domain.signal.repository;
+
+public interface TrafficSignalPointProjection {
+	String getSgUid();
+	Double getSignalLat();
+	Double getSignalLon();
+	String getSignalType();
+
+	Boolean getHasPedButton();
+	Boolean getHasTimeShow();
+	Boolean getHasSoundSignal();
+}
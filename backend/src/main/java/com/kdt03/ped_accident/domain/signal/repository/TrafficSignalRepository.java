@@ -23,5 +23,21 @@ public interface TrafficSignalRepository extends JpaRepository<TrafficSignal, St
      */
     @Query("SELECT ts FROM TrafficSignal ts WHERE ts.signalLat BETWEEN :minLat AND :maxLat AND ts.signalLon BETWEEN :minLon AND :maxLon")
     List<TrafficSignal> findByBounds(@Param("minLat") BigDecimal minLat, @Param("maxLat") BigDecimal maxLat, @Param("minLon") BigDecimal minLon, @Param("maxLon") BigDecimal maxLon);
-}
 
+    /**
+     * 메모리 인덱스 적재용 전체 신호등 좌표/속성 조회입니다.
+     */
+    @Query(value = """
+            SELECT
+              s.sg_uid AS sgUid,
+              s.signal_lat AS signalLat,
+              s.signal_lon AS signalLon,
+              s.signal_type AS signalType,
+              s.has_ped_button AS hasPedButton,
+              s.has_time_show AS hasTimeShow,
+              s.has_sound_signal AS hasSoundSignal
+            FROM signals s
+            ORDER BY s.sg_uid
+            """, nativeQuery = true)
+    List<TrafficSignalPointProjection> findAllForIndex();
+}
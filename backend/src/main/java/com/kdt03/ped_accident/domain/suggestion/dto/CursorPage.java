@@ -0,0 +1,18 @@
+package com.kdt03.ped_accident.domain.suggestion.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 페이지 응답입니다. 전체 개수는 세지 않으며, 다음 페이지가 없으면 nextCursor가 null입니다.
+ */
+@Getter
+@Builder
+public class CursorPage<T> {
+	private List<T> items;
+	private int size;
+	private String nextCursor;
+	private boolean hasNext;
+}
@@ -0,0 +1,44 @@
+package com.kdt03.ped_accident.domain.suggestion.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 마지막으로 내려준 행의 (정렬 키, id)입니다. 클라이언트에는 불투명한 문자열로 줍니다.
+ * <p>
+ * 형식: base64url("정렬~키~id"). 정렬이 다른 커서를 넘기면 거부합니다.
+ */
+public record SuggestionCursor(SuggestionSort sort, LocalDateTime createdAt, double priorityScore, long id) {
+
+    public static SuggestionCursor after(SuggestionSort sort, SuggestionListItem last) {
+        double score = last.getPriorityScore() != null ? last.getPriorityScore() : 0.0;
+        return new SuggestionCursor(sort, last.getCreatedAt(), score, last.getId());
+    }
+
+    public String encode() {
+        String key = sort == SuggestionSort.LATEST ? createdAt.toString() : Double.toString(priorityScore);
+        String raw = sort.name() + "~" + key + "~" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 틀렸거나 정렬 기준이 다르면
+     */
+    public static SuggestionCursor decode(String cursor, SuggestionSort expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("~", -1);
+            if (parts.length != 3 || SuggestionSort.valueOf(parts[0]) != expected) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            long id = Long.parseLong(parts[2]);
+            return expected == SuggestionSort.LATEST
+                    ? new SuggestionCursor(expected, LocalDateTime.parse(parts[1]), 0.0, id)
+                    : new SuggestionCursor(expected, null, Double.parseDouble(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
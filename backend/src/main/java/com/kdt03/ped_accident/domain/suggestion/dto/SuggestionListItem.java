@@ -0,0 +1,55 @@
+package com.kdt03.ped_accident.domain.suggestion.dto;
+
+import java.time.LocalDateTime;
+
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionStatus;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionType;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 게시판 목록 한 줄입니다. 생성자 표현식 쿼리(SuggestionRepository의 LIST_ITEM)로 필요한 컬럼만 읽습니다.
+ * <p>
+ * 본문은 앞 {@value #EXCERPT_LENGTH}자만, 작성자는 이름만 담으므로 content TEXT 전체와
+ * User 엔티티(프록시)를 읽거나 직렬화하지 않습니다.
+ */
+@Getter
+public class SuggestionListItem {
+
+    public static final int EXCERPT_LENGTH = 100;
+
+    private final Long id;
+    private final String title;
+    private final SuggestionStatus status;
+    private final SuggestionType suggestionType;
+    private final Integer viewCount;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Double priorityScore;
+    private final LocalDateTime createdAt;
+    private final String address;
+    private final String authorName;
+    private final String excerpt;
+
+    /** 로그인 사용자의 좋아요 여부. 비로그인이면 null */
+    @Setter
+    private Boolean likedByMe;
+
+    public SuggestionListItem(Long id, String title, SuggestionStatus status, SuggestionType suggestionType,
+                              Integer viewCount, Integer likeCount, Integer commentCount, Double priorityScore,
+                              LocalDateTime createdAt, String address, String authorName, String excerpt) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.suggestionType = suggestionType;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.priorityScore = priorityScore;
+        this.createdAt = createdAt;
+        this.address = address;
+        this.authorName = authorName;
+        this.excerpt = excerpt;
+    }
+}
@@ -0,0 +1,11 @@
+package com.kdt03.ped_accident.domain.suggestion.dto;
+
+/**
+ * 커서 페이지네이션 정렬 기준입니다. 둘 다 id를 두 번째 키로 써서 순서가 유일합니다.
+ */
+public enum SuggestionSort {
+    /** (created_at, id) 내림차순 */
+    LATEST,
+    /** (priority_score, id) 내림차순 */
+    PRIORITY
+}
@@ -61,10 +61,12 @@ public class Suggestion {
 	@Enumerated(EnumType.STRING)
 	private SuggestionStatus status;
 	
-	@Column(name = "view_count")
+	// 조회수는 SuggestionViewCounter가 SQL 증가로만 바꿉니다. 엔티티 저장이 덮어쓰지 않도록 UPDATE에서 뺍니다.
+	@Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
 
-	@Column(name = "like_count")
+	// 좋아요 수는 SuggestionLikeService가 SQL 증감으로만 바꿉니다.
+	@Column(name = "like_count", updatable = false)
     private Integer likeCount = 0;
 
 	@Column(name = "comment_count")
@@ -0,0 +1,50 @@
+package com.kdt03.ped_accident.domain.suggestion.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * suggestions의 집계 컬럼을 엔티티를 읽지 않고 SQL 증감으로 바꿉니다.
+ * 행을 읽어 자바에서 더한 뒤 저장하지 않으므로 동시에 바뀌어도 값을 잃지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SuggestionCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 건의사항의 조회수를 한 번의 배치로 더합니다.
+     *
+     * @param deltas (증가량, id)
+     */
+    public void addViewCounts(List<Object[]> deltas) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE suggestions SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?", deltas);
+    }
+
+    /**
+     * 건의사항 행을 트랜잭션이 끝날 때까지 잠급니다. 같은 건의사항의 좋아요 토글이 이 잠금에서 줄을 섭니다.
+     *
+     * @return 건의사항이 있으면 true
+     */
+    public boolean lockForUpdate(long suggestionId) {
+        return !jdbcTemplate.queryForList("SELECT id FROM suggestions WHERE id = ? FOR UPDATE",
+                Long.class, suggestionId).isEmpty();
+    }
+
+    /**
+     * 좋아요 수를 더하거나 뺍니다. 0 아래로는 내려가지 않습니다.
+     *
+     * @return 바뀐 행 수 (건의사항이 없으면 0)
+     */
+    public int addLikeCount(long suggestionId, int delta) {
+        return jdbcTemplate.update(
+                "UPDATE suggestions SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE id = ?",
+                delta, suggestionId);
+    }
+}
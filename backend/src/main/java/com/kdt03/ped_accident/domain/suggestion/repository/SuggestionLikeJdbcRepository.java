@@ -0,0 +1,69 @@
+package com.kdt03.ped_accident.domain.suggestion.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 행을 조회 없이 한 문장으로 넣고 지웁니다. 바뀐 행 수로 실제로 바뀌었는지 판단합니다.
+ * (suggestion_id, user_id) 유일 제약이 중복을 막습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SuggestionLikeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** @return 1이면 새로 넣음, 0이면 이미 있음 */
+    public int insertIgnore(long suggestionId, long userId) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO suggestion_likes (suggestion_id, user_id, created_at) VALUES (?, ?, NOW())",
+                suggestionId, userId);
+    }
+
+    /** @return 1이면 지움, 0이면 없었음 */
+    public int delete(long suggestionId, long userId) {
+        return jdbcTemplate.update(
+                "DELETE FROM suggestion_likes WHERE suggestion_id = ? AND user_id = ?", suggestionId, userId);
+    }
+
+    public boolean exists(long suggestionId, long userId) {
+        Integer n = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM suggestion_likes WHERE suggestion_id = ? AND user_id = ?",
+                Integer.class, suggestionId, userId);
+        return n != null && n > 0;
+    }
+
+    /** ids 중 userId가 좋아요한 건의사항 id */
+    public List<Long> findLikedAmong(long userId, Collection<Long> suggestionIds) {
+        if (suggestionIds.isEmpty()) return List.of();
+        List<Object> args = new ArrayList<>(suggestionIds.size() + 1);
+        args.add(userId);
+        args.addAll(suggestionIds);
+        return jdbcTemplate.queryForList(
+                "SELECT suggestion_id FROM suggestion_likes WHERE user_id = ? AND suggestion_id IN ("
+                        + "?, ".repeat(suggestionIds.size() - 1) + "?)",
+                Long.class, args.toArray());
+    }
+
+    /**
+     * 모든 좋아요를 handler에 넘깁니다. 컬럼 순서: suggestion_id, user_id
+     */
+    public void streamAll(RowCallbackHandler handler) {
+        jdbcTemplate.query((Connection con) -> {
+            PreparedStatement ps = con.prepareStatement("SELECT suggestion_id, user_id FROM suggestion_likes",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, handler);
+    }
+}
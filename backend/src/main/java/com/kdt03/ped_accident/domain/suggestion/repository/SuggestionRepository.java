@@ -1,9 +1,11 @@
 package com.kdt03.ped_accident.domain.suggestion.repository;
 
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionListItem;
 import com.kdt03.ped_accident.domain.suggestion.entity.Suggestion;
 import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionStatus;
 import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionType;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +13,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +50,89 @@ public interface SuggestionRepository extends JpaRepository<Suggestion, Long> {
         Pageable pageable
     );
     
+    // 게시판 목록 projection. 엔티티·User를 읽지 않고 목록에 필요한 컬럼만 읽습니다.
+    String LIST_ITEM =
+           "SELECT new com.kdt03.ped_accident.domain.suggestion.dto.SuggestionListItem(" +
+           "s.id, s.title, s.status, s.suggestionType, s.viewCount, s.likeCount, s.commentCount, " +
+           "s.priorityScore, s.createdAt, s.address, u.name, " +
+           "SUBSTRING(s.content, 1, " + SuggestionListItem.EXCERPT_LENGTH + ")) " +
+           "FROM Suggestion s LEFT JOIN s.user u";
+
+    String LIST_FILTERS =
+           "(:status IS NULL OR s.status = :status) AND " +
+           "(:type IS NULL OR s.suggestionType = :type) AND " +
+           "(:region IS NULL OR s.address LIKE CONCAT(:region, '%')) AND " +
+           "(:search IS NULL OR s.title LIKE CONCAT('%', :search, '%') OR s.content LIKE CONCAT('%', :search, '%') OR s.address LIKE CONCAT('%', :search, '%'))";
+
+    @Query(value = LIST_ITEM, countQuery = "SELECT COUNT(s) FROM Suggestion s")
+    Page<SuggestionListItem> findListItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM + " WHERE " + LIST_FILTERS,
+           countQuery = "SELECT COUNT(s) FROM Suggestion s WHERE " + LIST_FILTERS)
+    Page<SuggestionListItem> findListItemsByFilters(
+        @Param("status") SuggestionStatus status,
+        @Param("type") SuggestionType type,
+        @Param("region") String region,
+        @Param("search") String search,
+        Pageable pageable
+    );
+
+    @Query(LIST_ITEM + " WHERE s.id IN :ids")
+    List<SuggestionListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 결과(id 집합)를 요청한 정렬로 한 페이지만 읽습니다. 전체 건수는 호출자가 압니다.
+    @Query(LIST_ITEM + " WHERE s.id IN :ids")
+    List<SuggestionListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    // 커서 페이지네이션: OFFSET과 COUNT 없이 (정렬 키, id) 다음 행부터 limit개만 읽습니다.
+    // 정렬 키는 (created_at, id) / (priority_score, id) 복합 인덱스를 탑니다. (SuggestionSortIndexRepository)
+    String CURSOR_FILTERS =
+           "(:status IS NULL OR s.status = :status) AND " +
+           "(:type IS NULL OR s.suggestionType = :type) AND " +
+           "(:region IS NULL OR s.address LIKE CONCAT(:region, '%'))";
+
+    @Query(LIST_ITEM + " WHERE " + CURSOR_FILTERS +
+           " ORDER BY s.createdAt DESC, s.id DESC")
+    List<SuggestionListItem> findLatestFirst(
+        @Param("status") SuggestionStatus status,
+        @Param("type") SuggestionType type,
+        @Param("region") String region,
+        Limit limit
+    );
+
+    @Query(LIST_ITEM + " WHERE " + CURSOR_FILTERS +
+           " AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id))" +
+           " ORDER BY s.createdAt DESC, s.id DESC")
+    List<SuggestionListItem> findLatestAfter(
+        @Param("status") SuggestionStatus status,
+        @Param("type") SuggestionType type,
+        @Param("region") String region,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query(LIST_ITEM + " WHERE " + CURSOR_FILTERS +
+           " ORDER BY s.priorityScore DESC, s.id DESC")
+    List<SuggestionListItem> findPriorityFirst(
+        @Param("status") SuggestionStatus status,
+        @Param("type") SuggestionType type,
+        @Param("region") String region,
+        Limit limit
+    );
+
+    @Query(LIST_ITEM + " WHERE " + CURSOR_FILTERS +
+           " AND (s.priorityScore < :score OR (s.priorityScore = :score AND s.id < :id))" +
+           " ORDER BY s.priorityScore DESC, s.id DESC")
+    List<SuggestionListItem> findPriorityAfter(
+        @Param("status") SuggestionStatus status,
+        @Param("type") SuggestionType type,
+        @Param("region") String region,
+        @Param("score") Double score,
+        @Param("id") Long id,
+        Limit limit
+    );
+
     // 실제 존재하는 지역(시/도) 목록 조회
     // 주소 형식: "서울특별시 중구 소공동 태평로2가 세종대로19길"
     // 첫 번째 공백 전까지가 시/도
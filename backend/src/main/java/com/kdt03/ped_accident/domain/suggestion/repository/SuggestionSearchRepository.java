@@ -0,0 +1,34 @@
+package com.kdt03.ped_accident.domain.suggestion.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 색인 적재용으로 건의사항의 검색·필터 컬럼만 전진 전용 커서로 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SuggestionSearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 컬럼 순서: id, title, content, address, status, suggestion_type
+     */
+    public void streamAll(RowCallbackHandler handler) {
+        jdbcTemplate.query((Connection con) -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT id, title, content, address, status, suggestion_type FROM suggestions",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, handler);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kdt03.ped_accident.domain.suggestion.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 페이지네이션용 복합 인덱스를 확인합니다. 엔티티에 매핑하지 않으므로 스키마 검증과 무관합니다.
+ * 인덱스는 db/migration/V2__suggestion_sort_indexes.sql로 만듭니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SuggestionSortIndexRepository {
+
+    public static final String CREATED_INDEX = "idx_suggestions_created_id";
+    public static final String PRIORITY_INDEX = "idx_suggestions_priority_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean hasIndex(String name) {
+        Integer n = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = 'suggestions'
+                  AND INDEX_NAME = ?
+                """, Integer.class, name);
+        return n != null && n > 0;
+    }
+
+    /**
+     * NULL은 키셋 비교(&lt;, =)에 걸리지 않아 커서 페이지에서 빠집니다.
+     * (엔티티 기본값과 생성 시 기본값은 0이며, 기존 행은 V2 스크립트가 채웁니다.)
+     */
+    public int countNullPriorityScores() {
+        Integer n = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM suggestions WHERE priority_score IS NULL", Integer.class);
+        return n != null ? n : 0;
+    }
+}
@@ -0,0 +1,143 @@
+package com.kdt03.ped_accident.domain.suggestion.search;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kdt03.ped_accident.domain.suggestion.entity.Suggestion;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionStatus;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionType;
+import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionSearchRepository;
+import com.kdt03.ped_accident.global.text.NgramIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 건의사항 제목·내용·주소의 n-gram 역색인({@link NgramIndex})입니다.
+ * <p>
+ * 기동 시 한 번 전체를 읽고, 이후에는 생성·수정·상태 변경·삭제가 커밋된 뒤 해당 건만 고칩니다.
+ * 상태·유형·주소도 함께 들고 있어 필터까지 메모리에서 끝내고, 결과는 순위대로 정렬된 id 목록입니다.
+ * 적재 전이면 {@link #search}가 null을 반환하며, 호출자는 LIKE 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionSearchIndex {
+
+    /** 제목, 내용, 주소 순 가중치 */
+    private static final int[] FIELD_WEIGHTS = {3, 1, 1};
+
+    private final SuggestionSearchRepository searchRepository;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(NgramIndex index, Map<Long, Filters> filters) {}
+
+    private record Filters(SuggestionStatus status, SuggestionType type, String address) {
+
+        boolean matches(SuggestionStatus s, SuggestionType t, String region) {
+            return (s == null || s == status)
+                    && (t == null || t == type)
+                    && (region == null || (address != null && address.startsWith(region)));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("건의사항 검색 색인 적재 실패, LIKE 조회로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 전체를 다시 색인합니다. 적재 중의 변경이 빠지지 않도록 변경 반영과 같은 잠금을 잡습니다.
+     */
+    public synchronized void load() {
+        long started = System.nanoTime();
+        NgramIndex index = new NgramIndex(FIELD_WEIGHTS);
+        Map<Long, Filters> filters = new ConcurrentHashMap<>();
+        searchRepository.streamAll(rs -> {
+            long id = rs.getLong(1);
+            index.put(id, rs.getString(2), rs.getString(3), rs.getString(4));
+            filters.put(id, new Filters(parse(SuggestionStatus.class, rs.getString(5)),
+                    parse(SuggestionType.class, rs.getString(6)), rs.getString(4)));
+        });
+        snapshot = new Snapshot(index, filters);
+        log.info("건의사항 검색 색인 적재 완료: {}건, {}ms", filters.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 검색어에 맞는 건의사항 id를 점수 순으로 반환합니다. 색인이 없으면 null입니다.
+     *
+     * @param status null이면 전체
+     * @param type   null이면 전체
+     * @param region 주소 접두어, null이면 전체
+     */
+    public long[] search(String query, SuggestionStatus status, SuggestionType type, String region) {
+        Snapshot s = snapshot;
+        if (s == null) return null;
+        return s.index().search(query, id -> {
+            Filters f = s.filters().get(id);
+            return f != null && f.matches(status, type, region);
+        });
+    }
+
+    /** 트랜잭션이 커밋된 뒤 건의사항을 다시 색인합니다. */
+    public void indexAfterCommit(Suggestion suggestion) {
+        long id = suggestion.getId();
+        String title = suggestion.getTitle();
+        String content = suggestion.getContent();
+        String address = suggestion.getAddress();
+        Filters filters = new Filters(suggestion.getStatus(), suggestion.getSuggestionType(), address);
+        afterCommit(() -> put(id, title, content, address, filters));
+    }
+
+    /** 트랜잭션이 커밋된 뒤 색인에서 뺍니다. */
+    public void removeAfterCommit(long id) {
+        afterCommit(() -> remove(id));
+    }
+
+    private synchronized void put(long id, String title, String content, String address, Filters filters) {
+        Snapshot s = snapshot;
+        if (s == null) return;
+        s.index().put(id, title, content, address);
+        s.filters().put(id, filters);
+    }
+
+    private synchronized void remove(long id) {
+        Snapshot s = snapshot;
+        if (s == null) return;
+        s.filters().remove(id);
+        s.index().remove(id);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name) {
+        if (name == null) return null;
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
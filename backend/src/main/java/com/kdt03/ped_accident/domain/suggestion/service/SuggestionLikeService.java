@@ -0,0 +1,181 @@
+package com.kdt03.ped_accident.domain.suggestion.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionCounterRepository;
+import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionLikeJdbcRepository;
+import com.kdt03.ped_accident.global.bitmap.IntBitmap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 건의사항 좋아요를 원자적으로 토글하고, 건의사항별 좋아요한 사용자 집합을 메모리에 둡니다.
+ * <p>
+ * 토글은 건의사항 행 잠금(SELECT ... FOR UPDATE, 없으면 실패), 좋아요 행 INSERT IGNORE / DELETE 한 문장,
+ * 행이 실제로 바뀐 경우의 like_count 증감 한 문장입니다.
+ * 엔티티를 읽고 더해 저장하지 않으므로 동시에 눌러도 like_count가 좋아요 행 수와 어긋나지 않습니다.
+ * <p>
+ * 좋아요 여부는 건의사항별 {@link IntBitmap}으로 답해 상세·목록 조회에 쿼리가 필요 없습니다.
+ * 메모리는 커밋 뒤에 바꾸며, 같은 (건의사항, 사용자) 토글은 줄무늬 잠금으로 한 줄로 세워
+ * DB와 메모리의 순서가 어긋나지 않게 합니다. 메모리가 늦어도(다른 인스턴스에서 토글 등)
+ * 바뀐 행 수가 0이면 반대 동작으로 다시 시도하므로 DB 상태는 항상 맞습니다.
+ * int 범위를 넘는 사용자 id나 적재 전에는 DB로 답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestionLikeService {
+
+    private static final int STRIPES = 256;
+
+    private final SuggestionLikeJdbcRepository likeRepository;
+    private final SuggestionCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, IntBitmap> likers = new ConcurrentHashMap<>();
+    private final Object[] stripes = newStripes();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("좋아요 비트맵 적재 실패, DB 조회로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * suggestion_likes 전체로 비트맵을 다시 만듭니다.
+     */
+    public synchronized void load() {
+        long started = System.nanoTime();
+        Map<Long, IntBitmap> fresh = new HashMap<>();
+        int[] rows = {0};
+        likeRepository.streamAll(rs -> {
+            long userId = rs.getLong(2);
+            if (fitsInt(userId)) {
+                fresh.merge(rs.getLong(1), IntBitmap.of((int) userId), (a, b) -> a.with((int) userId));
+            }
+            rows[0]++;
+        });
+        likers.clear();
+        likers.putAll(fresh);
+        loaded = true;
+        log.info("좋아요 비트맵 적재 완료: 건의사항 {}건, 좋아요 {}건, {}ms",
+                fresh.size(), rows[0], (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 좋아요를 토글합니다.
+     *
+     * @return 토글 후 좋아요 상태
+     * @throws IllegalArgumentException 건의사항이 없으면
+     */
+    public boolean toggle(long suggestionId, long userId) {
+        synchronized (stripe(suggestionId, userId)) {
+            boolean liked = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                // MySQL의 INSERT IGNORE는 외래 키 위반도 경고로 바꿔 0을 돌려주므로 존재 여부를 먼저 확인합니다.
+                if (!counterRepository.lockForUpdate(suggestionId)) {
+                    throw new IllegalArgumentException("건의사항을 찾을 수 없습니다.");
+                }
+                boolean like = !isLiked(suggestionId, userId);
+                int changed = apply(suggestionId, userId, like);
+                if (changed == 0) {
+                    // 메모리가 DB보다 늦었습니다. 실제 상태의 반대로 토글합니다.
+                    like = !like;
+                    changed = apply(suggestionId, userId, like);
+                }
+                if (changed == 1 && counterRepository.addLikeCount(suggestionId, like ? 1 : -1) == 0) {
+                    throw new IllegalArgumentException("건의사항을 찾을 수 없습니다.");
+                }
+                return like;
+            }));
+            if (fitsInt(userId)) {
+                likers.compute(suggestionId, (k, b) -> {
+                    IntBitmap next = liked
+                            ? (b == null ? IntBitmap.EMPTY : b).with((int) userId)
+                            : (b == null ? IntBitmap.EMPTY : b).without((int) userId);
+                    return next.isEmpty() ? null : next;
+                });
+            }
+            return liked;
+        }
+    }
+
+    public boolean isLiked(long suggestionId, long userId) {
+        if (loaded && fitsInt(userId)) {
+            IntBitmap b = likers.get(suggestionId);
+            return b != null && b.contains((int) userId);
+        }
+        return likeRepository.exists(suggestionId, userId);
+    }
+
+    /** 목록 페이지용: suggestionIds 중 userId가 좋아요한 것 */
+    public Set<Long> likedAmong(Collection<Long> suggestionIds, Long userId) {
+        if (userId == null || suggestionIds.isEmpty()) return Set.of();
+        if (!loaded || !fitsInt(userId)) {
+            return new HashSet<>(likeRepository.findLikedAmong(userId, suggestionIds));
+        }
+        Set<Long> out = new HashSet<>();
+        for (Long id : suggestionIds) {
+            IntBitmap b = likers.get(id);
+            if (b != null && b.contains(userId.intValue())) out.add(id);
+        }
+        return out;
+    }
+
+    /** 현재 좋아요 수 (메모리 기준). 적재 전이면 -1 */
+    public int likeCount(long suggestionId) {
+        if (!loaded) return -1;
+        IntBitmap b = likers.get(suggestionId);
+        return b == null ? 0 : b.cardinality();
+    }
+
+    /** 삭제된 건의사항의 좋아요 집합을 지웁니다. 트랜잭션 안이면 커밋된 뒤에 지웁니다. */
+    public void forget(long suggestionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    likers.remove(suggestionId);
+                }
+            });
+        } else {
+            likers.remove(suggestionId);
+        }
+    }
+
+    private int apply(long suggestionId, long userId, boolean like) {
+        return like
+                ? likeRepository.insertIgnore(suggestionId, userId)
+                : likeRepository.delete(suggestionId, userId);
+    }
+
+    private Object stripe(long suggestionId, long userId) {
+        return stripes[(int) Math.floorMod(suggestionId * 31 + userId, (long) STRIPES)];
+    }
+
+    private static Object[] newStripes() {
+        Object[] s = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) s[i] = new Object();
+        return s;
+    }
+
+    private static boolean fitsInt(long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE;
+    }
+}
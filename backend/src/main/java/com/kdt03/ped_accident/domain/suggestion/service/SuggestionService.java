@@ -1,11 +1,18 @@
 package com.kdt03.ped_accident.domain.suggestion.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -14,8 +21,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.kdt03.ped_accident.domain.suggestion.dto.CommentResponse;
 import com.kdt03.ped_accident.domain.suggestion.dto.CreateSuggestionRequest;
+import com.kdt03.ped_accident.domain.suggestion.dto.CursorPage;
 import com.kdt03.ped_accident.domain.suggestion.dto.PagedItems;
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionCursor;
 import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionDetailResponse;
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionListItem;
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionSort;
 import com.kdt03.ped_accident.domain.suggestion.entity.Suggestion;
 import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionComment;
 import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionLike;
@@ -24,22 +35,44 @@ import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionType;
 import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionCommentRepository;
 import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionLikeRepository;
 import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionRepository;
+import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionSortIndexRepository;
+import com.kdt03.ped_accident.domain.suggestion.search.SuggestionSearchIndex;
 import com.kdt03.ped_accident.domain.user.entity.User;
 import com.kdt03.ped_accident.domain.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SuggestionService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // 검색 결과를 관련도 외의 정렬로 볼 때 정렬 대상으로 삼는 상위 결과 수 (IN 목록 크기 상한)
+    public static final int MAX_SORTED_MATCHES = 1_000;
+    // 목록 기본 정렬 (SuggestionController의 @PageableDefault와 같음)
+    private static final Sort DEFAULT_LIST_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
     private final SuggestionRepository suggestionRepository;
     private final SuggestionCommentRepository commentRepository;
     private final SuggestionLikeRepository likeRepository;
     private final UserRepository userRepository;
+    private final SuggestionViewCounter viewCounter;
+    private final SuggestionLikeService likeService;
+    private final SuggestionSearchIndex searchIndex;
+    private final SuggestionSortIndexRepository sortIndexRepository;
+
+    // 전체 조회 (필터링 포함). 목록용 projection으로 읽고, 로그인 사용자면 좋아요 여부를 채웁니다.
+    public Page<SuggestionListItem> findAll(Pageable pageable, SuggestionStatus status, SuggestionType type,
+                                            String region, String search, Long userId) {
+        Page<SuggestionListItem> page = findListItems(pageable, status, type, region, search);
+        markLiked(page.getContent(), userId);
+        return page;
+    }
 
-    // 전체 조회 (필터링 포함)
-    public Page<Suggestion> findAll(Pageable pageable, SuggestionStatus status, SuggestionType type, String region, String search) {
+    private Page<SuggestionListItem> findListItems(Pageable pageable, SuggestionStatus status, SuggestionType type,
+                                                   String region, String search) {
         // 검색어 정리
         String searchFilter = (search != null && !search.trim().isEmpty()) ? search.trim() : null;
         
@@ -48,39 +81,146 @@ public class SuggestionService {
         
         // 모든 필터가 null이면 전체 조회
         if (status == null && type == null && regionFilter == null && searchFilter == null) {
-            return suggestionRepository.findAllWithUser(pageable);
+            return suggestionRepository.findListItems(pageable);
         }
         
+        // 검색어가 있으면 n-gram 색인으로 순위를 매기고 해당 페이지만 한 번에 읽습니다.
+        if (searchFilter != null) {
+            long[] ranked = searchIndex.search(searchFilter, status, type, regionFilter);
+            if (ranked != null) {
+                return isRelevanceSort(pageable.getSort()) ? hydrate(ranked, pageable) : sortMatches(ranked, pageable);
+            }
+        }
+
         // 필터 조합으로 조회
-        return suggestionRepository.findByFiltersWithUser(status, type, regionFilter, searchFilter, pageable);
+        return suggestionRepository.findListItemsByFilters(status, type, regionFilter, searchFilter, pageable);
+    }
+
+    private void markLiked(List<SuggestionListItem> items, Long userId) {
+        if (userId == null || items.isEmpty()) return;
+        Set<Long> liked = likeService.likedAmong(items.stream().map(SuggestionListItem::getId).toList(), userId);
+        for (SuggestionListItem item : items) {
+            item.setLikedByMe(liked.contains(item.getId()));
+        }
+    }
+
+    // 커서 페이지 조회. 첫 페이지는 cursor 없이 부르고, 응답의 nextCursor로 다음 페이지를 부릅니다.
+    // size + 1개를 읽어 다음 페이지 여부를 판단하므로 COUNT 쿼리가 없습니다.
+    @Transactional(readOnly = true)
+    public CursorPage<SuggestionListItem> findPage(SuggestionSort sort, String cursor, int size,
+                                                   SuggestionStatus status, SuggestionType type, String region,
+                                                   Long userId) {
+        int safeSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        String regionFilter = (region != null && !region.isEmpty() && !region.equals("ALL")) ? region : null;
+        Limit limit = Limit.of(safeSize + 1);
+
+        List<SuggestionListItem> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = sort == SuggestionSort.PRIORITY
+                    ? suggestionRepository.findPriorityFirst(status, type, regionFilter, limit)
+                    : suggestionRepository.findLatestFirst(status, type, regionFilter, limit);
+        } else {
+            SuggestionCursor after = SuggestionCursor.decode(cursor, sort);
+            rows = sort == SuggestionSort.PRIORITY
+                    ? suggestionRepository.findPriorityAfter(status, type, regionFilter,
+                            after.priorityScore(), after.id(), limit)
+                    : suggestionRepository.findLatestAfter(status, type, regionFilter,
+                            after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > safeSize;
+        List<SuggestionListItem> items = hasNext ? rows.subList(0, safeSize) : rows;
+        markLiked(items, userId);
+        return CursorPage.<SuggestionListItem>builder()
+                .items(items)
+                .size(items.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? SuggestionCursor.after(sort, items.get(items.size() - 1)).encode() : null)
+                .build();
+    }
+
+    // 커서 페이지가 쓰는 복합 인덱스와 정렬 키를 확인만 합니다. (스키마는 db/migration 스크립트로 바꿉니다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkSortIndexes() {
+        try {
+            int nulls = sortIndexRepository.countNullPriorityScores();
+            if (nulls > 0) {
+                log.warn("suggestions.priority_score NULL {}건은 우선순위 커서 페이지에서 빠집니다. "
+                        + "db/migration/V2__suggestion_sort_indexes.sql을 적용하세요.", nulls);
+            }
+            for (String index : List.of(SuggestionSortIndexRepository.CREATED_INDEX,
+                    SuggestionSortIndexRepository.PRIORITY_INDEX)) {
+                if (!sortIndexRepository.hasIndex(index)) {
+                    log.warn("suggestions {} 인덱스가 없어 커서 페이지가 느립니다. "
+                            + "db/migration/V2__suggestion_sort_indexes.sql을 적용하세요.", index);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("건의사항 정렬 인덱스 확인 실패", e);
+        }
+    }
+
+    // 검색은 기본 정렬(최신순)이나 정렬 없음일 때만 관련도 순이고, 그 외 정렬(인기·우선순위·상태)은 요청대로 따릅니다.
+    private static boolean isRelevanceSort(Sort sort) {
+        return sort.isUnsorted() || sort.equals(DEFAULT_LIST_SORT);
+    }
+
+    // 검색에 맞은 id 중 관련도 상위 MAX_SORTED_MATCHES건만 요청한 정렬로 한 페이지 읽습니다.
+    // 흔한 검색어에서 맞은 id를 모두 IN에 바인딩하지 않도록, 전체 건수도 이 상한까지로 봅니다.
+    private Page<SuggestionListItem> sortMatches(long[] ranked, Pageable pageable) {
+        int matches = Math.min(ranked.length, MAX_SORTED_MATCHES);
+        if (matches == 0 || pageable.getOffset() >= matches) {
+            return new PageImpl<>(List.of(), pageable, matches);
+        }
+        List<Long> ids = Arrays.stream(ranked, 0, matches).boxed().toList();
+        return new PageImpl<>(suggestionRepository.findListItemsByIdIn(ids, pageable), pageable, matches);
+    }
+
+    // 순위대로 정렬된 id 중 요청한 페이지만 한 번의 IN 조회로 읽어 순위 순서로 돌려줍니다.
+    private Page<SuggestionListItem> hydrate(long[] ranked, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ranked.length);
+        int to = Math.min(from + pageable.getPageSize(), ranked.length);
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(ranked[i]);
+        }
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.length);
+        }
+
+        Map<Long, SuggestionListItem> byId = suggestionRepository.findListItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(SuggestionListItem::getId, s -> s));
+        List<SuggestionListItem> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SuggestionListItem s = byId.get(id);
+            if (s != null) content.add(s);
+        }
+        return new PageImpl<>(content, pageable, ranked.length);
     }
 
     // 단건 조회 (조회수 증가)
-    @Transactional
+    // 조회수는 SuggestionViewCounter에 모았다가 주기적으로 반영하므로 읽기 전용 트랜잭션입니다.
+    @Transactional(readOnly = true)
     public Suggestion findById(Long id) {
         Optional<Suggestion> opt = suggestionRepository.findById(id);
         if (opt.isEmpty()) return null;
         
         Suggestion suggestion = opt.get();
-        // null 체크
-        int currentViewCount = suggestion.getViewCount() != null ? suggestion.getViewCount() : 0;
-        suggestion.setViewCount(currentViewCount + 1);
-        // 우선순위 점수는 위험 지수로 고정되므로 재계산하지 않음
-        return suggestionRepository.save(suggestion);
+        viewCounter.increment(id);
+        applyPendingViews(suggestion);
+        return suggestion;
     }
 
     // 단건 조회 (상세 - 좋아요 여부 포함)
-    @Transactional
+    @Transactional(readOnly = true)
     public SuggestionDetailResponse findByIdWithLikeStatus(Long id, Long userId) {
         Optional<Suggestion> opt = suggestionRepository.findById(id);
         if (opt.isEmpty()) return null;
         
         Suggestion suggestion = opt.get();
-        // 조회수 증가
-        int currentViewCount = suggestion.getViewCount() != null ? suggestion.getViewCount() : 0;
-        suggestion.setViewCount(currentViewCount + 1);
-        // 우선순위 점수는 위험 지수로 고정되므로 재계산하지 않음
-        suggestionRepository.save(suggestion);
+        // 조회수 증가 (write-behind)
+        viewCounter.increment(id);
+        applyPendingViews(suggestion);
 
         // 작성자 정보 조회
         User author = null;
@@ -91,7 +231,7 @@ public class SuggestionService {
         // 좋아요 여부 확인
         boolean isLiked = false;
         if (userId != null) {
-            isLiked = likeRepository.existsBySuggestionIdAndUserId(id, userId);
+            isLiked = likeService.isLiked(id, userId);
         }
 
         return SuggestionDetailResponse.from(suggestion, author, isLiked);
@@ -115,7 +255,9 @@ public class SuggestionService {
                 .priorityScore(request.getPriorityScore() != null ? request.getPriorityScore() : 0.0)
                 .build();
 
-        return suggestionRepository.save(suggestion);
+        Suggestion saved = suggestionRepository.save(suggestion);
+        searchIndex.indexAfterCommit(saved);
+        return saved;
     }
 
     // 건의사항 수정
@@ -156,7 +298,9 @@ public class SuggestionService {
             suggestion.setAddress(address);
         }
         
-        return suggestionRepository.save(suggestion);
+        Suggestion saved = suggestionRepository.save(suggestion);
+        searchIndex.indexAfterCommit(saved);
+        return saved;
     }
 
     // 건의사항 삭제
@@ -189,6 +333,9 @@ public class SuggestionService {
 
         // 건의사항 삭제
         suggestionRepository.delete(suggestion);
+        viewCounter.forget(suggestionId);
+        likeService.forget(suggestionId);
+        searchIndex.removeAfterCommit(suggestionId);
     }
 
     // 상태 변경 (관리자)
@@ -198,7 +345,9 @@ public class SuggestionService {
                 .orElseThrow(() -> new IllegalArgumentException("건의사항을 찾을 수 없습니다."));
 
         suggestion.setStatus(status);
-        return suggestionRepository.save(suggestion);
+        Suggestion saved = suggestionRepository.save(suggestion);
+        searchIndex.indexAfterCommit(saved);
+        return saved;
     }
 
     // 댓글 목록 조회
@@ -305,41 +454,20 @@ public class SuggestionService {
         suggestionRepository.save(suggestion);
     }
 
-    // 좋아요 토글
-    @Transactional
+    // 좋아요 토글 (원자적 SQL + 메모리 비트맵, SuggestionLikeService 참고)
     public boolean toggleLike(Long suggestionId, Long userId) {
-        Suggestion suggestion = suggestionRepository.findById(suggestionId)
-                .orElseThrow(() -> new IllegalArgumentException("건의사항을 찾을 수 없습니다."));
-
-        Optional<SuggestionLike> existingLike = likeRepository.findBySuggestionIdAndUserId(suggestionId, userId);
-
-        // null 체크
-        int currentLikeCount = suggestion.getLikeCount() != null ? suggestion.getLikeCount() : 0;
+        return likeService.toggle(suggestionId, userId);
+    }
 
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            likeRepository.delete(existingLike.get());
-            suggestion.setLikeCount(Math.max(0, currentLikeCount - 1));
-            // 우선순위 점수는 위험 지수로 고정되므로 재계산하지 않음
-            suggestionRepository.save(suggestion);
-            return false;
-        } else {
-            // 좋아요 추가
-            SuggestionLike like = SuggestionLike.builder()
-                    .suggestionId(suggestionId)
-                    .userId(userId)
-                    .build();
-            likeRepository.save(like);
-            suggestion.setLikeCount(currentLikeCount + 1);
-            // 우선순위 점수는 위험 지수로 고정되므로 재계산하지 않음
-            suggestionRepository.save(suggestion);
-            return true;
-        }
+    // 아직 DB에 반영되지 않은 조회수를 응답 값에 더합니다. (읽기 전용 트랜잭션이라 DB에는 쓰이지 않음)
+    private void applyPendingViews(Suggestion suggestion) {
+        int stored = suggestion.getViewCount() != null ? suggestion.getViewCount() : 0;
+        suggestion.setViewCount(stored + (int) viewCounter.pending(suggestion.getId()));
     }
 
     // 좋아요 여부 확인
     public boolean isLikedByUser(Long suggestionId, Long userId) {
-        return likeRepository.existsBySuggestionIdAndUserId(suggestionId, userId);
+        return likeService.isLiked(suggestionId, userId);
     }
     
     // 실제 존재하는 지역 목록 조회
@@ -0,0 +1,86 @@
+package com.kdt03.ped_accident.domain.suggestion.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionCounterRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 건의사항 조회수를 메모리에 모았다가 주기적으로 한 번에 DB에 더하는 write-behind 카운터입니다.
+ * <p>
+ * 상세 조회마다 행을 잠그고 저장하던 방식은 인기 글에서 요청이 줄을 서고, 읽고-더하고-저장하는 사이에
+ * 증가분을 잃을 수 있었습니다. 여기서는 글마다 {@link LongAdder}에 더하기만 하고(경합 시 셀이 나뉨),
+ * {@link #flush()}가 {@code UPDATE ... SET view_count = view_count + ?} 배치 하나로 반영합니다.
+ * <p>
+ * 반영 전 증가분은 {@link #pending}으로 더해 보여 주므로 사용자가 보는 값은 바로 늘어납니다.
+ * 프로세스가 비정상 종료되면 마지막 주기(suggestion.view.flush-ms)의 증가분은 잃을 수 있습니다.
+ * <p>
+ * 항목은 한 번 조회된 글마다 하나씩 남고 글이 삭제될 때만 지웁니다. 0이 된 항목을 지우면
+ * 그 사이에 들어온 증가가 지운 항목에 쌓여 사라질 수 있기 때문입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionViewCounter {
+
+    private final SuggestionCounterRepository counterRepository;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long suggestionId) {
+        pending.computeIfAbsent(suggestionId, k -> new LongAdder()).increment();
+    }
+
+    /** 아직 DB에 반영하지 않은 증가분 */
+    public long pending(Long suggestionId) {
+        LongAdder adder = pending.get(suggestionId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /** 삭제된 건의사항의 증가분을 버립니다. */
+    public void forget(Long suggestionId) {
+        pending.remove(suggestionId);
+    }
+
+    /**
+     * 모인 증가분을 DB에 반영합니다. 실패하면 증가분을 다시 넣어 다음 주기에 재시도합니다.
+     *
+     * @return 반영한 건의사항 수
+     */
+    @Scheduled(fixedDelayString = "${suggestion.view.flush-ms:5000}")
+    public synchronized int flush() {
+        List<Object[]> deltas = new ArrayList<>();
+        pending.forEach((id, adder) -> {
+            // sumThenReset은 도중의 증가분을 이번 또는 다음 주기 중 한쪽에만 셉니다.
+            long n = adder.sumThenReset();
+            if (n > 0) deltas.add(new Object[]{n, id});
+        });
+        if (deltas.isEmpty()) return 0;
+
+        try {
+            counterRepository.addViewCounts(deltas);
+        } catch (RuntimeException e) {
+            for (Object[] d : deltas) {
+                pending.computeIfAbsent((Long) d[1], k -> new LongAdder()).add((Long) d[0]);
+            }
+            log.warn("조회수 반영 실패, 다음 주기에 다시 시도합니다. ({}건)", deltas.size(), e);
+            return 0;
+        }
+        return deltas.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
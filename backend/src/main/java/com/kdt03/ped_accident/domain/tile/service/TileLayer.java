@@ -0,0 +1,28 @@
+package com.kdt03.ped_accident.domain.tile.service;
+
+/**
+ * 벡터 타일로 제공하는 레이어 목록입니다. path는 URL과 MVT 레이어 이름으로 함께 쓰입니다.
+ */
+public enum TileLayer {
+    CROSSWALKS("crosswalks"),
+    SIGNALS("signals"),
+    HOTSPOTS("hotspots");
+
+    private final String path;
+
+    TileLayer(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /** URL 경로 값으로 레이어를 찾습니다. 없으면 null입니다. */
+    public static TileLayer fromPath(String path) {
+        for (TileLayer layer : values()) {
+            if (layer.path.equals(path)) return layer;
+        }
+        return null;
+    }
+}
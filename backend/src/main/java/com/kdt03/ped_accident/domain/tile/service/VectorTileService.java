@@ -0,0 +1,177 @@
+package com.kdt03.ped_accident.domain.tile.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.kdt03.ped_accident.api.dto.response.AccidentClusterDto;
+import com.kdt03.ped_accident.api.dto.response.CrosswalkClusterDto;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.signal.index.TrafficSignalIndex;
+import com.kdt03.ped_accident.domain.signal.index.TrafficSignalIndexHolder;
+import com.kdt03.ped_accident.global.spatial.ClusterPyramid.Cluster;
+import com.kdt03.ped_accident.global.spatial.TileCache;
+import com.kdt03.ped_accident.global.spatial.VectorTileEncoder;
+import com.kdt03.ped_accident.global.spatial.WebMercatorTile;
+
+/**
+ * 메모리 인덱스로부터 Mapbox Vector Tile을 생성하고, 생성된 타일을 크기 제한 캐시에 보관합니다.
+ * <p>
+ * 캐시 키와 ETag에는 인덱스 스냅샷 버전이 들어가므로, 데이터가 다시 적재되면 자연스럽게 새 타일이 만들어집니다.
+ * 클러스터 줌 이하에서는 개별 지점 대신 클러스터 중심점을 피처로 담습니다.
+ */
+@Service
+public class VectorTileService {
+
+    /** 타일 경계 바깥으로 포함할 여유 폭(타일 너비 대비). 경계에 걸친 심볼이 잘리지 않게 합니다. */
+    private static final double BUFFER_RATIO = 64.0 / VectorTileEncoder.EXTENT;
+
+    /** 타일 하나에 담을 최대 피처 수 */
+    private static final int MAX_FEATURES = 20_000;
+
+    private final CrosswalkIndexHolder crosswalkIndexHolder;
+    private final TrafficSignalIndexHolder signalIndexHolder;
+    private final AccidentHotspotIndexHolder hotspotIndexHolder;
+    private final TileCache cache;
+
+    public VectorTileService(CrosswalkIndexHolder crosswalkIndexHolder,
+                             TrafficSignalIndexHolder signalIndexHolder,
+                             AccidentHotspotIndexHolder hotspotIndexHolder,
+                             @Value("${map.tiles.cache-max-bytes:67108864}") long cacheMaxBytes) {
+        this.crosswalkIndexHolder = crosswalkIndexHolder;
+        this.signalIndexHolder = signalIndexHolder;
+        this.hotspotIndexHolder = hotspotIndexHolder;
+        this.cache = new TileCache(cacheMaxBytes);
+    }
+
+    /**
+     * 인코딩된 타일과 ETag입니다.
+     */
+    public record EncodedTile(byte[] body, String etag) {
+    }
+
+    /**
+     * 타일을 반환합니다. 해당 레이어의 인덱스가 아직 적재되지 않았으면 null입니다.
+     */
+    public EncodedTile getTile(TileLayer layer, WebMercatorTile tile) {
+        long version = currentVersion(layer);
+        if (version < 0) {
+            return null;
+        }
+
+        String key = layer.getPath() + "/" + tile.z() + "/" + tile.x() + "/" + tile.y() + "@" + version;
+        String etag = "\"" + layer.getPath() + "-" + version + "-" + tile.z() + "-" + tile.x() + "-" + tile.y() + "\"";
+
+        byte[] body = cache.get(key);
+        if (body == null) {
+            body = render(layer, tile);
+            cache.put(key, body);
+        }
+        return new EncodedTile(body, etag);
+    }
+
+    private long currentVersion(TileLayer layer) {
+        return switch (layer) {
+            case CROSSWALKS -> {
+                CrosswalkIndex index = crosswalkIndexHolder.get();
+                yield index == null ? -1 : index.version();
+            }
+            case SIGNALS -> {
+                TrafficSignalIndex index = signalIndexHolder.get();
+                yield index == null ? -1 : index.version();
+            }
+            case HOTSPOTS -> {
+                AccidentHotspotIndex index = hotspotIndexHolder.get();
+                yield index == null ? -1 : index.version();
+            }
+        };
+    }
+
+    private byte[] render(TileLayer layer, WebMercatorTile tile) {
+        double padLon = (tile.east() - tile.west()) * BUFFER_RATIO;
+        double padLat = (tile.north() - tile.south()) * BUFFER_RATIO;
+        double south = tile.south() - padLat, north = tile.north() + padLat;
+        double west = tile.west() - padLon, east = tile.east() + padLon;
+
+        VectorTileEncoder encoder = new VectorTileEncoder();
+        VectorTileEncoder.Layer out = encoder.layer(layer.getPath());
+
+        switch (layer) {
+            case CROSSWALKS -> renderCrosswalks(crosswalkIndexHolder.get(), tile, south, west, north, east, out);
+            case SIGNALS -> renderSignals(signalIndexHolder.get(), tile, south, west, north, east, out);
+            case HOTSPOTS -> renderHotspots(hotspotIndexHolder.get(), tile, south, west, north, east, out);
+        }
+        return encoder.encode();
+    }
+
+    private void renderCrosswalks(CrosswalkIndex index, WebMercatorTile tile,
+                                  double south, double west, double north, double east, VectorTileEncoder.Layer out) {
+        if (index.isClusteredAt(tile.z())) {
+            for (CrosswalkClusterDto c : index.queryClusters(tile.z(), south, west, north, east, MAX_FEATURES)) {
+                Map<String, Object> attrs = clusterAttrs(c.getCount());
+                attrs.put("signalCount", c.getSignalCount());
+                attrs.put("noSignalCount", c.getNoSignalCount());
+                addPoint(out, -1, tile, c.getLat(), c.getLon(), attrs);
+            }
+            return;
+        }
+        index.forEachInBounds(south, west, north, east, i -> {
+            addPoint(out, i, tile, index.lat(i), index.lon(i), index.featureAttributes(i));
+            return out.size() < MAX_FEATURES;
+        });
+    }
+
+    private void renderSignals(TrafficSignalIndex index, WebMercatorTile tile,
+                               double south, double west, double north, double east, VectorTileEncoder.Layer out) {
+        if (index.isClusteredAt(tile.z())) {
+            List<Cluster> clusters = index.queryClusters(tile.z(), south, west, north, east, MAX_FEATURES);
+            for (Cluster c : clusters) {
+                addPoint(out, -1, tile, c.lat(), c.lon(), clusterAttrs(c.count()));
+            }
+            return;
+        }
+        index.forEachInBounds(south, west, north, east, i -> {
+            addPoint(out, i, tile, index.lat(i), index.lon(i), index.featureAttributes(i));
+            return out.size() < MAX_FEATURES;
+        });
+    }
+
+    private void renderHotspots(AccidentHotspotIndex index, WebMercatorTile tile,
+                                double south, double west, double north, double east, VectorTileEncoder.Layer out) {
+        if (index.isClusteredAt(tile.z())) {
+            for (AccidentClusterDto c : index.queryClusters(tile.z(), south, west, north, east, MAX_FEATURES)) {
+                Map<String, Object> attrs = clusterAttrs(c.getCount());
+                attrs.put("accidentCount", c.getAccidentCount());
+                attrs.put("casualtyCount", c.getCasualtyCount());
+                attrs.put("fatalityCount", c.getFatalityCount());
+                attrs.put("seriousInjuryCount", c.getSeriousInjuryCount());
+                attrs.put("minorInjuryCount", c.getMinorInjuryCount());
+                attrs.put("reportedInjuryCount", c.getReportedInjuryCount());
+                addPoint(out, -1, tile, c.getLat(), c.getLon(), attrs);
+            }
+            return;
+        }
+        index.forEachInBounds(south, west, north, east, i -> {
+            addPoint(out, index.accidentId(i), tile, index.lat(i), index.lon(i), index.featureAttributes(i));
+            return out.size() < MAX_FEATURES;
+        });
+    }
+
+    private static Map<String, Object> clusterAttrs(int count) {
+        Map<String, Object> attrs = new LinkedHashMap<>();
+        attrs.put("cluster", true);
+        attrs.put("point_count", count);
+        return attrs;
+    }
+
+    private static void addPoint(VectorTileEncoder.Layer out, long id, WebMercatorTile tile,
+                                 double lat, double lon, Map<String, Object> attrs) {
+        out.addPoint(id, tile.tileX(lon, VectorTileEncoder.EXTENT), tile.tileY(lat, VectorTileEncoder.EXTENT), attrs);
+    }
+}
@@ -0,0 +1,212 @@
+package com.kdt03.ped_accident.global.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * int 집합을 압축해 담는 불변 비트맵입니다. (Roaring 비트맵과 같은 구조의 최소 구현)
+ * <p>
+ * 값을 상위 16비트로 묶고, 묶음마다 원소가 적으면 정렬된 char 배열(원소당 2바이트),
+ * 4096개를 넘으면 65536비트 비트맵(8KB)으로 담습니다. 사용자 id처럼 듬성듬성한 집합은 배열로,
+ * 몰려 있는 집합은 비트맵으로 저장되어 어느 쪽이든 작습니다.
+ * <p>
+ * 변경 메서드는 바뀐 묶음만 복사한 새 인스턴스를 반환하므로, 읽는 쪽은 잠금 없이 써도 됩니다.
+ */
+public final class IntBitmap {
+
+    public static final IntBitmap EMPTY = new IntBitmap(new char[0], new Object[0], 0);
+
+    /** 배열 묶음의 최대 원소 수. 이보다 많으면 비트맵(1024 long = 배열 4096개와 같은 크기)이 더 작습니다. */
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    /** 묶음 키(상위 16비트), 오름차순 */
+    private final char[] keys;
+    /** 묶음별 하위 16비트. char[](정렬) 또는 long[BITMAP_WORDS] */
+    private final Object[] containers;
+    private final int cardinality;
+
+    private IntBitmap(char[] keys, Object[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    public static IntBitmap of(int... values) {
+        IntBitmap b = EMPTY;
+        for (int v : values) {
+            b = b.with(v);
+        }
+        return b;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        int k = Arrays.binarySearch(keys, high(value));
+        if (k < 0) return false;
+        char low = low(value);
+        return containers[k] instanceof long[] bits
+                ? (bits[low >>> 6] & (1L << low)) != 0
+                : Arrays.binarySearch((char[]) containers[k], low) >= 0;
+    }
+
+    /** value를 더한 집합. 이미 있으면 this */
+    public IntBitmap with(int value) {
+        char high = high(value), low = low(value);
+        int k = Arrays.binarySearch(keys, high);
+        if (k < 0) {
+            int at = -k - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Object[] newContainers = new Object[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(containers, 0, newContainers, 0, at);
+            newKeys[at] = high;
+            newContainers[at] = new char[]{low};
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(containers, at, newContainers, at + 1, keys.length - at);
+            return new IntBitmap(newKeys, newContainers, cardinality + 1);
+        }
+
+        Object replaced;
+        if (containers[k] instanceof long[] bits) {
+            if ((bits[low >>> 6] & (1L << low)) != 0) return this;
+            long[] copy = bits.clone();
+            copy[low >>> 6] |= 1L << low;
+            replaced = copy;
+        } else {
+            char[] arr = (char[]) containers[k];
+            int i = Arrays.binarySearch(arr, low);
+            if (i >= 0) return this;
+            int at = -i - 1;
+            if (arr.length == ARRAY_MAX) {
+                long[] bits = toBitmap(arr);
+                bits[low >>> 6] |= 1L << low;
+                replaced = bits;
+            } else {
+                char[] copy = new char[arr.length + 1];
+                System.arraycopy(arr, 0, copy, 0, at);
+                copy[at] = low;
+                System.arraycopy(arr, at, copy, at + 1, arr.length - at);
+                replaced = copy;
+            }
+        }
+        return replace(k, replaced, cardinality + 1);
+    }
+
+    /** value를 뺀 집합. 없으면 this */
+    public IntBitmap without(int value) {
+        char low = low(value);
+        int k = Arrays.binarySearch(keys, high(value));
+        if (k < 0) return this;
+
+        Object replaced;
+        if (containers[k] instanceof long[] bits) {
+            if ((bits[low >>> 6] & (1L << low)) == 0) return this;
+            long[] copy = bits.clone();
+            copy[low >>> 6] &= ~(1L << low);
+            replaced = count(copy) <= ARRAY_MAX ? toArray(copy) : copy;
+        } else {
+            char[] arr = (char[]) containers[k];
+            int i = Arrays.binarySearch(arr, low);
+            if (i < 0) return this;
+            if (arr.length == 1) {
+                return remove(k);
+            }
+            char[] copy = new char[arr.length - 1];
+            System.arraycopy(arr, 0, copy, 0, i);
+            System.arraycopy(arr, i + 1, copy, i, arr.length - i - 1);
+            replaced = copy;
+        }
+        return replace(k, replaced, cardinality - 1);
+    }
+
+    /** 원소를 묶음 키, 하위 비트 순으로 순회합니다. (음수는 양수 뒤에 나옵니다) */
+    public void forEach(IntConsumer action) {
+        for (int k = 0; k < keys.length; k++) {
+            int base = keys[k] << 16;
+            if (containers[k] instanceof long[] bits) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = bits[w];
+                    while (word != 0) {
+                        action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (char low : (char[]) containers[k]) {
+                    action.accept(base | low);
+                }
+            }
+        }
+    }
+
+    /** 대략적인 사용 메모리(bytes). 묶음 자료만 셉니다. */
+    public long sizeInBytes() {
+        long bytes = keys.length * 2L;
+        for (Object c : containers) {
+            bytes += c instanceof long[] bits ? bits.length * 8L : ((char[]) c).length * 2L;
+        }
+        return bytes;
+    }
+
+    private IntBitmap replace(int k, Object container, int newCardinality) {
+        Object[] newContainers = containers.clone();
+        newContainers[k] = container;
+        return new IntBitmap(keys, newContainers, newCardinality);
+    }
+
+    private IntBitmap remove(int k) {
+        if (keys.length == 1) return EMPTY;
+        char[] newKeys = new char[keys.length - 1];
+        Object[] newContainers = new Object[keys.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, k);
+        System.arraycopy(containers, 0, newContainers, 0, k);
+        System.arraycopy(keys, k + 1, newKeys, k, keys.length - k - 1);
+        System.arraycopy(containers, k + 1, newContainers, k, keys.length - k - 1);
+        return new IntBitmap(newKeys, newContainers, cardinality - 1);
+    }
+
+    private static long[] toBitmap(char[] arr) {
+        long[] bits = new long[BITMAP_WORDS];
+        for (char low : arr) {
+            bits[low >>> 6] |= 1L << low;
+        }
+        return bits;
+    }
+
+    private static char[] toArray(long[] bits) {
+        char[] arr = new char[count(bits)];
+        int p = 0;
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                arr[p++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return arr;
+    }
+
+    private static int count(long[] bits) {
+        int n = 0;
+        for (long word : bits) {
+            n += Long.bitCount(word);
+        }
+        return n;
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+}
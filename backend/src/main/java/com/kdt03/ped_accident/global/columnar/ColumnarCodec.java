@@ -0,0 +1,255 @@
+package com.kdt03.ped_accident.global.columnar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+import com.kdt03.ped_accident.api.dto.response.AccidentDto;
+import com.kdt03.ped_accident.api.dto.response.CrosswalkDto;
+
+/**
+ * 지도 목록 응답의 열 지향 바이너리 인코딩입니다. ({@code Accept: application/x-ped-columnar})
+ * <p>
+ * JSON은 행마다 필드 이름을 반복하므로 5000건 응답의 대부분이 키 문자열입니다.
+ * 이 포맷은 같은 필드를 열로 모아 기록합니다.
+ * <ul>
+ *   <li>헤더: magic 'P','C', 포맷 버전, 데이터 종류, 행 수(varint)</li>
+ *   <li>좌표: 1e-7도 고정소수점 정수를 직전 행과의 차이(zigzag varint)로 기록</li>
+ *   <li>주소/행정코드: 사전(dictionary) 인코딩</li>
+ *   <li>횡단보도 시설 여부: 행당 2바이트 비트 필드 (필드당 2비트, 0 = null / 1 = false / 2 = true)</li>
+ *   <li>집중조명(hasSpotlight) 수, 위험지수/안전지수: null을 구분하는 정수 열 (0 = null)</li>
+ * </ul>
+ * 좌표는 1e-7도(약 1cm), 점수는 1e-6 단위로 반올림됩니다.
+ */
+public final class ColumnarCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-ped-columnar";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    static final int FORMAT_VERSION = 2;
+    static final int KIND_CROSSWALKS = 1;
+    static final int KIND_ACCIDENTS = 2;
+
+    private static final double COORD_SCALE = 1e7;
+    private static final double SCORE_SCALE = 1e6;
+
+    /** 신호등 정보 비트 필드 값 */
+    private static final int SIGNAL_NONE = 0;
+    private static final int SIGNAL_DIRECT = 1;
+    private static final int SIGNAL_MAPPED = 2;
+    /** 신호등은 있으나 출처를 모르는 경우 */
+    private static final int SIGNAL_UNKNOWN = 3;
+
+    private ColumnarCodec() {
+    }
+
+    public static byte[] encodeCrosswalks(List<CrosswalkDto> rows) {
+        int n = rows.size();
+        ColumnarWriter w = new ColumnarWriter(64 + n * 24);
+        header(w, KIND_CROSSWALKS, n);
+
+        for (CrosswalkDto r : rows) {
+            w.string(r.getCw_uid());
+        }
+        List<Double> lat = new ArrayList<>(n);
+        List<Double> lon = new ArrayList<>(n);
+        List<String> address = new ArrayList<>(n);
+        for (CrosswalkDto r : rows) {
+            lat.add(r.getCrosswalk_lat());
+            lon.add(r.getCrosswalk_lon());
+            address.add(r.getAddress());
+        }
+        w.deltaFixedPoint(lat, COORD_SCALE);
+        w.deltaFixedPoint(lon, COORD_SCALE);
+        w.dictionary(address);
+
+        for (CrosswalkDto r : rows) {
+            int flags = tri(r.getIsHighland())
+                    | tri(r.getHasPedButton()) << 2
+                    | tri(r.getHasPedSound()) << 4
+                    | tri(r.getHasBump()) << 6
+                    | tri(r.getHasBrailleBlock()) << 8
+                    | signalCode(r.getHasSignal(), r.getSignalSource()) << 10;
+            w.rawByte(flags & 0xFF);
+            w.rawByte(flags >>> 8);
+        }
+        for (CrosswalkDto r : rows) w.nullableZigzag(r.getHasSpotlight() == null ? null : (long) r.getHasSpotlight());
+        for (CrosswalkDto r : rows) w.nullableZigzag(fixedPoint(r.getRiskScore()));
+        for (CrosswalkDto r : rows) w.nullableZigzag(fixedPoint(r.getSafetyScore()));
+        return w.toByteArray();
+    }
+
+    public static List<CrosswalkDto> decodeCrosswalks(byte[] data) {
+        ColumnarReader r = new ColumnarReader(data);
+        int n = readHeader(r, KIND_CROSSWALKS);
+
+        String[] cwUid = new String[n];
+        for (int i = 0; i < n; i++) {
+            cwUid[i] = r.string();
+        }
+        double[] lat = r.deltaFixedPoint(n, COORD_SCALE);
+        double[] lon = r.deltaFixedPoint(n, COORD_SCALE);
+        String[] address = r.dictionary(n);
+
+        int[] flags = new int[n];
+        for (int i = 0; i < n; i++) {
+            flags[i] = r.rawByte() | r.rawByte() << 8;
+        }
+        Integer[] spotlight = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            Long v = r.nullableZigzag();
+            spotlight[i] = v == null ? null : v.intValue();
+        }
+        Double[] riskScore = new Double[n];
+        for (int i = 0; i < n; i++) riskScore[i] = fromFixedPoint(r.nullableZigzag());
+        Double[] safetyScore = new Double[n];
+        for (int i = 0; i < n; i++) safetyScore[i] = fromFixedPoint(r.nullableZigzag());
+
+        List<CrosswalkDto> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int signal = flags[i] >>> 10 & 3;
+            out.add(CrosswalkDto.builder()
+                    .cw_uid(cwUid[i])
+                    .crosswalk_lat(lat[i])
+                    .crosswalk_lon(lon[i])
+                    .address(address[i])
+                    .isHighland(untri(flags[i] & 3))
+                    .hasPedButton(untri(flags[i] >>> 2 & 3))
+                    .hasPedSound(untri(flags[i] >>> 4 & 3))
+                    .hasBump(untri(flags[i] >>> 6 & 3))
+                    .hasBrailleBlock(untri(flags[i] >>> 8 & 3))
+                    .hasSpotlight(spotlight[i])
+                    .hasSignal(signal != SIGNAL_NONE)
+                    .signalSource(signalSourceName(signal))
+                    .riskScore(riskScore[i])
+                    .safetyScore(safetyScore[i])
+                    .build());
+        }
+        return out;
+    }
+
+    public static byte[] encodeAccidents(List<AccidentDto> rows) {
+        int n = rows.size();
+        ColumnarWriter w = new ColumnarWriter(64 + n * 20);
+        header(w, KIND_ACCIDENTS, n);
+
+        long prevId = 0;
+        for (AccidentDto a : rows) {
+            long id = a.getAccidentId() == null ? 0 : a.getAccidentId();
+            w.zigzag(id - prevId);
+            prevId = id;
+        }
+
+        List<String> districtCode = new ArrayList<>(n);
+        List<Double> lat = new ArrayList<>(n);
+        List<Double> lon = new ArrayList<>(n);
+        for (AccidentDto a : rows) {
+            districtCode.add(a.getDistrictCode());
+            lat.add(a.getAccidentLat());
+            lon.add(a.getAccidentLon());
+        }
+        w.dictionary(districtCode);
+
+        for (AccidentDto a : rows) w.varint(nz(a.getYear()));
+        for (AccidentDto a : rows) w.varint(nz(a.getAccidentCount()));
+        for (AccidentDto a : rows) w.varint(nz(a.getCasualtyCount()));
+        for (AccidentDto a : rows) w.varint(nz(a.getFatalityCount()));
+        for (AccidentDto a : rows) w.varint(nz(a.getSeriousInjuryCount()));
+        for (AccidentDto a : rows) w.varint(nz(a.getMinorInjuryCount()));
+        for (AccidentDto a : rows) w.varint(nz(a.getReportedInjuryCount()));
+
+        w.deltaFixedPoint(lat, COORD_SCALE);
+        w.deltaFixedPoint(lon, COORD_SCALE);
+        return w.toByteArray();
+    }
+
+    public static List<AccidentDto> decodeAccidents(byte[] data) {
+        ColumnarReader r = new ColumnarReader(data);
+        int n = readHeader(r, KIND_ACCIDENTS);
+
+        long[] id = new long[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            prev += r.zigzag();
+            id[i] = prev;
+        }
+        String[] districtCode = r.dictionary(n);
+        int[][] ints = new int[7][n];
+        for (int[] column : ints) {
+            for (int i = 0; i < n; i++) {
+                column[i] = (int) r.varint();
+            }
+        }
+        double[] lat = r.deltaFixedPoint(n, COORD_SCALE);
+        double[] lon = r.deltaFixedPoint(n, COORD_SCALE);
+
+        List<AccidentDto> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add(AccidentDto.builder()
+                    .accidentId(id[i])
+                    .districtCode(districtCode[i])
+                    .year(ints[0][i])
+                    .accidentCount(ints[1][i])
+                    .casualtyCount(ints[2][i])
+                    .fatalityCount(ints[3][i])
+                    .seriousInjuryCount(ints[4][i])
+                    .minorInjuryCount(ints[5][i])
+                    .reportedInjuryCount(ints[6][i])
+                    .accidentLat(lat[i])
+                    .accidentLon(lon[i])
+                    .build());
+        }
+        return out;
+    }
+
+    private static void header(ColumnarWriter w, int kind, int n) {
+        w.rawByte('P');
+        w.rawByte('C');
+        w.rawByte(FORMAT_VERSION);
+        w.rawByte(kind);
+        w.varint(n);
+    }
+
+    private static int readHeader(ColumnarReader r, int kind) {
+        if (r.rawByte() != 'P' || r.rawByte() != 'C' || r.rawByte() != FORMAT_VERSION || r.rawByte() != kind) {
+            throw new IllegalArgumentException("지원하지 않는 열 지향 포맷입니다.");
+        }
+        return (int) r.varint();
+    }
+
+    private static int tri(Boolean v) {
+        return v == null ? 0 : v ? 2 : 1;
+    }
+
+    private static Boolean untri(int v) {
+        return v == 0 ? null : v == 2;
+    }
+
+    private static int signalCode(Boolean hasSignal, String source) {
+        if ("direct".equals(source)) return SIGNAL_DIRECT;
+        if ("mapped".equals(source)) return SIGNAL_MAPPED;
+        return Boolean.TRUE.equals(hasSignal) ? SIGNAL_UNKNOWN : SIGNAL_NONE;
+    }
+
+    private static String signalSourceName(int code) {
+        return switch (code) {
+            case SIGNAL_DIRECT -> "direct";
+            case SIGNAL_MAPPED -> "mapped";
+            case SIGNAL_UNKNOWN -> null;
+            default -> "none";
+        };
+    }
+
+    private static Long fixedPoint(Double v) {
+        return v == null ? null : Math.round(v * SCORE_SCALE);
+    }
+
+    private static Double fromFixedPoint(Long v) {
+        return v == null ? null : v / SCORE_SCALE;
+    }
+
+    private static int nz(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
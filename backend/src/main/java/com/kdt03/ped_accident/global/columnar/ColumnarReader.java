@@ -0,0 +1,73 @@
+package com.kdt03.ped_accident.global.columnar;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link ColumnarWriter}로 쓴 데이터를 읽습니다.
+ */
+final class ColumnarReader {
+
+    private final byte[] buf;
+    private int pos;
+
+    ColumnarReader(byte[] buf) {
+        this.buf = buf;
+    }
+
+    int rawByte() {
+        return buf[pos++] & 0xFF;
+    }
+
+    long varint() {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            int b = rawByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+            shift += 7;
+        }
+    }
+
+    long zigzag() {
+        long v = varint();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    Long nullableZigzag() {
+        long v = varint();
+        if (v == 0) return null;
+        v -= 1;
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    String string() {
+        int len = (int) varint();
+        String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+        pos += len;
+        return s;
+    }
+
+    double[] deltaFixedPoint(int n, double scale) {
+        double[] out = new double[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            prev += zigzag();
+            out[i] = prev / scale;
+        }
+        return out;
+    }
+
+    String[] dictionary(int n) {
+        String[] dict = new String[(int) varint()];
+        for (int k = 0; k < dict.length; k++) {
+            dict[k] = string();
+        }
+        String[] out = new String[n];
+        for (int i = 0; i < n; i++) {
+            int code = (int) varint();
+            out[i] = code == 0 ? null : dict[code - 1];
+        }
+        return out;
+    }
+}
@@ -0,0 +1,96 @@
+package com.kdt03.ped_accident.global.columnar;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 열 지향 바이너리 포맷의 기본 쓰기 도구입니다.
+ * <p>
+ * 정수는 LEB128 varint(부호 있는 값은 zigzag)로, 문자열은 길이 + UTF-8로 씁니다.
+ * 열 단위로 값을 모아 쓰기 때문에 비슷한 값이 이어져 압축(gzip) 효율도 좋아집니다.
+ */
+final class ColumnarWriter {
+
+    private final ByteArrayOutputStream out;
+
+    ColumnarWriter(int expectedSize) {
+        this.out = new ByteArrayOutputStream(expectedSize);
+    }
+
+    void rawByte(int b) {
+        out.write(b);
+    }
+
+    void varint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    void zigzag(long value) {
+        varint((value << 1) ^ (value >> 63));
+    }
+
+    /** null을 구분하는 정수 값입니다. 0 = null, 그 외에는 zigzag(value) + 1 */
+    void nullableZigzag(Long value) {
+        varint(value == null ? 0 : ((value << 1) ^ (value >> 63)) + 1);
+    }
+
+    /** null은 길이 0으로 기록되므로 빈 문자열과 구분되지 않습니다. null이 중요한 열은 사전 열을 쓰십시오. */
+    void string(String s) {
+        byte[] b = s == null ? new byte[0] : s.getBytes(StandardCharsets.UTF_8);
+        varint(b.length);
+        out.writeBytes(b);
+    }
+
+    /**
+     * 고정소수점(값 × scale) 정수로 바꾼 뒤 직전 값과의 차이를 기록합니다. null은 0으로 기록됩니다.
+     */
+    void deltaFixedPoint(List<Double> values, double scale) {
+        long prev = 0;
+        for (Double v : values) {
+            long cur = v == null ? 0 : Math.round(v * scale);
+            zigzag(cur - prev);
+            prev = cur;
+        }
+    }
+
+    /**
+     * 사전(dictionary) 인코딩 열입니다. 처음 등장한 순서대로 사전을 만들고,
+     * 행마다 사전 번호 + 1을 기록합니다. (0 = null)
+     */
+    void dictionary(List<String> values) {
+        Map<String, Integer> codes = new HashMap<>();
+        int[] rowCodes = new int[values.size()];
+        List<String> dict = new ArrayList<>();
+        for (int i = 0; i < rowCodes.length; i++) {
+            String v = values.get(i);
+            if (v == null) continue;
+            Integer code = codes.get(v);
+            if (code == null) {
+                code = dict.size() + 1;
+                codes.put(v, code);
+                dict.add(v);
+            }
+            rowCodes[i] = code;
+        }
+
+        varint(dict.size());
+        for (String s : dict) {
+            string(s);
+        }
+        for (int code : rowCodes) {
+            varint(code);
+        }
+    }
+
+    byte[] toByteArray() {
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,20 @@
+package com.kdt03.ped_accident.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.kdt03.ped_accident.global.score.SafetyScoreTable;
+
+@Configuration
+public class ScoreConfig {
+
+    /**
+     * 안전지수 조회표. 가중치는 신호, 버튼, 음향, 고원식, 과속방지턱, 점자블록, 조명 순서입니다.
+     */
+    @Bean
+    public SafetyScoreTable safetyScoreTable(
+            @Value("${score.safety.weights:30,10,15,20,8,12,15}") int[] weights) {
+        return SafetyScoreTable.of(weights);
+    }
+}
@@ -0,0 +1,24 @@
+package com.kdt03.ped_accident.global.event;
+
+/**
+ * 외부에서 재적재될 수 있는 기준 데이터셋(테이블) 목록입니다.
+ */
+public enum Dataset {
+    CROSSWALKS("crosswalks"),
+    CROSSWALK_SIGNAL_MAP("crosswalk_signal_map"),
+    CW_ACC_MAP("cw_acc_map"),
+    SIGNALS("signals"),
+    ACCIDENTS("accidents"),
+    ACCIDENT_HOTSPOTS("accident_hotspots"),
+    DISTRICT_WITH_LAT_LON("district_with_lat_lon");
+
+    private final String table;
+
+    Dataset(String table) {
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,31 @@
+package com.kdt03.ped_accident.global.event;
+
+import java.util.Set;
+
+/**
+ * 증분 적재로 바뀐 행의 키 목록입니다. 캐시는 이것으로 다시 계산할 범위를 줄일 수 있습니다.
+ *
+ * @param inserted 새로 생긴 행
+ * @param updated  값이 바뀐 행 ({@code moved} 포함)
+ * @param deleted  없어진 행
+ * @param moved    위치(위도·경도)가 바뀐 행
+ */
+public record DatasetChangeSet(Set<String> inserted, Set<String> updated, Set<String> deleted, Set<String> moved) {
+
+    public boolean isEmpty() {
+        return inserted.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+    }
+
+    /**
+     * 행이 생기거나 없어지거나 움직였는지 여부입니다. 아니면 공간 인덱스·공간 조인 결과(매핑 테이블)는
+     * 그대로 유효하고 속성만 바뀐 것입니다.
+     */
+    public boolean affectsLocations() {
+        return !inserted.isEmpty() || !deleted.isEmpty() || !moved.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "+" + inserted.size() + " ~" + updated.size() + " -" + deleted.size() + " (이동 " + moved.size() + ")";
+    }
+}
@@ -0,0 +1,15 @@
+package com.kdt03.ped_accident.global.event;
+
+/**
+ * 기준 데이터셋이 변경(재적재)되었음을 알리는 애플리케이션 이벤트입니다.
+ * 파생 컬럼, 메모리 인덱스 등은 이 이벤트를 받아 다시 계산합니다.
+ *
+ * @param dataset 바뀐 데이터셋
+ * @param changes 행 단위 변경 내역. 통째로 다시 적재했거나 알 수 없으면 null
+ */
+public record DatasetChangedEvent(Dataset dataset, DatasetChangeSet changes) {
+
+    public DatasetChangedEvent(Dataset dataset) {
+        this(dataset, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.kdt03.ped_accident.global.ingest;
+
+/**
+ * 적재 컬럼의 값 형식과 검증 규칙입니다. 빈 값(null)은 여기까지 오지 않습니다.
+ */
+public enum ColumnType {
+
+    STRING {
+        @Override
+        Object parse(String raw) {
+            return raw;
+        }
+    },
+    INT {
+        @Override
+        Object parse(String raw) {
+            return Integer.parseInt(stripDecimal(raw));
+        }
+    },
+    LONG {
+        @Override
+        Object parse(String raw) {
+            return Long.parseLong(stripDecimal(raw));
+        }
+    },
+    DOUBLE {
+        @Override
+        Object parse(String raw) {
+            double v = Double.parseDouble(raw);
+            if (!Double.isFinite(v)) throw new IllegalArgumentException("유한한 수가 아님");
+            return v;
+        }
+    },
+    LAT {
+        @Override
+        Object parse(String raw) {
+            double v = (double) DOUBLE.parse(raw);
+            if (v < -90 || v > 90) throw new IllegalArgumentException("위도 범위 밖");
+            return v;
+        }
+    },
+    LON {
+        @Override
+        Object parse(String raw) {
+            double v = (double) DOUBLE.parse(raw);
+            if (v < -180 || v > 180) throw new IllegalArgumentException("경도 범위 밖");
+            return v;
+        }
+    },
+    /** 1/0, Y/N, true/false → 1/0 */
+    FLAG {
+        @Override
+        Object parse(String raw) {
+            return switch (raw.toUpperCase()) {
+                case "1", "1.0", "Y", "TRUE" -> 1;
+                case "0", "0.0", "N", "FALSE" -> 0;
+                default -> throw new IllegalArgumentException("플래그 값이 아님");
+            };
+        }
+    };
+
+    /**
+     * 값을 JDBC 파라미터로 바꿉니다.
+     *
+     * @throws IllegalArgumentException 형식이나 범위가 맞지 않으면
+     */
+    abstract Object parse(String raw);
+
+    /** pandas가 정수 컬럼을 "12.0"으로 쓴 경우를 받아 줍니다. */
+    private static String stripDecimal(String raw) {
+        return raw.endsWith(".0") ? raw.substring(0, raw.length() - 2) : raw;
+    }
+}
@@ -0,0 +1,113 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV를 한 행씩 읽는 스트리밍 파서입니다. 파일 전체를 메모리에 올리지 않습니다.
+ * <p>
+ * 큰따옴표로 감싼 필드 안의 쉼표·줄바꿈과 {@code ""} 이스케이프를 지원하고, 맨 앞 UTF-8 BOM은 건너뜁니다.
+ * 줄 끝은 LF와 CRLF 모두 받습니다.
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int BUFFER = 1 << 16;
+
+    private final Reader in;
+    private final char[] buf = new char[BUFFER];
+    private int pos;
+    private int len;
+    private boolean first = true;
+    private long line;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /** 지금까지 읽은 물리적 줄 수 (오류 메시지용) */
+    public long line() {
+        return line;
+    }
+
+    /**
+     * 다음 행을 반환합니다. 파일 끝이면 null입니다.
+     */
+    public String[] next() throws IOException {
+        int c = read();
+        if (c < 0) return null;
+        if (first) {
+            first = false;
+            if (c == '﻿') {
+                c = read();
+                if (c < 0) return null;
+            }
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("닫히지 않은 따옴표 (줄 " + line + ")");
+                }
+                if (c == '"') {
+                    int d = read();
+                    if (d == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = d;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(value(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n' || c < 0) {
+                line++;
+                fields.add(value(field, wasQuoted));
+                return fields.toArray(String[]::new);
+            } else if (c == '\r') {
+                // CRLF의 CR은 버립니다.
+            } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** 따옴표 없는 빈 필드는 null(SQL NULL)로 봅니다. */
+    private static String value(StringBuilder field, boolean wasQuoted) {
+        return field.length() == 0 && !wasQuoted ? null : field.toString();
+    }
+
+    private int read() throws IOException {
+        if (pos == len) {
+            len = in.read(buf, 0, BUFFER);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buf[pos++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
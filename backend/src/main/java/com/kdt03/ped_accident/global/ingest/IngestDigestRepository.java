@@ -0,0 +1,82 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 증분 적재용 행 해시(ingest_digests)를 관리합니다.
+ * <p>
+ * 적재 도구만 쓰는 테이블이라 엔티티에 매핑하지 않으며(스키마 검증 대상 아님), 스크립트로 만듭니다.
+ * 쓰기는 호출자가 연 트랜잭션 안에서 대상 테이블과 함께 커밋됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IngestDigestRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO ingest_digests (table_name, row_key, row_digest, location_digest)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE row_digest = VALUES(row_digest), location_digest = VALUES(location_digest)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * ingest_digests 테이블이 없으면 예외를 던집니다. 테이블은 db/migration/V3__ingest_digests.sql로 만듭니다.
+     */
+    public void requireTable() {
+        try {
+            jdbcTemplate.queryForList("SELECT 1 FROM ingest_digests WHERE 1 = 0");
+        } catch (BadSqlGrammarException e) {
+            throw new IllegalStateException(
+                    "ingest_digests 테이블이 없습니다. db/migration/V3__ingest_digests.sql을 적용하세요.", e);
+        }
+    }
+
+    public boolean hasDigests(String table) {
+        Integer n = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM ingest_digests WHERE table_name = ? LIMIT 1) t", Integer.class, table);
+        return n != null && n > 0;
+    }
+
+    /**
+     * 테이블의 모든 해시를 handler에 넘깁니다. 컬럼 순서: row_key, row_digest, location_digest
+     */
+    public void streamAll(String table, RowCallbackHandler handler) {
+        jdbcTemplate.query((Connection con) -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT row_key, row_digest, location_digest FROM ingest_digests WHERE table_name = ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setString(1, table);
+            return ps;
+        }, handler);
+    }
+
+    public int deleteAll(String table) {
+        return jdbcTemplate.update("DELETE FROM ingest_digests WHERE table_name = ?", table);
+    }
+
+    /**
+     * @param rows (table_name, row_key, row_digest, location_digest)
+     */
+    public void upsertBatch(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+
+    /**
+     * @param rows (table_name, row_key)
+     */
+    public void deleteBatch(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("DELETE FROM ingest_digests WHERE table_name = ? AND row_key = ?", rows);
+    }
+}
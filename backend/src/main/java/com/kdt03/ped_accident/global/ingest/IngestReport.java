@@ -0,0 +1,33 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kdt03.ped_accident.global.event.DatasetChangeSet;
+
+/**
+ * 테이블 하나의 일괄 적재 결과입니다.
+ *
+ * @param table         적재한 테이블
+ * @param read          CSV에서 읽은 행 수 (헤더 제외)
+ * @param written       DB에 쓴(증분 적재면 추가·수정·삭제한) 행 수
+ * @param rejected      검증에서 거부한 행 수
+ * @param changes       증분 적재의 변경 내역. 전체 적재면 null
+ * @param elapsedMs     읽기부터 커밋까지 걸린 시간
+ * @param rowsPerSecond 초당 읽은 행 수
+ */
+public record IngestReport(String table, long read, long written, long rejected, @JsonIgnore DatasetChangeSet changes,
+                           long elapsedMs, long rowsPerSecond) {
+
+    public static IngestReport of(String table, long read, long written, long rejected, DatasetChangeSet changes,
+                                  long elapsedNanos) {
+        long ms = elapsedNanos / 1_000_000;
+        return new IngestReport(table, read, written, rejected, changes, ms,
+                elapsedNanos == 0 ? 0 : read * 1_000_000_000L / elapsedNanos);
+    }
+
+    /** 응답에는 키 목록 대신 건수만 싣습니다. */
+    @JsonProperty("changes")
+    public String changeSummary() {
+        return changes == null ? null : changes.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일괄 적재 명령행 모드입니다. ingest.tables가 있을 때만 켜지며, 적재가 끝나면 프로세스를 끝냅니다.
+ * <pre>
+ * java -jar backend.jar --spring.main.web-application-type=none \
+ *      --ingest.tables=all --ingest.dir=../dataset
+ * </pre>
+ * ingest.tables는 {@link IngestTable} 이름을 쉼표로 나열하거나 all이며, 순서와 무관하게 외래 키 순서로 적재합니다.
+ * all이면 선택 파일({@link IngestTable#isOptional()})이 없는 테이블은 경고만 남기고 건너뜁니다.
+ * 하나라도 실패하면 나머지는 건너뛰고 종료 코드 1로 끝납니다.
+ * <p>
+ * {@code --ingest.mode=incremental}이면 공공데이터가 다시 배포되었을 때처럼 바뀐 행만 반영합니다.
+ * ({@link IngestService#ingestIncremental}) 키가 없는 매핑 테이블은 이 모드에서도 전체 적재합니다.
+ * <p>
+ * 이 프로세스는 따로 떠 있는 서버의 메모리 인덱스를 모르므로, 적재 후에는 서버에
+ * {@code POST /api/admin/datasets/{dataset}/changed}를 보내야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingest.tables")
+public class IngestRunner implements ApplicationRunner {
+
+    private final IngestService ingestService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${ingest.tables}")
+    private String tables;
+
+    /** full | incremental */
+    @Value("${ingest.mode:full}")
+    private String mode;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean incremental = "incremental".equalsIgnoreCase(mode);
+        int code = 0;
+        boolean all = isAll(tables);
+        List<IngestReport> reports = new ArrayList<>();
+        for (IngestTable table : parse(tables)) {
+            Path file = ingestService.defaultFile(table);
+            if (all && table.isOptional() && !Files.exists(file)) {
+                log.warn("{} 건너뜀: 선택 파일 {} 없음", table.getTable(), file);
+                continue;
+            }
+            try {
+                reports.add(incremental && table.isKeyed()
+                        ? ingestService.ingestIncremental(table, file)
+                        : ingestService.ingest(table, file));
+            } catch (Exception e) {
+                log.error("{} 적재 실패 ({})", table.getTable(), file, e);
+                code = 1;
+                break;
+            }
+        }
+
+        long rows = 0, rejected = 0, ms = 0;
+        for (IngestReport r : reports) {
+            log.info("  {} : {}행 쓰기, {}행 거부, {}ms, {}행/초{}",
+                    r.table(), r.written(), r.rejected(), r.elapsedMs(), r.rowsPerSecond(),
+                    r.changes() == null ? "" : ", 변경 " + r.changes());
+            rows += r.read();
+            rejected += r.rejected();
+            ms += r.elapsedMs();
+        }
+        log.info("일괄 적재 {}: {}개 테이블, {}행, {}행 거부, {}ms", code == 0 ? "완료" : "중단",
+                reports.size(), rows, rejected, ms);
+
+        int exit = code;
+        System.exit(SpringApplication.exit(context, () -> exit));
+    }
+
+    static boolean isAll(String tables) {
+        for (String name : tables.split(",")) {
+            if (name.trim().equalsIgnoreCase("all")) return true;
+        }
+        return false;
+    }
+
+    static Set<IngestTable> parse(String tables) {
+        Set<IngestTable> out = EnumSet.noneOf(IngestTable.class);
+        for (String name : tables.split(",")) {
+            String n = name.trim().toUpperCase(Locale.ROOT);
+            if (n.isEmpty()) continue;
+            if (n.equals("ALL")) return EnumSet.allOf(IngestTable.class);
+            out.add(IngestTable.valueOf(n));
+        }
+        return out;
+    }
+}
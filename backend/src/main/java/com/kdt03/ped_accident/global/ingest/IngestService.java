@@ -0,0 +1,464 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdt03.ped_accident.global.event.DatasetChangeSet;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 참조 데이터 CSV를 테이블에 적재합니다.
+ * <p>
+ * 읽기(CSV 파싱) → 검증(형식 변환) → 쓰기(JDBC 배치)의 세 단계가 각자 스레드에서 돌고,
+ * 단계 사이는 크기가 정해진 큐로 이어져 있습니다. 한 번에 메모리에 있는 행은 많아야
+ * {@code (QUEUE_DEPTH * 2 + 3) * BATCH_SIZE}개라 파일 크기와 무관합니다.
+ * 쓰기가 느리면 큐가 차서 읽기가 기다립니다.
+ * <p>
+ * 쓰기는 한 트랜잭션 안에서 이루어져 실패하면 이전 데이터가 그대로 남습니다.
+ * 외래 키 검사는 적재하는 동안만 끕니다. (연결 테이블이 잠시 고아 행을 가리킬 수 있습니다)
+ * <ul>
+ *   <li>{@link #ingest}: 기존 행을 지우고 통째로 다시 씁니다.</li>
+ *   <li>{@link #ingestIncremental}: 행 해시를 저장된 해시(ingest_digests)와 비교해 바뀐 행만 쓰고,
+ *       변경 내역({@link DatasetChangeSet})을 이벤트로 알립니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestService {
+
+    static final int BATCH_SIZE = 5_000;
+    private static final int QUEUE_DEPTH = 8;
+
+    /** 거부 사유를 로그에 남기는 최대 행 수 (테이블마다) */
+    private static final int MAX_LOGGED_REJECTS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IngestDigestRepository digestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${ingest.dir:../dataset}")
+    private String dir;
+
+    /** ingest.dir 아래의 기본 CSV 경로 */
+    public Path defaultFile(IngestTable table) {
+        return Path.of(dir, table.getFile());
+    }
+
+    /**
+     * {@code file}의 내용으로 테이블을 바꿉니다. 첫 줄은 헤더로 보고 건너뜁니다.
+     * 키가 유일한 테이블은 다음 증분 적재를 위해 행 해시도 새로 남깁니다.
+     *
+     * @throws IOException 파일을 읽지 못하거나 CSV 형식이 깨졌으면 (DB는 바뀌지 않습니다)
+     */
+    public IngestReport ingest(IngestTable table, Path file) throws IOException {
+        if (table.isKeyed()) {
+            digestRepository.requireTable();
+        }
+        long started = System.nanoTime();
+        AtomicLong read = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        long written = runPipeline(table, file, read, rejected, null, valid -> {
+            jdbcTemplate.update("DELETE FROM " + table.getTable());
+            if (table.isKeyed()) {
+                digestRepository.deleteAll(table.getTable());
+            }
+            long n = 0;
+            for (Batch<Object[]> batch = valid.take(); batch.rows() != null; batch = valid.take()) {
+                jdbcTemplate.batchUpdate(table.getInsertSql(), batch.rows());
+                if (table.isKeyed()) {
+                    List<Object[]> digests = new ArrayList<>(batch.size());
+                    for (Object[] row : batch.rows()) {
+                        digests.add(digestRow(table, row));
+                    }
+                    digestRepository.upsertBatch(digests);
+                }
+                n += batch.size();
+            }
+            return n;
+        });
+
+        IngestReport report = IngestReport.of(table.getTable(), read.get(), written, rejected.get(), null,
+                System.nanoTime() - started);
+        log.info("일괄 적재: {}", report);
+        if (table.getDataset() != null) {
+            eventPublisher.publishEvent(new DatasetChangedEvent(table.getDataset()));
+        }
+        return report;
+    }
+
+    /**
+     * 바뀐 행만 반영합니다. 저장된 해시가 없으면(처음 실행) {@link #ingest}로 대신합니다.
+     * <p>
+     * 저장된 해시를 키 → 번호 표로 올려 두고 CSV를 한 번 훑으면서, 없던 키는 INSERT, 해시가 다른 키는 UPDATE,
+     * 끝까지 나오지 않은 키는 DELETE합니다. 같은 키가 두 번 나오면 뒤의 행을 거부합니다.
+     * 검증에서 거부된 행의 키는 파일에 있는 것으로 보고 지우지 않으므로, 값 하나가 틀린 행 때문에
+     * 운영 중인 행이 사라지지 않습니다. (기존 값이 그대로 남습니다)
+     * 바뀐 것이 없으면 이벤트를 보내지 않으므로 파생 테이블·캐시도 다시 계산되지 않습니다.
+     *
+     * @throws IllegalArgumentException 키가 유일하지 않은 테이블이면
+     */
+    public IngestReport ingestIncremental(IngestTable table, Path file) throws IOException {
+        if (!table.isKeyed()) {
+            throw new IllegalArgumentException(table.getTable() + "는 행 키가 없어 증분 적재할 수 없습니다.");
+        }
+        digestRepository.requireTable();
+        if (!digestRepository.hasDigests(table.getTable())) {
+            log.info("{}: 저장된 행 해시가 없어 전체 적재합니다.", table.getTable());
+            return ingest(table, file);
+        }
+
+        long started = System.nanoTime();
+        StoredDigests stored = StoredDigests.load(digestRepository, table.getTable());
+        AtomicLong read = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        Set<String> inserted = new HashSet<>(), updated = new HashSet<>(), deleted = new HashSet<>(), moved = new HashSet<>();
+        // 검증에서 거부된 행의 키. 파일에는 있으므로 지우지 않고 기존 행을 그대로 둡니다.
+        Set<String> rejectedKeys = ConcurrentHashMap.newKeySet();
+
+        long written = runPipeline(table, file, read, rejected, rejectedKeys, valid -> {
+            List<Object[]> inserts = new ArrayList<>(), updates = new ArrayList<>(), digests = new ArrayList<>();
+            long n = 0;
+            for (Batch<Object[]> batch = valid.take(); batch.rows() != null; batch = valid.take()) {
+                for (Object[] row : batch.rows()) {
+                    String key = IngestTable.key(row);
+                    long digest = table.rowDigest(row);
+                    int i = stored.ordinal(key);
+                    if (i < 0) {
+                        if (!inserted.add(key)) {
+                            duplicate(table, key, rejected);
+                            continue;
+                        }
+                        inserts.add(row);
+                    } else {
+                        if (stored.seen[i]) {
+                            duplicate(table, key, rejected);
+                            continue;
+                        }
+                        stored.seen[i] = true;
+                        if (stored.rowDigest[i] == digest) continue;
+                        updated.add(key);
+                        if (stored.locationDigest[i] != table.locationDigest(row)) moved.add(key);
+                        updates.add(IngestTable.toUpdateParams(row));
+                    }
+                    digests.add(digestRow(table, row));
+                }
+                if (inserts.size() + updates.size() >= BATCH_SIZE) {
+                    n += flush(table, inserts, updates, digests);
+                }
+            }
+            n += flush(table, inserts, updates, digests);
+
+            List<Object[]> deletes = new ArrayList<>(), digestDeletes = new ArrayList<>();
+            int kept = 0;
+            for (int i = 0; i < stored.size(); i++) {
+                if (stored.seen[i]) continue;
+                if (rejectedKeys.contains(stored.keys[i])) {
+                    kept++;
+                    continue;
+                }
+                deleted.add(stored.keys[i]);
+                deletes.add(new Object[]{stored.keys[i]});
+                digestDeletes.add(new Object[]{table.getTable(), stored.keys[i]});
+                if (deletes.size() == BATCH_SIZE) {
+                    n += deleteBatch(table, deletes, digestDeletes);
+                }
+            }
+            n += deleteBatch(table, deletes, digestDeletes);
+            if (kept > 0) {
+                log.warn("{}: 거부된 행 {}건은 기존 값을 유지합니다.", table.getTable(), kept);
+            }
+            return n;
+        });
+
+        DatasetChangeSet changes = new DatasetChangeSet(Set.copyOf(inserted), Set.copyOf(updated),
+                Set.copyOf(deleted), Set.copyOf(moved));
+        IngestReport report = IngestReport.of(table.getTable(), read.get(), written, rejected.get(), changes,
+                System.nanoTime() - started);
+        log.info("증분 적재: {}", report);
+        if (table.getDataset() != null && !changes.isEmpty()) {
+            eventPublisher.publishEvent(new DatasetChangedEvent(table.getDataset(), changes));
+        }
+        return report;
+    }
+
+    /**
+     * 읽기·검증 단계를 띄우고, 쓰기 단계({@code sink})를 호출한 스레드에서 한 트랜잭션으로 실행합니다.
+     *
+     * @return sink가 쓴 행 수
+     */
+    private long runPipeline(IngestTable table, Path file, AtomicLong read, AtomicLong rejected,
+                             Set<String> rejectedKeys, Sink sink)
+            throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("파일이 없습니다: " + file);
+        }
+
+        BlockingQueue<Batch<String[]>> parsed = new ArrayBlockingQueue<>(QUEUE_DEPTH);
+        BlockingQueue<Batch<Object[]>> valid = new ArrayBlockingQueue<>(QUEUE_DEPTH);
+
+        ExecutorService stages = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "ingest-" + table.getTable());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            Future<?> reader = stages.submit(() -> {
+                readStage(file, parsed, read);
+                return null;
+            });
+            Future<?> validator = stages.submit(() -> {
+                validateStage(table, parsed, valid, rejected, rejectedKeys);
+                return null;
+            });
+
+            Long written;
+            try {
+                written = transactionTemplate.execute(status -> {
+                    jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+                    try {
+                        return sink.write(new FailFastQueue(valid));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("적재가 중단되었습니다.", e);
+                    } finally {
+                        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+                    }
+                });
+            } catch (StageFailedException e) {
+                // 앞 단계가 실패하면 트랜잭션은 롤백되고 원래 예외를 그대로 알립니다.
+                if (e.getCause() instanceof IOException io) throw io;
+                throw e;
+            }
+            await(reader);
+            await(validator);
+            return written == null ? 0 : written;
+        } finally {
+            stages.shutdownNow();
+        }
+    }
+
+    private long flush(IngestTable table, List<Object[]> inserts, List<Object[]> updates, List<Object[]> digests) {
+        if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(table.getInsertSql(), inserts);
+        if (!updates.isEmpty()) jdbcTemplate.batchUpdate(table.getUpdateSql(), updates);
+        if (!digests.isEmpty()) digestRepository.upsertBatch(digests);
+        long n = inserts.size() + updates.size();
+        inserts.clear();
+        updates.clear();
+        digests.clear();
+        return n;
+    }
+
+    private long deleteBatch(IngestTable table, List<Object[]> deletes, List<Object[]> digestDeletes) {
+        if (deletes.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate(table.getDeleteSql(), deletes);
+        digestRepository.deleteBatch(digestDeletes);
+        long n = deletes.size();
+        deletes.clear();
+        digestDeletes.clear();
+        return n;
+    }
+
+    private static Object[] digestRow(IngestTable table, Object[] row) {
+        return new Object[]{table.getTable(), IngestTable.key(row), table.rowDigest(row), table.locationDigest(row)};
+    }
+
+    private static void duplicate(IngestTable table, String key, AtomicLong rejected) {
+        if (rejected.incrementAndGet() <= MAX_LOGGED_REJECTS) {
+            log.warn("{} 행 거부: 중복 키 (키={})", table.getTable(), key);
+        }
+    }
+
+    private void readStage(Path file, BlockingQueue<Batch<String[]>> out, AtomicLong read) throws Exception {
+        List<String[]> rows = new ArrayList<>(BATCH_SIZE);
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            csv.next(); // 헤더
+            String[] row;
+            while ((row = csv.next()) != null) {
+                if (row.length == 1 && row[0] == null) continue; // 빈 줄
+                rows.add(row);
+                read.incrementAndGet();
+                if (rows.size() == BATCH_SIZE) {
+                    out.put(Batch.of(rows));
+                    rows = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!rows.isEmpty()) out.put(Batch.of(rows));
+            out.put(Batch.end());
+        } catch (Exception e) {
+            fail(out, e);
+            throw e;
+        }
+    }
+
+    private void validateStage(IngestTable table, BlockingQueue<Batch<String[]>> in,
+                               BlockingQueue<Batch<Object[]>> out, AtomicLong rejected,
+                               Set<String> rejectedKeys) throws InterruptedException {
+        try {
+            while (true) {
+                Batch<String[]> batch = in.take();
+                if (batch.rows() == null) {
+                    if (batch.failure() != null) fail(out, batch.failure());
+                    else out.put(Batch.end());
+                    return;
+                }
+                List<Object[]> converted = new ArrayList<>(batch.rows().size());
+                for (String[] raw : batch.rows()) {
+                    try {
+                        converted.add(table.convert(raw));
+                    } catch (IllegalArgumentException e) {
+                        if (rejectedKeys != null) {
+                            String key = table.rawKey(raw);
+                            if (key != null) rejectedKeys.add(key);
+                        }
+                        if (rejected.incrementAndGet() <= MAX_LOGGED_REJECTS) {
+                            log.warn("{} 행 거부: {} (키={})", table.getTable(), e.getMessage(),
+                                    raw.length > 0 ? raw[0] : null);
+                        }
+                    }
+                }
+                if (!converted.isEmpty()) out.put(Batch.of(converted));
+            }
+        } catch (RuntimeException e) {
+            fail(out, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 실패를 다음 단계로 넘깁니다. 중단(shutdownNow)으로 끝난 경우 큐가 가득 차 있고 받는 쪽도 없을 수 있으므로
+     * 막히지 않도록 남은 묶음을 버리고 offer로 넣습니다. 실패 뒤의 묶음은 어차피 쓰이지 않습니다.
+     */
+    private static <T> void fail(BlockingQueue<Batch<T>> out, Exception e) {
+        out.clear();
+        out.offer(Batch.failed(e));
+    }
+
+    private static void await(Future<?> stage) throws IOException {
+        try {
+            stage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("적재가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /** 트랜잭션 안에서 검증된 행 묶음을 받아 쓰는 단계입니다. */
+    @FunctionalInterface
+    private interface Sink {
+        long write(FailFastQueue valid) throws InterruptedException;
+    }
+
+    /** 앞 단계가 실패했으면 take()에서 바로 예외를 던지는 큐 래퍼입니다. 끝이면 rows가 null인 묶음을 돌려줍니다. */
+    private record FailFastQueue(BlockingQueue<Batch<Object[]>> queue) {
+
+        Batch<Object[]> take() throws InterruptedException {
+            Batch<Object[]> batch = queue.take();
+            if (batch.rows() == null && batch.failure() != null) {
+                throw new StageFailedException(batch.failure());
+            }
+            return batch;
+        }
+    }
+
+    /** 저장된 행 해시. 키 → 번호 표와 번호별 해시 배열로 둡니다. */
+    private static final class StoredDigests {
+        final Map<String, Integer> ordinals = new HashMap<>();
+        String[] keys = new String[1 << 12];
+        long[] rowDigest = new long[1 << 12];
+        long[] locationDigest = new long[1 << 12];
+        boolean[] seen;
+
+        static StoredDigests load(IngestDigestRepository repository, String table) {
+            StoredDigests d = new StoredDigests();
+            repository.streamAll(table, rs -> d.add(rs.getString(1), rs.getLong(2), rs.getLong(3)));
+            d.seen = new boolean[d.size()];
+            return d;
+        }
+
+        private void add(String key, long row, long location) {
+            int i = ordinals.size();
+            if (i == keys.length) {
+                keys = Arrays.copyOf(keys, i * 2);
+                rowDigest = Arrays.copyOf(rowDigest, i * 2);
+                locationDigest = Arrays.copyOf(locationDigest, i * 2);
+            }
+            keys[i] = key;
+            rowDigest[i] = row;
+            locationDigest[i] = location;
+            ordinals.put(key, i);
+        }
+
+        int size() {
+            return ordinals.size();
+        }
+
+        int ordinal(String key) {
+            Integer i = ordinals.get(key);
+            return i == null ? -1 : i;
+        }
+    }
+
+    /**
+     * 단계 사이를 오가는 행 묶음입니다. {@code rows}가 null이면 끝이며,
+     * 그때 {@code failure}가 있으면 앞 단계가 실패한 것입니다.
+     */
+    private record Batch<T>(List<T> rows, Exception failure) {
+
+        static <T> Batch<T> of(List<T> rows) {
+            return new Batch<>(rows, null);
+        }
+
+        static <T> Batch<T> end() {
+            return new Batch<>(null, null);
+        }
+
+        static <T> Batch<T> failed(Exception failure) {
+            return new Batch<>(null, failure);
+        }
+
+        int size() {
+            return rows.size();
+        }
+    }
+
+    /** 앞 단계의 예외를 트랜잭션 밖으로 전달합니다. */
+    private static final class StageFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StageFailedException(Exception cause) {
+            super(cause);
+        }
+    }
+}
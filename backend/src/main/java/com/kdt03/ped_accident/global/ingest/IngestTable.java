@@ -0,0 +1,253 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import static com.kdt03.ped_accident.global.ingest.ColumnType.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.kdt03.ped_accident.global.event.Dataset;
+
+/**
+ * 일괄 적재 대상 테이블과 CSV 파일의 대응입니다. (기존 csv_to_mysql.ipynb의 LOAD_PLAN과 같은 규칙이며,
+ * districts만 현재 스키마를 만든 district_to_mysql.ipynb를 따릅니다)
+ * <p>
+ * districts.csv는 district_to_mysql.ipynb가 만드는 파일이라 dataset/에 없을 수 있어 선택 파일({@link #isOptional()})입니다.
+ * <p>
+ * CSV 컬럼은 헤더 이름이 아니라 순서로 대응하며, 첫 컬럼이 행의 키입니다.
+ * 키가 유일한 테이블({@link #isKeyed()})만 행 해시를 남겨 증분 적재할 수 있습니다.
+ * 외래 키 순서대로 선언되어 있어 여러 테이블을 적재할 때 이 순서를 따릅니다.
+ */
+public enum IngestTable {
+
+    DISTRICTS("districts.csv", "districts", null, true, true,
+            col("district_id", STRING, true),
+            col("district_name", STRING, false),
+            col("district_code", STRING, false),
+            col("district_short_name", STRING, false)),
+
+    /** 법정동 중심 좌표. 컬럼 순서는 district_all.csv의 (코드, 이름, 위도, 경도)입니다. */
+    DISTRICT_WITH_LAT_LON("district_all.csv", "district_with_lat_lon", Dataset.DISTRICT_WITH_LAT_LON, true, false,
+            col("bjd_cd", STRING, true),
+            col("bjd_nm", STRING, false),
+            col("center_lati", LAT, false),
+            col("center_long", LON, false)),
+
+    CROSSWALKS("cw.csv", "crosswalks", Dataset.CROSSWALKS, true, false,
+            col("cw_uid", STRING, true),
+            col("sido_code", STRING, false),
+            col("district_code", STRING, false),
+            col("address", STRING, false),
+            col("crosswalk_lat", LAT, true),
+            col("crosswalk_lon", LON, true),
+            col("crosswalk_type", INT, false),
+            col("lane_count", INT, false),
+            col("crosswalk_width", DOUBLE, false),
+            col("crosswalk_length", DOUBLE, false),
+            col("is_highland", FLAG, false),
+            col("has_ped_signal", FLAG, false),
+            col("has_ped_button", FLAG, false),
+            col("has_ped_sound", FLAG, false),
+            col("has_bump", FLAG, false),
+            col("has_braille_block", FLAG, false),
+            col("has_spotlight", FLAG, false)),
+
+    SIGNALS("sg.csv", "signals", Dataset.SIGNALS, true, false,
+            col("sg_uid", STRING, true),
+            col("sido_code", STRING, false),
+            col("sigungu_code", STRING, false),
+            col("address", STRING, false),
+            col("signal_lat", LAT, true),
+            col("signal_lon", LON, true),
+            col("road_type", STRING, false),
+            col("road_shape", STRING, false),
+            col("is_main_road", FLAG, false),
+            col("signal_type", STRING, false),
+            col("has_ped_button", FLAG, false),
+            col("has_time_show", FLAG, false),
+            col("has_sound_signal", FLAG, false)),
+
+    ACCIDENTS("acc.csv", "accidents", Dataset.ACCIDENTS, true, false,
+            col("acc_uid", LONG, true),
+            col("sido_code", STRING, true),
+            col("sigungu_code", STRING, true),
+            col("year", INT, true),
+            col("month", INT, true),
+            col("accident_count", INT, false),
+            col("casualty_count", INT, false),
+            col("fatality_count", INT, false),
+            col("serious_injury_count", INT, false),
+            col("minor_injury_count", INT, false),
+            col("reported_injury_count", INT, false)),
+
+    ACCIDENT_HOTSPOTS("acc_hotspot.csv", "accident_hotspots", Dataset.ACCIDENT_HOTSPOTS, true, false,
+            col("accident_id", LONG, true),
+            col("year", INT, false),
+            col("district_code", STRING, false),
+            col("detail", STRING, false),
+            col("accident_count", INT, false),
+            col("casualty_count", INT, false),
+            col("fatality_count", INT, false),
+            col("serious_injury_count", INT, false),
+            col("minor_injury_count", INT, false),
+            col("reported_injury_count", INT, false),
+            col("accident_lon", LON, true),
+            col("accident_lat", LAT, true)),
+
+    CROSSWALK_SIGNAL_MAP("cw_sg_map.csv", "crosswalk_signal_map", Dataset.CROSSWALK_SIGNAL_MAP, false, false,
+            col("cw_uid", STRING, true),
+            col("sg_uid", STRING, true),
+            col("distance_m", DOUBLE, false),
+            col("confidence", DOUBLE, false)),
+
+    CW_ACC_MAP("cw_acc_map_500m.csv", "cw_acc_map", Dataset.CW_ACC_MAP, false, false,
+            col("cw_uid", STRING, true),
+            col("accident_id", LONG, true),
+            col("distance", DOUBLE, false));
+
+    /**
+     * @param name     DB 컬럼 이름
+     * @param type     값 형식과 검증 규칙
+     * @param required 비어 있으면 행을 거부할지
+     */
+    public record Column(String name, ColumnType type, boolean required) {
+    }
+
+    private final String file;
+    private final String table;
+    private final Dataset dataset;
+    private final boolean keyed;
+    private final boolean optional;
+    private final Column[] columns;
+    private final int[] locationColumns;
+    private final String insertSql;
+    private final String updateSql;
+    private final String deleteSql;
+
+    IngestTable(String file, String table, Dataset dataset, boolean keyed, boolean optional, Column... columns) {
+        this.file = file;
+        this.table = table;
+        this.dataset = dataset;
+        this.keyed = keyed;
+        this.optional = optional;
+        this.columns = columns;
+        this.locationColumns = IntStream.range(0, columns.length)
+                .filter(c -> columns[c].type() == LAT || columns[c].type() == LON)
+                .toArray();
+        this.insertSql = "INSERT INTO " + table + " ("
+                + Arrays.stream(columns).map(Column::name).collect(Collectors.joining(", "))
+                + ") VALUES (" + "?, ".repeat(columns.length - 1) + "?)";
+        this.updateSql = "UPDATE " + table + " SET "
+                + Arrays.stream(columns).skip(1).map(c -> c.name() + " = ?").collect(Collectors.joining(", "))
+                + " WHERE " + columns[0].name() + " = ?";
+        this.deleteSql = "DELETE FROM " + table + " WHERE " + columns[0].name() + " = ?";
+    }
+
+    private static Column col(String name, ColumnType type, boolean required) {
+        return new Column(name, type, required);
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /** 적재 후 알릴 데이터셋. 서버 캐시가 없는 테이블이면 null */
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    public boolean isKeyed() {
+        return keyed;
+    }
+
+    /** all로 적재할 때 파일이 없으면 경고만 하고 건너뛸지 */
+    public boolean isOptional() {
+        return optional;
+    }
+
+    public List<Column> getColumns() {
+        return List.of(columns);
+    }
+
+    public String getInsertSql() {
+        return insertSql;
+    }
+
+    /** {@link #convert}한 행 그대로 넘기면 되도록 키가 맨 뒤로 가는 UPDATE 문입니다. ({@link #toUpdateParams}) */
+    public String getUpdateSql() {
+        return updateSql;
+    }
+
+    public String getDeleteSql() {
+        return deleteSql;
+    }
+
+    /** 키 값. 키 형식이 숫자여도 문자열로 비교합니다. */
+    public static String key(Object[] row) {
+        return String.valueOf(row[0]);
+    }
+
+    /**
+     * 변환에 실패한 원본 행의 키를 {@link #key}와 같은 형태로 꺼냅니다. 키 자체가 비었거나 틀렸으면
+     * 앞뒤 공백만 뺀 원본 값, 키 칸이 없으면 null입니다.
+     */
+    public String rawKey(String[] raw) {
+        if (raw.length == 0 || raw[0] == null || raw[0].isBlank()) return null;
+        String v = raw[0].trim();
+        try {
+            return String.valueOf(columns[0].type().parse(v));
+        } catch (IllegalArgumentException e) {
+            return v;
+        }
+    }
+
+    /** (키, 나머지...) 순서를 UPDATE 문의 (나머지..., 키) 순서로 바꿉니다. */
+    public static Object[] toUpdateParams(Object[] row) {
+        Object[] params = new Object[row.length];
+        System.arraycopy(row, 1, params, 0, row.length - 1);
+        params[row.length - 1] = row[0];
+        return params;
+    }
+
+    /** 변환된 행 전체의 해시 */
+    public long rowDigest(Object[] row) {
+        return RowDigest.of(row, null);
+    }
+
+    /** 위도·경도 컬럼만의 해시. 위치 컬럼이 없는 테이블은 0입니다. */
+    public long locationDigest(Object[] row) {
+        return locationColumns.length == 0 ? 0 : RowDigest.of(row, locationColumns);
+    }
+
+    /**
+     * CSV 한 행을 JDBC 파라미터로 바꿉니다.
+     *
+     * @throws IllegalArgumentException 컬럼 수가 다르거나, 필수 값이 비었거나, 형식·범위가 맞지 않으면
+     */
+    public Object[] convert(String[] raw) {
+        if (raw.length != columns.length) {
+            throw new IllegalArgumentException("컬럼 수 " + raw.length + " (기대 " + columns.length + ")");
+        }
+        Object[] out = new Object[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            String v = raw[c] == null ? null : raw[c].trim();
+            if (v == null || v.isEmpty()) {
+                if (columns[c].required()) {
+                    throw new IllegalArgumentException(columns[c].name() + ": 필수 값 없음");
+                }
+                continue;
+            }
+            try {
+                out[c] = columns[c].type().parse(v);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(columns[c].name() + ": " + e.getMessage() + " [" + v + "]");
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,46 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 적재 행의 64비트 FNV-1a 해시입니다. 증분 적재에서 바뀐 행을 찾는 데만 쓰므로 암호학적 강도는 필요 없습니다.
+ * <p>
+ * 원문이 아니라 {@link IngestTable#convert}로 변환한 값을 해시하므로 "Y"와 "1", "12"와 "12.0"처럼
+ * 표기만 다른 행은 같은 행으로 봅니다.
+ */
+final class RowDigest {
+
+    private static final long OFFSET = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    /** 컬럼 구분자와 NULL 표시. 값에 나올 수 없는 바이트를 씁니다. */
+    private static final int SEPARATOR = 0x1F;
+    private static final int NULL = 0x00;
+
+    private RowDigest() {
+    }
+
+    /**
+     * @param columns 해시할 컬럼 번호. null이면 전체
+     */
+    static long of(Object[] row, int[] columns) {
+        long h = OFFSET;
+        int n = columns == null ? row.length : columns.length;
+        for (int k = 0; k < n; k++) {
+            Object v = row[columns == null ? k : columns[k]];
+            if (v == null) {
+                h = mix(h, NULL);
+            } else {
+                for (byte b : String.valueOf(v).getBytes(StandardCharsets.UTF_8)) {
+                    h = mix(h, b & 0xFF);
+                }
+            }
+            h = mix(h, SEPARATOR);
+        }
+        return h;
+    }
+
+    private static long mix(long h, int b) {
+        return (h ^ b) * PRIME;
+    }
+}
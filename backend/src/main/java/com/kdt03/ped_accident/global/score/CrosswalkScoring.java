@@ -0,0 +1,82 @@
+package com.kdt03.ped_accident.global.score;
+
+/**
+ * 횡단보도 위험지수·안전지수 계산식입니다.
+ * <p>
+ * 프론트엔드 {@code features/acc_calculate}(utils.ts, types.ts)의 기본 가중치와 같은 값을 씁니다.
+ * 두 쪽 결과가 달라지지 않도록 가중치를 바꿀 때는 함께 바꿔야 합니다.
+ */
+public final class CrosswalkScoring {
+
+    // ---- 위험지수 ----
+
+    /** 사고 심각도 가중치: 사망 10, 중상 5, 경상 2, 사고 1, 부상신고 0.5 */
+    public static final double W_FATALITY = 10;
+    public static final double W_SERIOUS = 5;
+    public static final double W_MINOR = 2;
+    public static final double W_ACCIDENT = 1;
+    public static final double W_REPORTED = 0.5;
+
+    /** 지수 압축 파라미터 K: risk = 100 · (1 - exp(-S̄ / K)) */
+    private static final double RISK_K = 80;
+
+    /** 이 거리(m)를 넘는 사고는 반영하지 않습니다. */
+    public static final double MAX_DISTANCE_M = 500;
+
+    // ---- 안전지수 (기본 가중치. 계산은 SafetyScoreTable) ----
+
+    public static final int W_SIGNAL = 30;
+    public static final int W_BUTTON = 10;
+    public static final int W_SOUND = 15;
+    public static final int W_HIGHLAND = 20;
+    public static final int W_BUMP = 8;
+    public static final int W_BRAILLE = 12;
+    public static final int W_SPOTLIGHT = 15;
+
+    // ---- 우선순위 ----
+
+    public static final double PRIORITY_RISK = 0.8;
+    public static final double PRIORITY_SAFETY = 0.2;
+
+    private CrosswalkScoring() {
+    }
+
+    /** 거리 구간별 반영 비중: 50m 1.0, 100m 0.7, 300m 0.4, 500m 0.1, 그 밖 0 */
+    public static double distanceWeight(double distanceM) {
+        if (distanceM <= 50) return 1.0;
+        if (distanceM <= 100) return 0.7;
+        if (distanceM <= 300) return 0.4;
+        if (distanceM <= MAX_DISTANCE_M) return 0.1;
+        return 0;
+    }
+
+    /** 거리 미적용 사고 심각도 원점수 */
+    public static double severity(int fatality, int serious, int minor, int accident, int reported) {
+        return fatality * W_FATALITY + serious * W_SERIOUS + minor * W_MINOR
+                + accident * W_ACCIDENT + reported * W_REPORTED;
+    }
+
+    /**
+     * 거리 가중 평균 심각도로 위험지수(0~100, 소수 둘째 자리)를 계산합니다.
+     *
+     * @param sumWeighted Σ(심각도 · 거리 가중치)
+     * @param sumWeight   Σ거리 가중치
+     */
+    public static double riskIndex(double sumWeighted, double sumWeight) {
+        double avg = sumWeight > 0 ? sumWeighted / sumWeight : 0;
+        return round2(clamp(100 * (1 - Math.exp(-avg / RISK_K))));
+    }
+
+    /** 우선순위 점수 = 위험지수 × 0.8 + (100 - 안전지수) × 0.2 */
+    public static double priority(double riskIndex, double safetyIndex) {
+        return round2(clamp(clamp(riskIndex) * PRIORITY_RISK + (100 - clamp(safetyIndex)) * PRIORITY_SAFETY));
+    }
+
+    public static double round2(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+
+    private static double clamp(double v) {
+        return Math.max(0, Math.min(100, v));
+    }
+}
@@ -0,0 +1,115 @@
+package com.kdt03.ped_accident.global.score;
+
+/**
+ * 횡단보도 시설 7종을 short 하나에 담는 비트 배치입니다.
+ * <pre>
+ * bit 0~6   설치 여부 (SIGNAL, BUTTON, SOUND, HIGHLAND, BUMP, BRAILLE, SPOTLIGHT 순)
+ * bit 7     신호가 매핑(crosswalk_signal_map)으로 잡힌 경우 1, 직접 설치면 0
+ * bit 8~14  값이 있는지(non-null) 여부. 신호는 항상 값이 있습니다.
+ * </pre>
+ * 하위 7비트({@link #installed})가 {@link SafetyScoreTable}의 조회 키입니다.
+ */
+public final class FacilityFlags {
+
+    public static final int SIGNAL = 0;
+    public static final int BUTTON = 1;
+    public static final int SOUND = 2;
+    public static final int HIGHLAND = 3;
+    public static final int BUMP = 4;
+    public static final int BRAILLE = 5;
+    public static final int SPOTLIGHT = 6;
+
+    public static final int COUNT = 7;
+    public static final int INSTALLED_MASK = (1 << COUNT) - 1;
+
+    private static final int MAPPED_BIT = 1 << 7;
+    private static final int KNOWN_SHIFT = 8;
+
+    /** 요청 파라미터 등에서 쓰는 시설 이름. 배열 인덱스가 비트 번호입니다. */
+    private static final String[] NAMES = {"signal", "button", "sound", "highland", "bump", "braille", "spotlight"};
+
+    private FacilityFlags() {
+    }
+
+    /**
+     * @param signalSource "direct" | "mapped" | 그 밖(신호 없음)
+     * @param spotlight    0이 아니면 설치
+     */
+    public static short pack(String signalSource, Boolean button, Boolean sound, Boolean highland,
+                             Boolean bump, Boolean braille, Integer spotlight) {
+        int f = 0;
+        if ("direct".equals(signalSource)) {
+            f |= 1 << SIGNAL;
+        } else if ("mapped".equals(signalSource)) {
+            f |= 1 << SIGNAL | MAPPED_BIT;
+        }
+        f |= 1 << (KNOWN_SHIFT + SIGNAL);
+        f = set(f, BUTTON, button);
+        f = set(f, SOUND, sound);
+        f = set(f, HIGHLAND, highland);
+        f = set(f, BUMP, bump);
+        f = set(f, BRAILLE, braille);
+        f = set(f, SPOTLIGHT, spotlight == null ? null : spotlight != 0);
+        return (short) f;
+    }
+
+    /** 설치된 시설의 비트마스크(0 ~ 127) */
+    public static int installed(short flags) {
+        return flags & INSTALLED_MASK;
+    }
+
+    public static boolean has(short flags, int facility) {
+        return (flags & (1 << facility)) != 0;
+    }
+
+    /** 값이 없으면(null) null */
+    public static Boolean get(short flags, int facility) {
+        if ((flags & (1 << (KNOWN_SHIFT + facility))) == 0) return null;
+        return has(flags, facility);
+    }
+
+    public static boolean isMappedSignal(short flags) {
+        return has(flags, SIGNAL) && (flags & MAPPED_BIT) != 0;
+    }
+
+    public static boolean isDirectSignal(short flags) {
+        return has(flags, SIGNAL) && (flags & MAPPED_BIT) == 0;
+    }
+
+    public static String signalSource(short flags) {
+        if (!has(flags, SIGNAL)) return "none";
+        return (flags & MAPPED_BIT) != 0 ? "mapped" : "direct";
+    }
+
+    /**
+     * 쉼표로 구분한 시설 이름 목록을 비트마스크로 바꿉니다. 예: "signal,bump"
+     *
+     * @throws IllegalArgumentException 모르는 이름이 있으면
+     */
+    public static int parseMask(String names) {
+        int mask = 0;
+        if (names == null || names.isBlank()) return mask;
+        for (String raw : names.split(",")) {
+            String name = raw.trim();
+            int bit = indexOf(name);
+            if (bit < 0) {
+                throw new IllegalArgumentException("알 수 없는 시설: " + name);
+            }
+            mask |= 1 << bit;
+        }
+        return mask;
+    }
+
+    private static int indexOf(String name) {
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equalsIgnoreCase(name)) return i;
+        }
+        return -1;
+    }
+
+    private static int set(int f, int facility, Boolean v) {
+        if (v == null) return f;
+        f |= 1 << (KNOWN_SHIFT + facility);
+        return v ? f | 1 << facility : f;
+    }
+}
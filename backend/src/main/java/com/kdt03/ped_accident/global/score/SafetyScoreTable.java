@@ -0,0 +1,102 @@
+package com.kdt03.ped_accident.global.score;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * 시설 설치 비트마스크({@link FacilityFlags#installed}) → 안전지수 조회표입니다.
+ * <p>
+ * 마스크가 128가지뿐이라 가중치 합과 안전지수를 미리 모두 계산해 둡니다.
+ * 조회는 배열 접근 한 번이며, 같은 이유로 안전지수 정렬도 비교 없이 점수 순위 단위 계수 정렬로 끝납니다.
+ * 생성 이후 변경되지 않으므로 여러 스레드에서 공유해도 안전합니다.
+ */
+public final class SafetyScoreTable {
+
+    private static final int MASKS = 1 << FacilityFlags.COUNT;
+
+    /** 프론트엔드와 같은 기본 가중치 ({@link CrosswalkScoring}) */
+    public static final SafetyScoreTable DEFAULT = of(
+            CrosswalkScoring.W_SIGNAL, CrosswalkScoring.W_BUTTON, CrosswalkScoring.W_SOUND,
+            CrosswalkScoring.W_HIGHLAND, CrosswalkScoring.W_BUMP, CrosswalkScoring.W_BRAILLE,
+            CrosswalkScoring.W_SPOTLIGHT);
+
+    private final int[] weights;
+    private final int[] points = new int[MASKS];
+    private final double[] index = new double[MASKS];
+    /** 마스크별 안전지수 순위. 점수가 같은 마스크는 순위도 같습니다. */
+    private final int[] rank = new int[MASKS];
+    private final int ranks;
+
+    private SafetyScoreTable(int[] weights) {
+        this.weights = weights;
+        int max = Arrays.stream(weights).sum();
+
+        // 최하위 설치 비트 하나를 뺀 마스크의 합에 그 비트의 가중치를 더합니다.
+        for (int m = 1; m < MASKS; m++) {
+            points[m] = points[m & (m - 1)] + weights[Integer.numberOfTrailingZeros(m)];
+        }
+        for (int m = 0; m < MASKS; m++) {
+            index[m] = max == 0 ? 0 : CrosswalkScoring.round2(points[m] * 100.0 / max);
+        }
+        int[] distinct = IntStream.of(points).distinct().sorted().toArray();
+        for (int m = 0; m < MASKS; m++) {
+            rank[m] = Arrays.binarySearch(distinct, points[m]);
+        }
+        ranks = distinct.length;
+    }
+
+    /**
+     * @param weights 시설별 가중치. {@link FacilityFlags}의 비트 순서(신호, 버튼, 음향, 고원식, 과속방지턱, 점자블록, 조명)
+     */
+    public static SafetyScoreTable of(int... weights) {
+        if (weights.length != FacilityFlags.COUNT) {
+            throw new IllegalArgumentException("시설 가중치는 " + FacilityFlags.COUNT + "개여야 합니다.");
+        }
+        for (int w : weights) {
+            if (w < 0) {
+                throw new IllegalArgumentException("시설 가중치는 0 이상이어야 합니다.");
+            }
+        }
+        return new SafetyScoreTable(weights.clone());
+    }
+
+    public int weight(int facility) {
+        return weights[facility];
+    }
+
+    /** 설치 점수 합계 */
+    public int points(int installedMask) {
+        return points[installedMask & FacilityFlags.INSTALLED_MASK];
+    }
+
+    /** 안전지수(0~100, 소수 둘째 자리) */
+    public double index(int installedMask) {
+        return index[installedMask & FacilityFlags.INSTALLED_MASK];
+    }
+
+    /**
+     * 점 번호들을 안전지수 오름차순(같으면 입력 순서)으로 정렬해 새 배열로 반환합니다.
+     *
+     * @param ordinals 정렬할 점 번호
+     * @param maskOf   점 번호 → 설치 비트마스크
+     */
+    public int[] sortAscending(int[] ordinals, IntUnaryOperator maskOf) {
+        // 안전지수 순위별 계수 정렬. 마스크가 달라도 점수가 같으면 같은 구간에 입력 순서대로 들어갑니다.
+        int[] offset = new int[ranks + 1];
+        int[] keys = new int[ordinals.length];
+        for (int k = 0; k < ordinals.length; k++) {
+            keys[k] = rank[maskOf.applyAsInt(ordinals[k]) & FacilityFlags.INSTALLED_MASK];
+            offset[keys[k] + 1]++;
+        }
+        for (int r = 0; r < ranks; r++) {
+            offset[r + 1] += offset[r];
+        }
+
+        int[] out = new int[ordinals.length];
+        for (int k = 0; k < ordinals.length; k++) {
+            out[offset[keys[k]]++] = ordinals[k];
+        }
+        return out;
+    }
+}
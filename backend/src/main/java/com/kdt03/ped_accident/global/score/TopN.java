@@ -0,0 +1,87 @@
+package com.kdt03.ped_accident.global.score;
+
+/**
+ * 점수가 가장 높은 N개를 고르는 크기 제한 최소 힙입니다.
+ * <p>
+ * 힙의 루트가 지금까지 고른 N개 중 가장 낮은 점수이므로, 새 후보는 루트보다 높을 때만 루트를 밀어냅니다.
+ * 후보 M개에 대해 O(M log N)이고 추가 메모리는 N개분 primitive 배열뿐입니다. 스레드 안전하지 않습니다.
+ */
+public final class TopN {
+
+    private final double[] scores;
+    private final int[] ids;
+    private int size;
+
+    public TopN(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n은 1 이상이어야 합니다.");
+        }
+        this.scores = new double[n];
+        this.ids = new int[n];
+    }
+
+    public void offer(int id, double score) {
+        if (size < scores.length) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (score > scores[0] || (score == scores[0] && id < ids[0])) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 고른 id들을 점수 내림차순으로 반환합니다. 호출 후 힙은 비워집니다.
+     */
+    public int[] drainDescending() {
+        int[] out = new int[size];
+        for (int k = out.length - 1; k >= 0; k--) {
+            out[k] = ids[0];
+            size--;
+            scores[0] = scores[size];
+            ids[0] = ids[size];
+            siftDown(0);
+        }
+        return out;
+    }
+
+    private void siftUp(int k) {
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (!less(k, parent)) break;
+            swap(k, parent);
+            k = parent;
+        }
+    }
+
+    private void siftDown(int k) {
+        while (true) {
+            int l = 2 * k + 1;
+            if (l >= size) return;
+            int c = l + 1 < size && less(l + 1, l) ? l + 1 : l;
+            if (!less(c, k)) return;
+            swap(k, c);
+            k = c;
+        }
+    }
+
+    /** 점수가 같으면 번호가 작은 쪽을 남겨 결과가 입력 순서와 무관하게 정해집니다. */
+    private boolean less(int a, int b) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && ids[a] > ids[b]);
+    }
+
+    private void swap(int a, int b) {
+        double s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+        int i = ids[a];
+        ids[a] = ids[b];
+        ids[b] = i;
+    }
+}
@@ -0,0 +1,207 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 줌 레벨별로 미리 집계해 둔 계층형 격자 클러스터입니다.
+ * <p>
+ * 줌 z의 셀 크기는 {@code 90 / 2^z}도(타일 하나를 4x4로 나눈 크기)이며, 원점(-90, -180)이 고정이라
+ * 줌 z 셀 하나는 줌 z+1 셀 네 개로 정확히 나뉩니다. 가장 세밀한 레벨만 점에서 집계하고,
+ * 나머지 레벨은 바로 아래 레벨의 셀을 합쳐서 만듭니다.
+ * <p>
+ * 각 셀은 점 개수, 좌표 합(중심점 계산용), 그리고 호출자가 넘긴 지표(metric) 합을 가집니다.
+ */
+public final class ClusterPyramid {
+
+    /** 셀 키 = row << 32 | col */
+    private static final int COL_BITS = 32;
+    private static final long COL_MASK = 0xFFFF_FFFFL;
+
+    private final int minZoom;
+    private final Level[] levels;
+
+    private ClusterPyramid(int minZoom, Level[] levels) {
+        this.minZoom = minZoom;
+        this.levels = levels;
+    }
+
+    public static double cellDeg(int zoom) {
+        return 90.0 / (1L << zoom);
+    }
+
+    /**
+     * @param lat     점 위도 (NaN이면 제외)
+     * @param lon     점 경도
+     * @param metrics 점별 지표 값. {@code metrics[m][i]}는 점 i의 m번째 지표
+     * @param minZoom 집계할 가장 낮은 줌
+     * @param maxZoom 집계할 가장 높은 줌 (포함)
+     */
+    public static ClusterPyramid build(double[] lat, double[] lon, int[][] metrics, int minZoom, int maxZoom) {
+        if (minZoom > maxZoom) {
+            throw new IllegalArgumentException("minZoom > maxZoom");
+        }
+        Level[] levels = new Level[maxZoom - minZoom + 1];
+        levels[levels.length - 1] = Level.fromPoints(lat, lon, metrics, maxZoom);
+        for (int z = maxZoom - 1; z >= minZoom; z--) {
+            levels[z - minZoom] = Level.fromChildren(levels[z - minZoom + 1], z);
+        }
+        return new ClusterPyramid(minZoom, levels);
+    }
+
+    public int minZoom() {
+        return minZoom;
+    }
+
+    public int maxZoom() {
+        return minZoom + levels.length - 1;
+    }
+
+    /**
+     * 경계와 겹치는 셀의 클러스터를 최대 {@code limit}개 반환합니다.
+     * 줌은 피라미드 범위로 보정됩니다.
+     */
+    public List<Cluster> query(int zoom, double south, double west, double north, double east, int limit) {
+        int z = Math.max(minZoom(), Math.min(maxZoom(), zoom));
+        return levels[z - minZoom].query(south, west, north, east, limit);
+    }
+
+    /**
+     * 하나의 클러스터(셀) 집계 결과입니다.
+     *
+     * @param count   셀 안의 점 개수
+     * @param lat     점들의 평균 위도
+     * @param lon     점들의 평균 경도
+     * @param metrics 지표별 합계
+     */
+    public record Cluster(int count, double lat, double lon, long[] metrics) {
+
+        public long metric(int m) {
+            return metrics[m];
+        }
+    }
+
+    private static final class Level {
+        final double cellDeg;
+        final long[] keys;
+        final int[] counts;
+        final double[] sumLat;
+        final double[] sumLon;
+        final long[][] sums;
+
+        Level(int zoom, long[] keys, int metricCount) {
+            this.cellDeg = cellDeg(zoom);
+            this.keys = keys;
+            this.counts = new int[keys.length];
+            this.sumLat = new double[keys.length];
+            this.sumLon = new double[keys.length];
+            this.sums = new long[metricCount][keys.length];
+        }
+
+        static Level fromPoints(double[] lat, double[] lon, int[][] metrics, int zoom) {
+            double deg = cellDeg(zoom);
+            int n = lat.length;
+            long[] pointKeys = new long[n];
+            int valid = 0;
+            for (int i = 0; i < n; i++) {
+                if (Double.isNaN(lat[i]) || Double.isNaN(lon[i])) {
+                    pointKeys[i] = -1;
+                    continue;
+                }
+                pointKeys[i] = key(row(lat[i], deg), col(lon[i], deg));
+                valid++;
+            }
+
+            Level level = new Level(zoom, uniqueSorted(pointKeys, valid), metrics.length);
+            for (int i = 0; i < n; i++) {
+                if (pointKeys[i] < 0) continue;
+                int cell = Arrays.binarySearch(level.keys, pointKeys[i]);
+                level.counts[cell]++;
+                level.sumLat[cell] += lat[i];
+                level.sumLon[cell] += lon[i];
+                for (int m = 0; m < metrics.length; m++) {
+                    level.sums[m][cell] += metrics[m][i];
+                }
+            }
+            return level;
+        }
+
+        static Level fromChildren(Level child, int zoom) {
+            int n = child.keys.length;
+            long[] parentKeys = new long[n];
+            for (int k = 0; k < n; k++) {
+                long ck = child.keys[k];
+                parentKeys[k] = key((int) (ck >>> COL_BITS) >> 1, (int) (ck & COL_MASK) >> 1);
+            }
+
+            Level level = new Level(zoom, uniqueSorted(parentKeys, n), child.sums.length);
+            for (int k = 0; k < n; k++) {
+                int cell = Arrays.binarySearch(level.keys, parentKeys[k]);
+                level.counts[cell] += child.counts[k];
+                level.sumLat[cell] += child.sumLat[k];
+                level.sumLon[cell] += child.sumLon[k];
+                for (int m = 0; m < level.sums.length; m++) {
+                    level.sums[m][cell] += child.sums[m][k];
+                }
+            }
+            return level;
+        }
+
+        List<Cluster> query(double south, double west, double north, double east, int limit) {
+            List<Cluster> out = new ArrayList<>();
+            if (keys.length == 0 || south > north || west > east) return out;
+
+            int r0 = row(south, cellDeg), r1 = row(north, cellDeg);
+            int c0 = col(west, cellDeg), c1 = col(east, cellDeg);
+
+            for (int r = r0; r <= r1; r++) {
+                int from = lowerBound(key(r, c0));
+                long toKey = key(r, c1);
+                for (int k = from; k < keys.length && keys[k] <= toKey; k++) {
+                    if (out.size() >= limit) return out;
+                    long[] metrics = new long[sums.length];
+                    for (int m = 0; m < sums.length; m++) {
+                        metrics[m] = sums[m][k];
+                    }
+                    out.add(new Cluster(counts[k], sumLat[k] / counts[k], sumLon[k] / counts[k], metrics));
+                }
+            }
+            return out;
+        }
+
+        private int lowerBound(long key) {
+            int idx = Arrays.binarySearch(keys, key);
+            return idx >= 0 ? idx : -idx - 1;
+        }
+    }
+
+    private static int row(double lat, double deg) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, lat)) + 90) / deg);
+    }
+
+    private static int col(double lon, double deg) {
+        return (int) Math.floor((Math.max(-180, Math.min(180, lon)) + 180) / deg);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << COL_BITS) | (col & COL_MASK);
+    }
+
+    /** 음수(제외 표시)를 뺀 키들을 정렬·중복 제거해 반환합니다. */
+    private static long[] uniqueSorted(long[] keys, int validCount) {
+        long[] sorted = new long[validCount];
+        int p = 0;
+        for (long k : keys) {
+            if (k >= 0) sorted[p++] = k;
+        }
+        Arrays.sort(sorted);
+        int u = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[u - 1]) {
+                sorted[u++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, u);
+    }
+}
@@ -0,0 +1,25 @@
+package com.kdt03.ped_accident.global.spatial;
+
+/**
+ * 위경도 거리 계산입니다. 지구 반지름은 전처리 노트북(BallTree haversine)과 같은 6,371,000m를 씁니다.
+ */
+public final class Geo {
+
+    public static final double EARTH_RADIUS_M = 6_371_000.0;
+
+    /** 위도 1도의 길이(m) */
+    public static final double METERS_PER_DEG = Math.toRadians(1) * EARTH_RADIUS_M;
+
+    private Geo() {
+    }
+
+    /** 대원 거리(m) */
+    public static double haversineM(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
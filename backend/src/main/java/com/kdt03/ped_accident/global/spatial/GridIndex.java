@@ -0,0 +1,177 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 위경도 점 집합에 대한 불변 균일 격자(uniform grid) 인덱스입니다.
+ * <p>
+ * 각 점의 번호(ordinal)는 입력 배열의 인덱스이며, 셀별 점 목록은
+ * CSR 형태({@code cellStart} → {@code items})의 primitive 배열로 보관합니다.
+ * 생성 이후에는 변경되지 않으므로 여러 요청 스레드에서 동시에 조회해도 안전합니다.
+ */
+public final class GridIndex {
+
+    /** 격자가 지나치게 커지지 않도록 셀 개수 상한을 둡니다. (약 16MB) */
+    private static final long MAX_CELLS = 4_000_000L;
+
+    private final double[] lat;
+    private final double[] lon;
+
+    private final double minLat;
+    private final double minLon;
+    private final double cellDeg;
+    private final int rows;
+    private final int cols;
+
+    private final int[] cellStart;
+    private final int[] items;
+
+    private GridIndex(double[] lat, double[] lon, double minLat, double minLon, double cellDeg,
+                      int rows, int cols, int[] cellStart, int[] items) {
+        this.lat = lat;
+        this.lon = lon;
+        this.minLat = minLat;
+        this.minLon = minLon;
+        this.cellDeg = cellDeg;
+        this.rows = rows;
+        this.cols = cols;
+        this.cellStart = cellStart;
+        this.items = items;
+    }
+
+    /**
+     * 좌표 배열로 격자 인덱스를 생성합니다. 좌표가 NaN인 점은 인덱싱에서 제외됩니다.
+     *
+     * @param lat     위도 배열 (인덱스가 점 번호)
+     * @param lon     경도 배열
+     * @param cellDeg 셀 한 변의 크기(도)
+     */
+    public static GridIndex build(double[] lat, double[] lon, double cellDeg) {
+        if (lat.length != lon.length) {
+            throw new IllegalArgumentException("lat/lon 배열 길이가 다릅니다.");
+        }
+        int n = lat.length;
+
+        double minLat = Double.POSITIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY, maxLon = Double.NEGATIVE_INFINITY;
+        int valid = 0;
+        for (int i = 0; i < n; i++) {
+            if (Double.isNaN(lat[i]) || Double.isNaN(lon[i])) continue;
+            minLat = Math.min(minLat, lat[i]);
+            maxLat = Math.max(maxLat, lat[i]);
+            minLon = Math.min(minLon, lon[i]);
+            maxLon = Math.max(maxLon, lon[i]);
+            valid++;
+        }
+        if (valid == 0) {
+            return new GridIndex(lat, lon, 0, 0, cellDeg, 1, 1, new int[2], new int[0]);
+        }
+
+        double deg = cellDeg;
+        int rows, cols;
+        while (true) {
+            rows = (int) Math.floor((maxLat - minLat) / deg) + 1;
+            cols = (int) Math.floor((maxLon - minLon) / deg) + 1;
+            if ((long) rows * cols <= MAX_CELLS) break;
+            deg *= 2;
+        }
+
+        int cellCount = rows * cols;
+        int[] cellOf = new int[n];
+        int[] cellStart = new int[cellCount + 1];
+        for (int i = 0; i < n; i++) {
+            if (Double.isNaN(lat[i]) || Double.isNaN(lon[i])) {
+                cellOf[i] = -1;
+                continue;
+            }
+            int r = (int) ((lat[i] - minLat) / deg);
+            int c = (int) ((lon[i] - minLon) / deg);
+            int cell = r * cols + c;
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int k = 0; k < cellCount; k++) {
+            cellStart[k + 1] += cellStart[k];
+        }
+
+        int[] cursor = Arrays.copyOf(cellStart, cellCount);
+        int[] items = new int[valid];
+        for (int i = 0; i < n; i++) {
+            int cell = cellOf[i];
+            if (cell >= 0) {
+                items[cursor[cell]++] = i;
+            }
+        }
+
+        return new GridIndex(lat, lon, minLat, minLon, deg, rows, cols, cellStart, items);
+    }
+
+    /** 인덱싱된 점의 개수 */
+    public int size() {
+        return items.length;
+    }
+
+    public double lat(int ordinal) {
+        return lat[ordinal];
+    }
+
+    public double lon(int ordinal) {
+        return lon[ordinal];
+    }
+
+    /**
+     * 경계 안의 점 번호를 최대 {@code limit}개까지 반환합니다.
+     */
+    public int[] query(double south, double west, double north, double east, int limit) {
+        if (limit <= 0) return new int[0];
+        int[] buf = new int[Math.min(limit, items.length)];
+        int[] count = {0};
+        forEach(south, west, north, east, i -> {
+            buf[count[0]++] = i;
+            return count[0] < buf.length;
+        });
+        return count[0] == buf.length ? buf : Arrays.copyOf(buf, count[0]);
+    }
+
+    /**
+     * 경계 안의 점 번호를 순회합니다. visitor가 false를 반환하면 순회를 중단합니다.
+     *
+     * @return 중단 없이 끝까지 순회했으면 true
+     */
+    public boolean forEach(double south, double west, double north, double east, IntPredicate visitor) {
+        if (items.length == 0 || south > north || west > east) return true;
+
+        int r0 = clampRow(south), r1 = clampRow(north);
+        int c0 = clampCol(west), c1 = clampCol(east);
+
+        for (int r = r0; r <= r1; r++) {
+            // 경계 셀이 아닌 내부 셀은 좌표 비교 없이 통과시킬 수 있습니다.
+            boolean innerRow = r > r0 && r < r1;
+            int base = r * cols;
+            for (int c = c0; c <= c1; c++) {
+                boolean inner = innerRow && c > c0 && c < c1;
+                int cell = base + c;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    int i = items[k];
+                    if (!inner) {
+                        double la = lat[i], lo = lon[i];
+                        if (la < south || la > north || lo < west || lo > east) continue;
+                    }
+                    if (!visitor.test(i)) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int clampRow(double la) {
+        int r = (int) Math.floor((la - minLat) / cellDeg);
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+
+    private int clampCol(double lo) {
+        int c = (int) Math.floor((lo - minLon) / cellDeg);
+        return Math.max(0, Math.min(cols - 1, c));
+    }
+}
@@ -0,0 +1,198 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+/**
+ * 두 점 집합에서 거리 {@code radiusM} 이하인 모든 (왼쪽, 오른쪽) 쌍을 찾는 공간 조인입니다.
+ * <p>
+ * 오른쪽 점을 반경 크기의 격자({@link GridIndex})에 넣어 후보를 주변 셀로 좁히고, 후보마다 등장방형
+ * (equirectangular) 근사 거리로 먼저 거른 뒤 남은 것만 haversine으로 계산합니다.
+ * 왼쪽 점을 구간으로 나눠 {@link ForkJoinPool}에서 병렬로 처리하며, 구간별 결과({@link Chunk})는
+ * 크기 제한 큐를 거쳐 호출 스레드의 {@link ChunkConsumer}로 넘어갑니다. 소비가 느리면 작업 스레드가 기다리므로
+ * 결과 전체를 메모리에 올리지 않고 DB 등에 흘려 쓸 수 있습니다.
+ */
+public final class SpatialJoin {
+
+    /** 한 작업이 맡는 왼쪽 점 수 */
+    private static final int TASK_SIZE = 4_096;
+
+    /** 큐에 쌓아 둘 수 있는 구간 결과 수 */
+    private static final int QUEUE_CAPACITY = 64;
+
+    /** 격자 셀이 지나치게 작아지지 않도록 하는 하한(도). 약 50m */
+    private static final double MIN_CELL_DEG = 0.0005;
+
+    /** 근사 거리 오차를 덮기 위한 여유 비율 */
+    private static final double PREFILTER_SLACK = 1.01;
+
+    private SpatialJoin() {
+    }
+
+    /**
+     * 한 구간에서 찾은 쌍입니다. 같은 왼쪽 점의 쌍은 거리 오름차순으로 이어져 있습니다.
+     */
+    public record Chunk(int[] left, int[] right, float[] distanceM, int size) {
+    }
+
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(Chunk chunk) throws Exception;
+    }
+
+    /**
+     * @param leftLat     왼쪽 점 위도 (NaN이면 제외)
+     * @param leftLon     왼쪽 점 경도
+     * @param rightLat    오른쪽 점 위도 (NaN이면 제외)
+     * @param rightLon    오른쪽 점 경도
+     * @param rightFilter 조인에 넣을 오른쪽 점 (null이면 전부)
+     * @param radiusM     반경(m, 포함)
+     * @param pool        작업을 실행할 풀
+     * @param consumer    호출 스레드에서 구간 결과를 받습니다. 예외를 던지면 조인을 중단하고 그 예외를 다시 던집니다.
+     * @return 찾은 쌍의 수
+     */
+    public static long run(double[] leftLat, double[] leftLon,
+                           double[] rightLat, double[] rightLon, IntPredicate rightFilter,
+                           double radiusM, ForkJoinPool pool, ChunkConsumer consumer) throws Exception {
+        if (radiusM <= 0) {
+            throw new IllegalArgumentException("radiusM은 0보다 커야 합니다.");
+        }
+
+        double[] rLat = rightLat, rLon = rightLon;
+        if (rightFilter != null) {
+            rLat = rightLat.clone();
+            rLon = rightLon.clone();
+            for (int j = 0; j < rLat.length; j++) {
+                if (!rightFilter.test(j)) {
+                    rLat[j] = Double.NaN;
+                    rLon[j] = Double.NaN;
+                }
+            }
+        }
+        GridIndex grid = GridIndex.build(rLat, rLon, Math.max(MIN_CELL_DEG, radiusM / Geo.METERS_PER_DEG));
+
+        int n = leftLat.length;
+        int tasks = (n + TASK_SIZE - 1) / TASK_SIZE;
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        AtomicInteger remaining = new AtomicInteger(tasks);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        for (int t = 0; t < tasks; t++) {
+            int from = t * TASK_SIZE;
+            int to = Math.min(n, from + TASK_SIZE);
+            pool.execute(() -> {
+                try {
+                    if (!cancelled.get()) {
+                        Chunk chunk = joinRange(leftLat, leftLon, grid, radiusM, from, to);
+                        while (!cancelled.get() && !queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                            // 소비자가 따라올 때까지 기다립니다.
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remaining.decrementAndGet();
+                }
+            });
+        }
+
+        long pairs = 0;
+        try {
+            while (true) {
+                Chunk chunk = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (chunk != null) {
+                    consumer.accept(chunk);
+                    pairs += chunk.size();
+                } else if (remaining.get() == 0 && queue.isEmpty()) {
+                    break;
+                }
+                if (failure.get() != null) {
+                    break;
+                }
+            }
+        } finally {
+            cancelled.set(true);
+        }
+
+        Throwable e = failure.get();
+        if (e instanceof Exception ex) throw ex;
+        if (e instanceof Error err) throw err;
+        return pairs;
+    }
+
+    private static Chunk joinRange(double[] leftLat, double[] leftLon, GridIndex grid, double radiusM, int from, int to) {
+        Buffer buf = new Buffer();
+        double limit2 = (radiusM * PREFILTER_SLACK) * (radiusM * PREFILTER_SLACK);
+        double dLat = radiusM / Geo.METERS_PER_DEG;
+
+        for (int k = from; k < to; k++) {
+            int i = k;
+            double la = leftLat[i], lo = leftLon[i];
+            if (Double.isNaN(la) || Double.isNaN(lo)) continue;
+
+            double cos = Math.cos(Math.toRadians(la));
+            double dLon = dLat / Math.max(cos, 1e-6);
+            double mPerDegLon = Geo.METERS_PER_DEG * cos;
+            int first = buf.size;
+
+            grid.forEach(la - dLat, lo - dLon, la + dLat, lo + dLon, j -> {
+                double dy = (grid.lat(j) - la) * Geo.METERS_PER_DEG;
+                double dx = (grid.lon(j) - lo) * mPerDegLon;
+                if (dx * dx + dy * dy > limit2) return true;
+
+                double d = Geo.haversineM(la, lo, grid.lat(j), grid.lon(j));
+                if (d <= radiusM) {
+                    buf.add(i, j, (float) d);
+                }
+                return true;
+            });
+            buf.sortTail(first);
+        }
+        return new Chunk(buf.left, buf.right, buf.distance, buf.size);
+    }
+
+    private static final class Buffer {
+        int[] left = new int[256];
+        int[] right = new int[256];
+        float[] distance = new float[256];
+        int size;
+
+        void add(int l, int r, float d) {
+            if (size == left.length) {
+                left = Arrays.copyOf(left, size * 2);
+                right = Arrays.copyOf(right, size * 2);
+                distance = Arrays.copyOf(distance, size * 2);
+            }
+            left[size] = l;
+            right[size] = r;
+            distance[size] = d;
+            size++;
+        }
+
+        /**
+         * 마지막 왼쪽 점의 쌍들을 거리순으로 정렬합니다.
+         * 거리(양수 float)의 비트 표현은 값과 같은 순서이므로 (거리 비트, 오른쪽 번호)를 long 하나로 묶어 정렬합니다.
+         */
+        void sortTail(int first) {
+            int count = size - first;
+            if (count < 2) return;
+            long[] keys = new long[count];
+            for (int k = 0; k < count; k++) {
+                keys[k] = ((long) Float.floatToIntBits(distance[first + k]) << 32) | (right[first + k] & 0xFFFF_FFFFL);
+            }
+            Arrays.sort(keys);
+            for (int k = 0; k < count; k++) {
+                distance[first + k] = Float.intBitsToFloat((int) (keys[k] >>> 32));
+                right[first + k] = (int) keys[k];
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.kdt03.ped_accident.global.spatial;
+
+/**
+ * 공간 조인 재생성 작업의 결과입니다.
+ *
+ * @param table          다시 쓴 테이블
+ * @param radiusM        반경(m)
+ * @param left           왼쪽 점 수
+ * @param right          조인에 들어간 오른쪽 점 수
+ * @param pairs          찾아서 쓴 쌍 수
+ * @param elapsedMs      조인과 쓰기를 합친 시간
+ * @param pairsPerSecond 초당 처리 쌍 수
+ */
+public record SpatialJoinReport(String table, double radiusM, int left, int right, long pairs,
+                                long elapsedMs, long pairsPerSecond) {
+
+    public static SpatialJoinReport of(String table, double radiusM, int left, int right, long pairs, long elapsedNanos) {
+        long ms = elapsedNanos / 1_000_000;
+        return new SpatialJoinReport(table, radiusM, left, right, pairs, ms,
+                elapsedNanos == 0 ? 0 : pairs * 1_000_000_000L / elapsedNanos);
+    }
+}
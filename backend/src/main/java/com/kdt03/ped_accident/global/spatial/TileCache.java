@@ -0,0 +1,50 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인코딩된 타일을 보관하는 크기 제한 LRU 캐시입니다.
+ * 전체 바이트 합이 {@code maxBytes}를 넘으면 가장 오래 사용하지 않은 타일부터 제거합니다.
+ */
+public final class TileCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public TileCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, byte[] tile) {
+        if (tile.length > maxBytes) return;
+
+        byte[] previous = entries.put(key, tile);
+        if (previous != null) {
+            totalBytes -= previous.length;
+        }
+        totalBytes += tile.length;
+
+        Iterator<Map.Entry<String, byte[]>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, byte[]> eldest = it.next();
+            totalBytes -= eldest.getValue().length;
+            it.remove();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,187 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(v2) 인코더입니다. 이 프로젝트는 점(POINT) 피처만 쓰므로 점만 지원합니다.
+ * <p>
+ * 외부 protobuf 라이브러리 없이 vector_tile.proto의 필요한 필드만 직접 씁니다.
+ * 좌표는 타일 내부 좌표(0 ~ extent)로 넘겨야 합니다. ({@link WebMercatorTile#tileX})
+ */
+public final class VectorTileEncoder {
+
+    public static final int EXTENT = 4096;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_64BIT = 1;
+    private static final int WIRE_LENGTH = 2;
+
+    private static final int GEOM_POINT = 1;
+    private static final int CMD_MOVE_TO_ONE = (1 & 0x7) | (1 << 3);
+
+    private final List<Layer> layers = new ArrayList<>();
+
+    public Layer layer(String name) {
+        Layer layer = new Layer(name);
+        layers.add(layer);
+        return layer;
+    }
+
+    public byte[] encode() {
+        ProtoWriter tile = new ProtoWriter();
+        for (Layer layer : layers) {
+            if (layer.features.isEmpty()) continue;
+            tile.bytes(3, layer.encode());
+        }
+        return tile.toByteArray();
+    }
+
+    /**
+     * 하나의 레이어입니다. 키/값은 레이어 단위 사전(dictionary)으로 중복 없이 저장됩니다.
+     */
+    public static final class Layer {
+        private final String name;
+        private final Map<String, Integer> keys = new LinkedHashMap<>();
+        private final Map<Object, Integer> values = new LinkedHashMap<>();
+        private final List<byte[]> features = new ArrayList<>();
+
+        private Layer(String name) {
+            this.name = name;
+        }
+
+        public int size() {
+            return features.size();
+        }
+
+        /**
+         * 점 피처를 추가합니다. 값이 null인 속성은 생략됩니다.
+         *
+         * @param id    피처 id (0 이상이면 기록)
+         * @param x     타일 내부 x 좌표
+         * @param y     타일 내부 y 좌표
+         * @param attrs 속성 (String, Boolean, Integer, Long, Double 지원)
+         */
+        public void addPoint(long id, int x, int y, Map<String, ?> attrs) {
+            ProtoWriter f = new ProtoWriter();
+            if (id >= 0) {
+                f.varint(1, id);
+            }
+
+            ProtoWriter tags = new ProtoWriter();
+            for (Map.Entry<String, ?> e : attrs.entrySet()) {
+                if (e.getValue() == null) continue;
+                tags.rawVarint(keys.computeIfAbsent(e.getKey(), k -> keys.size()));
+                tags.rawVarint(values.computeIfAbsent(normalize(e.getValue()), v -> values.size()));
+            }
+            if (tags.size() > 0) {
+                f.bytes(2, tags.toByteArray());
+            }
+
+            f.varint(3, GEOM_POINT);
+
+            ProtoWriter geom = new ProtoWriter();
+            geom.rawVarint(CMD_MOVE_TO_ONE);
+            geom.rawVarint(zigzag(x));
+            geom.rawVarint(zigzag(y));
+            f.bytes(4, geom.toByteArray());
+
+            features.add(f.toByteArray());
+        }
+
+        private byte[] encode() {
+            ProtoWriter w = new ProtoWriter();
+            w.varint(15, 2);
+            w.string(1, name);
+            for (byte[] feature : features) {
+                w.bytes(2, feature);
+            }
+            for (String key : keys.keySet()) {
+                w.string(3, key);
+            }
+            for (Object value : values.keySet()) {
+                w.bytes(4, encodeValue(value));
+            }
+            w.varint(5, EXTENT);
+            return w.toByteArray();
+        }
+
+        /** Integer와 Long이 같은 값으로 사전에 들어가도록 정수는 Long으로 맞춥니다. */
+        private static Object normalize(Object v) {
+            if (v instanceof Integer i) return i.longValue();
+            if (v instanceof Short s) return s.longValue();
+            if (v instanceof Byte b) return b.longValue();
+            if (v instanceof Float f) return f.doubleValue();
+            return v;
+        }
+
+        private static byte[] encodeValue(Object v) {
+            ProtoWriter w = new ProtoWriter();
+            if (v instanceof String s) {
+                w.string(1, s);
+            } else if (v instanceof Double d) {
+                w.fixed64(3, Double.doubleToRawLongBits(d));
+            } else if (v instanceof Long l) {
+                w.varint(6, zigzag(l));
+            } else if (v instanceof Boolean b) {
+                w.varint(7, b ? 1 : 0);
+            } else {
+                w.string(1, String.valueOf(v));
+            }
+            return w.toByteArray();
+        }
+    }
+
+    private static long zigzag(long n) {
+        return (n << 1) ^ (n >> 63);
+    }
+
+    /**
+     * protobuf 와이어 포맷 최소 구현입니다.
+     */
+    private static final class ProtoWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void varint(int field, long value) {
+            rawVarint(((long) field << 3) | WIRE_VARINT);
+            rawVarint(value);
+        }
+
+        void fixed64(int field, long value) {
+            rawVarint(((long) field << 3) | WIRE_64BIT);
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (value >>> (8 * i)) & 0xFF);
+            }
+        }
+
+        void string(int field, String value) {
+            bytes(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void bytes(int field, byte[] value) {
+            rawVarint(((long) field << 3) | WIRE_LENGTH);
+            rawVarint(value.length);
+            out.writeBytes(value);
+        }
+
+        void rawVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        int size() {
+            return out.size();
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
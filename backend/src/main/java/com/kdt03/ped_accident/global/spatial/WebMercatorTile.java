@@ -0,0 +1,59 @@
+package com.kdt03.ped_accident.global.spatial;
+
+/**
+ * 웹 메르카토르(XYZ) 타일 좌표와 위경도 사이의 변환을 담당합니다.
+ */
+public record WebMercatorTile(int z, int x, int y) {
+
+    /** 웹 메르카토르가 표현할 수 있는 최대 위도 */
+    private static final double MAX_LAT = 85.05112878;
+
+    public WebMercatorTile {
+        if (z < 0 || z > 22) {
+            throw new IllegalArgumentException("z 범위는 0~22입니다.");
+        }
+        int n = 1 << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new IllegalArgumentException("타일 좌표가 범위를 벗어났습니다.");
+        }
+    }
+
+    public double west() {
+        return lonOf(x);
+    }
+
+    public double east() {
+        return lonOf(x + 1);
+    }
+
+    public double north() {
+        return latOf(y);
+    }
+
+    public double south() {
+        return latOf(y + 1);
+    }
+
+    /** 경도를 타일 내부 x 좌표(0 ~ extent)로 변환합니다. */
+    public int tileX(double lon, int extent) {
+        double worldX = (lon + 180.0) / 360.0 * (1 << z);
+        return (int) Math.round((worldX - x) * extent);
+    }
+
+    /** 위도를 타일 내부 y 좌표(0 ~ extent)로 변환합니다. */
+    public int tileY(double lat, int extent) {
+        double clamped = Math.max(-MAX_LAT, Math.min(MAX_LAT, lat));
+        double rad = Math.toRadians(clamped);
+        double worldY = (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * (1 << z);
+        return (int) Math.round((worldY - y) * extent);
+    }
+
+    private double lonOf(int tx) {
+        return tx / (double) (1 << z) * 360.0 - 180.0;
+    }
+
+    private double latOf(int ty) {
+        double n = Math.PI - 2 * Math.PI * ty / (1 << z);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
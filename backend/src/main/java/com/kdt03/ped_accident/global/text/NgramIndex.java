@@ -0,0 +1,191 @@
+package com.kdt03.ped_accident.global.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 1~3글자 n-gram 역색인입니다. 형태소 분석 없이 한글 부분 문자열 검색을 합니다.
+ * <p>
+ * 문서는 글자·숫자가 아닌 문자로 토큰을 나누고, 토큰마다 1·2·3글자 n-gram을 필드 가중치만큼 셉니다.
+ * 검색어도 같은 방식으로 나누되 토큰당 가장 긴 n-gram(3글자 토큰 이상은 3-gram)만 쓰며,
+ * 모든 n-gram을 가진 문서만 결과가 됩니다. 그래서 "횡단보도"는 "횡단보도를"에도 맞고,
+ * "횡단 보도"도 "횡단보도"에 맞습니다.
+ * <p>
+ * 점수는 n-gram별 (가중 빈도 × idf) 합이며, 같은 점수면 id가 큰(최근) 문서가 앞입니다.
+ * 읽기·쓰기는 읽기/쓰기 잠금으로 보호되며, 문서 단위로 넣고 뺄 수 있습니다.
+ */
+public final class NgramIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    private final int[] fieldWeights;
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param fieldWeights {@link #put}에 넘길 필드별 가중치 (순서대로)
+     */
+    public NgramIndex(int... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /** 문서를 넣습니다. 같은 id가 있으면 바꿉니다. null 필드는 건너뜁니다. */
+    public void put(long id, String... fields) {
+        if (fields.length != fieldWeights.length) {
+            throw new IllegalArgumentException("필드 수가 가중치 수와 다릅니다: " + fields.length);
+        }
+        Map<String, Integer> grams = new HashMap<>();
+        for (int f = 0; f < fields.length; f++) {
+            int weight = fieldWeights[f];
+            for (String token : tokenize(fields[f])) {
+                for (int n = 1; n <= MAX_GRAM; n++) {
+                    for (int i = 0; i + n <= token.length(); i++) {
+                        grams.merge(token.substring(i, i + n), weight, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            documents.put(id, grams);
+            for (Map.Entry<String, Integer> e : grams.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(id, e.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 n-gram을 모두 가진 문서 id를 점수 내림차순으로 반환합니다.
+     *
+     * @param filter 통과한 문서만 결과에 넣습니다 (null이면 전부)
+     */
+    public long[] search(String query, LongPredicate filter) {
+        List<String> grams = queryGrams(query);
+        if (grams.isEmpty()) return new long[0];
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+            double[] idf = new double[grams.size()];
+            int n = documents.size();
+            for (String g : grams) {
+                Map<Long, Integer> p = postings.get(g);
+                if (p == null) return new long[0];
+                lists.add(p);
+            }
+            // 가장 짧은 목록을 돌며 나머지에 있는지 확인합니다.
+            Integer[] order = new Integer[lists.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+                idf[i] = Math.log(1.0 + (double) n / lists.get(i).size());
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> lists.get(i).size()));
+            Map<Long, Integer> shortest = lists.get(order[0]);
+
+            long[] ids = new long[shortest.size()];
+            double[] scores = new double[shortest.size()];
+            int hits = 0;
+            outer:
+            for (Map.Entry<Long, Integer> e : shortest.entrySet()) {
+                long id = e.getKey();
+                if (filter != null && !filter.test(id)) continue;
+                double score = 0;
+                for (int k : order) {
+                    Integer tf = lists.get(k).get(id);
+                    if (tf == null) continue outer;
+                    score += tf * idf[k];
+                }
+                ids[hits] = id;
+                scores[hits++] = score;
+            }
+            return rank(ids, scores, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Map<String, Integer> old = documents.remove(id);
+        if (old == null) return;
+        for (String g : old.keySet()) {
+            Map<Long, Integer> p = postings.get(g);
+            if (p == null) continue;
+            p.remove(id);
+            if (p.isEmpty()) postings.remove(g);
+        }
+    }
+
+    private static long[] rank(long[] ids, double[] scores, int hits) {
+        Integer[] order = new Integer[hits];
+        for (int i = 0; i < hits; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            int c = Double.compare(scores[b], scores[a]);
+            return c != 0 ? c : Long.compare(ids[b], ids[a]);
+        });
+        long[] out = new long[hits];
+        for (int i = 0; i < hits; i++) out[i] = ids[order[i]];
+        return out;
+    }
+
+    /** 토큰마다 가장 긴 n-gram만, 중복 없이 */
+    static List<String> queryGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokenize(query)) {
+            int n = Math.min(MAX_GRAM, token.length());
+            for (int i = 0; i + n <= token.length(); i++) {
+                grams.add(token.substring(i, i + n));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /** 글자·숫자가 아닌 문자로 나누고 소문자로 바꿉니다. */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        String s = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= s.length(); i++) {
+            boolean word = i < s.length() && Character.isLetterOrDigit(s.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(s.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
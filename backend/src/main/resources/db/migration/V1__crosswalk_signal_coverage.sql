@@ -0,0 +1,22 @@
+-- 횡단보도 신호 커버리지 파생 컬럼과 범위 조회 인덱스
+-- CrosswalkRepository.findInBounds / findAllForIndex, CrosswalkStreamRepository가 이 컬럼을 읽습니다.
+-- 값은 SignalCoverageService가 기동 시와 crosswalks / crosswalk_signal_map 변경 시 다시 계산합니다.
+
+ALTER TABLE crosswalks
+  ADD COLUMN has_signal TINYINT(1) NOT NULL DEFAULT 0,
+  ADD COLUMN signal_source VARCHAR(8) NOT NULL DEFAULT 'none';
+
+CREATE INDEX idx_crosswalks_lat_lon ON crosswalks (crosswalk_lat, crosswalk_lon);
+
+UPDATE crosswalks c
+LEFT JOIN (SELECT DISTINCT cw_uid FROM crosswalk_signal_map) m
+  ON m.cw_uid = c.cw_uid
+SET c.has_signal = CASE
+      WHEN c.has_ped_signal = 1 OR m.cw_uid IS NOT NULL THEN 1
+      ELSE 0
+    END,
+    c.signal_source = CASE
+      WHEN c.has_ped_signal = 1 THEN 'direct'
+      WHEN m.cw_uid IS NOT NULL THEN 'mapped'
+      ELSE 'none'
+    END;
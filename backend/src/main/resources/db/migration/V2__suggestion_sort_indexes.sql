@@ -0,0 +1,9 @@
+-- 건의사항 커서 페이지네이션(SuggestionService.findPage)용 복합 인덱스
+-- NULL은 키셋 비교(<, =)에 걸리지 않아 커서 페이지에서 빠지므로 먼저 0으로 채웁니다.
+-- (엔티티 기본값과 생성 시 기본값도 0입니다.)
+
+UPDATE suggestions SET priority_score = 0 WHERE priority_score IS NULL;
+
+CREATE INDEX idx_suggestions_created_id ON suggestions (created_at, id);
+
+CREATE INDEX idx_suggestions_priority_id ON suggestions (priority_score, id);
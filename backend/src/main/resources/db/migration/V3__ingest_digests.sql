@@ -0,0 +1,10 @@
+-- 증분 적재(IngestService.ingestIncremental)용 행 해시
+-- 적재 도구만 쓰는 테이블이라 엔티티에 매핑하지 않습니다.
+
+CREATE TABLE ingest_digests (
+  table_name VARCHAR(64) NOT NULL,
+  row_key VARCHAR(64) NOT NULL,
+  row_digest BIGINT NOT NULL,
+  location_digest BIGINT NOT NULL,
+  PRIMARY KEY (table_name, row_key)
+);
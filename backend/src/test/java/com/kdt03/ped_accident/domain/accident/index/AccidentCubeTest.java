@@ -0,0 +1,160 @@
+package com.kdt03.ped_accident.domain.accident.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.kdt03.ped_accident.api.dto.response.AccidentSummaryDto.MonthlyAccident;
+import com.kdt03.ped_accident.api.dto.response.AccidentSummaryDto.YearlyAccident;
+import com.kdt03.ped_accident.domain.accident.entity.Accident;
+import com.kdt03.ped_accident.domain.accident.repository.AccidentRepository;
+
+/**
+ * 큐브의 연도별·월별 합계가 변경 전 방식(엔티티를 모두 읽어 루프로 합산)과 같은지 지역 단위마다 확인합니다.
+ * (H2 MySQL 모드, 스키마는 엔티티로 생성)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:accident_cube;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,MONTH,VALUE,USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AccidentCubeTest {
+
+    private static final int SIDO = 4;
+    private static final int SIGUNGU_PER_SIDO = 3;
+    private static final int FIRST_YEAR = 2019;
+    private static final int YEARS = 4;
+
+    @Autowired
+    private AccidentRepository accidentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AccidentCube cube;
+
+    @BeforeEach
+    void seed() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (int s = 0; s < SIDO; s++) {
+            long sido = 11 + s * 15L;
+            for (int g = 0; g < SIGUNGU_PER_SIDO; g++) {
+                String sigungu = String.valueOf(sido * 100_000_000L + (110 + g * 10) * 100_000L + g);
+                for (int y = 0; y < YEARS; y++) {
+                    for (int m = 1; m <= 12; m++) {
+                        // 빈 (연, 월)과 같은 칸에 행이 여러 개인 경우를 섞습니다.
+                        int copies = random.nextInt(5) == 0 ? 0 : 1 + random.nextInt(2);
+                        for (int c = 0; c < copies; c++) {
+                            rows.add(new Object[]{
+                                    String.valueOf(sido * 100_000_000L), sigungu, FIRST_YEAR + y, m,
+                                    random.nextInt(40), random.nextInt(50), random.nextInt(2),
+                                    random.nextInt(8), random.nextInt(20),
+                                    random.nextInt(6) == 0 ? null : random.nextInt(5)});
+                        }
+                    }
+                }
+            }
+        }
+        // 이 시군구는 한 해만 있어, 다른 해가 결과에서 빠져야 합니다.
+        rows.add(new Object[]{"1100000000", "1114000000", FIRST_YEAR + 1, 7, 3, 4, 0, 1, 2, 0});
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO accidents (sido_code, sigungu_code, year, month,
+                  accident_count, casualty_count, fatality_count,
+                  serious_injury_count, minor_injury_count, reported_injury_count)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+
+        cube = AccidentCube.from(accidentRepository.findCubeRows());
+        assertThat(cube.sourceRows()).isEqualTo(rows.size());
+    }
+
+    @Test
+    void nationMatchesFindAll() {
+        assertMatches(RegionType.NATION, null, accidentRepository.findAll());
+    }
+
+    @Test
+    void sidoAndSigunguMatchRangeQueries() {
+        for (int s = 0; s < SIDO; s++) {
+            long sido = 11 + s * 15L;
+            assertMatches(RegionType.SIDO_PREFIX2, String.valueOf(sido), accidentRepository.findBySidoCodeRange(
+                    String.valueOf(sido * 100_000_000L), String.valueOf((sido + 1) * 100_000_000L)));
+
+            for (int g = 0; g < SIGUNGU_PER_SIDO; g++) {
+                long d5 = sido * 1_000 + 110 + g * 10;
+                assertMatches(RegionType.DISTRICT5, String.valueOf(d5), accidentRepository.findBySigunguCodeRange(
+                        String.valueOf(d5 * 100_000L), String.valueOf((d5 + 1) * 100_000L)));
+
+                String sigungu = String.valueOf(d5 * 100_000L + g);
+                assertMatches(RegionType.SIGUNGU10, sigungu, accidentRepository.findBySigunguCode(sigungu));
+            }
+        }
+        assertMatches(RegionType.SIGUNGU10, "1114000000", accidentRepository.findBySigunguCode("1114000000"));
+        assertThat(cube.yearly(RegionType.SIGUNGU10, "1114000000")).singleElement()
+                .extracting(YearlyAccident::getYear).isEqualTo(FIRST_YEAR + 1);
+    }
+
+    @Test
+    void unknownRegionIsEmpty() {
+        assertThat(cube.yearly(RegionType.SIDO_PREFIX2, "99")).isEmpty();
+        assertThat(cube.monthly(RegionType.SIGUNGU10, "1100000001")).isEmpty();
+        assertThat(cube.yearly(RegionType.UNKNOWN, "abc")).isEmpty();
+    }
+
+    private void assertMatches(RegionType type, String key, List<Accident> rows) {
+        assertThat(rows).as("%s %s 원본", type, key).isNotEmpty();
+
+        List<YearlyAccident> yearly = new ArrayList<>();
+        sums(rows, Accident::getYear).forEach((year, s) -> yearly.add(YearlyAccident.builder()
+                .year(year)
+                .accidentCount(s[0]).casualtyCount(s[1]).fatalityCount(s[2])
+                .seriousInjuryCount(s[3]).minorInjuryCount(s[4]).reportedInjuryCount(s[5])
+                .build()));
+        List<MonthlyAccident> monthly = new ArrayList<>();
+        sums(rows, a -> a.getYear() * 100 + a.getMonth()).forEach((ym, s) -> monthly.add(MonthlyAccident.builder()
+                .year(ym / 100).month(ym % 100)
+                .accidentCount(s[0]).casualtyCount(s[1]).fatalityCount(s[2])
+                .seriousInjuryCount(s[3]).minorInjuryCount(s[4]).reportedInjuryCount(s[5])
+                .build()));
+
+        assertThat(cube.yearly(type, key)).as("%s %s 연도별", type, key).isEqualTo(yearly);
+        assertThat(cube.monthly(type, key)).as("%s %s 월별", type, key).isEqualTo(monthly);
+    }
+
+    /**
+     * 변경 전 AccidentService의 집계: 키별로 6개 지표를 null은 0으로 보고 더하며, 결과는 키 순입니다.
+     */
+    private static Map<Integer, long[]> sums(List<Accident> rows, Function<Accident, Integer> keyOf) {
+        Map<Integer, long[]> out = new TreeMap<>();
+        for (Accident a : rows) {
+            long[] s = out.computeIfAbsent(keyOf.apply(a), k -> new long[6]);
+            s[0] += nz(a.getAccidentCount());
+            s[1] += nz(a.getCasualtyCount());
+            s[2] += nz(a.getFatalityCount());
+            s[3] += nz(a.getSeriousInjuryCount());
+            s[4] += nz(a.getMinorInjuryCount());
+            s[5] += nz(a.getReportedInjuryCount());
+        }
+        return out;
+    }
+
+    private static long nz(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
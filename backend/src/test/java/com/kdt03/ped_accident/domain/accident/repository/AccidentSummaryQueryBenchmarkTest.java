@@ -0,0 +1,195 @@
+package com.kdt03.ped_accident.domain.accident.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.kdt03.ped_accident.domain.accident.entity.Accident;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 사고 요약 집계의 변경 전(엔티티 전체 적재 후 루프)과 변경 후(DB GROUP BY)를 비교합니다.
+ * <p>
+ * 내장 H2(MySQL 모드)에 시군구 250곳 × 10년 × 12개월 = 30,000행을 넣고 실행합니다.
+ * 결과 일치 검증은 항상 실행되고, 측정은 {@code -Dbench=true}를 줄 때만 실행됩니다.
+ * <pre>
+ * ./mvnw test -Dtest=AccidentSummaryQueryBenchmarkTest -Dbench=true
+ * </pre>
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:accidents;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,MONTH,VALUE,USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AccidentSummaryQueryBenchmarkTest {
+
+    private static final int SIDO = 17;
+    private static final int SIGUNGU_PER_SIDO = 15;
+    private static final int FIRST_YEAR = 2015;
+    private static final int YEARS = 10;
+
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private AccidentRepository accidentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void seed() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (int s = 0; s < SIDO; s++) {
+            long sido = 11 + s * 3L;
+            for (int g = 0; g < SIGUNGU_PER_SIDO; g++) {
+                String sigungu = String.valueOf(sido * 100_000_000L + (110 + g * 10) * 100_000L);
+                for (int y = 0; y < YEARS; y++) {
+                    for (int m = 1; m <= 12; m++) {
+                        int accidents = random.nextInt(40);
+                        rows.add(new Object[]{
+                                String.valueOf(sido * 100_000_000L), sigungu, FIRST_YEAR + y, m,
+                                accidents, accidents + random.nextInt(10), random.nextInt(2),
+                                random.nextInt(8), random.nextInt(20), random.nextInt(5)});
+                    }
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO accidents (sido_code, sigungu_code, year, month,
+                  accident_count, casualty_count, fatality_count,
+                  serious_injury_count, minor_injury_count, reported_injury_count)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @Test
+    void groupByMatchesEntityAggregation() {
+        assertSame(yearlyFromEntities(accidentRepository.findAll()), yearly(accidentRepository.sumYearly()));
+        assertSame(monthlyFromEntities(accidentRepository.findAll()), monthly(accidentRepository.sumMonthly()));
+
+        assertSame(yearlyFromEntities(accidentRepository.findBySidoCodeRange("1100000000", "1200000000")),
+                yearly(accidentRepository.sumYearlyBySidoCodeRange("1100000000", "1200000000")));
+
+        assertSame(monthlyFromEntities(accidentRepository.findBySigunguCodeRange("1411000000", "1411100000")),
+                monthly(accidentRepository.sumMonthlyBySigunguCodeRange("1411000000", "1411100000")));
+
+        assertSame(yearlyFromEntities(accidentRepository.findBySigunguCode("1411000000")),
+                yearly(accidentRepository.sumYearlyBySigunguCodeRange("1411000000", "1411000001")));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bench", matches = "true")
+    void compareSummaryLatency() {
+        measure("nation  before (findAll + loop)", () -> {
+            List<Accident> all = accidentRepository.findAll();
+            return monthlyFromEntities(all).size() + yearlyFromEntities(all).size();
+        });
+        measure("nation  after  (GROUP BY)      ", () ->
+                accidentRepository.sumMonthly().size() + accidentRepository.sumYearly().size());
+
+        measure("sido 11 before (range + loop)  ", () -> {
+            List<Accident> rows = accidentRepository.findBySidoCodeRange("1100000000", "1200000000");
+            return monthlyFromEntities(rows).size() + yearlyFromEntities(rows).size();
+        });
+        measure("sido 11 after  (GROUP BY)      ", () ->
+                accidentRepository.sumMonthlyBySidoCodeRange("1100000000", "1200000000").size()
+                        + accidentRepository.sumYearlyBySidoCodeRange("1100000000", "1200000000").size());
+    }
+
+    private void measure(String label, Supplier<Integer> query) {
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < WARMUP + RUNS; i++) {
+            em.clear(); // 매번 영속성 컨텍스트를 비워 실제 요청처럼 엔티티를 새로 만듭니다.
+            long started = System.nanoTime();
+            query.get();
+            if (i >= WARMUP) {
+                nanos[i - WARMUP] = System.nanoTime() - started;
+            }
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%s  p50=%.2fms  p95=%.2fms  max=%.2fms%n", label,
+                nanos[RUNS / 2] / 1e6, nanos[(int) (RUNS * 0.95)] / 1e6, nanos[RUNS - 1] / 1e6);
+    }
+
+    // ---- 비교용: 키 → [6개 지표 합계] ----
+
+    private static Map<Integer, List<Long>> yearlyFromEntities(List<Accident> rows) {
+        Map<Integer, long[]> out = new TreeMap<>();
+        for (Accident a : rows) {
+            add(out.computeIfAbsent(a.getYear(), k -> new long[6]), a);
+        }
+        return boxed(out);
+    }
+
+    private static Map<Integer, List<Long>> monthlyFromEntities(List<Accident> rows) {
+        Map<Integer, long[]> out = new TreeMap<>();
+        for (Accident a : rows) {
+            add(out.computeIfAbsent(a.getYear() * 100 + a.getMonth(), k -> new long[6]), a);
+        }
+        return boxed(out);
+    }
+
+    private static Map<Integer, List<Long>> yearly(List<AccidentYearlySum> rows) {
+        Map<Integer, List<Long>> out = new TreeMap<>();
+        for (AccidentYearlySum r : rows) {
+            out.put(r.getYear(), metrics(r));
+        }
+        return out;
+    }
+
+    private static Map<Integer, List<Long>> monthly(List<AccidentMonthlySum> rows) {
+        Map<Integer, List<Long>> out = new TreeMap<>();
+        for (AccidentMonthlySum r : rows) {
+            out.put(r.getYear() * 100 + r.getMonth(), metrics(r));
+        }
+        return out;
+    }
+
+    private static void add(long[] sum, Accident a) {
+        sum[0] += a.getAccidentCount();
+        sum[1] += a.getCasualtyCount();
+        sum[2] += a.getFatalityCount();
+        sum[3] += a.getSeriousInjuryCount();
+        sum[4] += a.getMinorInjuryCount();
+        sum[5] += a.getReportedInjuryCount();
+    }
+
+    private static List<Long> metrics(AccidentYearlySum r) {
+        return List.of(r.getAccidentCount(), r.getCasualtyCount(), r.getFatalityCount(),
+                r.getSeriousInjuryCount(), r.getMinorInjuryCount(), r.getReportedInjuryCount());
+    }
+
+    private static Map<Integer, List<Long>> boxed(Map<Integer, long[]> in) {
+        Map<Integer, List<Long>> out = new TreeMap<>();
+        in.forEach((k, v) -> out.put(k, Arrays.stream(v).boxed().toList()));
+        return out;
+    }
+
+    private static void assertSame(Map<Integer, List<Long>> expected, Map<Integer, List<Long>> actual) {
+        assertEquals(false, expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,70 @@
+package com.kdt03.ped_accident.domain.crosswalk.repository;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 범위 조회 쿼리의 변경 전(EXISTS 두 번)과 변경 후(파생 컬럼) 지연 시간을 비교합니다.
+ * 두 쿼리의 결과가 같은지는 {@link CrosswalkBoundsQueryTest}가 H2에서 확인합니다.
+ * <p>
+ * 실제 MySQL 데이터가 필요하므로 {@code -Dbench=true}를 줄 때만 실행됩니다.
+ * <pre>
+ * ./mvnw test -Dtest=CrosswalkBoundsQueryBenchmarkTest -Dbench=true
+ * </pre>
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class CrosswalkBoundsQueryBenchmarkTest {
+
+    private static final int WARMUP = 20;
+    private static final int RUNS = 200;
+
+    @Autowired
+    private CrosswalkRepository crosswalkRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void compareBoundsQueryLatency() {
+        measure("before (EXISTS x2)", b -> em.createNativeQuery(CrosswalkBoundsQueryTest.LEGACY_QUERY)
+                .setParameter("south", b[0])
+                .setParameter("west", b[1])
+                .setParameter("north", b[2])
+                .setParameter("east", b[3])
+                .getResultList());
+
+        measure("after  (has_signal)", b -> crosswalkRepository.findInBounds(b[0], b[1], b[2], b[3], 5000));
+    }
+
+    private void measure(String label, Consumer<double[]> query) {
+        // 같은 시드로 동일한 뷰포트 순서를 재현합니다. (서울 일대, 약 2~5km 화면)
+        Random random = new Random(42);
+        long[] nanos = new long[RUNS];
+
+        for (int i = 0; i < WARMUP + RUNS; i++) {
+            double south = 37.45 + random.nextDouble() * 0.15;
+            double west = 126.85 + random.nextDouble() * 0.25;
+            double span = 0.02 + random.nextDouble() * 0.03;
+            double[] bounds = {south, west, south + span, west + span};
+
+            long started = System.nanoTime();
+            query.accept(bounds);
+            if (i >= WARMUP) {
+                nanos[i - WARMUP] = System.nanoTime() - started;
+            }
+        }
+
+        Arrays.sort(nanos);
+        System.out.printf("%s  p50=%.2fms  p95=%.2fms  max=%.2fms%n", label,
+                nanos[RUNS / 2] / 1e6, nanos[(int) (RUNS * 0.95)] / 1e6, nanos[RUNS - 1] / 1e6);
+    }
+}
@@ -0,0 +1,180 @@
+package com.kdt03.ped_accident.domain.crosswalk.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.kdt03.ped_accident.domain.crosswalk.entity.Crosswalk;
+
+/**
+ * 파생 컬럼(has_signal, signal_source)을 읽는 범위 조회가 변경 전 쿼리(EXISTS 두 번)와 같은 행·값을 돌려주는지,
+ * refreshCoverage()가 파생 컬럼을 맞게 다시 계산하는지 확인합니다. (H2, 스키마는 엔티티 + V1 컬럼)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import(CrosswalkSignalCoverageRepository.class)
+class CrosswalkBoundsQueryTest {
+
+    /** 파생 컬럼 도입 전의 범위 조회입니다. {@link CrosswalkBoundsQueryBenchmarkTest}도 이 쿼리와 비교합니다. */
+    static final String LEGACY_QUERY = """
+            SELECT
+              c.cw_uid, c.crosswalk_lat, c.crosswalk_lon, c.address,
+              c.is_highland, c.has_ped_button, c.has_ped_sound, c.has_bump,
+              c.has_braille_block, c.has_spotlight,
+              CASE
+                WHEN c.has_ped_signal = 1 THEN 1
+                WHEN EXISTS (SELECT 1 FROM crosswalk_signal_map s WHERE s.cw_uid = c.cw_uid) THEN 1
+                ELSE 0
+              END AS hasSignal,
+              CASE
+                WHEN c.has_ped_signal = 1 THEN 'direct'
+                WHEN EXISTS (SELECT 1 FROM crosswalk_signal_map s WHERE s.cw_uid = c.cw_uid) THEN 'mapped'
+                ELSE 'none'
+              END AS signalSource
+            FROM crosswalks c
+            WHERE c.crosswalk_lat BETWEEN :south AND :north
+              AND c.crosswalk_lon BETWEEN :west AND :east
+            LIMIT 5000
+            """;
+
+    private static final int CROSSWALKS = 400;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CrosswalkRepository crosswalkRepository;
+
+    @Autowired
+    private CrosswalkSignalCoverageRepository coverageRepository;
+
+    @BeforeEach
+    void setUp() {
+        // V1__crosswalk_signal_coverage.sql의 컬럼 추가 (H2는 ADD COLUMN을 한 문장에 여러 개 받지 않습니다)
+        execute("ALTER TABLE crosswalks ADD COLUMN IF NOT EXISTS has_signal TINYINT NOT NULL DEFAULT 0");
+        execute("ALTER TABLE crosswalks ADD COLUMN IF NOT EXISTS signal_source VARCHAR(8) NOT NULL DEFAULT 'none'");
+        // 운영 스키마처럼 TINYINT(1)로 둡니다. H2의 BOOLEAN은 쿼리의 "= 1" 비교를 받지 않습니다.
+        execute("ALTER TABLE crosswalks ALTER COLUMN has_ped_signal TINYINT");
+
+        Random random = new Random(7);
+        for (int i = 0; i < CROSSWALKS; i++) {
+            Boolean pedSignal = switch (i % 4) {
+                case 0 -> true;
+                case 1 -> false;
+                case 2 -> null;
+                default -> random.nextBoolean();
+            };
+            em.persist(Crosswalk.builder()
+                    .cwUid(uid(i))
+                    .address("서울특별시 " + i)
+                    .crosswalkLat(37.45 + random.nextDouble() * 0.15)
+                    .crosswalkLon(126.85 + random.nextDouble() * 0.25)
+                    .hasPedSignal(pedSignal)
+                    .isHighland(random.nextBoolean())
+                    .hasPedButton(random.nextBoolean())
+                    .hasPedSound(random.nextBoolean())
+                    .hasBump(random.nextBoolean())
+                    .hasBrailleBlock(random.nextBoolean())
+                    .hasSpotlight(random.nextInt(3))
+                    .build());
+        }
+        em.flush();
+        // 신호등 매핑: 직접 신호가 있는 곳과 없는 곳 모두, 한 횡단보도에 여러 신호등도 둡니다.
+        for (int i = 0; i < CROSSWALKS; i += 3) {
+            mapSignal(uid(i), "SG" + i);
+            if (i % 2 == 0) mapSignal(uid(i), "SG" + i + "B");
+        }
+    }
+
+    @Test
+    void boundsQueryMatchesLegacyQueryAfterRefresh() {
+        assertThat(coverageRepository.refreshCoverage()).isPositive();
+
+        Random random = new Random(42);
+        int nonEmpty = 0;
+        for (int v = 0; v < 50; v++) {
+            double south = 37.45 + random.nextDouble() * 0.15;
+            double west = 126.85 + random.nextDouble() * 0.25;
+            double span = 0.02 + random.nextDouble() * 0.03;
+
+            Map<String, String> expected = legacy(south, west, south + span, west + span);
+            Map<String, String> actual = new TreeMap<>();
+            for (CrosswalkProjection p : crosswalkRepository.findInBounds(south, west, south + span, west + span, 5000)) {
+                actual.put(p.getCwUid(), p.getHasSignal() + "/" + p.getSignalSource());
+            }
+
+            assertThat(actual).as("viewport %d", v).isEqualTo(expected);
+            if (!expected.isEmpty()) nonEmpty++;
+        }
+        assertThat(nonEmpty).isGreaterThan(10);
+    }
+
+    @Test
+    void refreshUpdatesOnlyChangedRows() {
+        coverageRepository.refreshCoverage();
+        assertThat(coverageRepository.refreshCoverage()).isZero();
+        assertThat(coverage(uid(0))).isEqualTo("1/direct");
+        assertThat(coverage(uid(9))).isEqualTo("1/mapped");
+        assertThat(coverage(uid(1))).isEqualTo("0/none");
+
+        // 매핑 추가·삭제와 직접 신호 변경이 다음 갱신에 반영됩니다.
+        mapSignal(uid(1), "SG-NEW");
+        execute("DELETE FROM crosswalk_signal_map WHERE cw_uid = '" + uid(9) + "'");
+        execute("UPDATE crosswalks SET has_ped_signal = 0 WHERE cw_uid = '" + uid(0) + "'");
+
+        assertThat(coverageRepository.refreshCoverage()).isEqualTo(3);
+        assertThat(coverage(uid(1))).isEqualTo("1/mapped");
+        assertThat(coverage(uid(9))).isEqualTo("0/none");
+        assertThat(coverage(uid(0))).isEqualTo("1/mapped");
+    }
+
+    /** cw_uid → "hasSignal/signalSource" */
+    private Map<String, String> legacy(double south, double west, double north, double east) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.getEntityManager().createNativeQuery(LEGACY_QUERY)
+                .setParameter("south", south)
+                .setParameter("west", west)
+                .setParameter("north", north)
+                .setParameter("east", east)
+                .getResultList();
+        Map<String, String> out = new TreeMap<>();
+        for (Object[] row : rows) {
+            out.put((String) row[0], ((Number) row[10]).longValue() + "/" + row[11]);
+        }
+        return out;
+    }
+
+    private String coverage(String cwUid) {
+        Object[] row = (Object[]) em.getEntityManager()
+                .createNativeQuery("SELECT has_signal, signal_source FROM crosswalks WHERE cw_uid = ?")
+                .setParameter(1, cwUid)
+                .getSingleResult();
+        return ((Number) row[0]).longValue() + "/" + row[1];
+    }
+
+    private void mapSignal(String cwUid, String sgUid) {
+        em.getEntityManager().createNativeQuery("INSERT INTO crosswalk_signal_map (cw_uid, sg_uid) VALUES (?, ?)")
+                .setParameter(1, cwUid)
+                .setParameter(2, sgUid)
+                .executeUpdate();
+    }
+
+    private void execute(String sql) {
+        em.getEntityManager().createNativeQuery(sql).executeUpdate();
+    }
+
+    private static String uid(int i) {
+        return String.format("CW%04d", i);
+    }
+}
@@ -0,0 +1,112 @@
+package com.kdt03.ped_accident.domain.crosswalk.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.entity.AccidentHotspot;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.repository.CrosswalkProjection;
+import com.kdt03.ped_accident.domain.cwaccmap.index.CwAccGraph;
+import com.kdt03.ped_accident.global.score.CrosswalkScoring;
+
+/**
+ * 위험지수를 프론트엔드 {@code features/acc_calculate/utils.ts}의 calculateAggregatedRiskScore로 손 계산한 값과 맞춰 봅니다.
+ * 인접 쌍은 거리순이 아닌 순서로 넣어, 500m 밖에서 멈추는 계산이 CwAccGraph의 거리순 정렬에 기대는 부분도 확인합니다.
+ */
+class CrosswalkRiskScoresTest {
+
+    /**
+     * 사고 다발 지점별 심각도 (사망 10, 중상 5, 경상 2, 사고 1, 부상신고 0.5):
+     * h0 = 10, h1 = 20, h2 = 40, h3 = 80, h4 = 1000
+     */
+    private static final List<AccidentHotspot> HOTSPOTS = List.of(
+            hotspot(100, 1, 0, 0, 0, 0),
+            hotspot(101, 0, 4, 0, 0, 0),
+            hotspot(102, 0, 0, 20, 0, 0),
+            hotspot(103, 0, 0, 0, 80, 0),
+            hotspot(104, 0, 0, 0, 0, 2000));
+
+    @Test
+    void riskMatchesFrontendFormulaForUnsortedPairs() {
+        CrosswalkIndex crosswalks = CrosswalkIndex.from(
+                List.of(crosswalk("CW0"), crosswalk("CW1"), crosswalk("CW2"), crosswalk("CW3")), 0, 0);
+        AccidentHotspotIndex hotspots = AccidentHotspotIndex.from(HOTSPOTS, 0, 0);
+
+        // (횡단보도, 지점, 거리). 횡단보도끼리도 섞고, 가장 먼 쌍을 앞에 둡니다.
+        int[] cw = {0, 1, 0, 3, 0, 1, 0, 1, 0};
+        int[] hs = {4, 3, 0, 4, 1, 4, 2, 2, 3};
+        float[] d = {520, 600, 30, 700, 250, 450, 80, 50, 400};
+        CwAccGraph graph = CwAccGraph.from(crosswalks, hotspots, cw, hs, d, cw.length);
+
+        CrosswalkRiskScores scores = CrosswalkRiskScores.compute(graph);
+
+        // CW0: 30m h0(1.0), 80m h2(0.7), 250m h1(0.4), 400m h3(0.1), 520m h4(0)
+        //   S̄ = (10·1 + 40·0.7 + 20·0.4 + 80·0.1) / (1 + 0.7 + 0.4 + 0.1) = 54 / 2.2
+        //   100 · (1 - e^(-(54/2.2)/80)) = 26.42
+        assertThat(scores.risk(0)).isEqualTo(26.42);
+        // CW1: 50m h2(1.0), 450m h4(0.1), 600m h3(0)
+        //   S̄ = (40·1 + 1000·0.1) / 1.1,  100 · (1 - e^(-(140/1.1)/80)) = 79.63
+        assertThat(scores.risk(1)).isEqualTo(79.63);
+        // CW2: 인접 지점 없음, CW3: 500m 밖 지점만 있음
+        assertThat(scores.risk(2)).isZero();
+        assertThat(scores.risk(3)).isZero();
+
+        for (int i = 0; i < crosswalks.size(); i++) {
+            for (int k = graph.begin(i) + 1; k < graph.end(i); k++) {
+                assertThat(graph.distance(k)).isGreaterThanOrEqualTo(graph.distance(k - 1));
+            }
+        }
+    }
+
+    @Test
+    void distanceBandsMatchFrontend() {
+        // distanceWeightPiecewise: 50m 이하 1.0, 100m 0.7, 300m 0.4, 500m 0.1, 그 밖 0 (경계값은 안쪽 구간)
+        assertThat(CrosswalkScoring.distanceWeight(0)).isEqualTo(1.0);
+        assertThat(CrosswalkScoring.distanceWeight(50)).isEqualTo(1.0);
+        assertThat(CrosswalkScoring.distanceWeight(50.01)).isEqualTo(0.7);
+        assertThat(CrosswalkScoring.distanceWeight(100)).isEqualTo(0.7);
+        assertThat(CrosswalkScoring.distanceWeight(300)).isEqualTo(0.4);
+        assertThat(CrosswalkScoring.distanceWeight(500)).isEqualTo(0.1);
+        assertThat(CrosswalkScoring.distanceWeight(500.01)).isZero();
+
+        assertThat(CrosswalkScoring.severity(1, 1, 1, 1, 1)).isEqualTo(18.5);
+        assertThat(CrosswalkScoring.riskIndex(0, 0)).isZero();
+    }
+
+    private static AccidentHotspot hotspot(long id, int fatality, int serious, int minor, int accident, int reported) {
+        return AccidentHotspot.builder()
+                .accidentId(id)
+                .accidentLat(37.57)
+                .accidentLon(126.98)
+                .fatalityCount(fatality)
+                .seriousInjuryCount(serious)
+                .minorInjuryCount(minor)
+                .accidentCount(accident)
+                .reportedInjuryCount(reported)
+                .build();
+    }
+
+    private static CrosswalkProjection crosswalk(String uid) {
+        return new Row(uid);
+    }
+
+    private record Row(String cwUid) implements CrosswalkProjection {
+        @Override public String getCwUid() { return cwUid; }
+        @Override public Double getCrosswalkLat() { return 37.57; }
+        @Override public Double getCrosswalkLon() { return 126.98; }
+        @Override public String getAddress() { return null; }
+        @Override public Boolean getIsHighland() { return null; }
+        @Override public Boolean getHasPedButton() { return null; }
+        @Override public Boolean getHasPedSound() { return null; }
+        @Override public Boolean getHasBump() { return null; }
+        @Override public Boolean getHasBrailleBlock() { return null; }
+        @Override public Integer getHasSpotlight() { return null; }
+        @Override public Long getHasSignal() { return 0L; }
+        @Override public String getSignalSource() { return "none"; }
+        @Override public String getDistrictCode() { return null; }
+    }
+}
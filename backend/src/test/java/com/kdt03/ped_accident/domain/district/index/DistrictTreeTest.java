@@ -0,0 +1,174 @@
+package com.kdt03.ped_accident.domain.district.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.kdt03.ped_accident.api.dto.response.CityDto;
+import com.kdt03.ped_accident.api.dto.response.ProvinceDto;
+import com.kdt03.ped_accident.domain.district.entity.DistrictWithLatLon;
+import com.kdt03.ped_accident.domain.district.repository.DistrictWithLatLonRepository;
+
+/**
+ * 트리의 시도·시군구 목록이 변경 전 DistrictService의 방식(법정동을 모두 읽어 이름 토큰별로 평균)과 같은지 확인합니다.
+ * (H2, 스키마는 엔티티로 생성)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+class DistrictTreeTest {
+
+    /** 시도 이름 → 시도 코드(앞 2자리) */
+    private static final Map<String, String> PROVINCES = Map.of(
+            "서울특별시", "11",
+            "부산광역시", "26",
+            "경기도", "41",
+            "세종특별자치시", "36");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DistrictWithLatLonRepository repository;
+
+    private DistrictTree tree;
+
+    @BeforeEach
+    void seed() {
+        Random random = new Random(5);
+        PROVINCES.forEach((province, code) -> {
+            // 시도 자체 행 (토큰 1개)
+            persist(code + "00000000", province, random);
+            for (int c = 0; c < 4; c++) {
+                String city = province.charAt(0) + "구" + c;
+                String cityCode = code + (110 + c * 30);
+                persist(cityCode + "00000", province + " " + city, random);
+                int dongs = 1 + random.nextInt(6);
+                for (int d = 0; d < dongs; d++) {
+                    // 이름 사이 공백이 여러 개이거나 앞뒤 공백이 있는 행, 읍 아래 리(토큰 4개)도 섞습니다.
+                    String name = switch (d % 3) {
+                        case 0 -> province + " " + city + " 동" + d;
+                        case 1 -> " " + province + "  " + city + "\t동" + d + " ";
+                        default -> province + " " + city + " 읍" + d + " 리" + d;
+                    };
+                    persist(cityCode + String.format("%05d", 101 + d), name, random);
+                }
+            }
+        });
+        // 좌표가 없는 행은 어느 평균에도 들어가지 않습니다.
+        em.persist(DistrictWithLatLon.builder().bjdCd("1111099999").bjdNm("서울특별시 서구0 빈동").build());
+        em.persist(DistrictWithLatLon.builder().bjdCd("1111099998").bjdNm("서울특별시 서구0 반동").centerLati(37.5).build());
+        em.flush();
+        em.clear();
+
+        tree = DistrictTree.from(repository.findAllDistricts());
+    }
+
+    @Test
+    void provincesMatchFindAllAggregation() {
+        List<ProvinceDto> expected = legacyProvinces(repository.findAll());
+        List<ProvinceDto> actual = tree.provinceDtos();
+
+        assertThat(actual).extracting(ProvinceDto::getProvince)
+                .containsExactlyElementsOf(expected.stream().map(ProvinceDto::getProvince).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getLat()).as(expected.get(i).getProvince()).isCloseTo(expected.get(i).getLat(), within(1e-9));
+            assertThat(actual.get(i).getLon()).as(expected.get(i).getProvince()).isCloseTo(expected.get(i).getLon(), within(1e-9));
+        }
+    }
+
+    @Test
+    void citiesMatchFindAllAggregation() {
+        // 변경 전에는 findByProvincePrefix("시도 ")로 읽었으나, 앞 공백이 있는 이름은 LIKE에서 빠지므로 전체 행에서 거릅니다.
+        List<DistrictWithLatLon> rows = repository.findAll();
+        for (String province : PROVINCES.keySet()) {
+            List<CityDto> expected = legacyCities(province, rows);
+            List<CityDto> actual = tree.cityDtos(province);
+
+            assertThat(actual).as(province).extracting(CityDto::getCity)
+                    .containsExactlyElementsOf(expected.stream().map(CityDto::getCity).toList());
+            for (int i = 0; i < expected.size(); i++) {
+                CityDto e = expected.get(i);
+                assertThat(actual.get(i).getKey()).isEqualTo(e.getKey());
+                assertThat(actual.get(i).getLat()).as(e.getKey()).isCloseTo(e.getLat(), within(1e-9));
+                assertThat(actual.get(i).getLon()).as(e.getKey()).isCloseTo(e.getLon(), within(1e-9));
+            }
+        }
+        assertThat(tree.cityDtos("없는도")).isEmpty();
+    }
+
+    @Test
+    void nodesCarryCodePrefixesAndDongCentroids() {
+        List<DistrictWithLatLon> rows = repository.findAll();
+        for (DistrictTree.Province p : tree.provinces()) {
+            assertThat(p.code()).isEqualTo(PROVINCES.get(p.name()));
+            for (DistrictTree.City c : p.cities()) {
+                assertThat(c.code()).as(c.name()).startsWith(p.code()).hasSize(5);
+                for (DistrictTree.Dong d : c.dongs()) {
+                    assertThat(d.code()).as(d.name()).startsWith(c.code()).hasSize(10);
+                    // 법정동 하나짜리 노드는 해당 행의 좌표 그대로입니다.
+                    DistrictWithLatLon row = rows.stream().filter(r -> r.getBjdCd().equals(d.code())).findFirst().orElseThrow();
+                    assertThat(d.lat()).isEqualTo(row.getCenterLati());
+                    assertThat(d.lon()).isEqualTo(row.getCenterLong());
+                }
+            }
+        }
+        DistrictTree.City city = tree.province("서울특별시").cities().get(0);
+        assertThat(city.dongs()).extracting(DistrictTree.Dong::name).contains("동0", "동1", "읍2 리2");
+        assertThat(tree.province("없는도")).isNull();
+    }
+
+    private void persist(String code, String name, Random random) {
+        em.persist(DistrictWithLatLon.builder()
+                .bjdCd(code)
+                .bjdNm(name)
+                .centerLati(33 + random.nextDouble() * 5)
+                .centerLong(126 + random.nextDouble() * 3)
+                .build());
+    }
+
+    /** 변경 전 DistrictService.getProvinces: 첫 토큰별 좌표 평균, 이름순 */
+    private static List<ProvinceDto> legacyProvinces(List<DistrictWithLatLon> rows) {
+        Map<String, double[]> acc = new TreeMap<>();
+        for (DistrictWithLatLon d : rows) {
+            String[] tokens = d.getBjdNm().trim().split("\\s+");
+            if (d.getCenterLati() == null || d.getCenterLong() == null) continue;
+            add(acc.computeIfAbsent(tokens[0], k -> new double[3]), d);
+        }
+        List<ProvinceDto> out = new ArrayList<>();
+        acc.forEach((name, s) -> out.add(ProvinceDto.builder().province(name).lat(s[0] / s[2]).lon(s[1] / s[2]).build()));
+        return out;
+    }
+
+    /** 변경 전 DistrictService.getCitiesByProvince: 시도가 같은 행의 두 번째 토큰별 좌표 평균, 이름순 */
+    private static List<CityDto> legacyCities(String province, List<DistrictWithLatLon> rows) {
+        Map<String, double[]> acc = new TreeMap<>();
+        for (DistrictWithLatLon d : rows) {
+            String[] tokens = d.getBjdNm().trim().split("\\s+");
+            if (tokens.length < 2 || !tokens[0].equals(province)) continue;
+            if (d.getCenterLati() == null || d.getCenterLong() == null) continue;
+            add(acc.computeIfAbsent(tokens[1], k -> new double[3]), d);
+        }
+        List<CityDto> out = new ArrayList<>();
+        acc.forEach((name, s) -> out.add(CityDto.builder()
+                .city(name).lat(s[0] / s[2]).lon(s[1] / s[2]).key(province + "|" + name).build()));
+        return out;
+    }
+
+    private static void add(double[] s, DistrictWithLatLon d) {
+        s[0] += d.getCenterLati();
+        s[1] += d.getCenterLong();
+        s[2]++;
+    }
+}
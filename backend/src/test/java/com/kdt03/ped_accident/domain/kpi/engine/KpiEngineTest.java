@@ -0,0 +1,254 @@
+package com.kdt03.ped_accident.domain.kpi.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kdt03.ped_accident.domain.accidentHotSpot.entity.AccidentHotspot;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndex;
+import com.kdt03.ped_accident.domain.accidentHotSpot.index.AccidentHotspotIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndex;
+import com.kdt03.ped_accident.domain.crosswalk.index.CrosswalkIndexHolder;
+import com.kdt03.ped_accident.domain.crosswalk.repository.CrosswalkProjection;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskHolder;
+import com.kdt03.ped_accident.domain.crosswalk.risk.CrosswalkRiskScores;
+import com.kdt03.ped_accident.domain.cwaccmap.index.CwAccGraph;
+import com.kdt03.ped_accident.domain.kpi.DistrictKPIDto;
+import com.kdt03.ped_accident.domain.kpi.KPISummaryDto;
+import com.kdt03.ped_accident.global.score.CrosswalkScoring;
+import com.kdt03.ped_accident.global.score.SafetyScoreTable;
+
+/**
+ * 전국·행정구역별 KPI를 횡단보도 행을 하나씩 훑어 합산한 값과 맞춰 봅니다.
+ * 행 수는 병렬 집계가 여러 구간으로 나뉘도록 최소 구간 크기(8,192)의 몇 배로 둡니다.
+ */
+class KpiEngineTest {
+
+    private static final int CROSSWALKS = 30_000;
+    private static final int HOTSPOTS = 400;
+
+    private List<Row> rows;
+    private CrosswalkIndex crosswalks;
+    private AccidentHotspotIndex hotspots;
+    private CrosswalkRiskScores risk;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(3);
+        String[] districts = {"1111010100", "1111010200", "1114010100", "1168010300", "2611010100",
+                "2635010500", "4111310100", "4111510200", "4128110300", "36110"};
+        String[] sources = {"direct", "mapped", "none", null};
+
+        rows = new ArrayList<>(CROSSWALKS);
+        for (int i = 0; i < CROSSWALKS; i++) {
+            rows.add(new Row(
+                    String.format("CW%06d", i),
+                    sources[random.nextInt(sources.length)],
+                    random.nextInt(4) == 0 ? 1L : 0L,
+                    flag(random), flag(random), flag(random), flag(random), flag(random),
+                    random.nextInt(5) == 0 ? null : random.nextInt(3),
+                    // 행정구역이 없는 횡단보도는 전국 KPI에만 들어갑니다.
+                    random.nextInt(50) == 0 ? null : districts[random.nextInt(districts.length)]));
+        }
+        crosswalks = CrosswalkIndex.from(new ArrayList<>(rows), 0, 0);
+
+        List<AccidentHotspot> hs = new ArrayList<>(HOTSPOTS);
+        for (int h = 0; h < HOTSPOTS; h++) {
+            hs.add(AccidentHotspot.builder()
+                    .accidentId((long) h)
+                    .accidentLat(37.5)
+                    .accidentLon(127.0)
+                    .fatalityCount(random.nextInt(2))
+                    .seriousInjuryCount(random.nextInt(4))
+                    .minorInjuryCount(random.nextInt(8))
+                    .accidentCount(1 + random.nextInt(10))
+                    .reportedInjuryCount(random.nextInt(3))
+                    .build());
+        }
+        hotspots = AccidentHotspotIndex.from(hs, 0, 0);
+
+        int pairs = CROSSWALKS * 2;
+        int[] cw = new int[pairs];
+        int[] h = new int[pairs];
+        float[] d = new float[pairs];
+        for (int k = 0; k < pairs; k++) {
+            cw[k] = random.nextInt(CROSSWALKS);
+            h[k] = random.nextInt(HOTSPOTS);
+            d[k] = random.nextFloat() * 600;
+        }
+        risk = CrosswalkRiskScores.compute(CwAccGraph.from(crosswalks, hotspots, cw, h, d, pairs));
+    }
+
+    @Test
+    void summaryMatchesPerCrosswalkLoop() {
+        KPISummaryDto actual = engine(risk).compute();
+
+        Totals t = new Totals();
+        for (int i = 0; i < rows.size(); i++) {
+            t.add(rows.get(i), risk.risk(i));
+        }
+        assertThat(actual.getTotalCrosswalks()).isEqualTo(CROSSWALKS);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(t.summary());
+        assertThat(actual.getDirectSignals() + actual.getMappedSignals()).isEqualTo(actual.getCrosswalksWithSignals());
+    }
+
+    @Test
+    void districtKpisMatchPerCrosswalkLoop() {
+        KpiEngine engine = engine(risk);
+        DistrictKpis actual = engine.computeByDistrict();
+
+        assertThat(actual.source()).isSameAs(risk);
+        assertThat(actual.sigungu()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(byPrefix(5));
+        assertThat(actual.sido()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(byPrefix(2));
+        assertThat(actual.sido()).extracting(DistrictKPIDto::getDistrictCode).containsExactly("11", "26", "36", "41");
+        // 시군구 합이 시도와 같고, 시도 합은 행정구역이 있는 횡단보도 수와 같습니다.
+        assertThat(actual.sido().stream().mapToInt(DistrictKPIDto::getTotalCrosswalks).sum())
+                .isEqualTo(actual.sigungu().stream().mapToInt(DistrictKPIDto::getTotalCrosswalks).sum())
+                .isEqualTo((int) rows.stream().filter(r -> r.districtCode() != null).count());
+
+        // 위험지수가 그대로면 이전 결과를 재사용합니다.
+        assertThat(engine.computeByDistrict()).isSameAs(actual);
+    }
+
+    @Test
+    void notReadyUntilRiskMatchesIndex() {
+        CrosswalkIndex other = CrosswalkIndex.from(new ArrayList<>(rows.subList(0, 10)), 0, 0);
+        KpiEngine stale = new KpiEngine(crosswalkHolder(other), hotspotHolder(), riskHolder(risk), SafetyScoreTable.DEFAULT);
+
+        assertThat(stale.compute()).isNull();
+        assertThat(stale.computeByDistrict()).isNull();
+    }
+
+    private List<DistrictKPIDto> byPrefix(int length) {
+        Map<String, Totals> out = new TreeMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String code = rows.get(i).districtCode();
+            if (code == null) continue;
+            out.computeIfAbsent(code.substring(0, Math.min(length, code.length())), k -> new Totals())
+                    .add(rows.get(i), risk.risk(i));
+        }
+        List<DistrictKPIDto> dtos = new ArrayList<>();
+        out.forEach((code, t) -> dtos.add(t.district(code)));
+        return dtos;
+    }
+
+    private KpiEngine engine(CrosswalkRiskScores scores) {
+        return new KpiEngine(crosswalkHolder(crosswalks), hotspotHolder(), riskHolder(scores), SafetyScoreTable.DEFAULT);
+    }
+
+    private static CrosswalkIndexHolder crosswalkHolder(CrosswalkIndex index) {
+        return new CrosswalkIndexHolder(null) {
+            @Override
+            public CrosswalkIndex get() {
+                return index;
+            }
+        };
+    }
+
+    private AccidentHotspotIndexHolder hotspotHolder() {
+        return new AccidentHotspotIndexHolder(null) {
+            @Override
+            public AccidentHotspotIndex get() {
+                return hotspots;
+            }
+        };
+    }
+
+    private static CrosswalkRiskHolder riskHolder(CrosswalkRiskScores scores) {
+        return new CrosswalkRiskHolder(null, null, null) {
+            @Override
+            public CrosswalkRiskScores get(CrosswalkIndex index) {
+                return scores.isFor(index) ? scores : null;
+            }
+
+            @Override
+            public synchronized CrosswalkRiskScores reload() {
+                return scores;
+            }
+        };
+    }
+
+    private static Boolean flag(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> true;
+            case 1 -> false;
+            default -> null;
+        };
+    }
+
+    /** 행 하나씩 더하는 기준 합계 */
+    private static final class Totals {
+        int n, withSignals, direct, mapped;
+        double riskSum, safetySum;
+
+        void add(Row r, double risk) {
+            String source = "direct".equals(r.signalSource()) || "mapped".equals(r.signalSource())
+                    ? r.signalSource()
+                    : r.hasSignal() > 0 ? "mapped" : "none";
+            n++;
+            if (source.equals("direct")) direct++;
+            if (source.equals("mapped")) mapped++;
+            if (!source.equals("none")) withSignals++;
+            riskSum += risk;
+
+            // 프론트엔드의 안전지수: 설치된 시설 가중치 합 / 전체 가중치 합 × 100
+            int points = (source.equals("none") ? 0 : CrosswalkScoring.W_SIGNAL)
+                    + points(r.hasPedButton(), CrosswalkScoring.W_BUTTON)
+                    + points(r.hasPedSound(), CrosswalkScoring.W_SOUND)
+                    + points(r.isHighland(), CrosswalkScoring.W_HIGHLAND)
+                    + points(r.hasBump(), CrosswalkScoring.W_BUMP)
+                    + points(r.hasBrailleBlock(), CrosswalkScoring.W_BRAILLE)
+                    + (r.hasSpotlight() != null && r.hasSpotlight() != 0 ? CrosswalkScoring.W_SPOTLIGHT : 0);
+            int max = CrosswalkScoring.W_SIGNAL + CrosswalkScoring.W_BUTTON + CrosswalkScoring.W_SOUND
+                    + CrosswalkScoring.W_HIGHLAND + CrosswalkScoring.W_BUMP + CrosswalkScoring.W_BRAILLE
+                    + CrosswalkScoring.W_SPOTLIGHT;
+            safetySum += CrosswalkScoring.round2(points * 100.0 / max);
+        }
+
+        private static int points(Boolean installed, int weight) {
+            return Boolean.TRUE.equals(installed) ? weight : 0;
+        }
+
+        KPISummaryDto summary() {
+            return new KPISummaryDto(n, withSignals, direct, mapped,
+                    rounded(withSignals * 100.0), rounded(riskSum), rounded(safetySum));
+        }
+
+        DistrictKPIDto district(String code) {
+            return new DistrictKPIDto(code, n, withSignals, direct, mapped,
+                    rounded(withSignals * 100.0), rounded(riskSum), rounded(safetySum));
+        }
+
+        private double rounded(double sum) {
+            return CrosswalkScoring.round2(sum / n);
+        }
+    }
+
+    private record Row(String cwUid, String signalSource, Long hasSignal,
+                       Boolean hasPedButton, Boolean hasPedSound, Boolean isHighland, Boolean hasBump,
+                       Boolean hasBrailleBlock, Integer hasSpotlight, String districtCode) implements CrosswalkProjection {
+        @Override public String getCwUid() { return cwUid; }
+        @Override public Double getCrosswalkLat() { return 37.5; }
+        @Override public Double getCrosswalkLon() { return 127.0; }
+        @Override public String getAddress() { return null; }
+        @Override public Boolean getIsHighland() { return isHighland; }
+        @Override public Boolean getHasPedButton() { return hasPedButton; }
+        @Override public Boolean getHasPedSound() { return hasPedSound; }
+        @Override public Boolean getHasBump() { return hasBump; }
+        @Override public Boolean getHasBrailleBlock() { return hasBrailleBlock; }
+        @Override public Integer getHasSpotlight() { return hasSpotlight; }
+        @Override public Long getHasSignal() { return hasSignal; }
+        @Override public String getSignalSource() { return signalSource; }
+        @Override public String getDistrictCode() { return districtCode; }
+    }
+}
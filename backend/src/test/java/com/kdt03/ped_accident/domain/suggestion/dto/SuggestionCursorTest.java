@@ -0,0 +1,68 @@
+package com.kdt03.ped_accident.domain.suggestion.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class SuggestionCursorTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000);
+
+    @Test
+    void latestCursorRoundTrips() {
+        String encoded = new SuggestionCursor(SuggestionSort.LATEST, CREATED, 0.0, 42).encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(SuggestionCursor.decode(encoded, SuggestionSort.LATEST))
+                .isEqualTo(new SuggestionCursor(SuggestionSort.LATEST, CREATED, 0.0, 42));
+    }
+
+    @Test
+    void priorityCursorRoundTrips() {
+        String encoded = new SuggestionCursor(SuggestionSort.PRIORITY, CREATED, 87.25, 7).encode();
+
+        assertThat(SuggestionCursor.decode(encoded, SuggestionSort.PRIORITY))
+                .isEqualTo(new SuggestionCursor(SuggestionSort.PRIORITY, null, 87.25, 7));
+    }
+
+    @Test
+    void afterUsesZeroForMissingPriorityScore() {
+        SuggestionListItem last = new SuggestionListItem(9L, "제목", null, null, 0, 0, 0, null, CREATED, null, null, null);
+
+        assertThat(SuggestionCursor.after(SuggestionSort.PRIORITY, last))
+                .isEqualTo(new SuggestionCursor(SuggestionSort.PRIORITY, CREATED, 0.0, 9));
+    }
+
+    @Test
+    void cursorFromOtherSortIsRejected() {
+        String latest = new SuggestionCursor(SuggestionSort.LATEST, CREATED, 0.0, 42).encode();
+        String priority = new SuggestionCursor(SuggestionSort.PRIORITY, null, 50.0, 42).encode();
+
+        assertThatThrownBy(() -> SuggestionCursor.decode(latest, SuggestionSort.PRIORITY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> SuggestionCursor.decode(priority, SuggestionSort.LATEST))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        for (String bad : new String[] {"not base64!", raw("LATEST~2025-03-01T09:30~x"), raw("LATEST~yesterday~1"),
+                raw("PRIORITY~high~1"), raw("PRIORITY~1.0"), raw("OLDEST~1.0~1"), ""}) {
+            assertThatThrownBy(() -> SuggestionCursor.decode(bad, SuggestionSort.LATEST))
+                    .as(bad)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 커서입니다.");
+        }
+    }
+
+    private static String raw(String s) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+package com.kdt03.ped_accident.domain.suggestion.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.kdt03.ped_accident.domain.suggestion.dto.CursorPage;
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionListItem;
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionSort;
+import com.kdt03.ped_accident.domain.suggestion.entity.Suggestion;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionStatus;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionType;
+import com.kdt03.ped_accident.domain.suggestion.search.SuggestionSearchIndex;
+import com.kdt03.ped_accident.domain.suggestion.service.SuggestionLikeService;
+import com.kdt03.ped_accident.domain.suggestion.service.SuggestionService;
+import com.kdt03.ped_accident.domain.suggestion.service.SuggestionViewCounter;
+
+/**
+ * 커서 페이지가 정렬 키(created_at, priority_score)가 같은 행을 id로 이어 받아
+ * 빠뜨리거나 겹치지 않는지 확인합니다. (H2, 스키마는 엔티티로 생성)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({SuggestionService.class, SuggestionLikeService.class, SuggestionLikeJdbcRepository.class,
+        SuggestionCounterRepository.class, SuggestionViewCounter.class, SuggestionSearchIndex.class,
+        SuggestionSearchRepository.class, SuggestionSortIndexRepository.class})
+class SuggestionKeysetPagingTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2025, 3, 2, 9, 0);
+
+    /** (created_at, priority_score). 두 정렬 키 모두 같은 값이 여러 페이지에 걸치도록 둡니다. */
+    private static final Object[][] ROWS = {
+            {T1, 5.0}, {T2, 3.0}, {T1, 5.0}, {T2, 5.0}, {T1, 3.0}, {T2, 3.0}, {T1, 1.0}, {T2, 5.0}, {T1, 1.0}};
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    private final List<Row> rows = new ArrayList<>();
+
+    private record Row(long id, LocalDateTime createdAt, double priorityScore, SuggestionType type) {}
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS.length; i++) {
+            SuggestionType type = SuggestionType.values()[i % 2 == 0 ? 0 : SuggestionType.values().length - 1];
+            Suggestion s = em.persist(Suggestion.builder()
+                    .title("건의 " + i)
+                    .content("내용")
+                    .suggestionType(type)
+                    .status(SuggestionStatus.PENDING)
+                    .viewCount(0)
+                    .likeCount(0)
+                    .commentCount(0)
+                    .priorityScore((Double) ROWS[i][1])
+                    .build());
+            em.flush();
+            // created_at은 @CreationTimestamp라 저장 뒤에 같은 값으로 맞춥니다.
+            em.getEntityManager().createNativeQuery("UPDATE suggestions SET created_at = ? WHERE id = ?")
+                    .setParameter(1, ROWS[i][0])
+                    .setParameter(2, s.getId())
+                    .executeUpdate();
+            rows.add(new Row(s.getId(), (LocalDateTime) ROWS[i][0], (Double) ROWS[i][1], type));
+        }
+        em.clear();
+    }
+
+    @Test
+    void latestPagesBreakCreatedAtTiesById() {
+        for (int size = 1; size <= 4; size++) {
+            assertThat(pageThrough(SuggestionSort.LATEST, size, null)).as("size %d", size)
+                    .containsExactlyElementsOf(expected(Comparator.comparing(Row::createdAt), null));
+        }
+    }
+
+    @Test
+    void priorityPagesBreakScoreTiesById() {
+        for (int size = 1; size <= 4; size++) {
+            assertThat(pageThrough(SuggestionSort.PRIORITY, size, null)).as("size %d", size)
+                    .containsExactlyElementsOf(expected(Comparator.comparingDouble(Row::priorityScore), null));
+        }
+    }
+
+    @Test
+    void filteredPagesKeepTheirFilterAcrossCursors() {
+        SuggestionType type = SuggestionType.values()[0];
+
+        assertThat(pageThrough(SuggestionSort.PRIORITY, 2, type))
+                .containsExactlyElementsOf(expected(Comparator.comparingDouble(Row::priorityScore), type));
+    }
+
+    private List<Long> pageThrough(SuggestionSort sort, int size, SuggestionType type) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        for (int guard = 0; guard <= ROWS.length; guard++) {
+            CursorPage<SuggestionListItem> page = suggestionService.findPage(sort, cursor, size, null, type, null, null);
+            page.getItems().forEach(item -> ids.add(item.getId()));
+            if (!page.isHasNext()) {
+                return ids;
+            }
+            cursor = page.getNextCursor();
+        }
+        throw new AssertionError("커서 페이지가 끝나지 않습니다: " + ids);
+    }
+
+    /** 정렬 키 내림차순, 같으면 id 내림차순 */
+    private List<Long> expected(Comparator<Row> key, SuggestionType type) {
+        return rows.stream()
+                .filter(r -> type == null || r.type() == type)
+                .sorted(key.thenComparingLong(Row::id).reversed())
+                .map(Row::id)
+                .toList();
+    }
+}
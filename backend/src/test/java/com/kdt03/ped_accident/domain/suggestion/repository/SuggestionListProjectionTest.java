@@ -0,0 +1,172 @@
+package com.kdt03.ped_accident.domain.suggestion.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.kdt03.ped_accident.domain.suggestion.dto.SuggestionListItem;
+import com.kdt03.ped_accident.domain.suggestion.entity.Suggestion;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionLike;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionStatus;
+import com.kdt03.ped_accident.domain.suggestion.entity.SuggestionType;
+import com.kdt03.ped_accident.domain.suggestion.search.SuggestionSearchIndex;
+import com.kdt03.ped_accident.domain.suggestion.service.SuggestionLikeService;
+import com.kdt03.ped_accident.domain.suggestion.service.SuggestionService;
+import com.kdt03.ped_accident.domain.suggestion.service.SuggestionViewCounter;
+import com.kdt03.ped_accident.domain.user.entity.User;
+
+/**
+ * 게시판 목록 projection({@link SuggestionListItem})이 발췌·작성자 이름·좋아요 여부를 채우는지 확인합니다.
+ * (H2, 스키마는 엔티티로 생성)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({SuggestionService.class, SuggestionLikeService.class, SuggestionLikeJdbcRepository.class,
+        SuggestionCounterRepository.class, SuggestionViewCounter.class, SuggestionSearchIndex.class,
+        SuggestionListProjectionTest.H2SearchRepository.class, SuggestionSortIndexRepository.class})
+class SuggestionListProjectionTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SuggestionRepository suggestionRepository;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private SuggestionSearchIndex searchIndex;
+
+    private User reader;
+    private Suggestion longOne;
+    private Suggestion shortOne;
+    private Suggestion anonymous;
+
+    @BeforeEach
+    void setUp() {
+        User author = em.persist(User.builder().email("author@test").password("x").name("작성자").build());
+        reader = em.persist(User.builder().email("reader@test").password("x").name("읽는 사람").build());
+        longOne = em.persist(suggestion(author.getId(), "긴 글", "가".repeat(SuggestionListItem.EXCERPT_LENGTH + 50)));
+        shortOne = em.persist(suggestion(author.getId(), "짧은 글", "신호등이 필요합니다."));
+        anonymous = em.persist(suggestion(null, "작성자 없음", null));
+        em.persist(SuggestionLike.builder().suggestionId(shortOne.getId()).userId(reader.getId()).build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void projectionTruncatesContentAndCarriesAuthorName() {
+        Page<SuggestionListItem> page = suggestionRepository.findListItems(PAGE);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        SuggestionListItem a = item(page.getContent(), longOne.getId());
+        assertThat(a.getExcerpt()).isEqualTo("가".repeat(SuggestionListItem.EXCERPT_LENGTH));
+        assertThat(a.getAuthorName()).isEqualTo("작성자");
+        assertThat(a.getTitle()).isEqualTo("긴 글");
+        assertThat(a.getStatus()).isEqualTo(SuggestionStatus.PENDING);
+        assertThat(a.getLikedByMe()).isNull();
+
+        SuggestionListItem b = item(page.getContent(), shortOne.getId());
+        assertThat(b.getExcerpt()).isEqualTo("신호등이 필요합니다.");
+
+        SuggestionListItem c = item(page.getContent(), anonymous.getId());
+        assertThat(c.getAuthorName()).isNull();
+        assertThat(c.getExcerpt()).isNull();
+    }
+
+    @Test
+    void listMarksLikedByMeOnlyForSignedInUser() {
+        List<SuggestionListItem> signedIn = suggestionService
+                .findAll(PAGE, null, null, null, null, reader.getId()).getContent();
+
+        assertThat(item(signedIn, shortOne.getId()).getLikedByMe()).isTrue();
+        assertThat(item(signedIn, longOne.getId()).getLikedByMe()).isFalse();
+        assertThat(item(signedIn, anonymous.getId()).getLikedByMe()).isFalse();
+        assertThat(item(signedIn, shortOne.getId()).getAuthorName()).isEqualTo("작성자");
+
+        List<SuggestionListItem> guest = suggestionService
+                .findAll(PAGE, null, null, null, null, null).getContent();
+        assertThat(guest).extracting(SuggestionListItem::getLikedByMe).containsOnlyNulls();
+    }
+
+    @Test
+    void sortedSearchBindsAtMostCappedMatches() {
+        int extra = SuggestionService.MAX_SORTED_MATCHES + 20;
+        for (int i = 0; i < extra; i++) {
+            Suggestion s = suggestion(null, "횡단보도 " + i, "신호등 요청");
+            s.setLikeCount(i % 37);
+            em.persist(s);
+        }
+        em.flush();
+        em.clear();
+        searchIndex.load();
+
+        Pageable byLikes = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "likeCount"));
+        Page<SuggestionListItem> first = suggestionService.findAll(byLikes, null, null, null, "횡단보도", null);
+
+        // 맞은 건은 상한보다 많지만, 관련도 상위 상한 건만 정렬·페이지 대상입니다.
+        assertThat(first.getTotalElements()).isEqualTo(SuggestionService.MAX_SORTED_MATCHES);
+        assertThat(first.getContent()).hasSize(20)
+                .extracting(SuggestionListItem::getLikeCount).isSortedAccordingTo((a, b) -> b - a);
+        assertThat(first.getContent()).extracting(SuggestionListItem::getTitle).allMatch(t -> t.startsWith("횡단보도 "));
+
+        Pageable pastCap = PageRequest.of(SuggestionService.MAX_SORTED_MATCHES / 20, 20, byLikes.getSort());
+        assertThat(suggestionService.findAll(pastCap, null, null, null, "횡단보도", null).getContent()).isEmpty();
+
+        // 상한보다 적게 맞으면 전체 건수 그대로입니다.
+        Page<SuggestionListItem> few = suggestionService.findAll(byLikes, null, null, null, "짧은", null);
+        assertThat(few.getTotalElements()).isEqualTo(1);
+        assertThat(few.getContent()).extracting(SuggestionListItem::getId).containsExactly(shortOne.getId());
+    }
+
+    private static Suggestion suggestion(Long userId, String title, String content) {
+        return Suggestion.builder()
+                .userId(userId)
+                .title(title)
+                .content(content)
+                .address("서울특별시 종로구 세종대로 1")
+                .suggestionType(SuggestionType.values()[0])
+                .status(SuggestionStatus.PENDING)
+                .viewCount(0)
+                .likeCount(0)
+                .commentCount(0)
+                .priorityScore(0.0)
+                .build();
+    }
+
+    /** H2는 MySQL 스트리밍용 fetch size(Integer.MIN_VALUE)를 받지 않으므로 보통 조회로 읽습니다. */
+    static class H2SearchRepository extends SuggestionSearchRepository {
+        private final JdbcTemplate jdbcTemplate;
+
+        H2SearchRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        public void streamAll(RowCallbackHandler handler) {
+            jdbcTemplate.query("SELECT id, title, content, address, status, suggestion_type FROM suggestions", handler);
+        }
+    }
+
+    private static SuggestionListItem item(List<SuggestionListItem> items, Long id) {
+        return items.stream().filter(i -> i.getId().equals(id)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,115 @@
+package com.kdt03.ped_accident.domain.suggestion.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionCounterRepository;
+import com.kdt03.ped_accident.domain.suggestion.repository.SuggestionLikeJdbcRepository;
+
+/**
+ * 여러 스레드가 같은 건의사항의 좋아요를 동시에 토글해도
+ * like_count, 좋아요 행 수, 메모리 비트맵이 서로 맞는지 확인합니다. (H2 MySQL 모드)
+ */
+class SuggestionLikeConcurrencyTest {
+
+    private static final long SUGGESTION_ID = 1L;
+    private static final int USERS = 200;
+    private static final int THREADS = 16;
+    private static final int TOGGLES_PER_THREAD = 500;
+
+    private JdbcTemplate jdbc;
+    private SuggestionLikeService likeService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource ds = new DriverManagerDataSource(
+                "jdbc:h2:mem:likes" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(ds);
+        jdbc.execute("CREATE TABLE suggestions (id BIGINT PRIMARY KEY, like_count INT, view_count INT)");
+        jdbc.execute("""
+                CREATE TABLE suggestion_likes (
+                  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                  suggestion_id BIGINT NOT NULL,
+                  user_id BIGINT NOT NULL,
+                  created_at TIMESTAMP,
+                  CONSTRAINT uk_like UNIQUE (suggestion_id, user_id))
+                """);
+        // 외래 키는 두지 않습니다. MySQL의 INSERT IGNORE는 외래 키 위반을 경고로 바꾸므로
+        // 없는 건의사항은 서비스가 직접 확인해야 하며, 이 테스트도 외래 키에 기대지 않아야 합니다.
+        jdbc.update("INSERT INTO suggestions (id, like_count, view_count) VALUES (?, 0, 0)", SUGGESTION_ID);
+
+        // H2는 MySQL 스트리밍용 fetchSize(Integer.MIN_VALUE)를 받지 않으므로 적재만 일반 조회로 바꿉니다.
+        SuggestionLikeJdbcRepository likeRepository = new SuggestionLikeJdbcRepository(jdbc) {
+            @Override
+            public void streamAll(RowCallbackHandler handler) {
+                jdbc.query("SELECT suggestion_id, user_id FROM suggestion_likes", handler);
+            }
+        };
+        likeService = new SuggestionLikeService(likeRepository,
+                new SuggestionCounterRepository(jdbc),
+                new TransactionTemplate(new DataSourceTransactionManager(ds)));
+        likeService.load();
+    }
+
+    @Test
+    void concurrentTogglesKeepCountRowsAndBitmapInSync() throws Exception {
+        AtomicIntegerArray toggles = new AtomicIntegerArray(USERS + 1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int k = 0; k < TOGGLES_PER_THREAD; k++) {
+                        int user = 1 + ThreadLocalRandom.current().nextInt(USERS);
+                        likeService.toggle(SUGGESTION_ID, user);
+                        toggles.incrementAndGet(user);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        int likeCount = jdbc.queryForObject("SELECT like_count FROM suggestions WHERE id = ?", Integer.class, SUGGESTION_ID);
+        int rows = jdbc.queryForObject("SELECT COUNT(*) FROM suggestion_likes WHERE suggestion_id = ?", Integer.class, SUGGESTION_ID);
+        assertThat(likeCount).isEqualTo(rows);
+        assertThat(likeService.likeCount(SUGGESTION_ID)).isEqualTo(rows);
+
+        for (int user = 1; user <= USERS; user++) {
+            boolean expected = toggles.get(user) % 2 == 1;
+            assertThat(likeService.isLiked(SUGGESTION_ID, user)).as("user %d", user).isEqualTo(expected);
+        }
+
+        // 다시 적재해도 같은 상태여야 합니다.
+        likeService.load();
+        assertThat(likeService.likeCount(SUGGESTION_ID)).isEqualTo(rows);
+    }
+
+    @Test
+    void likingMissingSuggestionFailsWithoutSideEffects() {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(() -> likeService.toggle(999L, 1L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("건의사항을 찾을 수 없습니다.");
+        }
+        assertThat(likeService.isLiked(999L, 1L)).isFalse();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM suggestion_likes", Integer.class)).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package com.kdt03.ped_accident.global.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntBitmap을 같은 연산을 적용한 TreeSet(부호 없는 순서)과 맞춰 봅니다.
+ */
+class IntBitmapTest {
+
+    @Test
+    void randomOperationsMatchTreeSet() {
+        Random random = new Random(11);
+        TreeSet<Integer> expected = new TreeSet<>(Integer::compareUnsigned);
+        IntBitmap bitmap = IntBitmap.EMPTY;
+
+        for (int op = 0; op < 40_000; op++) {
+            int v = value(random);
+            if (random.nextInt(10) < 7) {
+                IntBitmap next = bitmap.with(v);
+                assertThat(next == bitmap).as("with(%d) 중복", v).isEqualTo(!expected.add(v));
+                bitmap = next;
+            } else {
+                IntBitmap next = bitmap.without(v);
+                assertThat(next == bitmap).as("without(%d) 없음", v).isEqualTo(!expected.remove(v));
+                bitmap = next;
+            }
+            assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+            if (op % 2_000 == 0) assertSameSet(bitmap, expected, random);
+        }
+        assertSameSet(bitmap, expected, random);
+    }
+
+    @Test
+    void containerSwitchesAtArrayLimitAndBack() {
+        IntBitmap bitmap = IntBitmap.EMPTY;
+        for (int v = 0; v < 4096; v++) {
+            bitmap = bitmap.with(v * 3);
+        }
+        // 배열 묶음 4,096개(8KB)와 비트맵(8KB)은 크기가 같으므로 경계를 넘기고 줄일 때의 크기로 확인합니다.
+        assertThat(bitmap.sizeInBytes()).isEqualTo(2 + 4096 * 2);
+
+        IntBitmap crossed = bitmap.with(1);
+        assertThat(crossed.cardinality()).isEqualTo(4097);
+        assertThat(crossed.sizeInBytes()).isEqualTo(2 + 1024 * 8);
+        assertThat(crossed.contains(1)).isTrue();
+        assertThat(crossed.contains(2)).isFalse();
+        assertThat(crossed.contains(4095 * 3)).isTrue();
+        assertThat(bitmap.contains(1)).as("원래 인스턴스는 그대로").isFalse();
+
+        // 비트맵에서 빼다가 4,096개 이하가 되면 배열로 돌아갑니다.
+        IntBitmap shrunk = crossed;
+        for (int v = 100; v < 4096; v++) {
+            shrunk = shrunk.without(v * 3);
+        }
+        assertThat(shrunk.cardinality()).isEqualTo(101);
+        assertThat(shrunk.sizeInBytes()).isEqualTo(2 + 101 * 2);
+        assertThat(toList(shrunk)).startsWith(0, 1, 3, 6).endsWith(99 * 3);
+    }
+
+    @Test
+    void removingLastValueDropsContainer() {
+        IntBitmap bitmap = IntBitmap.of(5, 70_000, 140_000);
+        assertThat(bitmap.sizeInBytes()).isEqualTo(3 * 2 + 3 * 2);
+
+        IntBitmap middleGone = bitmap.without(70_000);
+        assertThat(middleGone.sizeInBytes()).isEqualTo(2 * 2 + 2 * 2);
+        assertThat(toList(middleGone)).containsExactly(5, 140_000);
+        assertThat(middleGone.contains(70_000)).isFalse();
+        // 같은 묶음에 없는 값은 그대로
+        assertThat(middleGone.without(70_001)).isSameAs(middleGone);
+
+        IntBitmap empty = middleGone.without(5).without(140_000);
+        assertThat(empty).isSameAs(IntBitmap.EMPTY);
+        assertThat(empty.isEmpty()).isTrue();
+    }
+
+    @Test
+    void negativeValuesComeAfterPositivesInUnsignedOrder() {
+        IntBitmap bitmap = IntBitmap.of(-1, Integer.MIN_VALUE, 5, Integer.MAX_VALUE, -65_536, 0);
+
+        assertThat(toList(bitmap)).containsExactly(0, 5, Integer.MAX_VALUE, Integer.MIN_VALUE, -65_536, -1);
+        assertThat(bitmap.contains(-1)).isTrue();
+        assertThat(bitmap.contains(-2)).isFalse();
+        assertThat(bitmap.contains(65_535)).as("-1과 하위 16비트가 같은 양수").isFalse();
+        assertThat(toList(bitmap.without(-1).without(Integer.MIN_VALUE)))
+                .containsExactly(0, 5, Integer.MAX_VALUE, -65_536);
+    }
+
+    /**
+     * 배열 경계를 넘는 묶음(0), 듬성한 묶음, 음수 묶음(상위 키 0x8000 이상)에서 고루 뽑습니다.
+     */
+    private static int value(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> random.nextInt(6_000);
+            case 1 -> random.nextInt(1 << 20);
+            case 2 -> -1 - random.nextInt(5_000);
+            default -> random.nextInt();
+        };
+    }
+
+    private static void assertSameSet(IntBitmap bitmap, TreeSet<Integer> expected, Random random) {
+        assertThat(toList(bitmap)).containsExactlyElementsOf(expected);
+        for (int i = 0; i < 500; i++) {
+            int v = value(random);
+            assertThat(bitmap.contains(v)).as("contains(%d)", v).isEqualTo(expected.contains(v));
+        }
+    }
+
+    private static List<Integer> toList(IntBitmap bitmap) {
+        List<Integer> out = new ArrayList<>();
+        bitmap.forEach(out::add);
+        return out;
+    }
+}
@@ -0,0 +1,188 @@
+package com.kdt03.ped_accident.global.columnar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kdt03.ped_accident.api.dto.response.AccidentDto;
+import com.kdt03.ped_accident.api.dto.response.CrosswalkDto;
+
+/**
+ * 열 지향 바이너리 포맷과 현재 Jackson JSON 응답의 크기·직렬화 시간을 비교합니다.
+ * <p>
+ * 왕복(round-trip) 검증은 항상 실행되고, 측정은 {@code -Dbench=true}를 줄 때만 실행됩니다.
+ * <pre>
+ * ./mvnw test -Dtest=ColumnarCodecBenchmarkTest -Dbench=true
+ * </pre>
+ */
+class ColumnarCodecBenchmarkTest {
+
+    private static final int ROWS = 5000;
+    private static final int WARMUP = 200;
+    private static final int RUNS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void crosswalksRoundTrip() {
+        List<CrosswalkDto> rows = crosswalks(ROWS);
+        List<CrosswalkDto> decoded = ColumnarCodec.decodeCrosswalks(ColumnarCodec.encodeCrosswalks(rows));
+
+        assertEquals(rows.size(), decoded.size());
+        for (int i = 0; i < rows.size(); i++) {
+            CrosswalkDto a = rows.get(i), b = decoded.get(i);
+            assertEquals(a.getCw_uid(), b.getCw_uid());
+            assertEquals(a.getCrosswalk_lat(), b.getCrosswalk_lat(), 1e-7);
+            assertEquals(a.getCrosswalk_lon(), b.getCrosswalk_lon(), 1e-7);
+            assertEquals(a.getAddress(), b.getAddress());
+            assertEquals(a.getHasSignal(), b.getHasSignal());
+            assertEquals(a.getSignalSource(), b.getSignalSource());
+            assertEquals(a.getIsHighland(), b.getIsHighland());
+            assertEquals(a.getHasPedButton(), b.getHasPedButton());
+            assertEquals(a.getHasPedSound(), b.getHasPedSound());
+            assertEquals(a.getHasBump(), b.getHasBump());
+            assertEquals(a.getHasBrailleBlock(), b.getHasBrailleBlock());
+            assertEquals(a.getHasSpotlight(), b.getHasSpotlight());
+            assertScore(a.getRiskScore(), b.getRiskScore());
+            assertScore(a.getSafetyScore(), b.getSafetyScore());
+        }
+    }
+
+    private static void assertScore(Double expected, Double actual) {
+        if (expected == null) {
+            assertNull(actual);
+        } else {
+            assertEquals(expected, actual, 1e-6);
+        }
+    }
+
+    @Test
+    void accidentsRoundTrip() {
+        List<AccidentDto> rows = accidents(ROWS);
+        List<AccidentDto> decoded = ColumnarCodec.decodeAccidents(ColumnarCodec.encodeAccidents(rows));
+
+        assertEquals(rows.size(), decoded.size());
+        for (int i = 0; i < rows.size(); i++) {
+            AccidentDto a = rows.get(i), b = decoded.get(i);
+            assertEquals(a.getAccidentId(), b.getAccidentId());
+            assertEquals(a.getDistrictCode(), b.getDistrictCode());
+            assertEquals(a.getYear(), b.getYear());
+            assertEquals(a.getAccidentCount(), b.getAccidentCount());
+            assertEquals(a.getCasualtyCount(), b.getCasualtyCount());
+            assertEquals(a.getFatalityCount(), b.getFatalityCount());
+            assertEquals(a.getSeriousInjuryCount(), b.getSeriousInjuryCount());
+            assertEquals(a.getMinorInjuryCount(), b.getMinorInjuryCount());
+            assertEquals(a.getReportedInjuryCount(), b.getReportedInjuryCount());
+            assertEquals(a.getAccidentLat(), b.getAccidentLat(), 1e-7);
+            assertEquals(a.getAccidentLon(), b.getAccidentLon(), 1e-7);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bench", matches = "true")
+    void compareWithJackson() throws Exception {
+        List<CrosswalkDto> cw = crosswalks(ROWS);
+        List<AccidentDto> acc = accidents(ROWS);
+
+        report("crosswalks json    ", () -> json(cw));
+        report("crosswalks columnar", () -> ColumnarCodec.encodeCrosswalks(cw));
+        report("accidents  json    ", () -> json(acc));
+        report("accidents  columnar", () -> ColumnarCodec.encodeAccidents(acc));
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void report(String label, Supplier<byte[]> encoder) throws IOException {
+        byte[] body = encoder.get();
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < WARMUP + RUNS; i++) {
+            long started = System.nanoTime();
+            encoder.get();
+            if (i >= WARMUP) {
+                nanos[i - WARMUP] = System.nanoTime() - started;
+            }
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%s  size=%,d B  gzip=%,d B  p50=%.3fms  p95=%.3fms%n", label,
+                body.length, gzip(body).length, nanos[RUNS / 2] / 1e6, nanos[(int) (RUNS * 0.95)] / 1e6);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /** 서울 일대 화면 하나 분량의 횡단보도. 주소는 실제처럼 같은 도로명이 반복됩니다. */
+    private static List<CrosswalkDto> crosswalks(int n) {
+        Random random = new Random(42);
+        String[] sources = {"direct", "mapped", "none"};
+        List<CrosswalkDto> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String source = sources[random.nextInt(sources.length)];
+            out.add(CrosswalkDto.builder()
+                    .cw_uid(String.format("CW%08d", 1_000_000 + i))
+                    .crosswalk_lat(37.50 + random.nextDouble() * 0.05)
+                    .crosswalk_lon(126.95 + random.nextDouble() * 0.05)
+                    .address("서울특별시 종로구 세종대로 " + random.nextInt(300))
+                    .hasSignal(!"none".equals(source))
+                    .signalSource(source)
+                    .isHighland(triState(random))
+                    .hasPedButton(triState(random))
+                    .hasPedSound(triState(random))
+                    .hasBump(triState(random))
+                    .hasBrailleBlock(triState(random))
+                    .hasSpotlight(random.nextInt(3) == 0 ? null : random.nextInt(4))
+                    .riskScore(random.nextInt(5) == 0 ? null : random.nextDouble() * 100)
+                    .safetyScore(random.nextInt(5) == 0 ? null : random.nextDouble() * 100)
+                    .build());
+        }
+        return out;
+    }
+
+    private static List<AccidentDto> accidents(int n) {
+        Random random = new Random(7);
+        List<AccidentDto> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add(AccidentDto.builder()
+                    .accidentId(20_000_000L + i * 3L + random.nextInt(3))
+                    .districtCode("11" + (110 + random.nextInt(25) * 10))
+                    .year(2019 + random.nextInt(5))
+                    .accidentCount(3 + random.nextInt(10))
+                    .casualtyCount(random.nextInt(15))
+                    .fatalityCount(random.nextInt(2))
+                    .seriousInjuryCount(random.nextInt(5))
+                    .minorInjuryCount(random.nextInt(8))
+                    .reportedInjuryCount(random.nextInt(3))
+                    .accidentLat(37.40 + random.nextDouble() * 0.3)
+                    .accidentLon(126.80 + random.nextDouble() * 0.4)
+                    .build());
+        }
+        return out;
+    }
+
+    private static Boolean triState(Random random) {
+        int v = random.nextInt(3);
+        return v == 0 ? null : v == 1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    void quotedFieldsKeepCommasNewlinesAndEscapedQuotes() throws IOException {
+        List<String[]> rows = readAll("id,text\n1,\"a, b\"\n2,\"줄\n바꿈\"\n3,\"say \"\"hi\"\"\"\n");
+
+        assertEquals(4, rows.size());
+        assertArrayEquals(new String[] {"1", "a, b"}, rows.get(1));
+        assertArrayEquals(new String[] {"2", "줄\n바꿈"}, rows.get(2));
+        assertArrayEquals(new String[] {"3", "say \"hi\""}, rows.get(3));
+    }
+
+    @Test
+    void emptyUnquotedFieldIsNullButQuotedEmptyIsEmptyString() throws IOException {
+        List<String[]> rows = readAll("a,,\"\",b");
+
+        assertArrayEquals(new String[] {"a", null, "", "b"}, rows.get(0));
+    }
+
+    @Test
+    void skipsBomAndAcceptsCrlfAndMissingFinalNewline() throws IOException {
+        List<String[]> rows = readAll("﻿cw_uid,lat\r\nCW1,37.5\r\nCW2,37.6");
+
+        assertEquals(3, rows.size());
+        assertArrayEquals(new String[] {"cw_uid", "lat"}, rows.get(0));
+        assertArrayEquals(new String[] {"CW1", "37.5"}, rows.get(1));
+        assertArrayEquals(new String[] {"CW2", "37.6"}, rows.get(2));
+    }
+
+    @Test
+    void countsPhysicalLinesIncludingQuotedNewlines() throws IOException {
+        try (CsvReader csv = new CsvReader(new StringReader("h\n\"a\nb\"\nc\n"))) {
+            csv.next();
+            csv.next();
+            assertEquals(3, csv.line());
+            csv.next();
+            assertEquals(4, csv.line());
+            assertNull(csv.next());
+        }
+    }
+
+    @Test
+    void unclosedQuoteFails() {
+        assertThrows(IOException.class, () -> readAll("id,text\n1,\"open\n"));
+    }
+
+    private static List<String[]> readAll(String text) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (CsvReader csv = new CsvReader(new StringReader(text))) {
+            for (String[] row = csv.next(); row != null; row = csv.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,256 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kdt03.ped_accident.global.event.Dataset;
+import com.kdt03.ped_accident.global.event.DatasetChangeSet;
+import com.kdt03.ped_accident.global.event.DatasetChangedEvent;
+
+/**
+ * 전체·증분 적재의 변경 내역과 실패 시 롤백을 확인합니다. (H2 MySQL 모드, district_with_lat_lon)
+ */
+class IngestServiceTest {
+
+    private static final IngestTable TABLE = IngestTable.DISTRICT_WITH_LAT_LON;
+    private static final String HEADER = "bjd_cd,bjd_nm,center_lati,center_long\n";
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate jdbc;
+    private IngestService ingestService;
+    private final List<Object> events = new ArrayList<>();
+    private volatile boolean failWrites;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource ds = new DriverManagerDataSource(
+                "jdbc:h2:mem:ingest" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(ds);
+        jdbc.execute("""
+                CREATE TABLE district_with_lat_lon (
+                  bjd_cd VARCHAR(10) PRIMARY KEY,
+                  bjd_nm VARCHAR(100),
+                  center_lati DOUBLE,
+                  center_long DOUBLE)
+                """);
+        jdbc.execute("""
+                CREATE TABLE ingest_digests (
+                  table_name VARCHAR(64) NOT NULL,
+                  row_key VARCHAR(64) NOT NULL,
+                  row_digest BIGINT NOT NULL,
+                  location_digest BIGINT NOT NULL,
+                  PRIMARY KEY (table_name, row_key))
+                """);
+
+        // H2는 MySQL 스트리밍용 fetchSize(Integer.MIN_VALUE)를 받지 않으므로 해시 읽기만 일반 조회로 바꿉니다.
+        IngestDigestRepository digestRepository = new IngestDigestRepository(jdbc) {
+            @Override
+            public void streamAll(String table, RowCallbackHandler handler) {
+                jdbc.query("SELECT row_key, row_digest, location_digest FROM ingest_digests WHERE table_name = ?",
+                        handler, table);
+            }
+        };
+        // H2의 SET 문은 열린 트랜잭션을 커밋하므로 MySQL과 달리 롤백을 확인할 수 없게 됩니다. 외래 키가 없으니 건너뜁니다.
+        JdbcTemplate ingestJdbc = new JdbcTemplate(ds) {
+            @Override
+            public void execute(String sql) {
+                if (!sql.startsWith("SET FOREIGN_KEY_CHECKS")) super.execute(sql);
+            }
+
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (failWrites) {
+                    // 앞 단계가 큐를 가득 채울 때까지 기다렸다가 실패합니다.
+                    try {
+                        Thread.sleep(500);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new DataAccessResourceFailureException("쓰기 실패");
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        ingestService = new IngestService(ingestJdbc, new TransactionTemplate(new DataSourceTransactionManager(ds)),
+                digestRepository, events::add);
+    }
+
+    @Test
+    void fullIngestReplacesRowsAndRecordsDigests() throws IOException {
+        jdbc.update("INSERT INTO district_with_lat_lon VALUES ('9999999999', '옛 행', 1, 1)");
+
+        IngestReport report = ingestService.ingest(TABLE, csv("""
+                1111010100,청운동,37.5866,126.9700
+                1111010200,신교동,37.5840,126.9680
+                x,잘못된 좌표,abc,126.9
+                """));
+
+        assertThat(report.read()).isEqualTo(3);
+        assertThat(report.written()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.changes()).isNull();
+        assertThat(names()).isEqualTo(Map.of("1111010100", "청운동", "1111010200", "신교동"));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM ingest_digests", Integer.class)).isEqualTo(2);
+        assertThat(events).singleElement()
+                .isEqualTo(new DatasetChangedEvent(Dataset.DISTRICT_WITH_LAT_LON));
+    }
+
+    @Test
+    void incrementalIngestWritesOnlyChangedRows() throws IOException {
+        ingestService.ingest(TABLE, csv("""
+                1,청운동,37.5866,126.9700
+                2,신교동,37.5840,126.9680
+                3,궁정동,37.5860,126.9730
+                4,효자동,37.5830,126.9710
+                """));
+        events.clear();
+
+        IngestReport report = ingestService.ingestIncremental(TABLE, csv("""
+                1,청운동,37.5866,126.9700
+                2,신교동(개칭),37.5840,126.9680
+                3,궁정동,37.5900,126.9730
+                5,사직동,37.5760,126.9680
+                5,사직동 중복,37.5760,126.9680
+                """));
+
+        DatasetChangeSet changes = report.changes();
+        assertThat(changes.inserted()).containsExactly("5");
+        assertThat(changes.updated()).containsExactlyInAnyOrder("2", "3");
+        assertThat(changes.moved()).containsExactly("3");
+        assertThat(changes.deleted()).containsExactly("4");
+        assertThat(report.written()).isEqualTo(4);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(names()).isEqualTo(Map.of("1", "청운동", "2", "신교동(개칭)", "3", "궁정동", "5", "사직동"));
+        assertThat(jdbc.queryForObject("SELECT center_lati FROM district_with_lat_lon WHERE bjd_cd = '3'", Double.class))
+                .isEqualTo(37.59);
+        assertThat(events).singleElement()
+                .isEqualTo(new DatasetChangedEvent(Dataset.DISTRICT_WITH_LAT_LON, changes));
+
+        // 같은 파일을 다시 넣으면 바뀐 것이 없고 이벤트도 없습니다.
+        events.clear();
+        IngestReport again = ingestService.ingestIncremental(TABLE, csv("""
+                1,청운동,37.5866,126.9700
+                2,신교동(개칭),37.5840,126.9680
+                3,궁정동,37.5900,126.9730
+                5,사직동,37.5760,126.9680
+                """));
+        assertThat(again.changes().isEmpty()).isTrue();
+        assertThat(again.written()).isZero();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void incrementalIngestKeepsRowsWhoseReplacementWasRejected() throws IOException {
+        ingestService.ingest(TABLE, csv("""
+                1,청운동,37.5866,126.9700
+                2,신교동,37.5840,126.9680
+                """));
+
+        IngestReport report = ingestService.ingestIncremental(TABLE, csv("""
+                1,청운동,37.5866,126.9700
+                2,신교동,137.5840,126.9680
+                """));
+
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.changes().deleted()).isEmpty();
+        assertThat(names()).containsEntry("2", "신교동");
+    }
+
+    @Test
+    void failedStageRollsBackFullIngest() throws IOException {
+        ingestService.ingest(TABLE, csv("1,청운동,37.5866,126.9700\n"));
+        events.clear();
+
+        Path broken = csv("2,신교동,37.5840,126.9680\n3,\"닫히지 않은 따옴표,37.5,126.9\n");
+        assertThatThrownBy(() -> ingestService.ingest(TABLE, broken))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("닫히지 않은 따옴표");
+
+        assertThat(names()).isEqualTo(Map.of("1", "청운동"));
+        assertThat(jdbc.queryForList("SELECT row_key FROM ingest_digests", String.class)).containsExactly("1");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void failedStageRollsBackIncrementalIngest() throws IOException {
+        ingestService.ingest(TABLE, csv("1,청운동,37.5866,126.9700\n2,신교동,37.5840,126.9680\n"));
+        events.clear();
+
+        Path broken = csv("1,청운동(개칭),37.5866,126.9700\n3,\"닫히지 않은 따옴표,37.5,126.9\n");
+        assertThatThrownBy(() -> ingestService.ingestIncremental(TABLE, broken))
+                .isInstanceOf(IOException.class);
+
+        assertThat(names()).isEqualTo(Map.of("1", "청운동", "2", "신교동"));
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void failedWriteStopsStagesWithFullQueues() throws Exception {
+        // 큐가 모두 찬 뒤에도 읽을 행이 남도록 큐 용량((QUEUE_DEPTH * 2 + 3) * BATCH_SIZE)보다 크게 만듭니다.
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < IngestService.BATCH_SIZE * 30; i++) {
+            rows.append(i).append(",동,37.5,126.9\n");
+        }
+        Path large = csv(rows.toString());
+        failWrites = true;
+
+        assertThatThrownBy(() -> ingestService.ingest(TABLE, large))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        // 중단된 읽기·검증 단계가 가득 찬 큐에 막히지 않고 끝나야 합니다.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (stageThreadsAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stageThreadsAlive()).as("적재 단계 스레드가 남아 있습니다").isFalse();
+    }
+
+    @Test
+    void missingDigestTableFailsWithScriptName() {
+        jdbc.execute("DROP TABLE ingest_digests");
+
+        assertThatThrownBy(() -> ingestService.ingest(TABLE, csv("1,청운동,37.5866,126.9700\n")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("V3__ingest_digests.sql");
+    }
+
+    private Path csv(String rows) throws IOException {
+        Path file = Files.createTempFile(dir, TABLE.getTable(), ".csv");
+        Files.writeString(file, HEADER + rows, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static boolean stageThreadsAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(t -> t.getName().equals("ingest-" + TABLE.getTable()) && t.isAlive());
+    }
+
+    private Map<String, String> names() {
+        Map<String, String> out = new TreeMap<>();
+        jdbc.query("SELECT bjd_cd, bjd_nm FROM district_with_lat_lon",
+                rs -> { out.put(rs.getString(1), rs.getString(2)); });
+        return out;
+    }
+}
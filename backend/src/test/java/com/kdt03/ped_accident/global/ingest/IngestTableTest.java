@@ -0,0 +1,85 @@
+package com.kdt03.ped_accident.global.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class IngestTableTest {
+
+    @Test
+    void convertParsesTypesAndTrims() {
+        Object[] row = IngestTable.ACCIDENT_HOTSPOTS.convert(new String[] {
+                " 2021000123 ", "2021.0", "11110", "세종대로", "3", "4", "0", "1", "2", "1", "126.97", "37.57"});
+
+        assertEquals(2021000123L, row[0]);
+        assertEquals(2021, row[1]);
+        assertEquals("11110", row[2]);
+        assertEquals(126.97, row[10]);
+        assertEquals(37.57, row[11]);
+    }
+
+    @Test
+    void convertNormalizesFlagsAndLeavesOptionalBlanksNull() {
+        Object[] row = IngestTable.CROSSWALKS.convert(new String[] {
+                "CW1", "11", "11110", null, "37.5", "126.9", "1", "", "3.5", "12", "Y", "N", "true", "0.0", "1", "FALSE", " "});
+
+        assertNull(row[3]);
+        assertNull(row[7]);
+        assertArrayEquals(new Object[] {1, 0, 1, 0, 1, 0, null}, Arrays.copyOfRange(row, 10, 17));
+    }
+
+    @Test
+    void convertRejectsBadRows() {
+        IngestTable t = IngestTable.DISTRICT_WITH_LAT_LON;
+
+        assertMessage("컬럼 수 3", () -> t.convert(new String[] {"1111010100", "청운동", "37.58"}));
+        assertMessage("bjd_cd: 필수 값 없음", () -> t.convert(new String[] {" ", "청운동", "37.58", "126.97"}));
+        assertMessage("center_lati: 위도 범위 밖", () -> t.convert(new String[] {"1", "청운동", "137.58", "126.97"}));
+        assertMessage("center_long", () -> t.convert(new String[] {"1", "청운동", "37.58", "abc"}));
+        assertMessage("유한한 수가 아님", () -> t.convert(new String[] {"1", "청운동", "NaN", "126.97"}));
+        assertMessage("플래그 값이 아님", () -> IngestTable.CROSSWALKS.convert(new String[] {
+                "CW1", null, null, null, "37.5", "126.9", null, null, null, null, "maybe", null, null, null, null, null, null}));
+    }
+
+    @Test
+    void rawKeyMatchesConvertedKey() {
+        IngestTable t = IngestTable.ACCIDENTS;
+        String[] raw = {"12.0", "11", "110", "2021", "13", "1", "1", "0", "0", "1", "0"};
+
+        assertEquals(IngestTable.key(new Object[] {12L}), t.rawKey(raw));
+        assertEquals("x1", t.rawKey(new String[] {" x1 "}));
+        assertNull(t.rawKey(new String[] {" "}));
+        assertNull(t.rawKey(new String[0]));
+    }
+
+    @Test
+    void digestsIgnoreSpellingButSeeValueAndLocationChanges() {
+        IngestTable t = IngestTable.DISTRICT_WITH_LAT_LON;
+        Object[] a = t.convert(new String[] {"1", "청운동", "37.58", "126.97"});
+        Object[] renamed = t.convert(new String[] {"1", "청운효자동", "37.58", "126.97"});
+        Object[] moved = t.convert(new String[] {"1", "청운동", "37.59", "126.97"});
+
+        assertEquals(t.rowDigest(a), t.rowDigest(t.convert(new String[] {"1", "청운동", " 37.58", "126.97 "})));
+        assertNotEquals(t.rowDigest(a), t.rowDigest(renamed));
+        assertEquals(t.locationDigest(a), t.locationDigest(renamed));
+        assertNotEquals(t.locationDigest(a), t.locationDigest(moved));
+    }
+
+    @Test
+    void updateParamsMoveKeyToEnd() {
+        assertArrayEquals(new Object[] {"b", "c", "a"}, IngestTable.toUpdateParams(new Object[] {"a", "b", "c"}));
+        assertTrue(IngestTable.DISTRICT_WITH_LAT_LON.getUpdateSql().endsWith("WHERE bjd_cd = ?"));
+    }
+
+    private static void assertMessage(String expected, Runnable action) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, action::run);
+        assertTrue(e.getMessage().contains(expected), e.getMessage());
+    }
+}
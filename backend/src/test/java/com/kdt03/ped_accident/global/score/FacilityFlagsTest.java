@@ -0,0 +1,61 @@
+package com.kdt03.ped_accident.global.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class FacilityFlagsTest {
+
+    @Test
+    void packKeepsNullableFacilitiesApartFromAbsentOnes() {
+        short f = FacilityFlags.pack("none", true, false, null, null, true, null);
+
+        assertThat(FacilityFlags.get(f, FacilityFlags.SIGNAL)).isFalse();
+        assertThat(FacilityFlags.get(f, FacilityFlags.BUTTON)).isTrue();
+        assertThat(FacilityFlags.get(f, FacilityFlags.SOUND)).isFalse();
+        assertThat(FacilityFlags.get(f, FacilityFlags.HIGHLAND)).isNull();
+        assertThat(FacilityFlags.get(f, FacilityFlags.BUMP)).isNull();
+        assertThat(FacilityFlags.get(f, FacilityFlags.BRAILLE)).isTrue();
+        assertThat(FacilityFlags.get(f, FacilityFlags.SPOTLIGHT)).isNull();
+        assertThat(FacilityFlags.installed(f)).isEqualTo(1 << FacilityFlags.BUTTON | 1 << FacilityFlags.BRAILLE);
+    }
+
+    @Test
+    void spotlightIsInstalledWhenNonZero() {
+        assertThat(FacilityFlags.get(FacilityFlags.pack(null, null, null, null, null, null, 0), FacilityFlags.SPOTLIGHT))
+                .isFalse();
+        assertThat(FacilityFlags.get(FacilityFlags.pack(null, null, null, null, null, null, 2), FacilityFlags.SPOTLIGHT))
+                .isTrue();
+    }
+
+    @Test
+    void mappedSignalCountsAsInstalledButKeepsItsSource() {
+        short direct = FacilityFlags.pack("direct", null, null, null, null, null, null);
+        short mapped = FacilityFlags.pack("mapped", null, null, null, null, null, null);
+        short none = FacilityFlags.pack(null, null, null, null, null, null, null);
+
+        assertThat(FacilityFlags.installed(direct)).isEqualTo(1 << FacilityFlags.SIGNAL);
+        assertThat(FacilityFlags.installed(mapped)).as("매핑 비트는 조회 키에 들어가지 않습니다")
+                .isEqualTo(1 << FacilityFlags.SIGNAL);
+        assertThat(FacilityFlags.installed(none)).isZero();
+
+        assertThat(FacilityFlags.signalSource(direct)).isEqualTo("direct");
+        assertThat(FacilityFlags.signalSource(mapped)).isEqualTo("mapped");
+        assertThat(FacilityFlags.signalSource(none)).isEqualTo("none");
+        assertThat(FacilityFlags.isMappedSignal(mapped)).isTrue();
+        assertThat(FacilityFlags.isDirectSignal(mapped)).isFalse();
+        assertThat(FacilityFlags.isDirectSignal(direct)).isTrue();
+        // 신호는 항상 값이 있습니다.
+        assertThat(FacilityFlags.get(none, FacilityFlags.SIGNAL)).isFalse();
+    }
+
+    @Test
+    void parseMaskReadsFacilityNames() {
+        assertThat(FacilityFlags.parseMask(" signal, BUMP ")).isEqualTo(1 << FacilityFlags.SIGNAL | 1 << FacilityFlags.BUMP);
+        assertThat(FacilityFlags.parseMask(null)).isZero();
+        assertThatThrownBy(() -> FacilityFlags.parseMask("signal,crossing"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("알 수 없는 시설: crossing");
+    }
+}
@@ -0,0 +1,53 @@
+package com.kdt03.ped_accident.global.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SafetyScoreTableTest {
+
+    private static final SafetyScoreTable TABLE = SafetyScoreTable.DEFAULT;
+
+    @Test
+    void indexMatchesFrontendSafetyScore() {
+        // calculateSafetyScore: 설치 가중치 합 / 110 · 100 (소수 둘째 자리)
+        assertThat(TABLE.index(0)).isZero();
+        assertThat(TABLE.index(FacilityFlags.INSTALLED_MASK)).isEqualTo(100.0);
+        assertThat(TABLE.index(1 << FacilityFlags.SIGNAL | 1 << FacilityFlags.BUMP)).isEqualTo(34.55); // 38
+        assertThat(TABLE.index(1 << FacilityFlags.BRAILLE)).isEqualTo(10.91); // 12
+
+        short mapped = FacilityFlags.pack("mapped", null, true, null, null, null, 1);
+        assertThat(TABLE.index(FacilityFlags.installed(mapped))).isEqualTo(54.55); // 30 + 15 + 15
+    }
+
+    @Test
+    void sortAscendingMatchesStableSortByIndex() {
+        Random random = new Random(3);
+        int[] masks = random.ints(2_000, 0, FacilityFlags.INSTALLED_MASK + 1).toArray();
+        int[] ordinals = IntStream.range(0, masks.length).map(i -> masks.length - 1 - i).toArray();
+
+        int[] expected = IntStream.of(ordinals).boxed()
+                .sorted(Comparator.comparingDouble(o -> TABLE.index(masks[o])))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        assertThat(TABLE.sortAscending(ordinals, o -> masks[o])).containsExactly(expected);
+    }
+
+    @Test
+    void equalScoresFromDifferentMasksKeepInputOrder() {
+        // 음향(15)과 조명(15)은 마스크가 달라도 안전지수가 같습니다.
+        int sound = 1 << FacilityFlags.SOUND;
+        int spotlight = 1 << FacilityFlags.SPOTLIGHT;
+        int[] masks = {spotlight, sound, spotlight, 1 << FacilityFlags.SIGNAL, sound, 0};
+
+        assertThat(TABLE.sortAscending(new int[] {0, 1, 2, 3, 4, 5}, o -> masks[o]))
+                .containsExactly(5, 0, 1, 2, 4, 3);
+        assertThat(TABLE.sortAscending(new int[] {4, 2, 1, 0}, o -> masks[o]))
+                .containsExactly(4, 2, 1, 0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.kdt03.ped_accident.global.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 점수 내림차순, 같으면 번호 오름차순으로 전체를 정렬해 앞 N개를 자른 결과와 맞춰 봅니다.
+ */
+class TopNTest {
+
+    private record Candidate(int id, double score) {}
+
+    private static final Comparator<Candidate> ORDER =
+            Comparator.comparingDouble(Candidate::score).reversed().thenComparingInt(Candidate::id);
+
+    @Test
+    void matchesSortedPrefixWithManyTies() {
+        Random random = new Random(5);
+        for (int n : new int[] {1, 3, 10, 64}) {
+            List<Candidate> candidates = new ArrayList<>();
+            for (int id = 0; id < 500; id++) {
+                // 점수를 몇 가지로만 두어 같은 점수가 많습니다.
+                candidates.add(new Candidate(id, random.nextInt(8) * 12.5));
+            }
+            Collections.shuffle(candidates, random);
+
+            assertThat(top(n, candidates)).as("n=%d", n).containsExactly(expected(n, candidates));
+        }
+    }
+
+    @Test
+    void equalScoresKeepSmallerIdsRegardlessOfOfferOrder() {
+        List<Candidate> ascending = List.of(new Candidate(1, 50), new Candidate(2, 50), new Candidate(3, 50),
+                new Candidate(4, 80));
+        List<Candidate> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+
+        assertThat(top(3, ascending)).containsExactly(4, 1, 2);
+        assertThat(top(3, descending)).containsExactly(4, 1, 2);
+    }
+
+    @Test
+    void fewerCandidatesThanNReturnsAllInDescendingOrder() {
+        TopN top = new TopN(10);
+        top.offer(7, 12.0);
+        top.offer(3, 99.5);
+        top.offer(5, 12.0);
+
+        assertThat(top.size()).isEqualTo(3);
+        assertThat(top.drainDescending()).containsExactly(3, 5, 7);
+        assertThat(top.size()).isZero();
+        assertThat(top.drainDescending()).isEmpty();
+    }
+
+    @Test
+    void rejectsNonPositiveN() {
+        assertThatThrownBy(() -> new TopN(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int[] top(int n, List<Candidate> candidates) {
+        TopN top = new TopN(n);
+        candidates.forEach(c -> top.offer(c.id(), c.score()));
+        return top.drainDescending();
+    }
+
+    private static int[] expected(int n, List<Candidate> candidates) {
+        return candidates.stream().sorted(ORDER).limit(n).mapToInt(Candidate::id).toArray();
+    }
+}
@@ -0,0 +1,127 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 격자 조회 결과를 모든 점의 경계 비교(전수 비교)와 맞춰 봅니다. 점과 경계는 고정 시드로 만듭니다.
+ */
+class GridIndexTest {
+
+    @Test
+    void forEachMatchesBruteForceFilter() {
+        double[][] p = points(new Random(1), 20_000);
+        // 0.002도 셀이면 서울 일대 뷰포트마다 경계 셀과 내부 셀이 모두 생깁니다.
+        GridIndex grid = GridIndex.build(p[0], p[1], 0.002);
+
+        assertMatches(grid, p, new Random(2));
+    }
+
+    @Test
+    void cellCountCapStillMatchesBruteForce() {
+        double[][] p = points(new Random(3), 5_000);
+        // 1e-6도 셀이면 행·열이 각각 수만 개라 셀 수 상한(MAX_CELLS)에 걸려 셀 크기를 키워야 합니다.
+        GridIndex grid = GridIndex.build(p[0], p[1], 1e-6);
+
+        assertMatches(grid, p, new Random(4));
+    }
+
+    @Test
+    void nanPointsAreNotIndexed() {
+        double[][] p = points(new Random(5), 1_000);
+        p[0][10] = Double.NaN;
+        p[1][20] = Double.NaN;
+        p[0][30] = Double.NaN;
+        p[1][30] = Double.NaN;
+        GridIndex grid = GridIndex.build(p[0], p[1], 0.005);
+
+        assertThat(grid.size()).isEqualTo(997);
+        assertThat(all(grid, -90, -180, 90, 180)).doesNotContain(10, 20, 30).hasSize(997);
+        assertMatches(grid, p, new Random(6));
+    }
+
+    @Test
+    void allNanAndEmptyInputsReturnNothing() {
+        GridIndex nan = GridIndex.build(new double[] {Double.NaN}, new double[] {Double.NaN}, 0.01);
+        GridIndex empty = GridIndex.build(new double[0], new double[0], 0.01);
+
+        assertThat(nan.size()).isZero();
+        assertThat(nan.query(-90, -180, 90, 180, 10)).isEmpty();
+        assertThat(empty.query(-90, -180, 90, 180, 10)).isEmpty();
+    }
+
+    @Test
+    void queryHonoursLimit() {
+        double[][] p = points(new Random(7), 2_000);
+        GridIndex grid = GridIndex.build(p[0], p[1], 0.002);
+        List<Integer> inside = bruteForce(p, 37.50, 126.90, 37.60, 127.10);
+        assertThat(inside.size()).isGreaterThan(100);
+
+        assertThat(grid.query(37.50, 126.90, 37.60, 127.10, 0)).isEmpty();
+        assertThat(grid.query(37.50, 126.90, 37.60, 127.10, -1)).isEmpty();
+        assertThat(IntStream.of(grid.query(37.50, 126.90, 37.60, 127.10, 50)).boxed().toList())
+                .hasSize(50).doesNotHaveDuplicates().isSubsetOf(inside);
+        assertThat(grid.query(37.50, 126.90, 37.60, 127.10, Integer.MAX_VALUE))
+                .containsExactlyInAnyOrder(inside.stream().mapToInt(Integer::intValue).toArray());
+
+        // visitor가 false를 돌려주면 그 자리에서 멈춥니다.
+        int[] visited = {0};
+        assertThat(grid.forEach(37.50, 126.90, 37.60, 127.10, i -> ++visited[0] < 3)).isFalse();
+        assertThat(visited[0]).isEqualTo(3);
+    }
+
+    private static void assertMatches(GridIndex grid, double[][] p, Random random) {
+        for (int q = 0; q < 300; q++) {
+            double south = 37.40 + random.nextDouble() * 0.30;
+            double west = 126.75 + random.nextDouble() * 0.45;
+            double north = south + random.nextDouble() * 0.08;
+            double east = west + random.nextDouble() * 0.08;
+            if (q % 10 == 0) {
+                // 경계가 점 좌표와 정확히 같은 경우 (경계 포함)
+                int i = random.nextInt(p[0].length);
+                if (!Double.isNaN(p[0][i]) && !Double.isNaN(p[1][i])) {
+                    south = p[0][i];
+                    west = p[1][i];
+                }
+            }
+            assertThat(all(grid, south, west, north, east)).as("query %d", q)
+                    .containsExactlyInAnyOrderElementsOf(bruteForce(p, south, west, north, east));
+        }
+        // 데이터 범위 밖까지 덮는 경계, 뒤집힌 경계
+        assertThat(all(grid, -90, -180, 90, 180)).hasSize(grid.size());
+        assertThat(all(grid, 37.6, 127.0, 37.5, 127.1)).isEmpty();
+        assertThat(all(grid, 10, 10, 11, 11)).isEmpty();
+    }
+
+    private static List<Integer> all(GridIndex grid, double south, double west, double north, double east) {
+        List<Integer> out = new ArrayList<>();
+        assertThat(grid.forEach(south, west, north, east, out::add)).isTrue();
+        return out;
+    }
+
+    private static List<Integer> bruteForce(double[][] p, double south, double west, double north, double east) {
+        List<Integer> out = new ArrayList<>();
+        for (int i = 0; i < p[0].length; i++) {
+            double la = p[0][i], lo = p[1][i];
+            if (la >= south && la <= north && lo >= west && lo <= east) out.add(i);
+        }
+        return out;
+    }
+
+    /** 서울 일대 약 30km 사각형 안의 점 */
+    private static double[][] points(Random random, int n) {
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = 37.45 + random.nextDouble() * 0.25;
+            lon[i] = 126.80 + random.nextDouble() * 0.35;
+        }
+        return new double[][] {lat, lon};
+    }
+}
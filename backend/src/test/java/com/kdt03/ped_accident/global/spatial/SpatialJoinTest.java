@@ -0,0 +1,113 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 공간 조인 결과를 모든 쌍의 haversine 거리(전수 비교)와 맞춰 봅니다. 점은 고정 시드로 만듭니다.
+ */
+class SpatialJoinTest {
+
+    private static final double RADIUS_M = 150;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void matchesBruteForcePairs() throws Exception {
+        // 작업 구간(4,096점)이 여러 개가 되도록 왼쪽 점을 넉넉히 둡니다.
+        double[][] left = points(new Random(1), 9_000);
+        double[][] right = points(new Random(2), 1_500);
+        left[0][10] = Double.NaN;
+        right[1][20] = Double.NaN;
+        // 같은 자리에 있는 점 (거리 0)
+        right[0][30] = left[0][40];
+        right[1][30] = left[1][40];
+
+        assertJoinMatches(left, right, null);
+    }
+
+    @Test
+    void rightFilterExcludesPoints() throws Exception {
+        double[][] left = points(new Random(3), 2_000);
+        double[][] right = points(new Random(4), 2_000);
+
+        assertJoinMatches(left, right, j -> j % 3 != 0);
+    }
+
+    @Test
+    void consumerFailureStopsTheJoin() {
+        double[][] left = points(new Random(5), 9_000);
+        double[][] right = points(new Random(6), 1_000);
+
+        assertThatThrownBy(() -> SpatialJoin.run(left[0], left[1], right[0], right[1], null, RADIUS_M, pool, chunk -> {
+            throw new IllegalStateException("쓰기 실패");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("쓰기 실패");
+    }
+
+    @Test
+    void rejectsNonPositiveRadius() {
+        assertThatThrownBy(() -> SpatialJoin.run(new double[0], new double[0], new double[0], new double[0],
+                null, 0, pool, chunk -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertJoinMatches(double[][] left, double[][] right, IntPredicate filter) throws Exception {
+        Map<Long, Double> expected = new HashMap<>();
+        for (int i = 0; i < left[0].length; i++) {
+            for (int j = 0; j < right[0].length; j++) {
+                if (filter != null && !filter.test(j)) continue;
+                double d = Geo.haversineM(left[0][i], left[1][i], right[0][j], right[1][j]);
+                if (d <= RADIUS_M) expected.put(pair(i, j), d);
+            }
+        }
+
+        Map<Long, Double> actual = new HashMap<>();
+        long pairs = SpatialJoin.run(left[0], left[1], right[0], right[1], filter, RADIUS_M, pool, chunk -> {
+            for (int k = 0; k < chunk.size(); k++) {
+                assertThat(actual.put(pair(chunk.left()[k], chunk.right()[k]), (double) chunk.distanceM()[k]))
+                        .as("중복 쌍").isNull();
+                // 같은 왼쪽 점의 쌍은 거리 오름차순
+                if (k > 0 && chunk.left()[k - 1] == chunk.left()[k]) {
+                    assertThat(chunk.distanceM()[k]).isGreaterThanOrEqualTo(chunk.distanceM()[k - 1]);
+                }
+            }
+        });
+
+        assertThat(expected).isNotEmpty();
+        assertThat(pairs).isEqualTo(actual.size());
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        for (Map.Entry<Long, Double> e : expected.entrySet()) {
+            assertThat(actual.get(e.getKey())).isCloseTo(e.getValue(), within(0.01));
+        }
+    }
+
+    /** 서울 도심 약 2km 사각형 안의 점 */
+    private static double[][] points(Random random, int n) {
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = 37.560 + random.nextDouble() * 0.018;
+            lon[i] = 126.970 + random.nextDouble() * 0.022;
+        }
+        return new double[][] {lat, lon};
+    }
+
+    private static long pair(int i, int j) {
+        return (long) i << 32 | j;
+    }
+}
@@ -0,0 +1,52 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TileCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedUntilUnderByteLimit() {
+        TileCache cache = new TileCache(100);
+        cache.put("a", new byte[40]);
+        cache.put("b", new byte[30]);
+        cache.put("c", new byte[20]);
+        assertThat(cache.totalBytes()).isEqualTo(90);
+
+        // a를 읽으면 가장 오래 안 쓴 타일은 b가 됩니다.
+        assertThat(cache.get("a")).hasSize(40);
+        cache.put("d", new byte[25]);
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.get("d")).isNotNull();
+        assertThat(cache.totalBytes()).isEqualTo(85);
+
+        // 큰 타일 하나가 여러 개를 밀어냅니다. (LRU 순서: c, a, d)
+        cache.put("e", new byte[70]);
+        assertThat(cache.get("c")).isNull();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("d")).isNotNull();
+        assertThat(cache.totalBytes()).isEqualTo(95);
+    }
+
+    @Test
+    void replacingKeyAdjustsTotalAndOversizedTileIsNotCached() {
+        TileCache cache = new TileCache(100);
+        cache.put("a", new byte[60]);
+        cache.put("a", new byte[10]);
+        assertThat(cache.totalBytes()).isEqualTo(10);
+        assertThat(cache.get("a")).hasSize(10);
+
+        cache.put("huge", new byte[101]);
+        assertThat(cache.get("huge")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.totalBytes()).isEqualTo(10);
+
+        cache.clear();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.totalBytes()).isZero();
+    }
+}
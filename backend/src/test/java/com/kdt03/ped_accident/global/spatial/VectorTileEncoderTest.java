@@ -0,0 +1,216 @@
+package com.kdt03.ped_accident.global.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인코딩한 타일을 vector_tile.proto(v2) 그대로 다시 읽어 필드 값을 확인합니다.
+ */
+class VectorTileEncoderTest {
+
+    /** 서울시청 */
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.978;
+
+    @Test
+    void knownPointFallsInKnownTile() {
+        // x = ⌊(126.978 + 180) / 360 · 2^12⌋, y = ⌊(1 - ln(tan φ + sec φ) / π) / 2 · 2^12⌋
+        WebMercatorTile tile = new WebMercatorTile(12, 3492, 1586);
+
+        assertThat(LON).isBetween(tile.west(), tile.east());
+        assertThat(LAT).isBetween(tile.south(), tile.north());
+        assertThat(tile.tileX(LON, VectorTileEncoder.EXTENT)).isEqualTo(2980);
+        assertThat(tile.tileY(LAT, VectorTileEncoder.EXTENT)).isEqualTo(759);
+        // 타일 모서리는 0과 extent
+        assertThat(tile.tileX(tile.west(), VectorTileEncoder.EXTENT)).isZero();
+        assertThat(tile.tileY(tile.south(), VectorTileEncoder.EXTENT)).isEqualTo(VectorTileEncoder.EXTENT);
+    }
+
+    @Test
+    void decodedTileHasLayerGeometryAndDeduplicatedValues() {
+        VectorTileEncoder encoder = new VectorTileEncoder();
+        encoder.layer("empty");
+        VectorTileEncoder.Layer layer = encoder.layer("crosswalks");
+
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("count", 3);
+        first.put("name", "세종대로");
+        first.put("signal", true);
+        first.put("risk", 12.5);
+        first.put("skip", null);
+        layer.addPoint(7, 2980, 759, first);
+
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("count", 3L);
+        second.put("delta", -2);
+        second.put("signal", false);
+        layer.addPoint(-1, -10, 4100, second);
+
+        List<Layer> layers = decodeTile(encoder.encode());
+
+        // 피처가 없는 레이어는 쓰지 않습니다.
+        assertThat(layers).singleElement().satisfies(l -> {
+            assertThat(l.version).isEqualTo(2);
+            assertThat(l.name).isEqualTo("crosswalks");
+            assertThat(l.extent).isEqualTo(4096);
+            assertThat(l.keys).containsExactly("count", "name", "signal", "risk", "delta");
+            // Integer 3과 Long 3은 같은 값 하나로 들어갑니다.
+            assertThat(l.values).containsExactly(3L, "세종대로", true, 12.5, -2L, false);
+
+            Feature a = l.features.get(0);
+            assertThat(a.id).isEqualTo(7);
+            assertThat(a.type).isEqualTo(1);
+            // MoveTo(1) = 9, zigzag(2980) = 5960, zigzag(759) = 1518
+            assertThat(a.geometry).containsExactly(9L, 5960L, 1518L);
+            assertThat(l.attributes(a)).containsExactly(
+                    Map.entry("count", 3L), Map.entry("name", "세종대로"),
+                    Map.entry("signal", true), Map.entry("risk", 12.5));
+
+            Feature b = l.features.get(1);
+            assertThat(b.id).as("id 없음").isNull();
+            // 타일 밖 버퍼 좌표: zigzag(-10) = 19
+            assertThat(b.geometry).containsExactly(9L, 19L, 8200L);
+            assertThat(l.attributes(b)).containsExactly(
+                    Map.entry("count", 3L), Map.entry("delta", -2L), Map.entry("signal", false));
+        });
+    }
+
+    // ---- vector_tile.proto 최소 디코더 ----
+
+    private static final class Layer {
+        long version;
+        String name;
+        long extent;
+        final List<Feature> features = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+
+        Map<String, Object> attributes(Feature f) {
+            Map<String, Object> out = new LinkedHashMap<>();
+            for (int i = 0; i < f.tags.size(); i += 2) {
+                out.put(keys.get(f.tags.get(i).intValue()), values.get(f.tags.get(i + 1).intValue()));
+            }
+            return out;
+        }
+    }
+
+    private static final class Feature {
+        Long id;
+        long type;
+        List<Long> tags = List.of();
+        List<Long> geometry = List.of();
+    }
+
+    private static List<Layer> decodeTile(byte[] bytes) {
+        List<Layer> layers = new ArrayList<>();
+        Reader r = new Reader(bytes);
+        while (r.hasMore()) {
+            long tag = r.varint();
+            assertThat(tag).as("Tile.layers").isEqualTo(3 << 3 | 2);
+            layers.add(decodeLayer(r.bytes()));
+        }
+        return layers;
+    }
+
+    private static Layer decodeLayer(byte[] bytes) {
+        Layer layer = new Layer();
+        Reader r = new Reader(bytes);
+        while (r.hasMore()) {
+            long tag = r.varint();
+            switch ((int) (tag >>> 3)) {
+                case 15 -> layer.version = r.varint();
+                case 1 -> layer.name = r.string();
+                case 2 -> layer.features.add(decodeFeature(r.bytes()));
+                case 3 -> layer.keys.add(r.string());
+                case 4 -> layer.values.add(decodeValue(r.bytes()));
+                case 5 -> layer.extent = r.varint();
+                default -> throw new AssertionError("알 수 없는 Layer 필드: " + tag);
+            }
+        }
+        return layer;
+    }
+
+    private static Feature decodeFeature(byte[] bytes) {
+        Feature f = new Feature();
+        Reader r = new Reader(bytes);
+        while (r.hasMore()) {
+            long tag = r.varint();
+            switch ((int) (tag >>> 3)) {
+                case 1 -> f.id = r.varint();
+                case 2 -> f.tags = new Reader(r.bytes()).packed();
+                case 3 -> f.type = r.varint();
+                case 4 -> f.geometry = new Reader(r.bytes()).packed();
+                default -> throw new AssertionError("알 수 없는 Feature 필드: " + tag);
+            }
+        }
+        return f;
+    }
+
+    private static Object decodeValue(byte[] bytes) {
+        Reader r = new Reader(bytes);
+        long tag = r.varint();
+        Object value = switch ((int) tag) {
+            case 1 << 3 | 2 -> r.string();
+            case 3 << 3 | 1 -> Double.longBitsToDouble(r.fixed64());
+            case 6 << 3 -> unzigzag(r.varint());
+            case 7 << 3 -> r.varint() != 0;
+            default -> throw new AssertionError("알 수 없는 Value 필드: " + tag);
+        };
+        assertThat(r.hasMore()).as("Value에는 필드가 하나만 있어야 합니다").isFalse();
+        return value;
+    }
+
+    private static long unzigzag(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buf;
+
+        Reader(byte[] bytes) {
+            this.buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        boolean hasMore() {
+            return buf.hasRemaining();
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buf.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+        }
+
+        long fixed64() {
+            return buf.getLong();
+        }
+
+        byte[] bytes() {
+            byte[] out = new byte[(int) varint()];
+            buf.get(out);
+            return out;
+        }
+
+        String string() {
+            return new String(bytes(), StandardCharsets.UTF_8);
+        }
+
+        List<Long> packed() {
+            List<Long> out = new ArrayList<>();
+            while (hasMore()) out.add(varint());
+            return out;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.kdt03.ped_accident.global.text;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class NgramIndexTest {
+
+    @Test
+    void tokenizeSplitsOnNonLetterOrDigitAndLowercases() {
+        assertEquals(List.of("횡단보도", "신호등", "abc", "12"), NgramIndex.tokenize("횡단보도, 신호등!ABC 12"));
+        assertEquals(List.of(), NgramIndex.tokenize(null));
+        assertEquals(List.of(), NgramIndex.tokenize("  ,. "));
+    }
+
+    @Test
+    void queryGramsUseLongestGramPerTokenWithoutDuplicates() {
+        assertEquals(List.of("횡단보", "단보도"), NgramIndex.queryGrams("횡단보도"));
+        assertEquals(List.of("횡단", "보도"), NgramIndex.queryGrams("횡단 보도"));
+        assertEquals(List.of("길"), NgramIndex.queryGrams("길 길"));
+        assertEquals(List.of("aaa"), NgramIndex.queryGrams("aaaa"));
+    }
+
+    @Test
+    void searchRequiresAllGrams() {
+        NgramIndex index = new NgramIndex(1);
+        index.put(1, "횡단보도를 설치해 주세요");
+        index.put(2, "보도블록 파손");
+        index.put(3, "횡단 보도 신호");
+
+        assertArrayEquals(new long[] {1}, index.search("횡단보도", null));
+        assertArrayEquals(new long[] {3, 1}, index.search("횡단 보도", null));
+        assertArrayEquals(new long[0], index.search("횡단 육교", null));
+        assertArrayEquals(new long[0], index.search("  ", null));
+    }
+
+    @Test
+    void fieldWeightAndIdOrderRanking() {
+        NgramIndex index = new NgramIndex(3, 1);
+        index.put(1, "과속방지턱", null);
+        index.put(2, null, "과속방지턱");
+        index.put(3, null, "과속방지턱");
+
+        // 제목 가중치가 커서 1이 먼저, 같은 점수는 id가 큰 문서가 먼저
+        assertArrayEquals(new long[] {1, 3, 2}, index.search("과속", null));
+        assertArrayEquals(new long[] {3, 2}, index.search("과속", id -> id != 1));
+    }
+
+    @Test
+    void removeAndReplaceDropOldPostings() {
+        NgramIndex index = new NgramIndex(1);
+        index.put(1, "신호등 고장");
+        index.put(2, "신호등 설치");
+
+        index.remove(1);
+        assertEquals(1, index.size());
+        assertArrayEquals(new long[] {2}, index.search("신호등", null));
+        assertArrayEquals(new long[0], index.search("고장", null));
+
+        index.put(2, "가로등 설치");
+        assertArrayEquals(new long[0], index.search("신호등", null));
+        assertArrayEquals(new long[] {2}, index.search("가로등", null));
+
+        index.remove(2);
+        index.remove(99);
+        assertEquals(0, index.size());
+        assertArrayEquals(new long[0], index.search("설치", null));
+    }
+
+    @Test
+    void putRejectsWrongFieldCount() {
+        NgramIndex index = new NgramIndex(3, 1);
+        assertThrows(IllegalArgumentException.class, () -> index.put(1, "제목만"));
+    }
+}
@@ -1,11 +1,11 @@
 import Link from "next/link";
 import { FaComment, FaEye, FaHeart, FaMapMarkerAlt, FaExclamationTriangle, FaChevronRight } from "react-icons/fa";
-import type { Suggestion } from "@/features/board/types";
+import type { SuggestionListItem } from "@/features/board/types";
 import { StatusColors, SuggestionStatusLabels, SuggestionTypeLabels } from "@/features/board/constants";
 import { getPriorityLevel } from "@/features/acc_calculate/priorityScore";
 
 export default function SuggestionCard(props: {
-    suggestion: Suggestion;
+    suggestion: SuggestionListItem;
     onLike: (id: number) => void;
 }) {
     const { suggestion, onLike } = props;
@@ -1,9 +1,9 @@
-import type { Suggestion } from "@/features/board/types";
+import type { SuggestionListItem } from "@/features/board/types";
 import SuggestionCard from "./SuggestionCard";
 
 export default function SuggestionList(props: {
     loading: boolean;
-    suggestions: Suggestion[];
+    suggestions: SuggestionListItem[];
     onLike: (id: number) => void;
 }) {
     const { loading, suggestions, onLike } = props;
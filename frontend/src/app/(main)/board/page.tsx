@@ -1,7 +1,7 @@
 'use client'
 
 import { useState, useEffect, useCallback } from 'react';
-import { Suggestion, FilterState } from '@/features/board/types';
+import { SuggestionListItem, FilterState } from '@/features/board/types';
 import SuggestionList from './SuggestionList';
 import Pagination from './Pagination';
 import { FaPlus } from 'react-icons/fa';
@@ -10,7 +10,7 @@ import SearchBar from './SearchBar';
 import FiltersPanel from './FiltersPanel';
 
 export default function BoardPage() {
-  const [suggestions, setSuggestions] = useState<Suggestion[]>([]);
+  const [suggestions, setSuggestions] = useState<SuggestionListItem[]>([]);
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState('');
   const [searchQuery, setSearchQuery] = useState(''); // 실제 검색에 사용되는 값
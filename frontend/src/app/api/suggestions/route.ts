@@ -58,9 +58,7 @@ export async function GET(request: NextRequest) {
       return {
         id: item.id,
         title: item.title,
-        content: item.content,
-        location_lat: item.locationLat,
-        location_lon: item.locationLon,
+        content: item.excerpt ?? item.content,
         address: item.address,
         sido: sido,
         sigungu: sigungu,
@@ -71,9 +69,8 @@ export async function GET(request: NextRequest) {
         view_count: item.viewCount ?? 0,
         comment_count: item.commentCount ?? 0,
         created_at: item.createdAt,
-        updated_at: item.updatedAt,
-        user_id: item.userId,
-        user: item.user ? { id: item.user.id, name: item.user.name, picture: item.user.picture ?? null } : null,
+        user: item.authorName ? { name: item.authorName } : null,
+        is_liked: item.likedByMe ?? false,
       };
     });
 
@@ -26,6 +26,11 @@ export interface Suggestion {
   is_liked?: boolean;
 }
 
+// 목록 응답(/api/suggestions)의 항목. 위치·수정일·작성자 id는 상세 조회에만 있습니다.
+export type SuggestionListItem = Omit<Suggestion, 'user_id' | 'location_lat' | 'location_lon' | 'updated_at' | 'user'> & {
+  user: { name: string } | null;
+};
+
 export interface Comment {
   id: number;
   content: string;
@@ -47,6 +52,6 @@ export interface FilterState {
 }
 
 export interface SuggestionsResponse {
-  content: Suggestion[];
+  content: SuggestionListItem[];
   totalPages: number;
 }
\ No newline at end of file